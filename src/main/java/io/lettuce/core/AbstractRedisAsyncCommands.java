@@ -111,6 +111,11 @@ public abstract class AbstractRedisAsyncCommands<K, V> implements RedisHashAsync
         return dispatch(commandBuilder.bitfield(key, bitFieldArgs));
     }
 
+    @Override
+    public RedisFuture<long[]> bitfieldArray(K key, BitFieldArgs bitFieldArgs) {
+        return dispatch(commandBuilder.bitfieldArray(key, bitFieldArgs));
+    }
+
     @Override
     public RedisFuture<Long> bitopAnd(K destination, K... keys) {
         return dispatch(commandBuilder.bitopAnd(destination, keys));
@@ -595,6 +600,20 @@ public abstract class AbstractRedisAsyncCommands<K, V> implements RedisHashAsync
         return dispatch(commandBuilder.georadius(GEORADIUS, key, longitude, latitude, distance, unit.name(), geoArgs));
     }
 
+    @Override
+    public RedisFuture<Long> georadius(ValueStreamingChannel<V> channel, K key, double longitude, double latitude,
+            double distance, Unit unit) {
+        return dispatch(commandBuilder.georadius(GEORADIUS, channel, key, longitude, latitude, distance,
+                unit.name()));
+    }
+
+    @Override
+    public RedisFuture<Long> georadius(GeoWithinStreamingChannel<V> channel, K key, double longitude, double latitude,
+            double distance, Unit unit, GeoArgs geoArgs) {
+        return dispatch(commandBuilder.georadius(GEORADIUS, channel, key, longitude, latitude, distance,
+                unit.name(), geoArgs));
+    }
+
     @Override
     public RedisFuture<Long> georadius(K key, double longitude, double latitude, double distance, Unit unit,
             GeoRadiusStoreArgs<K> geoRadiusStoreArgs) {
@@ -610,6 +629,18 @@ public abstract class AbstractRedisAsyncCommands<K, V> implements RedisHashAsync
         return dispatch(commandBuilder.georadius(GEORADIUS_RO, key, longitude, latitude, distance, unit.name(), geoArgs));
     }
 
+    protected RedisFuture<Long> georadius_ro(ValueStreamingChannel<V> channel, K key, double longitude, double latitude,
+            double distance, Unit unit) {
+        return dispatch(commandBuilder.georadius(GEORADIUS_RO, channel, key, longitude, latitude, distance,
+                unit.name()));
+    }
+
+    protected RedisFuture<Long> georadius_ro(GeoWithinStreamingChannel<V> channel, K key, double longitude, double latitude,
+            double distance, Unit unit, GeoArgs geoArgs) {
+        return dispatch(commandBuilder.georadius(GEORADIUS_RO, channel, key, longitude, latitude, distance,
+                unit.name(), geoArgs));
+    }
+
     @Override
     public RedisFuture<Set<V>> georadiusbymember(K key, V member, double distance, GeoArgs.Unit unit) {
         return dispatch(commandBuilder.georadiusbymember(GEORADIUSBYMEMBER, key, member, distance, unit.name()));
@@ -621,6 +652,20 @@ public abstract class AbstractRedisAsyncCommands<K, V> implements RedisHashAsync
         return dispatch(commandBuilder.georadiusbymember(GEORADIUSBYMEMBER, key, member, distance, unit.name(), geoArgs));
     }
 
+    @Override
+    public RedisFuture<Long> georadiusbymember(ValueStreamingChannel<V> channel, K key, V member, double distance,
+            Unit unit) {
+        return dispatch(commandBuilder.georadiusbymember(GEORADIUSBYMEMBER, channel, key, member, distance,
+                unit.name()));
+    }
+
+    @Override
+    public RedisFuture<Long> georadiusbymember(GeoWithinStreamingChannel<V> channel, K key, V member, double distance,
+            Unit unit, GeoArgs geoArgs) {
+        return dispatch(commandBuilder.georadiusbymember(GEORADIUSBYMEMBER, channel, key, member, distance,
+                unit.name(), geoArgs));
+    }
+
     @Override
     public RedisFuture<Long> georadiusbymember(K key, V member, double distance, Unit unit,
             GeoRadiusStoreArgs<K> geoRadiusStoreArgs) {
@@ -636,6 +681,18 @@ public abstract class AbstractRedisAsyncCommands<K, V> implements RedisHashAsync
         return dispatch(commandBuilder.georadiusbymember(GEORADIUSBYMEMBER_RO, key, member, distance, unit.name(), geoArgs));
     }
 
+    protected RedisFuture<Long> georadiusbymember_ro(ValueStreamingChannel<V> channel, K key, V member, double distance,
+            Unit unit) {
+        return dispatch(commandBuilder.georadiusbymember(GEORADIUSBYMEMBER_RO, channel, key, member, distance,
+                unit.name()));
+    }
+
+    protected RedisFuture<Long> georadiusbymember_ro(GeoWithinStreamingChannel<V> channel, K key, V member, double distance,
+            Unit unit, GeoArgs geoArgs) {
+        return dispatch(commandBuilder.georadiusbymember(GEORADIUSBYMEMBER_RO, channel, key, member, distance,
+                unit.name(), geoArgs));
+    }
+
     @Override
     public RedisFuture<V> get(K key) {
         return dispatch(commandBuilder.get(key));
@@ -1579,6 +1636,16 @@ public abstract class AbstractRedisAsyncCommands<K, V> implements RedisHashAsync
         return dispatch(commandBuilder.xrange(key, range, limit));
     }
 
+    @Override
+    public RedisFuture<Long> xrange(StreamMessageStreamingChannel<K, V> channel, K key, Range<String> range) {
+        return dispatch(commandBuilder.xrange(channel, key, range, Limit.unlimited()));
+    }
+
+    @Override
+    public RedisFuture<Long> xrange(StreamMessageStreamingChannel<K, V> channel, K key, Range<String> range, Limit limit) {
+        return dispatch(commandBuilder.xrange(channel, key, range, limit));
+    }
+
     @Override
     public RedisFuture<List<StreamMessage<K, V>>> xread(XReadArgs.StreamOffset<K>... streams) {
         return dispatch(commandBuilder.xread(null, streams));
@@ -1600,6 +1667,29 @@ public abstract class AbstractRedisAsyncCommands<K, V> implements RedisHashAsync
         return dispatch(commandBuilder.xreadgroup(consumer, args, streams));
     }
 
+    @Override
+    public RedisFuture<Long> xread(StreamMessageStreamingChannel<K, V> channel, XReadArgs.StreamOffset<K>... streams) {
+        return dispatch(commandBuilder.xread(channel, null, streams));
+    }
+
+    @Override
+    public RedisFuture<Long> xread(StreamMessageStreamingChannel<K, V> channel, XReadArgs args,
+            XReadArgs.StreamOffset<K>... streams) {
+        return dispatch(commandBuilder.xread(channel, args, streams));
+    }
+
+    @Override
+    public RedisFuture<Long> xreadgroup(StreamMessageStreamingChannel<K, V> channel, Consumer<K> consumer,
+            XReadArgs.StreamOffset<K>... streams) {
+        return dispatch(commandBuilder.xreadgroup(channel, consumer, null, streams));
+    }
+
+    @Override
+    public RedisFuture<Long> xreadgroup(StreamMessageStreamingChannel<K, V> channel, Consumer<K> consumer, XReadArgs args,
+            XReadArgs.StreamOffset<K>... streams) {
+        return dispatch(commandBuilder.xreadgroup(channel, consumer, args, streams));
+    }
+
     @Override
     public RedisFuture<List<StreamMessage<K, V>>> xrevrange(K key, Range<String> range) {
         return dispatch(commandBuilder.xrevrange(key, range, Limit.unlimited()));
@@ -1610,6 +1700,16 @@ public abstract class AbstractRedisAsyncCommands<K, V> implements RedisHashAsync
         return dispatch(commandBuilder.xrevrange(key, range, limit));
     }
 
+    @Override
+    public RedisFuture<Long> xrevrange(StreamMessageStreamingChannel<K, V> channel, K key, Range<String> range) {
+        return dispatch(commandBuilder.xrevrange(channel, key, range, Limit.unlimited()));
+    }
+
+    @Override
+    public RedisFuture<Long> xrevrange(StreamMessageStreamingChannel<K, V> channel, K key, Range<String> range, Limit limit) {
+        return dispatch(commandBuilder.xrevrange(channel, key, range, limit));
+    }
+
     @Override
     public RedisFuture<Long> xtrim(K key, long count) {
         return xtrim(key, false, count);
@@ -1750,6 +1850,11 @@ public abstract class AbstractRedisAsyncCommands<K, V> implements RedisHashAsync
         return dispatch(commandBuilder.zrangeWithScores(key, start, stop));
     }
 
+    @Override
+    public RedisFuture<ScoredValueArray<V>> zrangeWithScoresArray(K key, long start, long stop) {
+        return dispatch(commandBuilder.zrangeWithScoresArray(key, start, stop));
+    }
+
     @Override
     public RedisFuture<Long> zrangeWithScores(ScoredValueStreamingChannel<V> channel, K key, long start, long stop) {
         return dispatch(commandBuilder.zrangeWithScores(channel, key, start, stop));
@@ -1867,6 +1972,11 @@ public abstract class AbstractRedisAsyncCommands<K, V> implements RedisHashAsync
         return dispatch(commandBuilder.zrangebyscoreWithScores(key, range, limit));
     }
 
+    @Override
+    public RedisFuture<ScoredValueArray<V>> zrangebyscoreWithScoresArray(K key, Range<? extends Number> range, Limit limit) {
+        return dispatch(commandBuilder.zrangebyscoreWithScoresArray(key, range, limit));
+    }
+
     @Override
     public RedisFuture<Long> zrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, double min, double max) {
         return dispatch(commandBuilder.zrangebyscoreWithScores(channel, key, min, max));
@@ -1956,6 +2066,11 @@ public abstract class AbstractRedisAsyncCommands<K, V> implements RedisHashAsync
         return dispatch(commandBuilder.zrevrangeWithScores(key, start, stop));
     }
 
+    @Override
+    public RedisFuture<ScoredValueArray<V>> zrevrangeWithScoresArray(K key, long start, long stop) {
+        return dispatch(commandBuilder.zrevrangeWithScoresArray(key, start, stop));
+    }
+
     @Override
     public RedisFuture<Long> zrevrangeWithScores(ScoredValueStreamingChannel<V> channel, K key, long start, long stop) {
         return dispatch(commandBuilder.zrevrangeWithScores(channel, key, start, stop));
@@ -2064,6 +2179,11 @@ public abstract class AbstractRedisAsyncCommands<K, V> implements RedisHashAsync
         return dispatch(commandBuilder.zrevrangebyscoreWithScores(key, range, limit));
     }
 
+    @Override
+    public RedisFuture<ScoredValueArray<V>> zrevrangebyscoreWithScoresArray(K key, Range<? extends Number> range, Limit limit) {
+        return dispatch(commandBuilder.zrevrangebyscoreWithScoresArray(key, range, limit));
+    }
+
     @Override
     public RedisFuture<Long> zrevrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, double max, double min) {
         return dispatch(commandBuilder.zrevrangebyscoreWithScores(channel, key, max, min));
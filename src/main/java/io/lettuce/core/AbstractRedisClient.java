@@ -26,6 +26,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import reactor.core.publisher.Mono;
 import io.lettuce.core.Transports.NativeTransports;
@@ -69,6 +71,7 @@ public abstract class AbstractRedisClient {
     protected static final InternalLogger logger = InternalLoggerFactory.getInstance(RedisClient.class);
 
     protected final Map<Class<? extends EventLoopGroup>, EventLoopGroup> eventLoopGroups = new ConcurrentHashMap<>(2);
+    private final Lock eventLoopGroupLock = new ReentrantLock();
     protected final ConnectionEvents connectionEvents = new ConnectionEvents();
     protected final Set<Closeable> closeableResources = ConcurrentHashMap.newKeySet();
     protected final EventExecutorGroup genericWorkerPool;
@@ -179,35 +182,40 @@ public abstract class AbstractRedisClient {
         }
     }
 
-    private synchronized EventLoopGroup getEventLoopGroup(ConnectionPoint connectionPoint) {
+    private EventLoopGroup getEventLoopGroup(ConnectionPoint connectionPoint) {
 
-        if (connectionPoint.getSocket() == null && !eventLoopGroups.containsKey(Transports.eventLoopGroupClass())) {
-            eventLoopGroups.put(Transports.eventLoopGroupClass(),
-                    clientResources.eventLoopGroupProvider().allocate(Transports.eventLoopGroupClass()));
-        }
+        eventLoopGroupLock.lock();
+        try {
+            if (connectionPoint.getSocket() == null && !eventLoopGroups.containsKey(Transports.eventLoopGroupClass())) {
+                eventLoopGroups.put(Transports.eventLoopGroupClass(),
+                        clientResources.eventLoopGroupProvider().allocate(Transports.eventLoopGroupClass()));
+            }
 
-        if (connectionPoint.getSocket() != null) {
+            if (connectionPoint.getSocket() != null) {
 
-            NativeTransports.assertAvailable();
+                NativeTransports.assertAvailable();
 
-            Class<? extends EventLoopGroup> eventLoopGroupClass = NativeTransports.eventLoopGroupClass();
+                Class<? extends EventLoopGroup> eventLoopGroupClass = NativeTransports.eventLoopGroupClass();
 
-            if (!eventLoopGroups.containsKey(NativeTransports.eventLoopGroupClass())) {
-                eventLoopGroups
-                        .put(eventLoopGroupClass, clientResources.eventLoopGroupProvider().allocate(eventLoopGroupClass));
+                if (!eventLoopGroups.containsKey(NativeTransports.eventLoopGroupClass())) {
+                    eventLoopGroups
+                            .put(eventLoopGroupClass, clientResources.eventLoopGroupProvider().allocate(eventLoopGroupClass));
+                }
             }
-        }
 
-        if (connectionPoint.getSocket() == null) {
-            return eventLoopGroups.get(Transports.eventLoopGroupClass());
-        }
+            if (connectionPoint.getSocket() == null) {
+                return eventLoopGroups.get(Transports.eventLoopGroupClass());
+            }
 
-        if (connectionPoint.getSocket() != null) {
-            NativeTransports.assertAvailable();
-            return eventLoopGroups.get(NativeTransports.eventLoopGroupClass());
-        }
+            if (connectionPoint.getSocket() != null) {
+                NativeTransports.assertAvailable();
+                return eventLoopGroups.get(NativeTransports.eventLoopGroupClass());
+            }
 
-        throw new IllegalStateException("This should not have happened in a binary decision. Please file a bug.");
+            throw new IllegalStateException("This should not have happened in a binary decision. Please file a bug.");
+        } finally {
+            eventLoopGroupLock.unlock();
+        }
     }
 
     /**
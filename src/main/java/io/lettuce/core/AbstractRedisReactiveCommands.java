@@ -134,6 +134,11 @@ public abstract class AbstractRedisReactiveCommands<K, V> implements RedisHashRe
         return createDissolvingFlux(() -> commandBuilder.bitfieldValue(key, args));
     }
 
+    @Override
+    public Mono<long[]> bitfieldArray(K key, BitFieldArgs bitFieldArgs) {
+        return createMono(() -> commandBuilder.bitfieldArray(key, bitFieldArgs));
+    }
+
     @Override
     public Mono<Long> bitopAnd(K destination, K... keys) {
         return createMono(() -> commandBuilder.bitopAnd(destination, keys));
@@ -657,6 +662,20 @@ public abstract class AbstractRedisReactiveCommands<K, V> implements RedisHashRe
                 geoArgs));
     }
 
+    @Override
+    public Mono<Long> georadius(ValueStreamingChannel<V> channel, K key, double longitude, double latitude, double distance,
+            Unit unit) {
+        return createMono(() -> commandBuilder.georadius(GEORADIUS, channel, key, longitude, latitude, distance,
+                unit.name()));
+    }
+
+    @Override
+    public Mono<Long> georadius(GeoWithinStreamingChannel<V> channel, K key, double longitude, double latitude,
+            double distance, Unit unit, GeoArgs geoArgs) {
+        return createMono(() -> commandBuilder.georadius(GEORADIUS, channel, key, longitude, latitude, distance,
+                unit.name(), geoArgs));
+    }
+
     @Override
     public Mono<Long> georadius(K key, double longitude, double latitude, double distance, Unit unit,
             GeoRadiusStoreArgs<K> geoRadiusStoreArgs) {
@@ -674,6 +693,18 @@ public abstract class AbstractRedisReactiveCommands<K, V> implements RedisHashRe
                 unit.name(), geoArgs));
     }
 
+    protected Mono<Long> georadius_ro(ValueStreamingChannel<V> channel, K key, double longitude, double latitude,
+            double distance, Unit unit) {
+        return createMono(() -> commandBuilder.georadius(GEORADIUS_RO, channel, key, longitude, latitude, distance,
+                unit.name()));
+    }
+
+    protected Mono<Long> georadius_ro(GeoWithinStreamingChannel<V> channel, K key, double longitude, double latitude,
+            double distance, Unit unit, GeoArgs geoArgs) {
+        return createMono(() -> commandBuilder.georadius(GEORADIUS_RO, channel, key, longitude, latitude, distance,
+                unit.name(), geoArgs));
+    }
+
     @Override
     public Flux<V> georadiusbymember(K key, V member, double distance, Unit unit) {
         return createDissolvingFlux(() -> commandBuilder.georadiusbymember(GEORADIUSBYMEMBER, key, member, distance,
@@ -686,6 +717,20 @@ public abstract class AbstractRedisReactiveCommands<K, V> implements RedisHashRe
                 unit.name(), geoArgs));
     }
 
+    @Override
+    public Mono<Long> georadiusbymember(ValueStreamingChannel<V> channel, K key, V member, double distance,
+            Unit unit) {
+        return createMono(() -> commandBuilder.georadiusbymember(GEORADIUSBYMEMBER, channel, key, member, distance,
+                unit.name()));
+    }
+
+    @Override
+    public Mono<Long> georadiusbymember(GeoWithinStreamingChannel<V> channel, K key, V member, double distance,
+            Unit unit, GeoArgs geoArgs) {
+        return createMono(() -> commandBuilder.georadiusbymember(GEORADIUSBYMEMBER, channel, key, member, distance,
+                unit.name(), geoArgs));
+    }
+
     @Override
     public Mono<Long> georadiusbymember(K key, V member, double distance, Unit unit, GeoRadiusStoreArgs<K> geoRadiusStoreArgs) {
         return createMono(() -> commandBuilder.georadiusbymember(key, member, distance, unit.name(), geoRadiusStoreArgs));
@@ -701,6 +746,18 @@ public abstract class AbstractRedisReactiveCommands<K, V> implements RedisHashRe
                 unit.name(), geoArgs));
     }
 
+    protected Mono<Long> georadiusbymember_ro(ValueStreamingChannel<V> channel, K key, V member, double distance,
+            Unit unit) {
+        return createMono(() -> commandBuilder.georadiusbymember(GEORADIUSBYMEMBER_RO, channel, key, member, distance,
+                unit.name()));
+    }
+
+    protected Mono<Long> georadiusbymember_ro(GeoWithinStreamingChannel<V> channel, K key, V member, double distance,
+            Unit unit, GeoArgs geoArgs) {
+        return createMono(() -> commandBuilder.georadiusbymember(GEORADIUSBYMEMBER_RO, channel, key, member, distance,
+                unit.name(), geoArgs));
+    }
+
     @Override
     public Mono<V> get(K key) {
         return createMono(() -> commandBuilder.get(key));
@@ -1654,6 +1711,16 @@ public abstract class AbstractRedisReactiveCommands<K, V> implements RedisHashRe
         return createDissolvingFlux(() -> commandBuilder.xrange(key, range, limit));
     }
 
+    @Override
+    public Mono<Long> xrange(StreamMessageStreamingChannel<K, V> channel, K key, Range<String> range) {
+        return createMono(() -> commandBuilder.xrange(channel, key, range, Limit.unlimited()));
+    }
+
+    @Override
+    public Mono<Long> xrange(StreamMessageStreamingChannel<K, V> channel, K key, Range<String> range, Limit limit) {
+        return createMono(() -> commandBuilder.xrange(channel, key, range, limit));
+    }
+
     @Override
     public Flux<StreamMessage<K, V>> xread(XReadArgs.StreamOffset<K>... streams) {
         return createDissolvingFlux(() -> commandBuilder.xread(null, streams));
@@ -1674,6 +1741,29 @@ public abstract class AbstractRedisReactiveCommands<K, V> implements RedisHashRe
         return createDissolvingFlux(() -> commandBuilder.xreadgroup(consumer, args, streams));
     }
 
+    @Override
+    public Mono<Long> xread(StreamMessageStreamingChannel<K, V> channel, XReadArgs.StreamOffset<K>... streams) {
+        return createMono(() -> commandBuilder.xread(channel, null, streams));
+    }
+
+    @Override
+    public Mono<Long> xread(StreamMessageStreamingChannel<K, V> channel, XReadArgs args,
+            XReadArgs.StreamOffset<K>... streams) {
+        return createMono(() -> commandBuilder.xread(channel, args, streams));
+    }
+
+    @Override
+    public Mono<Long> xreadgroup(StreamMessageStreamingChannel<K, V> channel, Consumer<K> consumer,
+            XReadArgs.StreamOffset<K>... streams) {
+        return createMono(() -> commandBuilder.xreadgroup(channel, consumer, null, streams));
+    }
+
+    @Override
+    public Mono<Long> xreadgroup(StreamMessageStreamingChannel<K, V> channel, Consumer<K> consumer, XReadArgs args,
+            XReadArgs.StreamOffset<K>... streams) {
+        return createMono(() -> commandBuilder.xreadgroup(channel, consumer, args, streams));
+    }
+
     @Override
     public Flux<StreamMessage<K, V>> xrevrange(K key, Range<String> range) {
         return xrevrange(key, range, Limit.unlimited());
@@ -1684,6 +1774,16 @@ public abstract class AbstractRedisReactiveCommands<K, V> implements RedisHashRe
         return createDissolvingFlux(() -> commandBuilder.xrevrange(key, range, limit));
     }
 
+    @Override
+    public Mono<Long> xrevrange(StreamMessageStreamingChannel<K, V> channel, K key, Range<String> range) {
+        return createMono(() -> commandBuilder.xrevrange(channel, key, range, Limit.unlimited()));
+    }
+
+    @Override
+    public Mono<Long> xrevrange(StreamMessageStreamingChannel<K, V> channel, K key, Range<String> range, Limit limit) {
+        return createMono(() -> commandBuilder.xrevrange(channel, key, range, limit));
+    }
+
     @Override
     public Mono<Long> xtrim(K key, long count) {
         return xtrim(key, false, count);
@@ -1823,6 +1923,11 @@ public abstract class AbstractRedisReactiveCommands<K, V> implements RedisHashRe
         return createDissolvingFlux(() -> commandBuilder.zrangeWithScores(key, start, stop));
     }
 
+    @Override
+    public Mono<ScoredValueArray<V>> zrangeWithScoresArray(K key, long start, long stop) {
+        return createMono(() -> commandBuilder.zrangeWithScoresArray(key, start, stop));
+    }
+
     @Override
     public Mono<Long> zrangeWithScores(ScoredValueStreamingChannel<V> channel, K key, long start, long stop) {
         return createMono(() -> commandBuilder.zrangeWithScores(channel, key, start, stop));
@@ -1938,6 +2043,11 @@ public abstract class AbstractRedisReactiveCommands<K, V> implements RedisHashRe
         return createDissolvingFlux(() -> commandBuilder.zrangebyscoreWithScores(key, range, limit));
     }
 
+    @Override
+    public Mono<ScoredValueArray<V>> zrangebyscoreWithScoresArray(K key, Range<? extends Number> range, Limit limit) {
+        return createMono(() -> commandBuilder.zrangebyscoreWithScoresArray(key, range, limit));
+    }
+
     @Override
     public Mono<Long> zrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, double min, double max) {
         return createMono(() -> commandBuilder.zrangebyscoreWithScores(channel, key, min, max));
@@ -2026,6 +2136,11 @@ public abstract class AbstractRedisReactiveCommands<K, V> implements RedisHashRe
         return createDissolvingFlux(() -> commandBuilder.zrevrangeWithScores(key, start, stop));
     }
 
+    @Override
+    public Mono<ScoredValueArray<V>> zrevrangeWithScoresArray(K key, long start, long stop) {
+        return createMono(() -> commandBuilder.zrevrangeWithScoresArray(key, start, stop));
+    }
+
     @Override
     public Mono<Long> zrevrangeWithScores(ScoredValueStreamingChannel<V> channel, K key, long start, long stop) {
         return createMono(() -> commandBuilder.zrevrangeWithScores(channel, key, start, stop));
@@ -2131,6 +2246,11 @@ public abstract class AbstractRedisReactiveCommands<K, V> implements RedisHashRe
         return createDissolvingFlux(() -> commandBuilder.zrevrangebyscoreWithScores(key, range, limit));
     }
 
+    @Override
+    public Mono<ScoredValueArray<V>> zrevrangebyscoreWithScoresArray(K key, Range<? extends Number> range, Limit limit) {
+        return createMono(() -> commandBuilder.zrevrangebyscoreWithScoresArray(key, range, limit));
+    }
+
     @Override
     public Mono<Long> zrevrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, double max, double min) {
         return createMono(() -> commandBuilder.zrevrangebyscoreWithScores(channel, key, max, min));
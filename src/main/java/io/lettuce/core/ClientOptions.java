@@ -40,6 +40,9 @@ public class ClientOptions implements Serializable {
     public static final SslOptions DEFAULT_SSL_OPTIONS = SslOptions.create();
     public static final TimeoutOptions DEFAULT_TIMEOUT_OPTIONS = TimeoutOptions.create();
     public static final int DEFAULT_BUFFER_USAGE_RATIO = 3;
+    public static final ConcurrencyLimitOptions DEFAULT_CONCURRENCY_LIMIT_OPTIONS = ConcurrencyLimitOptions.create();
+    public static final boolean DEFAULT_AUTO_PIPELINING = false;
+    public static final int DEFAULT_AUTO_PIPELINING_FLUSH_THRESHOLD = 256;
 
     private final boolean pingBeforeActivateConnection;
     private final boolean autoReconnect;
@@ -52,6 +55,9 @@ public class ClientOptions implements Serializable {
     private final SslOptions sslOptions;
     private final TimeoutOptions timeoutOptions;
     private final int bufferUsageRatio;
+    private final ConcurrencyLimitOptions concurrencyLimitOptions;
+    private final boolean autoPipelining;
+    private final int autoPipeliningFlushThreshold;
     private final Builder builder;
 
     protected ClientOptions(Builder builder) {
@@ -66,6 +72,9 @@ public class ClientOptions implements Serializable {
         this.sslOptions = builder.sslOptions;
         this.timeoutOptions = builder.timeoutOptions;
         this.bufferUsageRatio = builder.bufferUsageRatio;
+        this.concurrencyLimitOptions = builder.concurrencyLimitOptions;
+        this.autoPipelining = builder.autoPipelining;
+        this.autoPipeliningFlushThreshold = builder.autoPipeliningFlushThreshold;
         this.builder = builder;
     }
 
@@ -81,6 +90,9 @@ public class ClientOptions implements Serializable {
         this.sslOptions = original.getSslOptions();
         this.timeoutOptions = original.getTimeoutOptions();
         this.bufferUsageRatio = original.getBufferUsageRatio();
+        this.concurrencyLimitOptions = original.getConcurrencyLimitOptions();
+        this.autoPipelining = original.isAutoPipelining();
+        this.autoPipeliningFlushThreshold = original.getAutoPipeliningFlushThreshold();
         this.builder = original.builder;
     }
 
@@ -128,6 +140,9 @@ public class ClientOptions implements Serializable {
         private SslOptions sslOptions = DEFAULT_SSL_OPTIONS;
         private TimeoutOptions timeoutOptions = DEFAULT_TIMEOUT_OPTIONS;
         private int bufferUsageRatio = DEFAULT_BUFFER_USAGE_RATIO;
+        private ConcurrencyLimitOptions concurrencyLimitOptions = DEFAULT_CONCURRENCY_LIMIT_OPTIONS;
+        private boolean autoPipelining = DEFAULT_AUTO_PIPELINING;
+        private int autoPipeliningFlushThreshold = DEFAULT_AUTO_PIPELINING_FLUSH_THRESHOLD;
 
         protected Builder() {
         }
@@ -290,6 +305,53 @@ public class ClientOptions implements Serializable {
             return this;
         }
 
+        /**
+         * Sets the {@link ConcurrencyLimitOptions} to adaptively limit the number of in-flight commands per connection. See
+         * {@link #DEFAULT_CONCURRENCY_LIMIT_OPTIONS}.
+         *
+         * @param concurrencyLimitOptions must not be {@literal null}.
+         * @return {@code this}
+         * @since 5.2
+         */
+        public Builder concurrencyLimitOptions(ConcurrencyLimitOptions concurrencyLimitOptions) {
+
+            LettuceAssert.notNull(concurrencyLimitOptions, "ConcurrencyLimitOptions must not be null");
+            this.concurrencyLimitOptions = concurrencyLimitOptions;
+            return this;
+        }
+
+        /**
+         * Enables or disables auto-pipelining. Auto-pipelining consolidates flushes of commands written by all callers of a
+         * connection. Commands are flushed as a single write once the event loop has processed pending writes or after
+         * {@link #autoPipeliningFlushThreshold(int) flush threshold} flushes. Commands written while reading responses are
+         * flushed when the read completes. Defaults to {@literal false}. See {@link #DEFAULT_AUTO_PIPELINING}.
+         *
+         * @param autoPipelining {@literal true} to enable auto-pipelining.
+         * @return {@code this}
+         * @since 5.2
+         */
+        public Builder autoPipelining(boolean autoPipelining) {
+            this.autoPipelining = autoPipelining;
+            return this;
+        }
+
+        /**
+         * Sets the number of consolidated flushes after which auto-pipelined commands are flushed immediately. See
+         * {@link #DEFAULT_AUTO_PIPELINING_FLUSH_THRESHOLD}.
+         *
+         * @param autoPipeliningFlushThreshold must be greater than 0.
+         * @return {@code this}
+         * @since 5.2
+         * @see #autoPipelining(boolean)
+         */
+        public Builder autoPipeliningFlushThreshold(int autoPipeliningFlushThreshold) {
+
+            LettuceAssert.isTrue(autoPipeliningFlushThreshold > 0, "AutoPipeliningFlushThreshold must be greater than 0");
+
+            this.autoPipeliningFlushThreshold = autoPipeliningFlushThreshold;
+            return this;
+        }
+
         /**
          * Create a new instance of {@link ClientOptions}.
          *
@@ -434,6 +496,37 @@ public class ClientOptions implements Serializable {
         return bufferUsageRatio;
     }
 
+    /**
+     * Returns the {@link ConcurrencyLimitOptions}.
+     *
+     * @return the {@link ConcurrencyLimitOptions}.
+     * @since 5.2
+     */
+    public ConcurrencyLimitOptions getConcurrencyLimitOptions() {
+        return concurrencyLimitOptions;
+    }
+
+    /**
+     * Auto-pipelining consolidates flushes of commands written by all callers of a connection into a single write. Defaults to
+     * {@literal false}.
+     *
+     * @return {@literal true} if auto-pipelining is enabled.
+     * @since 5.2
+     */
+    public boolean isAutoPipelining() {
+        return autoPipelining;
+    }
+
+    /**
+     * Number of consolidated flushes after which auto-pipelined commands are flushed immediately.
+     *
+     * @return the auto-pipelining flush threshold.
+     * @since 5.2
+     */
+    public int getAutoPipeliningFlushThreshold() {
+        return autoPipeliningFlushThreshold;
+    }
+
     /**
      * Behavior of connections in disconnected state.
      */
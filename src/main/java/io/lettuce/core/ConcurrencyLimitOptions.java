@@ -0,0 +1,304 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.io.Serializable;
+import java.time.Duration;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Options for adaptive, latency-based limiting of in-flight commands per connection. When enabled, each connection maintains
+ * a concurrency limit that is adjusted using an AIMD (additive increase, multiplicative decrease) scheme from observed
+ * round-trip times:
+ * <ul>
+ * <li>The limit is increased by one per round-trip if the observed latency is below the {@link #getLatencyThreshold()
+ * latency threshold} and the connection makes use of at least half of its limit.</li>
+ * <li>The limit is multiplied by the {@link #getBackoffRatio() backoff ratio} if the observed latency exceeds the
+ * {@link #getLatencyThreshold() latency threshold}.</li>
+ * </ul>
+ * Commands exceeding the current limit are either queued until in-flight commands complete or rejected with
+ * {@link RedisOverloadException}, see {@link OverloadBehavior}. Queued commands count towards
+ * {@link ClientOptions#getRequestQueueSize()}.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+@SuppressWarnings("serial")
+public class ConcurrencyLimitOptions implements Serializable {
+
+    public static final boolean DEFAULT_LIMIT_CONCURRENCY = false;
+    public static final int DEFAULT_INITIAL_LIMIT = 100;
+    public static final int DEFAULT_MIN_LIMIT = 8;
+    public static final int DEFAULT_MAX_LIMIT = 10000;
+    public static final double DEFAULT_BACKOFF_RATIO = 0.9;
+    public static final Duration DEFAULT_LATENCY_THRESHOLD = Duration.ofMillis(50);
+    public static final OverloadBehavior DEFAULT_OVERLOAD_BEHAVIOR = OverloadBehavior.QUEUE;
+
+    private final boolean limitConcurrency;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final Duration latencyThreshold;
+    private final OverloadBehavior overloadBehavior;
+
+    private ConcurrencyLimitOptions(Builder builder) {
+
+        this.limitConcurrency = builder.limitConcurrency;
+        this.initialLimit = builder.initialLimit;
+        this.minLimit = builder.minLimit;
+        this.maxLimit = builder.maxLimit;
+        this.backoffRatio = builder.backoffRatio;
+        this.latencyThreshold = builder.latencyThreshold;
+        this.overloadBehavior = builder.overloadBehavior;
+    }
+
+    /**
+     * Returns a new {@link ConcurrencyLimitOptions.Builder} to construct {@link ConcurrencyLimitOptions}.
+     *
+     * @return a new {@link ConcurrencyLimitOptions.Builder} to construct {@link ConcurrencyLimitOptions}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a new instance of {@link ConcurrencyLimitOptions} with default settings (concurrency limiting disabled).
+     *
+     * @return a new instance of {@link ConcurrencyLimitOptions} with default settings.
+     */
+    public static ConcurrencyLimitOptions create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a new instance of {@link ConcurrencyLimitOptions} with enabled concurrency limiting using default settings.
+     *
+     * @return a new instance of {@link ConcurrencyLimitOptions} with enabled concurrency limiting.
+     */
+    public static ConcurrencyLimitOptions enabled() {
+        return builder().limitConcurrency().build();
+    }
+
+    /**
+     * Builder for {@link ConcurrencyLimitOptions}.
+     */
+    public static class Builder {
+
+        private boolean limitConcurrency = DEFAULT_LIMIT_CONCURRENCY;
+        private int initialLimit = DEFAULT_INITIAL_LIMIT;
+        private int minLimit = DEFAULT_MIN_LIMIT;
+        private int maxLimit = DEFAULT_MAX_LIMIT;
+        private double backoffRatio = DEFAULT_BACKOFF_RATIO;
+        private Duration latencyThreshold = DEFAULT_LATENCY_THRESHOLD;
+        private OverloadBehavior overloadBehavior = DEFAULT_OVERLOAD_BEHAVIOR;
+
+        /**
+         * Enable concurrency limiting. Disabled by default, see {@link #DEFAULT_LIMIT_CONCURRENCY}.
+         *
+         * @return {@code this}
+         */
+        public Builder limitConcurrency() {
+            return limitConcurrency(true);
+        }
+
+        /**
+         * Configure whether to limit concurrency. Disabled by default, see {@link #DEFAULT_LIMIT_CONCURRENCY}.
+         *
+         * @param enabled {@literal true} to enable concurrency limiting; {@literal false} to disable it.
+         * @return {@code this}
+         */
+        public Builder limitConcurrency(boolean enabled) {
+
+            this.limitConcurrency = enabled;
+            return this;
+        }
+
+        /**
+         * Set the initial concurrency limit. Defaults to {@literal 100}, see {@link #DEFAULT_INITIAL_LIMIT}.
+         *
+         * @param initialLimit the initial limit, must be greater zero.
+         * @return {@code this}
+         */
+        public Builder initialLimit(int initialLimit) {
+
+            LettuceAssert.isTrue(initialLimit > 0, "Initial limit must be greater 0");
+
+            this.initialLimit = initialLimit;
+            return this;
+        }
+
+        /**
+         * Set the lower bound for the concurrency limit. Defaults to {@literal 8}, see {@link #DEFAULT_MIN_LIMIT}.
+         *
+         * @param minLimit the minimum limit, must be greater zero.
+         * @return {@code this}
+         */
+        public Builder minLimit(int minLimit) {
+
+            LettuceAssert.isTrue(minLimit > 0, "Min limit must be greater 0");
+
+            this.minLimit = minLimit;
+            return this;
+        }
+
+        /**
+         * Set the upper bound for the concurrency limit. Defaults to {@literal 10000}, see {@link #DEFAULT_MAX_LIMIT}.
+         *
+         * @param maxLimit the maximum limit, must be greater zero.
+         * @return {@code this}
+         */
+        public Builder maxLimit(int maxLimit) {
+
+            LettuceAssert.isTrue(maxLimit > 0, "Max limit must be greater 0");
+
+            this.maxLimit = maxLimit;
+            return this;
+        }
+
+        /**
+         * Set the ratio by which the limit is decreased once the observed latency exceeds the
+         * {@link #latencyThreshold(Duration) latency threshold}. Defaults to {@literal 0.9}, see
+         * {@link #DEFAULT_BACKOFF_RATIO}.
+         *
+         * @param backoffRatio the backoff ratio, must be between {@literal 0} and {@literal 1} (exclusive).
+         * @return {@code this}
+         */
+        public Builder backoffRatio(double backoffRatio) {
+
+            LettuceAssert.isTrue(backoffRatio > 0 && backoffRatio < 1, "Backoff ratio must be between 0 and 1");
+
+            this.backoffRatio = backoffRatio;
+            return this;
+        }
+
+        /**
+         * Set the round-trip latency threshold. Round-trip times above the threshold are considered as overload and decrease
+         * the limit. Defaults to {@literal 50 milliseconds}, see {@link #DEFAULT_LATENCY_THRESHOLD}.
+         *
+         * @param latencyThreshold the latency threshold, must not be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder latencyThreshold(Duration latencyThreshold) {
+
+            LettuceAssert.notNull(latencyThreshold, "Latency threshold must not be null");
+            LettuceAssert.isTrue(!latencyThreshold.isNegative() && !latencyThreshold.isZero(),
+                    "Latency threshold must be greater zero");
+
+            this.latencyThreshold = latencyThreshold;
+            return this;
+        }
+
+        /**
+         * Set the {@link OverloadBehavior} for commands exceeding the concurrency limit. Defaults to
+         * {@link OverloadBehavior#QUEUE}, see {@link #DEFAULT_OVERLOAD_BEHAVIOR}.
+         *
+         * @param overloadBehavior must not be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder overloadBehavior(OverloadBehavior overloadBehavior) {
+
+            LettuceAssert.notNull(overloadBehavior, "OverloadBehavior must not be null");
+
+            this.overloadBehavior = overloadBehavior;
+            return this;
+        }
+
+        /**
+         * Create a new instance of {@link ConcurrencyLimitOptions}.
+         *
+         * @return new instance of {@link ConcurrencyLimitOptions}
+         */
+        public ConcurrencyLimitOptions build() {
+
+            if (minLimit > maxLimit) {
+                throw new IllegalStateException("Min limit must not be greater than max limit");
+            }
+
+            if (initialLimit < minLimit || initialLimit > maxLimit) {
+                throw new IllegalStateException("Initial limit must be between min limit and max limit");
+            }
+
+            return new ConcurrencyLimitOptions(this);
+        }
+    }
+
+    /**
+     * @return {@literal true} if the number of in-flight commands should be limited.
+     */
+    public boolean isLimitConcurrency() {
+        return limitConcurrency;
+    }
+
+    /**
+     * @return the initial concurrency limit.
+     */
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    /**
+     * @return the lower bound for the concurrency limit.
+     */
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    /**
+     * @return the upper bound for the concurrency limit.
+     */
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * @return the ratio by which the limit is decreased on overload.
+     */
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    /**
+     * @return the round-trip latency threshold above which the limit is decreased.
+     */
+    public Duration getLatencyThreshold() {
+        return latencyThreshold;
+    }
+
+    /**
+     * @return the {@link OverloadBehavior} for commands exceeding the concurrency limit.
+     */
+    public OverloadBehavior getOverloadBehavior() {
+        return overloadBehavior;
+    }
+
+    /**
+     * Behavior for commands that exceed the concurrency limit.
+     */
+    public enum OverloadBehavior {
+
+        /**
+         * Queue commands until in-flight commands complete.
+         */
+        QUEUE,
+
+        /**
+         * Reject commands with {@link RedisOverloadException}.
+         */
+        REJECT,
+    }
+}
@@ -29,6 +29,7 @@ import io.lettuce.core.resource.ClientResources;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.group.ChannelGroup;
+import io.netty.handler.flush.FlushConsolidationHandler;
 import io.netty.util.Timer;
 
 /**
@@ -75,6 +76,10 @@ public class ConnectionBuilder {
 
         connection.setOptions(clientOptions);
 
+        if (clientOptions.isAutoPipelining()) {
+            handlers.add(new FlushConsolidationHandler(clientOptions.getAutoPipeliningFlushThreshold(), true));
+        }
+
         handlers.add(new ChannelGroupListener(channelGroup));
         handlers.add(new CommandEncoder());
         handlers.add(commandHandlerSupplier.get());
@@ -31,6 +31,9 @@ import io.lettuce.core.codec.Base16;
  */
 public class LettuceStrings {
 
+    private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13,
+            1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
     /**
      * Utility constructor.
      */
@@ -94,6 +97,79 @@ public class LettuceStrings {
         return Double.parseDouble(s);
     }
 
+    /**
+     * Convert the ASCII representation of a number in {@link ByteBuffer} to {@code double} without creating an intermediate
+     * {@link String} for plain decimal numbers with up to 15 significant digits. If {@code bytes} contains
+     * {@literal +inf}/{@literal -inf}, returns positive/negative infinity. Does not consume {@code bytes}.
+     *
+     * @param bytes the ASCII representation of the number
+     * @return the {@code double} value.
+     * @since 5.2
+     */
+    public static double toDouble(ByteBuffer bytes) {
+
+        int index = bytes.position();
+        int limit = bytes.limit();
+        boolean negative = false;
+
+        if (index < limit && (bytes.get(index) == '-' || bytes.get(index) == '+')) {
+            negative = bytes.get(index) == '-';
+            index++;
+        }
+
+        long mantissa = 0;
+        int significantDigits = 0;
+        int scale = 0;
+        boolean digits = false;
+        boolean fraction = false;
+
+        for (; index < limit; index++) {
+
+            byte b = bytes.get(index);
+
+            if (b >= '0' && b <= '9') {
+
+                if (significantDigits > 0 || b != '0') {
+                    significantDigits++;
+                }
+
+                if (fraction) {
+                    scale++;
+                }
+
+                mantissa = mantissa * 10 + (b - '0');
+                digits = true;
+                continue;
+            }
+
+            if (b == '.' && !fraction) {
+                fraction = true;
+                continue;
+            }
+
+            return toDouble(toAscii(bytes));
+        }
+
+        // mantissa and power of ten are exact doubles so that a single division yields the correctly rounded result
+        if (!digits || significantDigits > 15 || scale >= POWERS_OF_TEN.length) {
+            return toDouble(toAscii(bytes));
+        }
+
+        double value = scale == 0 ? mantissa : mantissa / POWERS_OF_TEN[scale];
+
+        return negative ? -value : value;
+    }
+
+    private static String toAscii(ByteBuffer bytes) {
+
+        char[] chars = new char[bytes.remaining()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) bytes.get(bytes.position() + i);
+        }
+
+        return new String(chars);
+    }
+
     /**
      * Create SHA1 digest from Lua script.
      *
@@ -114,6 +114,18 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         return createCommand(BITFIELD, (CommandOutput) new ArrayOutput<>(codec), args);
     }
 
+    Command<K, V, long[]> bitfieldArray(K key, BitFieldArgs bitFieldArgs) {
+        notNullKey(key);
+        LettuceAssert.notNull(bitFieldArgs, "BitFieldArgs must not be null");
+
+        CommandArgs<K, V> args = new CommandArgs<>(codec);
+        args.addKey(key);
+
+        bitFieldArgs.build(args);
+
+        return createCommand(BITFIELD, new LongArrayOutput<>(codec), args);
+    }
+
     Command<K, V, List<Value<Long>>> bitfieldValue(K key, BitFieldArgs bitFieldArgs) {
         notNullKey(key);
         LettuceAssert.notNull(bitFieldArgs, "BitFieldArgs must not be null");
@@ -758,6 +770,32 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
                 geoArgs.isWithCoordinates()), args);
     }
 
+    Command<K, V, Long> georadius(CommandType commandType, ValueStreamingChannel<V> channel, K key, double longitude,
+            double latitude, double distance, String unit) {
+        notNull(channel);
+        notNullKey(key);
+        LettuceAssert.notNull(unit, "Unit " + MUST_NOT_BE_NULL);
+        LettuceAssert.notEmpty(unit, "Unit " + MUST_NOT_BE_EMPTY);
+
+        CommandArgs<K, V> args = new CommandArgs<>(codec).addKey(key).add(longitude).add(latitude).add(distance).add(unit);
+        return createCommand(commandType, new ValueStreamingOutput<>(codec, channel), args);
+    }
+
+    Command<K, V, Long> georadius(CommandType commandType, GeoWithinStreamingChannel<V> channel, K key, double longitude,
+            double latitude, double distance, String unit, GeoArgs geoArgs) {
+
+        notNullGeoChannel(channel);
+        notNullKey(key);
+        LettuceAssert.notNull(unit, "Unit " + MUST_NOT_BE_NULL);
+        LettuceAssert.notEmpty(unit, "Unit " + MUST_NOT_BE_EMPTY);
+        LettuceAssert.notNull(geoArgs, "GeoArgs " + MUST_NOT_BE_NULL);
+        CommandArgs<K, V> args = new CommandArgs<>(codec).addKey(key).add(longitude).add(latitude).add(distance).add(unit);
+        geoArgs.build(args);
+
+        return createCommand(commandType, new GeoWithinStreamingOutput<>(codec, channel, geoArgs.isWithDistance(),
+                geoArgs.isWithHash(), geoArgs.isWithCoordinates()), args);
+    }
+
     Command<K, V, Long> georadius(K key, double longitude, double latitude, double distance, String unit,
             GeoRadiusStoreArgs<K> geoRadiusStoreArgs) {
 
@@ -799,6 +837,34 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
                 geoArgs.isWithCoordinates()), args);
     }
 
+    Command<K, V, Long> georadiusbymember(CommandType commandType, ValueStreamingChannel<V> channel, K key, V member,
+            double distance, String unit) {
+
+        notNull(channel);
+        notNullKey(key);
+        LettuceAssert.notNull(unit, "Unit " + MUST_NOT_BE_NULL);
+        LettuceAssert.notEmpty(unit, "Unit " + MUST_NOT_BE_EMPTY);
+
+        CommandArgs<K, V> args = new CommandArgs<>(codec).addKey(key).addValue(member).add(distance).add(unit);
+        return createCommand(commandType, new ValueStreamingOutput<>(codec, channel), args);
+    }
+
+    Command<K, V, Long> georadiusbymember(CommandType commandType, GeoWithinStreamingChannel<V> channel, K key, V member,
+            double distance, String unit, GeoArgs geoArgs) {
+
+        notNullGeoChannel(channel);
+        notNullKey(key);
+        LettuceAssert.notNull(geoArgs, "GeoArgs " + MUST_NOT_BE_NULL);
+        LettuceAssert.notNull(unit, "Unit " + MUST_NOT_BE_NULL);
+        LettuceAssert.notEmpty(unit, "Unit " + MUST_NOT_BE_EMPTY);
+
+        CommandArgs<K, V> args = new CommandArgs<>(codec).addKey(key).addValue(member).add(distance).add(unit);
+        geoArgs.build(args);
+
+        return createCommand(commandType, new GeoWithinStreamingOutput<>(codec, channel, geoArgs.isWithDistance(),
+                geoArgs.isWithHash(), geoArgs.isWithCoordinates()), args);
+    }
+
     Command<K, V, Long> georadiusbymember(K key, V member, double distance, String unit,
             GeoRadiusStoreArgs<K> geoRadiusStoreArgs) {
 
@@ -2241,35 +2307,44 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     }
 
     public Command<K, V, List<StreamMessage<K, V>>> xrange(K key, Range<String> range, Limit limit) {
-        notNullKey(key);
-        LettuceAssert.notNull(range, "Range " + MUST_NOT_BE_NULL);
-        LettuceAssert.notNull(limit, "Limit " + MUST_NOT_BE_NULL);
-
-        CommandArgs<K, V> args = new CommandArgs<>(codec).addKey(key);
+        return createCommand(XRANGE, new StreamMessageListOutput<>(codec, key), xrangeArgs(key, range, limit, false));
+    }
 
-        args.add(getLowerValue(range)).add(getUpperValue(range));
+    public Command<K, V, Long> xrange(StreamMessageStreamingChannel<K, V> channel, K key, Range<String> range, Limit limit) {
+        notNullStreamMessageChannel(channel);
+        return createCommand(XRANGE, new StreamMessageStreamingOutput<>(codec, channel, key),
+                xrangeArgs(key, range, limit, false));
+    }
 
-        if (limit.isLimited()) {
-            args.add(COUNT).add(limit.getCount());
-        }
+    public Command<K, V, List<StreamMessage<K, V>>> xrevrange(K key, Range<String> range, Limit limit) {
+        return createCommand(XREVRANGE, new StreamMessageListOutput<>(codec, key), xrangeArgs(key, range, limit, true));
+    }
 
-        return createCommand(XRANGE, new StreamMessageListOutput<>(codec, key), args);
+    public Command<K, V, Long> xrevrange(StreamMessageStreamingChannel<K, V> channel, K key, Range<String> range,
+            Limit limit) {
+        notNullStreamMessageChannel(channel);
+        return createCommand(XREVRANGE, new StreamMessageStreamingOutput<>(codec, channel, key),
+                xrangeArgs(key, range, limit, true));
     }
 
-    public Command<K, V, List<StreamMessage<K, V>>> xrevrange(K key, Range<String> range, Limit limit) {
+    private CommandArgs<K, V> xrangeArgs(K key, Range<String> range, Limit limit, boolean reverse) {
         notNullKey(key);
         LettuceAssert.notNull(range, "Range " + MUST_NOT_BE_NULL);
         LettuceAssert.notNull(limit, "Limit " + MUST_NOT_BE_NULL);
 
         CommandArgs<K, V> args = new CommandArgs<>(codec).addKey(key);
 
-        args.add(getUpperValue(range)).add(getLowerValue(range));
+        if (reverse) {
+            args.add(getUpperValue(range)).add(getLowerValue(range));
+        } else {
+            args.add(getLowerValue(range)).add(getUpperValue(range));
+        }
 
         if (limit.isLimited()) {
             args.add(COUNT).add(limit.getCount());
         }
 
-        return createCommand(XREVRANGE, new StreamMessageListOutput<>(codec, key), args);
+        return args;
     }
 
     public Command<K, V, Long> xtrim(K key, boolean approximateTrimming, long count) {
@@ -2305,37 +2380,38 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     }
 
     public Command<K, V, List<StreamMessage<K, V>>> xread(XReadArgs xReadArgs, StreamOffset<K>[] streams) {
-        LettuceAssert.notNull(streams, "Streams " + MUST_NOT_BE_NULL);
-        LettuceAssert.isTrue(streams.length > 0, "Streams " + MUST_NOT_BE_EMPTY);
-
-        CommandArgs<K, V> args = new CommandArgs<>(codec);
-
-        if (xReadArgs != null) {
-            xReadArgs.build(args);
-        }
-
-        args.add("STREAMS");
-
-        for (StreamOffset<K> stream : streams) {
-            args.addKey(stream.name);
-        }
-
-        for (StreamOffset<K> stream : streams) {
-            args.add(stream.offset);
-        }
+        return createCommand(XREAD, new StreamReadOutput<>(codec), xreadArgs(null, xReadArgs, streams));
+    }
 
-        return createCommand(XREAD, new StreamReadOutput<>(codec), args);
+    public Command<K, V, Long> xread(StreamMessageStreamingChannel<K, V> channel, XReadArgs xReadArgs,
+            StreamOffset<K>[] streams) {
+        notNullStreamMessageChannel(channel);
+        return createCommand(XREAD, new StreamMessageStreamingOutput<>(codec, channel), xreadArgs(null, xReadArgs, streams));
     }
 
     public Command<K, V, List<StreamMessage<K, V>>> xreadgroup(Consumer<K> consumer, XReadArgs xReadArgs,
             StreamOffset<K>[] streams) {
+        LettuceAssert.notNull(consumer, "Consumer " + MUST_NOT_BE_NULL);
+        return createCommand(XREADGROUP, new StreamReadOutput<>(codec), xreadArgs(consumer, xReadArgs, streams));
+    }
+
+    public Command<K, V, Long> xreadgroup(StreamMessageStreamingChannel<K, V> channel, Consumer<K> consumer,
+            XReadArgs xReadArgs, StreamOffset<K>[] streams) {
+        notNullStreamMessageChannel(channel);
+        LettuceAssert.notNull(consumer, "Consumer " + MUST_NOT_BE_NULL);
+        return createCommand(XREADGROUP, new StreamMessageStreamingOutput<>(codec, channel),
+                xreadArgs(consumer, xReadArgs, streams));
+    }
+
+    private CommandArgs<K, V> xreadArgs(Consumer<K> consumer, XReadArgs xReadArgs, StreamOffset<K>[] streams) {
         LettuceAssert.notNull(streams, "Streams " + MUST_NOT_BE_NULL);
         LettuceAssert.isTrue(streams.length > 0, "Streams " + MUST_NOT_BE_EMPTY);
-        LettuceAssert.notNull(consumer, "Consumer " + MUST_NOT_BE_NULL);
 
         CommandArgs<K, V> args = new CommandArgs<>(codec);
 
-        args.add("GROUP").addKeys(consumer.group).addKeys(consumer.name);
+        if (consumer != null) {
+            args.add("GROUP").addKeys(consumer.group).addKeys(consumer.name);
+        }
 
         if (xReadArgs != null) {
             xReadArgs.build(args);
@@ -2347,11 +2423,11 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
             args.addKey(stream.name);
         }
 
-        for (XReadArgs.StreamOffset<K> stream : streams) {
+        for (StreamOffset<K> stream : streams) {
             args.add(stream.offset);
         }
 
-        return createCommand(XREADGROUP, new StreamReadOutput<>(codec), args);
+        return args;
     }
 
     Command<K, V, KeyValue<K, ScoredValue<V>>> bzpopmin(long timeout, K... keys) {
@@ -2553,6 +2629,14 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         return createCommand(ZRANGE, new ScoredValueListOutput<>(codec), args);
     }
 
+    Command<K, V, ScoredValueArray<V>> zrangeWithScoresArray(K key, long start, long stop) {
+        notNullKey(key);
+
+        CommandArgs<K, V> args = new CommandArgs<>(codec);
+        args.addKey(key).add(start).add(stop).add(WITHSCORES);
+        return createCommand(ZRANGE, new ScoredValueArrayOutput<>(codec), args);
+    }
+
     Command<K, V, Long> zrangeWithScores(ScoredValueStreamingChannel<V> channel, K key, long start, long stop) {
         notNullKey(key);
         notNull(channel);
@@ -2702,6 +2786,16 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         return createCommand(ZRANGEBYSCORE, new ScoredValueListOutput<>(codec), args);
     }
 
+    Command<K, V, ScoredValueArray<V>> zrangebyscoreWithScoresArray(K key, Range<? extends Number> range, Limit limit) {
+        notNullKey(key);
+        notNullRange(range);
+        notNullLimit(limit);
+
+        CommandArgs<K, V> args = new CommandArgs<>(codec);
+        addLimit(args.addKey(key).add(min(range)).add(max(range)).add(WITHSCORES), limit);
+        return createCommand(ZRANGEBYSCORE, new ScoredValueArrayOutput<>(codec), args);
+    }
+
     Command<K, V, Long> zrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, double min, double max) {
         return zrangebyscoreWithScores(channel, key, string(min), string(max));
     }
@@ -2826,6 +2920,14 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         return createCommand(ZREVRANGE, new ScoredValueListOutput<>(codec), args);
     }
 
+    Command<K, V, ScoredValueArray<V>> zrevrangeWithScoresArray(K key, long start, long stop) {
+        notNullKey(key);
+
+        CommandArgs<K, V> args = new CommandArgs<>(codec);
+        args.addKey(key).add(start).add(stop).add(WITHSCORES);
+        return createCommand(ZREVRANGE, new ScoredValueArrayOutput<>(codec), args);
+    }
+
     Command<K, V, Long> zrevrangeWithScores(ScoredValueStreamingChannel<V> channel, K key, long start, long stop) {
         notNullKey(key);
         LettuceAssert.notNull(channel, "ValueStreamingChannel " + MUST_NOT_BE_NULL);
@@ -2956,6 +3058,16 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         return createCommand(ZREVRANGEBYSCORE, new ScoredValueListOutput<>(codec), args);
     }
 
+    Command<K, V, ScoredValueArray<V>> zrevrangebyscoreWithScoresArray(K key, Range<? extends Number> range, Limit limit) {
+        notNullKey(key);
+        notNullRange(range);
+        notNullLimit(limit);
+
+        CommandArgs<K, V> args = new CommandArgs<>(codec);
+        addLimit(args.addKey(key).add(max(range)).add(min(range)).add(WITHSCORES), limit);
+        return createCommand(ZREVRANGEBYSCORE, new ScoredValueArrayOutput<>(codec), args);
+    }
+
     Command<K, V, Long> zrevrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, double max, double min) {
         return zrevrangebyscoreWithScores(channel, key, string(max), string(min));
     }
@@ -3152,6 +3264,14 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(channel, "KeyValueStreamingChannel " + MUST_NOT_BE_NULL);
     }
 
+    static void notNullStreamMessageChannel(StreamMessageStreamingChannel<?, ?> channel) {
+        LettuceAssert.notNull(channel, "StreamMessageStreamingChannel " + MUST_NOT_BE_NULL);
+    }
+
+    static void notNullGeoChannel(GeoWithinStreamingChannel<?> channel) {
+        LettuceAssert.notNull(channel, "GeoWithinStreamingChannel " + MUST_NOT_BE_NULL);
+    }
+
     static void notNullMinMax(String min, String max) {
         LettuceAssert.notNull(min, "Min " + MUST_NOT_BE_NULL);
         LettuceAssert.notNull(max, "Max " + MUST_NOT_BE_NULL);
@@ -88,6 +88,27 @@ public class ScanArgs implements CompositeArgument {
         return this;
     }
 
+    /**
+     * @return the {@literal COUNT} or {@literal null} if not set.
+     */
+    Long getLimit() {
+        return count;
+    }
+
+    /**
+     * Create a copy of these {@link ScanArgs} using the given {@literal COUNT}.
+     *
+     * @param count the count.
+     * @return a new {@link ScanArgs}.
+     */
+    ScanArgs withLimit(long count) {
+
+        ScanArgs scanArgs = new ScanArgs();
+        scanArgs.match = match;
+        scanArgs.count = count;
+        return scanArgs;
+    }
+
     /**
      * Limit the scan by count
      *
@@ -18,7 +18,11 @@ package io.lettuce.core;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -59,7 +63,7 @@ public abstract class ScanIterator<T> implements Iterator<T> {
      * @return a new {@link ScanIterator}.
      */
     public static <K, V> ScanIterator<K> scan(RedisKeyCommands<K, V> commands) {
-        return scan(commands, Optional.empty());
+        return scan(commands, null, Optional.empty());
     }
 
     /**
@@ -75,24 +79,43 @@ public abstract class ScanIterator<T> implements Iterator<T> {
 
         LettuceAssert.notNull(scanArgs, "ScanArgs must not be null");
 
-        return scan(commands, Optional.of(scanArgs));
+        return scan(commands, null, Optional.of(scanArgs));
     }
 
-    private static <K, V> ScanIterator<K> scan(RedisKeyCommands<K, V> commands, Optional<ScanArgs> scanArgs) {
+    /**
+     * Sequentially iterate over keys in the keyspace resuming the scan at {@code cursor}. This method uses {@code SCAN} to
+     * perform an iterative scan. Use {@link #getCursor()} of a previous {@link ScanIterator} to obtain the cursor.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param cursor the cursor to resume the scan from, must not be {@literal null}.
+     * @param scanArgs the scan arguments, must not be {@literal null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link ScanIterator}.
+     * @since 5.2
+     */
+    public static <K, V> ScanIterator<K> scan(RedisKeyCommands<K, V> commands, ScanCursor cursor, ScanArgs scanArgs) {
+
+        LettuceAssert.notNull(cursor, "ScanCursor must not be null");
+        LettuceAssert.notNull(scanArgs, "ScanArgs must not be null");
+
+        return scan(commands, cursor, Optional.of(scanArgs));
+    }
+
+    private static <K, V> ScanIterator<K> scan(RedisKeyCommands<K, V> commands, ScanCursor startCursor,
+            Optional<ScanArgs> scanArgs) {
 
         LettuceAssert.notNull(commands, "RedisKeyCommands must not be null");
 
-        return new SyncScanIterator<K>() {
+        return new SyncScanIterator<K, KeyScanCursor<K>>(startCursor) {
 
             @Override
-            protected ScanCursor nextScanCursor(ScanCursor scanCursor) {
-
-                KeyScanCursor<K> cursor = getNextScanCursor(scanCursor);
-                chunk = cursor.getKeys().iterator();
-                return cursor;
+            protected Iterator<K> toChunk(KeyScanCursor<K> cursor) {
+                return cursor.getKeys().iterator();
             }
 
-            private KeyScanCursor<K> getNextScanCursor(ScanCursor scanCursor) {
+            @Override
+            protected KeyScanCursor<K> nextScanCursor(ScanCursor scanCursor) {
 
                 if (scanCursor == null) {
                     return scanArgs.map(commands::scan).orElseGet(commands::scan);
@@ -115,7 +138,7 @@ public abstract class ScanIterator<T> implements Iterator<T> {
      * @return a new {@link ScanIterator}.
      */
     public static <K, V> ScanIterator<KeyValue<K, V>> hscan(RedisHashCommands<K, V> commands, K key) {
-        return hscan(commands, key, Optional.empty());
+        return hscan(commands, key, null, Optional.empty());
     }
 
     /**
@@ -133,26 +156,48 @@ public abstract class ScanIterator<T> implements Iterator<T> {
 
         LettuceAssert.notNull(scanArgs, "ScanArgs must not be null");
 
-        return hscan(commands, key, Optional.of(scanArgs));
+        return hscan(commands, key, null, Optional.of(scanArgs));
+    }
+
+    /**
+     * Sequentially iterate over entries in a hash identified by {@code key} resuming the scan at {@code cursor}. This
+     * method uses {@code HSCAN} to perform an iterative scan. Use {@link #getCursor()} of a previous {@link ScanIterator} to
+     * obtain the cursor.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param key the hash to scan.
+     * @param cursor the cursor to resume the scan from, must not be {@literal null}.
+     * @param scanArgs the scan arguments, must not be {@literal null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link ScanIterator}.
+     * @since 5.2
+     */
+    public static <K, V> ScanIterator<KeyValue<K, V>> hscan(RedisHashCommands<K, V> commands, K key, ScanCursor cursor,
+            ScanArgs scanArgs) {
+
+        LettuceAssert.notNull(cursor, "ScanCursor must not be null");
+        LettuceAssert.notNull(scanArgs, "ScanArgs must not be null");
+
+        return hscan(commands, key, cursor, Optional.of(scanArgs));
     }
 
     private static <K, V> ScanIterator<KeyValue<K, V>> hscan(RedisHashCommands<K, V> commands, K key,
-            Optional<ScanArgs> scanArgs) {
+            ScanCursor startCursor, Optional<ScanArgs> scanArgs) {
 
         LettuceAssert.notNull(commands, "RedisKeyCommands must not be null");
         LettuceAssert.notNull(key, "Key must not be null");
 
-        return new SyncScanIterator<KeyValue<K, V>>() {
+        return new SyncScanIterator<KeyValue<K, V>, MapScanCursor<K, V>>(startCursor) {
 
             @Override
-            protected ScanCursor nextScanCursor(ScanCursor scanCursor) {
-
-                MapScanCursor<K, V> cursor = getNextScanCursor(scanCursor);
-                chunk = cursor.getMap().keySet().stream().map(k -> KeyValue.fromNullable(k, cursor.getMap().get(k))).iterator();
-                return cursor;
+            protected Iterator<KeyValue<K, V>> toChunk(MapScanCursor<K, V> cursor) {
+                return cursor.getMap().keySet().stream().map(k -> KeyValue.fromNullable(k, cursor.getMap().get(k)))
+                        .iterator();
             }
 
-            private MapScanCursor<K, V> getNextScanCursor(ScanCursor scanCursor) {
+            @Override
+            protected MapScanCursor<K, V> nextScanCursor(ScanCursor scanCursor) {
 
                 if (scanCursor == null) {
                     return scanArgs.map(scanArgs -> commands.hscan(key, scanArgs)).orElseGet(() -> commands.hscan(key));
@@ -175,7 +220,7 @@ public abstract class ScanIterator<T> implements Iterator<T> {
      * @return a new {@link ScanIterator}.
      */
     public static <K, V> ScanIterator<V> sscan(RedisSetCommands<K, V> commands, K key) {
-        return sscan(commands, key, Optional.empty());
+        return sscan(commands, key, null, Optional.empty());
     }
 
     /**
@@ -193,25 +238,47 @@ public abstract class ScanIterator<T> implements Iterator<T> {
 
         LettuceAssert.notNull(scanArgs, "ScanArgs must not be null");
 
-        return sscan(commands, key, Optional.of(scanArgs));
+        return sscan(commands, key, null, Optional.of(scanArgs));
     }
 
-    private static <K, V> ScanIterator<V> sscan(RedisSetCommands<K, V> commands, K key, Optional<ScanArgs> scanArgs) {
+    /**
+     * Sequentially iterate over elements in a set identified by {@code key} resuming the scan at {@code cursor}. This
+     * method uses {@code SSCAN} to perform an iterative scan. Use {@link #getCursor()} of a previous {@link ScanIterator} to
+     * obtain the cursor.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param key the set to scan.
+     * @param cursor the cursor to resume the scan from, must not be {@literal null}.
+     * @param scanArgs the scan arguments, must not be {@literal null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link ScanIterator}.
+     * @since 5.2
+     */
+    public static <K, V> ScanIterator<V> sscan(RedisSetCommands<K, V> commands, K key, ScanCursor cursor,
+            ScanArgs scanArgs) {
+
+        LettuceAssert.notNull(cursor, "ScanCursor must not be null");
+        LettuceAssert.notNull(scanArgs, "ScanArgs must not be null");
+
+        return sscan(commands, key, cursor, Optional.of(scanArgs));
+    }
+
+    private static <K, V> ScanIterator<V> sscan(RedisSetCommands<K, V> commands, K key, ScanCursor startCursor,
+            Optional<ScanArgs> scanArgs) {
 
         LettuceAssert.notNull(commands, "RedisKeyCommands must not be null");
         LettuceAssert.notNull(key, "Key must not be null");
 
-        return new SyncScanIterator<V>() {
+        return new SyncScanIterator<V, ValueScanCursor<V>>(startCursor) {
 
             @Override
-            protected ScanCursor nextScanCursor(ScanCursor scanCursor) {
-
-                ValueScanCursor<V> cursor = getNextScanCursor(scanCursor);
-                chunk = cursor.getValues().iterator();
-                return cursor;
+            protected Iterator<V> toChunk(ValueScanCursor<V> cursor) {
+                return cursor.getValues().iterator();
             }
 
-            private ValueScanCursor<V> getNextScanCursor(ScanCursor scanCursor) {
+            @Override
+            protected ValueScanCursor<V> nextScanCursor(ScanCursor scanCursor) {
 
                 if (scanCursor == null) {
                     return scanArgs.map(scanArgs -> commands.sscan(key, scanArgs)).orElseGet(() -> commands.sscan(key));
@@ -234,7 +301,7 @@ public abstract class ScanIterator<T> implements Iterator<T> {
      * @return a new {@link ScanIterator}.
      */
     public static <K, V> ScanIterator<ScoredValue<V>> zscan(RedisSortedSetCommands<K, V> commands, K key) {
-        return zscan(commands, key, Optional.empty());
+        return zscan(commands, key, null, Optional.empty());
     }
 
     /**
@@ -252,26 +319,47 @@ public abstract class ScanIterator<T> implements Iterator<T> {
 
         LettuceAssert.notNull(scanArgs, "ScanArgs must not be null");
 
-        return zscan(commands, key, Optional.of(scanArgs));
+        return zscan(commands, key, null, Optional.of(scanArgs));
+    }
+
+    /**
+     * Sequentially iterate over scored values in a sorted set identified by {@code key} resuming the scan at
+     * {@code cursor}. This method uses {@code ZSCAN} to perform an iterative scan. Use {@link #getCursor()} of a previous
+     * {@link ScanIterator} to obtain the cursor.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param key the sorted set to scan.
+     * @param cursor the cursor to resume the scan from, must not be {@literal null}.
+     * @param scanArgs the scan arguments, must not be {@literal null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link ScanIterator}.
+     * @since 5.2
+     */
+    public static <K, V> ScanIterator<ScoredValue<V>> zscan(RedisSortedSetCommands<K, V> commands, K key, ScanCursor cursor,
+            ScanArgs scanArgs) {
+
+        LettuceAssert.notNull(cursor, "ScanCursor must not be null");
+        LettuceAssert.notNull(scanArgs, "ScanArgs must not be null");
+
+        return zscan(commands, key, cursor, Optional.of(scanArgs));
     }
 
     private static <K, V> ScanIterator<ScoredValue<V>> zscan(RedisSortedSetCommands<K, V> commands, K key,
-            Optional<ScanArgs> scanArgs) {
+            ScanCursor startCursor, Optional<ScanArgs> scanArgs) {
 
         LettuceAssert.notNull(commands, "RedisKeyCommands must not be null");
         LettuceAssert.notNull(key, "Key must not be null");
 
-        return new SyncScanIterator<ScoredValue<V>>() {
+        return new SyncScanIterator<ScoredValue<V>, ScoredValueScanCursor<V>>(startCursor) {
 
             @Override
-            protected ScanCursor nextScanCursor(ScanCursor scanCursor) {
-
-                ScoredValueScanCursor<V> cursor = getNextScanCursor(scanCursor);
-                chunk = cursor.getValues().iterator();
-                return cursor;
+            protected Iterator<ScoredValue<V>> toChunk(ScoredValueScanCursor<V> cursor) {
+                return cursor.getValues().iterator();
             }
 
-            private ScoredValueScanCursor<V> getNextScanCursor(ScanCursor scanCursor) {
+            @Override
+            protected ScoredValueScanCursor<V> nextScanCursor(ScanCursor scanCursor) {
 
                 if (scanCursor == null) {
                     return scanArgs.map(scanArgs -> commands.zscan(key, scanArgs)).orElseGet(() -> commands.zscan(key));
@@ -283,32 +371,77 @@ public abstract class ScanIterator<T> implements Iterator<T> {
         };
     }
 
+    /**
+     * Returns the cursor to resume scanning from. The cursor points to the start of the chunk that is currently being
+     * consumed so resuming a scan with this cursor does not skip elements, though it may return elements of the current chunk
+     * again. The cursor is {@link ScanCursor#isFinished() finished} once all elements were consumed.
+     *
+     * @return the {@link ScanCursor} to resume scanning from.
+     * @since 5.2
+     */
+    public abstract ScanCursor getCursor();
+
+    /**
+     * Enable prefetching of the next chunk. The next scan command is issued on the given {@link Executor} while the current
+     * chunk is consumed so that consumption does not block on each roundtrip. Prefetching must be enabled before consuming
+     * this {@link ScanIterator}.
+     *
+     * @param executor the {@link Executor} to issue the scan command on, must not be {@literal null}.
+     * @return {@literal this} {@link ScanIterator}.
+     * @since 5.2
+     */
+    public abstract ScanIterator<T> prefetch(Executor executor);
+
+    /**
+     * Returns a {@link Spliterator} with this {@link ScanIterator} as its source. The {@link Spliterator} splits off batches
+     * of consumed elements so that parallel streams can process elements concurrently while scanning remains sequential.
+     *
+     * @return a {@link Spliterator} for this {@link ScanIterator}.
+     * @since 5.2
+     */
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliteratorUnknownSize(this, 0);
+    }
+
     /**
      * Returns a sequential {@code Stream} with this {@link ScanIterator} as its source.
      *
      * @return a {@link Stream} for this {@link ScanIterator}.
      */
     public Stream<T> stream() {
-        return StreamSupport.stream(Spliterators.spliterator(this, 0, 0), false);
+        return StreamSupport.stream(spliterator(), false);
     }
 
     /**
      * Synchronous {@link ScanIterator} implementation.
      *
-     * @param <T>
+     * @param <T> Element type.
+     * @param <C> Cursor type.
      */
-    private static abstract class SyncScanIterator<T> extends ScanIterator<T> {
+    private static abstract class SyncScanIterator<T, C extends ScanCursor> extends ScanIterator<T> {
 
-        private ScanCursor scanCursor;
-        protected Iterator<T> chunk = null;
+        private final ScanCursor startCursor;
+        private ScanCursor chunkCursor;
+        private C scanCursor;
+        private Iterator<T> chunk = null;
+        private Executor executor;
+        private CompletableFuture<C> prefetched;
+
+        SyncScanIterator(ScanCursor startCursor) {
+            this.startCursor = startCursor;
+        }
 
         @Override
         public boolean hasNext() {
 
+            if (scanCursor == null && startCursor != null && startCursor.isFinished()) {
+                return false;
+            }
+
             while (scanCursor == null || !scanCursor.isFinished()) {
 
                 if (scanCursor == null || !hasChunkElements()) {
-                    scanCursor = nextScanCursor(scanCursor);
+                    advance();
                 }
 
                 if (hasChunkElements()) {
@@ -323,6 +456,35 @@ public abstract class ScanIterator<T> implements Iterator<T> {
             return chunk.hasNext();
         }
 
+        private void advance() {
+
+            ScanCursor cursor = scanCursor != null ? scanCursor : startCursor;
+            C next = prefetched != null ? await(prefetched) : nextScanCursor(cursor);
+
+            prefetched = null;
+            chunkCursor = cursor;
+            scanCursor = next;
+            chunk = toChunk(next);
+
+            if (executor != null && !next.isFinished()) {
+                prefetched = CompletableFuture.supplyAsync(() -> nextScanCursor(next), executor);
+            }
+        }
+
+        private C await(CompletableFuture<C> future) {
+
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+
+                throw new RedisException(e.getCause());
+            }
+        }
+
         @Override
         public T next() {
 
@@ -333,6 +495,34 @@ public abstract class ScanIterator<T> implements Iterator<T> {
             return chunk.next();
         }
 
-        protected abstract ScanCursor nextScanCursor(ScanCursor scanCursor);
+        @Override
+        public ScanCursor getCursor() {
+
+            ScanCursor cursor;
+
+            if (chunk != null && chunk.hasNext()) {
+                cursor = chunkCursor;
+            } else if (scanCursor != null) {
+                cursor = scanCursor;
+            } else {
+                cursor = startCursor;
+            }
+
+            return cursor != null ? new ScanCursor(cursor.getCursor(), cursor.isFinished()) : ScanCursor.INITIAL;
+        }
+
+        @Override
+        public ScanIterator<T> prefetch(Executor executor) {
+
+            LettuceAssert.notNull(executor, "Executor must not be null");
+            LettuceAssert.isTrue(scanCursor == null, "Prefetching must be enabled before consuming the ScanIterator");
+
+            this.executor = executor;
+            return this;
+        }
+
+        protected abstract C nextScanCursor(ScanCursor scanCursor);
+
+        protected abstract Iterator<T> toChunk(C cursor);
     }
 }
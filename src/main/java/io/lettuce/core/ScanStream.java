@@ -19,6 +19,7 @@ import java.util.*;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import reactor.core.publisher.BaseSubscriber;
@@ -43,6 +44,9 @@ import io.lettuce.core.internal.LettuceAssert;
  * Data structure scanning is progressive and stateful and demand-aware. It supports full iterations (until all received cursors
  * are exhausted) and premature termination. Subsequent scan commands to fetch the cursor data get only issued if the subscriber
  * signals demand.
+ * <p>
+ * Use {@link ScanStreamOptions} to request cursor pages ahead of downstream consumption and to adapt the {@literal COUNT}
+ * argument to the observed page latency.
  *
  * @author Mark Paluch
  * @since 5.1
@@ -80,6 +84,52 @@ public abstract class ScanStream {
         return scan(commands, Optional.of(scanArgs));
     }
 
+    /**
+     * Sequentially iterate over keys in the keyspace using {@link ScanStreamOptions} to prefetch cursor pages and to adapt the
+     * {@literal COUNT} argument. This method uses {@code SCAN} to perform an iterative scan.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param scanArgs the scan arguments, must not be {@literal null}.
+     * @param options the scan stream options, must not be {@literal null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Flux}.
+     * @since 5.2
+     */
+    public static <K, V> Flux<K> scan(RedisKeyReactiveCommands<K, V> commands, ScanArgs scanArgs, ScanStreamOptions options) {
+
+        LettuceAssert.notNull(commands, "RedisKeyCommands must not be null");
+
+        return scan(scanArgs, options, commands::scan, commands::scan, KeyScanCursor::getKeys);
+    }
+
+    /**
+     * Sequentially iterate over cursor pages of the keyspace starting at {@code cursor}. Each emitted {@link KeyScanCursor}
+     * represents a page of keys and carries the cursor to resume the scan after the page was processed. Subsequent scan
+     * commands are issued according to downstream demand. This method uses {@code SCAN} to perform an iterative scan.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param cursor the cursor to start the scan from, must not be {@literal null}. Use {@link ScanCursor#INITIAL} to start a
+     *        new scan.
+     * @param scanArgs the scan arguments, must not be {@literal null}.
+     * @param options the scan stream options, must not be {@literal null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Flux} emitting cursor pages.
+     * @since 5.2
+     */
+    public static <K, V> Flux<KeyScanCursor<K>> scanCursors(RedisKeyReactiveCommands<K, V> commands, ScanCursor cursor,
+            ScanArgs scanArgs, ScanStreamOptions options) {
+
+        LettuceAssert.notNull(commands, "RedisKeyCommands must not be null");
+        LettuceAssert.notNull(cursor, "ScanCursor must not be null");
+        LettuceAssert.notNull(scanArgs, "ScanArgs must not be null");
+        LettuceAssert.notNull(options, "ScanStreamOptions must not be null");
+        LettuceAssert.isTrue(!cursor.isFinished(), "ScanCursor must not be finished");
+
+        return cursors(scanArgs, options, it -> commands.scan(cursor, it), commands::scan);
+    }
+
     private static <K, V> Flux<K> scan(RedisKeyReactiveCommands<K, V> commands, Optional<ScanArgs> scanArgs) {
 
         LettuceAssert.notNull(commands, "RedisKeyCommands must not be null");
@@ -125,6 +175,29 @@ public abstract class ScanStream {
         return hscan(commands, key, Optional.of(scanArgs));
     }
 
+    /**
+     * Sequentially iterate over entries in a hash identified by {@code key} using {@link ScanStreamOptions} to prefetch cursor
+     * pages and to adapt the {@literal COUNT} argument. This method uses {@code HSCAN} to perform an iterative scan.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param key the hash to scan.
+     * @param scanArgs the scan arguments, must not be {@literal null}.
+     * @param options the scan stream options, must not be {@literal null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Flux}.
+     * @since 5.2
+     */
+    public static <K, V> Flux<KeyValue<K, V>> hscan(RedisHashReactiveCommands<K, V> commands, K key, ScanArgs scanArgs,
+            ScanStreamOptions options) {
+
+        LettuceAssert.notNull(commands, "RedisHashReactiveCommands must not be null");
+        LettuceAssert.notNull(key, "Key must not be null");
+
+        return scan(scanArgs, options, it -> commands.hscan(key, it), (c, it) -> commands.hscan(key, c, it),
+                ScanStream::toKeyValues);
+    }
+
     private static <K, V> Flux<KeyValue<K, V>> hscan(RedisHashReactiveCommands<K, V> commands, K key,
             Optional<ScanArgs> scanArgs) {
 
@@ -136,17 +209,19 @@ public abstract class ScanStream {
             Mono<MapScanCursor<K, V>> res = scanArgs.map(it -> commands.hscan(key, it)).orElseGet(() -> commands.hscan(key));
 
             scan(sink, res, c -> scanArgs.map(it -> commands.hscan(key, c, it)).orElseGet(() -> commands.hscan(key, c)), //
-                    c -> {
+                    ScanStream::toKeyValues);
+        });
+
+    }
 
-                        List<KeyValue<K, V>> list = new ArrayList<>(c.getMap().size());
+    private static <K, V> List<KeyValue<K, V>> toKeyValues(MapScanCursor<K, V> cursor) {
 
-                        for (Map.Entry<K, V> kvEntry : c.getMap().entrySet()) {
-                            list.add(KeyValue.fromNullable(kvEntry.getKey(), kvEntry.getValue()));
-                        }
-                        return list;
-                    });
-        });
+        List<KeyValue<K, V>> list = new ArrayList<>(cursor.getMap().size());
 
+        for (Map.Entry<K, V> kvEntry : cursor.getMap().entrySet()) {
+            list.add(KeyValue.fromNullable(kvEntry.getKey(), kvEntry.getValue()));
+        }
+        return list;
     }
 
     /**
@@ -181,6 +256,29 @@ public abstract class ScanStream {
         return sscan(commands, key, Optional.of(scanArgs));
     }
 
+    /**
+     * Sequentially iterate over elements in a set identified by {@code key} using {@link ScanStreamOptions} to prefetch cursor
+     * pages and to adapt the {@literal COUNT} argument. This method uses {@code SSCAN} to perform an iterative scan.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param key the set to scan.
+     * @param scanArgs the scan arguments, must not be {@literal null}.
+     * @param options the scan stream options, must not be {@literal null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Flux}.
+     * @since 5.2
+     */
+    public static <K, V> Flux<V> sscan(RedisSetReactiveCommands<K, V> commands, K key, ScanArgs scanArgs,
+            ScanStreamOptions options) {
+
+        LettuceAssert.notNull(commands, "RedisSetReactiveCommands must not be null");
+        LettuceAssert.notNull(key, "Key must not be null");
+
+        return scan(scanArgs, options, it -> commands.sscan(key, it), (c, it) -> commands.sscan(key, c, it),
+                ValueScanCursor::getValues);
+    }
+
     private static <K, V> Flux<V> sscan(RedisSetReactiveCommands<K, V> commands, K key, Optional<ScanArgs> scanArgs) {
 
         LettuceAssert.notNull(commands, "RedisSetReactiveCommands must not be null");
@@ -227,6 +325,29 @@ public abstract class ScanStream {
         return zscan(commands, key, Optional.of(scanArgs));
     }
 
+    /**
+     * Sequentially iterate over elements in a sorted set identified by {@code key} using {@link ScanStreamOptions} to prefetch
+     * cursor pages and to adapt the {@literal COUNT} argument. This method uses {@code ZSCAN} to perform an iterative scan.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param key the sorted set to scan.
+     * @param scanArgs the scan arguments, must not be {@literal null}.
+     * @param options the scan stream options, must not be {@literal null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Flux}.
+     * @since 5.2
+     */
+    public static <K, V> Flux<ScoredValue<V>> zscan(RedisSortedSetReactiveCommands<K, V> commands, K key, ScanArgs scanArgs,
+            ScanStreamOptions options) {
+
+        LettuceAssert.notNull(commands, "RedisSortedSetReactiveCommands must not be null");
+        LettuceAssert.notNull(key, "Key must not be null");
+
+        return scan(scanArgs, options, it -> commands.zscan(key, it), (c, it) -> commands.zscan(key, c, it),
+                ScoredValueScanCursor::getValues);
+    }
+
     private static <K, V> Flux<ScoredValue<V>> zscan(RedisSortedSetReactiveCommands<K, V> commands, K key,
             Optional<ScanArgs> scanArgs) {
 
@@ -249,6 +370,85 @@ public abstract class ScanStream {
         new SubscriptionAdapter<>(sink, initialCursor, scanFunction, manyMapper).register();
     }
 
+    private static <T, C extends ScanCursor> Flux<T> scan(ScanArgs scanArgs, ScanStreamOptions options,
+            Function<ScanArgs, Mono<C>> initialCursor, BiFunction<ScanCursor, ScanArgs, Mono<C>> scanFunction,
+            Function<C, Collection<T>> manyMapper) {
+
+        LettuceAssert.notNull(scanArgs, "ScanArgs must not be null");
+        LettuceAssert.notNull(options, "ScanStreamOptions must not be null");
+
+        return cursors(scanArgs, options, initialCursor, scanFunction).concatMapIterable(manyMapper, options.getPrefetch());
+    }
+
+    private static <C extends ScanCursor> Flux<C> cursors(ScanArgs scanArgs, ScanStreamOptions options,
+            Function<ScanArgs, Mono<C>> initialCursor, BiFunction<ScanCursor, ScanArgs, Mono<C>> scanFunction) {
+
+        return Flux.defer(() -> {
+
+            AdaptiveCount count = options.isAdaptiveCount() ? new AdaptiveCount(scanArgs, options) : null;
+
+            Mono<C> initial = count != null ? count.measure(initialCursor.apply(count.nextArgs())) : initialCursor
+                    .apply(scanArgs);
+
+            return initial.expand(cursor -> {
+
+                if (cursor.isFinished()) {
+                    return Mono.empty();
+                }
+
+                return count != null ? count.measure(scanFunction.apply(cursor, count.nextArgs())) : scanFunction.apply(cursor,
+                        scanArgs);
+            });
+        });
+    }
+
+    /**
+     * Adapts the {@literal COUNT} of subsequent scan commands to the observed page latency. Pages are fetched sequentially so
+     * at most one measurement is in progress at a time.
+     */
+    static class AdaptiveCount {
+
+        private final ScanArgs scanArgs;
+        private final long minCount;
+        private final long maxCount;
+        private final long targetLatency;
+
+        private volatile long count;
+        private volatile long pageStart;
+
+        AdaptiveCount(ScanArgs scanArgs, ScanStreamOptions options) {
+
+            Long limit = scanArgs.getLimit();
+
+            this.scanArgs = scanArgs;
+            this.minCount = options.getMinCount();
+            this.maxCount = options.getMaxCount();
+            this.targetLatency = options.getTargetLatency().toNanos();
+            this.count = Math.min(maxCount, Math.max(minCount, limit != null ? limit : minCount));
+        }
+
+        ScanArgs nextArgs() {
+            return scanArgs.withLimit(count);
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        <C> Mono<C> measure(Mono<C> page) {
+            return page.doOnRequest(n -> pageStart = System.nanoTime()).doOnNext(c -> record(System.nanoTime() - pageStart));
+        }
+
+        void record(long latency) {
+
+            if (latency > targetLatency) {
+                count = Math.max(minCount, count / 2);
+            } else if (latency <= targetLatency / 2) {
+                count = Math.min(maxCount, count * 2);
+            }
+        }
+    }
+
     /**
      * Adapter for {@link FluxSink} to dispatch multiple {@link reactor.core.CoreSubscriber} considering subscription demand.
      *
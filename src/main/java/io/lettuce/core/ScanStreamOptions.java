@@ -0,0 +1,222 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.time.Duration;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Options for {@link ScanStream} to prefetch cursor pages and to adapt the {@literal COUNT} of subsequent {@literal SCAN}
+ * commands:
+ * <ul>
+ * <li>{@link #getPrefetch() Prefetch} controls how many cursor pages are requested ahead of downstream consumption. With a
+ * prefetch greater {@literal 1}, the next {@literal SCAN} command is issued while the current page is emitted so a scan is
+ * no longer bounded by one round trip per page.</li>
+ * <li>{@link #isAdaptiveCount() Adaptive count} adjusts the {@literal COUNT} argument per page based on the observed page
+ * latency. The count is doubled if a page completes within half of the {@link #getTargetLatency() target latency} and halved
+ * if a page exceeds the target latency. The count is kept between {@link #getMinCount()} and {@link #getMaxCount()}.</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see ScanStream
+ */
+public class ScanStreamOptions {
+
+    public static final int DEFAULT_PREFETCH = 2;
+    public static final boolean DEFAULT_ADAPTIVE_COUNT = false;
+    public static final long DEFAULT_MIN_COUNT = 10;
+    public static final long DEFAULT_MAX_COUNT = 10000;
+    public static final Duration DEFAULT_TARGET_LATENCY = Duration.ofMillis(10);
+
+    private final int prefetch;
+    private final boolean adaptiveCount;
+    private final long minCount;
+    private final long maxCount;
+    private final Duration targetLatency;
+
+    private ScanStreamOptions(Builder builder) {
+
+        this.prefetch = builder.prefetch;
+        this.adaptiveCount = builder.adaptiveCount;
+        this.minCount = builder.minCount;
+        this.maxCount = builder.maxCount;
+        this.targetLatency = builder.targetLatency;
+    }
+
+    /**
+     * Returns a new {@link ScanStreamOptions.Builder} to construct {@link ScanStreamOptions}.
+     *
+     * @return a new {@link ScanStreamOptions.Builder} to construct {@link ScanStreamOptions}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a new instance of {@link ScanStreamOptions} with default settings.
+     *
+     * @return a new instance of {@link ScanStreamOptions} with default settings.
+     */
+    public static ScanStreamOptions create() {
+        return builder().build();
+    }
+
+    /**
+     * Builder for {@link ScanStreamOptions}.
+     */
+    public static class Builder {
+
+        private int prefetch = DEFAULT_PREFETCH;
+        private boolean adaptiveCount = DEFAULT_ADAPTIVE_COUNT;
+        private long minCount = DEFAULT_MIN_COUNT;
+        private long maxCount = DEFAULT_MAX_COUNT;
+        private Duration targetLatency = DEFAULT_TARGET_LATENCY;
+
+        private Builder() {
+        }
+
+        /**
+         * Set the number of cursor pages to request ahead of downstream consumption. Defaults to {@literal 2}, see
+         * {@link #DEFAULT_PREFETCH}. A prefetch of {@literal 1} requests the next page only after the current page was
+         * consumed.
+         *
+         * @param prefetch the number of pages, must be greater zero.
+         * @return {@code this}
+         */
+        public Builder prefetch(int prefetch) {
+
+            LettuceAssert.isTrue(prefetch > 0, "Prefetch must be greater 0");
+
+            this.prefetch = prefetch;
+            return this;
+        }
+
+        /**
+         * Enable adaptive {@literal COUNT} sizing. Disabled by default, see {@link #DEFAULT_ADAPTIVE_COUNT}.
+         *
+         * @return {@code this}
+         */
+        public Builder adaptiveCount() {
+            return adaptiveCount(true);
+        }
+
+        /**
+         * Configure whether to adapt the {@literal COUNT} argument based on the observed page latency. Disabled by default,
+         * see {@link #DEFAULT_ADAPTIVE_COUNT}.
+         *
+         * @param enabled {@literal true} to enable adaptive count sizing; {@literal false} to disable it.
+         * @return {@code this}
+         */
+        public Builder adaptiveCount(boolean enabled) {
+
+            this.adaptiveCount = enabled;
+            return this;
+        }
+
+        /**
+         * Set the lower bound for adaptive count sizing. Defaults to {@literal 10}, see {@link #DEFAULT_MIN_COUNT}.
+         *
+         * @param minCount the minimum count, must be greater zero.
+         * @return {@code this}
+         */
+        public Builder minCount(long minCount) {
+
+            LettuceAssert.isTrue(minCount > 0, "Min count must be greater 0");
+
+            this.minCount = minCount;
+            return this;
+        }
+
+        /**
+         * Set the upper bound for adaptive count sizing. Defaults to {@literal 10000}, see {@link #DEFAULT_MAX_COUNT}.
+         *
+         * @param maxCount the maximum count, must be greater zero.
+         * @return {@code this}
+         */
+        public Builder maxCount(long maxCount) {
+
+            LettuceAssert.isTrue(maxCount > 0, "Max count must be greater 0");
+
+            this.maxCount = maxCount;
+            return this;
+        }
+
+        /**
+         * Set the target page latency for adaptive count sizing. Defaults to {@literal 10 milliseconds}, see
+         * {@link #DEFAULT_TARGET_LATENCY}.
+         *
+         * @param targetLatency the target latency, must not be {@literal null} or negative.
+         * @return {@code this}
+         */
+        public Builder targetLatency(Duration targetLatency) {
+
+            LettuceAssert.notNull(targetLatency, "Target latency must not be null");
+            LettuceAssert.isTrue(!targetLatency.isNegative(), "Target latency must not be negative");
+
+            this.targetLatency = targetLatency;
+            return this;
+        }
+
+        /**
+         * Create a new instance of {@link ScanStreamOptions}.
+         *
+         * @return new instance of {@link ScanStreamOptions}.
+         */
+        public ScanStreamOptions build() {
+
+            LettuceAssert.isTrue(minCount <= maxCount, "Min count must be less or equal to max count");
+
+            return new ScanStreamOptions(this);
+        }
+    }
+
+    /**
+     * @return the number of cursor pages to request ahead of downstream consumption.
+     */
+    public int getPrefetch() {
+        return prefetch;
+    }
+
+    /**
+     * @return {@literal true} if adaptive {@literal COUNT} sizing is enabled.
+     */
+    public boolean isAdaptiveCount() {
+        return adaptiveCount;
+    }
+
+    /**
+     * @return the lower bound for adaptive count sizing.
+     */
+    public long getMinCount() {
+        return minCount;
+    }
+
+    /**
+     * @return the upper bound for adaptive count sizing.
+     */
+    public long getMaxCount() {
+        return maxCount;
+    }
+
+    /**
+     * @return the target page latency for adaptive count sizing.
+     */
+    public Duration getTargetLatency() {
+        return targetLatency;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ObjDoubleConsumer;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Values and their scores held in a {@link List} of values and a primitive {@code double[]} of scores. In contrast to a
+ * {@link List} of {@link ScoredValue}, scores are not boxed and values are not wrapped per element. Use this type to read
+ * large sorted set ranges.
+ *
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 5.2
+ * @see ScoredValue
+ */
+public class ScoredValueArray<V> {
+
+    private static final ScoredValueArray<Object> EMPTY = new ScoredValueArray<>(Collections.emptyList(), new double[0]);
+
+    private final List<V> values;
+    private final double[] scores;
+
+    private ScoredValueArray(List<V> values, double[] scores) {
+        this.values = values;
+        this.scores = scores;
+    }
+
+    /**
+     * Returns an empty {@link ScoredValueArray}.
+     *
+     * @param <V>
+     * @return the empty {@link ScoredValueArray}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> ScoredValueArray<V> empty() {
+        return (ScoredValueArray<V>) EMPTY;
+    }
+
+    /**
+     * Creates a {@link ScoredValueArray} from {@code values} and their {@code scores}. The score of the value at index
+     * {@code i} is {@code scores[i]}. Neither {@code values} nor {@code scores} are copied, {@code scores} may be longer than
+     * {@code values}.
+     *
+     * @param values the values, must not be {@literal null}.
+     * @param scores the scores, must not be {@literal null}.
+     * @param <V>
+     * @return the {@link ScoredValueArray}.
+     */
+    public static <V> ScoredValueArray<V> of(List<V> values, double[] scores) {
+
+        LettuceAssert.notNull(values, "Values must not be null");
+        LettuceAssert.notNull(scores, "Scores must not be null");
+        LettuceAssert.isTrue(scores.length >= values.size(), "Scores must contain a score for each value");
+
+        return new ScoredValueArray<>(values, scores);
+    }
+
+    /**
+     * @return the number of values.
+     */
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * @return {@literal true} if this {@link ScoredValueArray} contains no values.
+     */
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    /**
+     * @param index the index.
+     * @return the value at {@code index}.
+     */
+    public V getValue(int index) {
+        return values.get(index);
+    }
+
+    /**
+     * @param index the index.
+     * @return the score of the value at {@code index}.
+     */
+    public double getScore(int index) {
+
+        if (index < 0 || index >= values.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + values.size());
+        }
+
+        return scores[index];
+    }
+
+    /**
+     * @return an unmodifiable view of the values.
+     */
+    public List<V> getValues() {
+        return Collections.unmodifiableList(values);
+    }
+
+    /**
+     * @return a copy of the scores.
+     */
+    public double[] getScores() {
+        return Arrays.copyOf(scores, values.size());
+    }
+
+    /**
+     * Performs the given {@code action} for each value and its score.
+     *
+     * @param action the action, must not be {@literal null}.
+     */
+    public void forEach(ObjDoubleConsumer<? super V> action) {
+
+        LettuceAssert.notNull(action, "Action must not be null");
+
+        for (int i = 0; i < values.size(); i++) {
+            action.accept(values.get(i), scores[i]);
+        }
+    }
+
+    /**
+     * @return a {@link List} of {@link ScoredValue}.
+     */
+    public List<ScoredValue<V>> toList() {
+
+        List<ScoredValue<V>> result = new ArrayList<>(values.size());
+        forEach((value, score) -> result.add(ScoredValue.fromNullable(score, value)));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof ScoredValueArray)) {
+            return false;
+        }
+
+        ScoredValueArray<?> that = (ScoredValueArray<?>) o;
+
+        return values.equals(that.values) && Arrays.equals(getScores(), that.getScores());
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * values.hashCode() + Arrays.hashCode(getScores());
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+}
@@ -27,7 +27,6 @@ import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.api.async.RedisAsyncCommands;
 import io.lettuce.core.api.reactive.RedisReactiveCommands;
 import io.lettuce.core.api.sync.RedisCommands;
-import io.lettuce.core.cluster.api.sync.RedisClusterCommands;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.output.MultiOutput;
@@ -85,7 +84,7 @@ public class StatefulRedisConnectionImpl<K, V> extends RedisChannelHandler<K, V>
      * @return a new instance
      */
     protected RedisCommands<K, V> newRedisSyncCommandsImpl() {
-        return syncHandler(async(), RedisCommands.class, RedisClusterCommands.class);
+        return new RedisSyncCommandsImpl<>(this, async());
     }
 
     /**
@@ -74,6 +74,18 @@ public interface RedisStringAsyncCommands<K, V> {
      */
     RedisFuture<List<Long>> bitfield(K key, BitFieldArgs bitFieldArgs);
 
+    /**
+     * Execute {@code BITFIELD} with its subcommands and return the results as primitive {@code long[]} without boxing each
+     * element. Results of {@code OVERFLOW FAIL} operations that were not executed are represented as {@code 0}.
+     *
+     * @param key the key
+     * @param bitFieldArgs the args containing subcommands, must not be {@literal null}.
+     *
+     * @return long[] the results from the bitfield commands.
+     * @since 5.2
+     */
+    RedisFuture<long[]> bitfieldArray(K key, BitFieldArgs bitFieldArgs);
+
     /**
      * Find first bit set or clear in a string.
      *
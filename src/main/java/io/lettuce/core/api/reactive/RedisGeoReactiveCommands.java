@@ -18,6 +18,8 @@ package io.lettuce.core.api.reactive;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import io.lettuce.core.*;
+import io.lettuce.core.output.GeoWithinStreamingChannel;
+import io.lettuce.core.output.ValueStreamingChannel;
 
 /**
  * Reactive executed commands for the Geo-API.
@@ -69,6 +71,20 @@ public interface RedisGeoReactiveCommands<K, V> {
      */
     Flux<V> georadius(K key, double longitude, double latitude, double distance, GeoArgs.Unit unit);
 
+    /**
+     * Retrieve members selected by distance with the center of {@code longitude} and {@code latitude}.
+     *
+     * @param channel streaming channel that receives a call for every value
+     * @param key the key of the geo set
+     * @param longitude the longitude coordinate according to WGS84
+     * @param latitude the latitude coordinate according to WGS84
+     * @param distance radius distance
+     * @param unit distance unit
+     * @return Long count of members.
+     * @since 5.2
+     */
+    Mono<Long> georadius(ValueStreamingChannel<V> channel, K key, double longitude, double latitude, double distance, GeoArgs.Unit unit);
+
     /**
      * Retrieve members selected by distance with the center of {@code longitude} and {@code latitude}.
      *
@@ -82,6 +98,21 @@ public interface RedisGeoReactiveCommands<K, V> {
      */
     Flux<GeoWithin<V>> georadius(K key, double longitude, double latitude, double distance, GeoArgs.Unit unit, GeoArgs geoArgs);
 
+    /**
+     * Retrieve members selected by distance with the center of {@code longitude} and {@code latitude}.
+     *
+     * @param channel streaming channel that receives a call for every value
+     * @param key the key of the geo set
+     * @param longitude the longitude coordinate according to WGS84
+     * @param latitude the latitude coordinate according to WGS84
+     * @param distance radius distance
+     * @param unit distance unit
+     * @param geoArgs args to control the result
+     * @return Long count of members. The {@link GeoWithin} contains only fields which were requested by {@link GeoArgs}
+     * @since 5.2
+     */
+    Mono<Long> georadius(GeoWithinStreamingChannel<V> channel, K key, double longitude, double latitude, double distance, GeoArgs.Unit unit, GeoArgs geoArgs);
+
     /**
      * Perform a {@link #georadius(Object, double, double, double, GeoArgs.Unit, GeoArgs)} query and store the results in a sorted set.
      *
@@ -108,6 +139,20 @@ public interface RedisGeoReactiveCommands<K, V> {
      */
     Flux<V> georadiusbymember(K key, V member, double distance, GeoArgs.Unit unit);
 
+    /**
+     * Retrieve members selected by distance with the center of {@code member}. The member itself is always contained in the
+     * results.
+     *
+     * @param channel streaming channel that receives a call for every value
+     * @param key the key of the geo set
+     * @param member reference member
+     * @param distance radius distance
+     * @param unit distance unit
+     * @return Long count of members.
+     * @since 5.2
+     */
+    Mono<Long> georadiusbymember(ValueStreamingChannel<V> channel, K key, V member, double distance, GeoArgs.Unit unit);
+
     /**
      * Retrieve members selected by distance with the center of {@code member}. The member itself is always contained in the
      * results.
@@ -121,6 +166,21 @@ public interface RedisGeoReactiveCommands<K, V> {
      */
     Flux<GeoWithin<V>> georadiusbymember(K key, V member, double distance, GeoArgs.Unit unit, GeoArgs geoArgs);
 
+    /**
+     * Retrieve members selected by distance with the center of {@code member}. The member itself is always contained in the
+     * results.
+     *
+     * @param channel streaming channel that receives a call for every value
+     * @param key the key of the geo set
+     * @param member reference member
+     * @param distance radius distance
+     * @param unit distance unit
+     * @param geoArgs args to control the result
+     * @return Long count of members. The {@link GeoWithin} contains only fields which were requested by {@link GeoArgs}
+     * @since 5.2
+     */
+    Mono<Long> georadiusbymember(GeoWithinStreamingChannel<V> channel, K key, V member, double distance, GeoArgs.Unit unit, GeoArgs geoArgs);
+
     /**
      * Perform a {@link #georadiusbymember(Object, Object, double, GeoArgs.Unit, GeoArgs)} query and store the results in a sorted set.
      *
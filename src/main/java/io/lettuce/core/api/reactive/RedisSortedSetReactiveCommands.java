@@ -319,6 +319,18 @@ public interface RedisSortedSetReactiveCommands<K, V> {
      */
     Flux<ScoredValue<V>> zrangeWithScores(K key, long start, long stop);
 
+    /**
+     * Return a range of members with scores in a sorted set, by index. Scores are returned as primitive {@code double} values
+     * without wrapping each member.
+     *
+     * @param key the key
+     * @param start the start
+     * @param stop the stop
+     * @return ScoredValueArray&lt;V&gt; elements in the specified range and their scores.
+     * @since 5.2
+     */
+    Mono<ScoredValueArray<V>> zrangeWithScoresArray(K key, long start, long stop);
+
     /**
      * Stream over a range of members with scores in a sorted set, by index.
      *
@@ -602,6 +614,18 @@ public interface RedisSortedSetReactiveCommands<K, V> {
      */
     Flux<ScoredValue<V>> zrangebyscoreWithScores(K key, Range<? extends Number> range, Limit limit);
 
+    /**
+     * Return a range of members with score in a sorted set, by score. Scores are returned as primitive {@code double} values
+     * without wrapping each member.
+     *
+     * @param key the key
+     * @param range the range
+     * @param limit the limit
+     * @return ScoredValueArray&lt;V&gt; elements in the specified score range and their scores.
+     * @since 5.2
+     */
+    Mono<ScoredValueArray<V>> zrangebyscoreWithScoresArray(K key, Range<? extends Number> range, Limit limit);
+
     /**
      * Stream over a range of members with scores in a sorted set, by score.
      *
@@ -799,6 +823,18 @@ public interface RedisSortedSetReactiveCommands<K, V> {
      */
     Flux<ScoredValue<V>> zrevrangeWithScores(K key, long start, long stop);
 
+    /**
+     * Return a range of members with scores in a sorted set, by index, with scores ordered from high to low. Scores are
+     * returned as primitive {@code double} values without wrapping each member.
+     *
+     * @param key the key
+     * @param start the start
+     * @param stop the stop
+     * @return ScoredValueArray&lt;V&gt; elements in the specified range and their scores.
+     * @since 5.2
+     */
+    Mono<ScoredValueArray<V>> zrevrangeWithScoresArray(K key, long start, long stop);
+
     /**
      * Stream over a range of members with scores in a sorted set, by index, with scores ordered from high to low.
      *
@@ -1056,6 +1092,18 @@ public interface RedisSortedSetReactiveCommands<K, V> {
      */
     Flux<ScoredValue<V>> zrevrangebyscoreWithScores(K key, Range<? extends Number> range, Limit limit);
 
+    /**
+     * Return a range of members with score in a sorted set, by score, with scores ordered from high to low. Scores are
+     * returned as primitive {@code double} values without wrapping each member.
+     *
+     * @param key the key
+     * @param range the range
+     * @param limit the limit
+     * @return ScoredValueArray&lt;V&gt; elements in the specified score range and their scores.
+     * @since 5.2
+     */
+    Mono<ScoredValueArray<V>> zrevrangebyscoreWithScoresArray(K key, Range<? extends Number> range, Limit limit);
+
     /**
      * Stream over a range of members with scores in a sorted set, by score, with scores ordered from high to low.
      *
@@ -21,6 +21,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import io.lettuce.core.*;
 import io.lettuce.core.XReadArgs.StreamOffset;
+import io.lettuce.core.output.StreamMessageStreamingChannel;
 
 /**
  * Reactive executed commands for Streams.
@@ -208,6 +209,18 @@ public interface RedisStreamReactiveCommands<K, V> {
      */
     Flux<StreamMessage<K, V>> xrange(K key, Range<String> range);
 
+    /**
+     * Read messages from a stream within a specific {@link Range}. Messages are emitted to the
+     * {@link StreamMessageStreamingChannel} as they are decoded.
+     *
+     * @param channel streaming channel that receives a call for every message.
+     * @param key the stream key.
+     * @param range must not be {@literal null}.
+     * @return Long count of messages.
+     * @since 5.2
+     */
+    Mono<Long> xrange(StreamMessageStreamingChannel<K, V> channel, K key, Range<String> range);
+
     /**
      * Read messages from a stream within a specific {@link Range} applying a {@link Limit}.
      *
@@ -218,6 +231,19 @@ public interface RedisStreamReactiveCommands<K, V> {
      */
     Flux<StreamMessage<K, V>> xrange(K key, Range<String> range, Limit limit);
 
+    /**
+     * Read messages from a stream within a specific {@link Range} applying a {@link Limit}. Messages are emitted to the
+     * {@link StreamMessageStreamingChannel} as they are decoded.
+     *
+     * @param channel streaming channel that receives a call for every message.
+     * @param key the stream key.
+     * @param range must not be {@literal null}.
+     * @param limit must not be {@literal null}.
+     * @return Long count of messages.
+     * @since 5.2
+     */
+    Mono<Long> xrange(StreamMessageStreamingChannel<K, V> channel, K key, Range<String> range, Limit limit);
+
     /**
      * Read messages from one or more {@link StreamOffset}s.
      *
@@ -226,6 +252,17 @@ public interface RedisStreamReactiveCommands<K, V> {
      */
     Flux<StreamMessage<K, V>> xread(StreamOffset<K>... streams);
 
+    /**
+     * Read messages from one or more {@link StreamOffset}s. Messages are emitted to the {@link StreamMessageStreamingChannel}
+     * as they are decoded.
+     *
+     * @param channel streaming channel that receives a call for every message.
+     * @param streams the streams to read from.
+     * @return Long count of messages.
+     * @since 5.2
+     */
+    Mono<Long> xread(StreamMessageStreamingChannel<K, V> channel, StreamOffset<K>... streams);
+
     /**
      * Read messages from one or more {@link StreamOffset}s.
      *
@@ -235,6 +272,18 @@ public interface RedisStreamReactiveCommands<K, V> {
      */
     Flux<StreamMessage<K, V>> xread(XReadArgs args, StreamOffset<K>... streams);
 
+    /**
+     * Read messages from one or more {@link StreamOffset}s. Messages are emitted to the {@link StreamMessageStreamingChannel}
+     * as they are decoded.
+     *
+     * @param channel streaming channel that receives a call for every message.
+     * @param args read arguments.
+     * @param streams the streams to read from.
+     * @return Long count of messages.
+     * @since 5.2
+     */
+    Mono<Long> xread(StreamMessageStreamingChannel<K, V> channel, XReadArgs args, StreamOffset<K>... streams);
+
     /**
      * Read messages from one or more {@link StreamOffset}s using a consumer group.
      *
@@ -244,6 +293,18 @@ public interface RedisStreamReactiveCommands<K, V> {
      */
     Flux<StreamMessage<K, V>> xreadgroup(Consumer<K> consumer, StreamOffset<K>... streams);
 
+    /**
+     * Read messages from one or more {@link StreamOffset}s using a consumer group. Messages are emitted to the
+     * {@link StreamMessageStreamingChannel} as they are decoded.
+     *
+     * @param channel streaming channel that receives a call for every message.
+     * @param consumer consumer/group.
+     * @param streams the streams to read from.
+     * @return Long count of messages.
+     * @since 5.2
+     */
+    Mono<Long> xreadgroup(StreamMessageStreamingChannel<K, V> channel, Consumer<K> consumer, StreamOffset<K>... streams);
+
     /**
      * Read messages from one or more {@link StreamOffset}s using a consumer group.
      *
@@ -254,6 +315,19 @@ public interface RedisStreamReactiveCommands<K, V> {
      */
     Flux<StreamMessage<K, V>> xreadgroup(Consumer<K> consumer, XReadArgs args, StreamOffset<K>... streams);
 
+    /**
+     * Read messages from one or more {@link StreamOffset}s using a consumer group. Messages are emitted to the
+     * {@link StreamMessageStreamingChannel} as they are decoded.
+     *
+     * @param channel streaming channel that receives a call for every message.
+     * @param consumer consumer/group.
+     * @param args read arguments.
+     * @param streams the streams to read from.
+     * @return Long count of messages.
+     * @since 5.2
+     */
+    Mono<Long> xreadgroup(StreamMessageStreamingChannel<K, V> channel, Consumer<K> consumer, XReadArgs args, StreamOffset<K>... streams);
+
     /**
      * Read messages from a stream within a specific {@link Range} in reverse order.
      *
@@ -263,6 +337,18 @@ public interface RedisStreamReactiveCommands<K, V> {
      */
     Flux<StreamMessage<K, V>> xrevrange(K key, Range<String> range);
 
+    /**
+     * Read messages from a stream within a specific {@link Range} in reverse order. Messages are emitted to the
+     * {@link StreamMessageStreamingChannel} as they are decoded.
+     *
+     * @param channel streaming channel that receives a call for every message.
+     * @param key the stream key.
+     * @param range must not be {@literal null}.
+     * @return Long count of messages.
+     * @since 5.2
+     */
+    Mono<Long> xrevrange(StreamMessageStreamingChannel<K, V> channel, K key, Range<String> range);
+
     /**
      * Read messages from a stream within a specific {@link Range} applying a {@link Limit} in reverse order.
      *
@@ -273,6 +359,19 @@ public interface RedisStreamReactiveCommands<K, V> {
      */
     Flux<StreamMessage<K, V>> xrevrange(K key, Range<String> range, Limit limit);
 
+    /**
+     * Read messages from a stream within a specific {@link Range} applying a {@link Limit} in reverse order. Messages are
+     * emitted to the {@link StreamMessageStreamingChannel} as they are decoded.
+     *
+     * @param channel streaming channel that receives a call for every message.
+     * @param key the stream key.
+     * @param range must not be {@literal null}.
+     * @param limit must not be {@literal null}.
+     * @return Long count of messages.
+     * @since 5.2
+     */
+    Mono<Long> xrevrange(StreamMessageStreamingChannel<K, V> channel, K key, Range<String> range, Limit limit);
+
     /**
      * Trims the stream to {@code count} elements.
      *
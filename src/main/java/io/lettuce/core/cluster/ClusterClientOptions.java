@@ -18,6 +18,7 @@ package io.lettuce.core.cluster;
 import java.time.Duration;
 
 import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ConcurrencyLimitOptions;
 import io.lettuce.core.SocketOptions;
 import io.lettuce.core.SslOptions;
 import io.lettuce.core.TimeoutOptions;
@@ -215,6 +216,24 @@ public class ClusterClientOptions extends ClientOptions {
             return this;
         }
 
+        @Override
+        public Builder concurrencyLimitOptions(ConcurrencyLimitOptions concurrencyLimitOptions) {
+            super.concurrencyLimitOptions(concurrencyLimitOptions);
+            return this;
+        }
+
+        @Override
+        public Builder autoPipelining(boolean autoPipelining) {
+            super.autoPipelining(autoPipelining);
+            return this;
+        }
+
+        @Override
+        public Builder autoPipeliningFlushThreshold(int autoPipeliningFlushThreshold) {
+            super.autoPipeliningFlushThreshold(autoPipeliningFlushThreshold);
+            return this;
+        }
+
         /**
          * Create a new instance of {@link ClusterClientOptions}
          *
@@ -17,9 +17,11 @@ package io.lettuce.core.cluster;
 
 import io.lettuce.core.RedisChannelWriter;
 import io.lettuce.core.protocol.*;
-import io.netty.buffer.ByteBuf;
 
 /**
+ * {@link CommandWrapper} tracking {@literal MOVED} and {@literal ASK} redirections. A wrapped {@link TracedCommand} is
+ * collapsed into the cluster command so redirection, tracing and latency state are carried by a single wrapper.
+ *
  * @author Mark Paluch
  * @since 3.0
  */
@@ -82,16 +84,6 @@ class ClusterCommand<K, V, T> extends CommandWrapper<K, V, T> implements RedisCo
         return false;
     }
 
-    @Override
-    public CommandArgs<K, V> getArgs() {
-        return command.getArgs();
-    }
-
-    @Override
-    public void encode(ByteBuf buf) {
-        command.encode(buf);
-    }
-
     @Override
     public boolean completeExceptionally(Throwable ex) {
         boolean result = command.completeExceptionally(ex);
@@ -99,11 +91,6 @@ class ClusterCommand<K, V, T> extends CommandWrapper<K, V, T> implements RedisCo
         return result;
     }
 
-    @Override
-    public ProtocolKeyword getType() {
-        return command.getType();
-    }
-
     public boolean isCompleted() {
         return completed;
     }
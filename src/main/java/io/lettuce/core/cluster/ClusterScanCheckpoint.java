@@ -0,0 +1,192 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster;
+
+import java.io.Serializable;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.lettuce.core.ScanCursor;
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Checkpoint of a {@link ClusterScanStream cluster-wide scan} holding the scan cursor of each scanned shard. A checkpoint is
+ * updated once all elements of a cursor page were emitted so that an interrupted scan can be resumed by passing the same
+ * checkpoint (or a {@link #of(Map, Map, Collection) restored} one) to a subsequent scan. Resuming a scan re-scans at most the
+ * page that was in progress on each shard. Shards that finished scanning are skipped.
+ * <p>
+ * Cursors are associated with shards, identified by the node Id of the shard master, and record the Id of the node that
+ * issued the cursor. A cursor is only valid on the node that issued it: a shard that is scanned on a different node when
+ * resuming (for example a different replica selected by {@link io.lettuce.core.ReadFrom} or after a failover) and shards that
+ * are not part of the checkpoint are scanned from the beginning.
+ * <p>
+ * {@link ClusterScanCheckpoint} is thread-safe.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see ClusterScanStream
+ */
+@SuppressWarnings("serial")
+public class ClusterScanCheckpoint implements Serializable {
+
+    private final Map<String, NodeCursor> cursors = new ConcurrentHashMap<>();
+    private final Set<String> finishedShardIds = ConcurrentHashMap.newKeySet();
+
+    private ClusterScanCheckpoint() {
+    }
+
+    /**
+     * Create a new, empty {@link ClusterScanCheckpoint}.
+     *
+     * @return a new, empty {@link ClusterScanCheckpoint}.
+     */
+    public static ClusterScanCheckpoint create() {
+        return new ClusterScanCheckpoint();
+    }
+
+    /**
+     * Restore a {@link ClusterScanCheckpoint} from {@link #getCursors() cursors} that were issued by the shard masters and
+     * {@link #getFinishedShardIds() finished shard Ids}.
+     *
+     * @param cursors cursors by shard Id, must not be {@literal null}.
+     * @param finishedShardIds Ids of shards that finished scanning, must not be {@literal null}.
+     * @return the {@link ClusterScanCheckpoint}.
+     */
+    public static ClusterScanCheckpoint of(Map<String, String> cursors, Collection<String> finishedShardIds) {
+        return of(cursors, Collections.emptyMap(), finishedShardIds);
+    }
+
+    /**
+     * Restore a {@link ClusterScanCheckpoint} from {@link #getCursors() cursors}, the {@link #getCursorNodeIds() Ids of the
+     * nodes that issued the cursors} and {@link #getFinishedShardIds() finished shard Ids}. Cursors without a node Id are
+     * considered issued by the shard master.
+     *
+     * @param cursors cursors by shard Id, must not be {@literal null}.
+     * @param cursorNodeIds Ids of the nodes that issued the cursors by shard Id, must not be {@literal null}.
+     * @param finishedShardIds Ids of shards that finished scanning, must not be {@literal null}.
+     * @return the {@link ClusterScanCheckpoint}.
+     */
+    public static ClusterScanCheckpoint of(Map<String, String> cursors, Map<String, String> cursorNodeIds,
+            Collection<String> finishedShardIds) {
+
+        LettuceAssert.notNull(cursors, "Cursors must not be null");
+        LettuceAssert.notNull(cursorNodeIds, "Cursor node Ids must not be null");
+        LettuceAssert.notNull(finishedShardIds, "Finished shard Ids must not be null");
+
+        ClusterScanCheckpoint checkpoint = new ClusterScanCheckpoint();
+        cursors.forEach((shardId, cursor) -> checkpoint.cursors.put(shardId,
+                new NodeCursor(cursorNodeIds.getOrDefault(shardId, shardId), cursor)));
+        checkpoint.finishedShardIds.addAll(finishedShardIds);
+        return checkpoint;
+    }
+
+    /**
+     * Returns the cursor to resume scanning {@code shardId} on {@code nodeId}.
+     *
+     * @param shardId the shard Id (node Id of the shard master).
+     * @param nodeId the Id of the node to scan.
+     * @return the cursor to resume scanning or {@link ScanCursor#INITIAL} if the shard was not scanned yet or its cursor was
+     *         issued by a different node.
+     */
+    public ScanCursor getCursor(String shardId, String nodeId) {
+
+        NodeCursor cursor = cursors.get(shardId);
+        return cursor != null && cursor.nodeId.equals(nodeId) ? ScanCursor.of(cursor.cursor) : ScanCursor.INITIAL;
+    }
+
+    /**
+     * @param shardId the shard Id (node Id of the shard master).
+     * @return {@literal true} if scanning {@code shardId} has finished.
+     */
+    public boolean isFinished(String shardId) {
+        return finishedShardIds.contains(shardId);
+    }
+
+    /**
+     * @return a snapshot of the cursors of shards that did not finish scanning by shard Id.
+     */
+    public Map<String, String> getCursors() {
+
+        Map<String, String> result = new LinkedHashMap<>();
+        cursors.forEach((shardId, cursor) -> result.put(shardId, cursor.cursor));
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * @return a snapshot of the Ids of the nodes that issued the {@link #getCursors() cursors} by shard Id.
+     */
+    public Map<String, String> getCursorNodeIds() {
+
+        Map<String, String> result = new LinkedHashMap<>();
+        cursors.forEach((shardId, cursor) -> result.put(shardId, cursor.nodeId));
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * @return a snapshot of Ids of shards that finished scanning.
+     */
+    public Set<String> getFinishedShardIds() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(finishedShardIds));
+    }
+
+    /**
+     * Record that all elements of a page ending with {@code cursor} were emitted for {@code shardId} scanned on
+     * {@code nodeId}.
+     *
+     * @param shardId the shard Id (node Id of the shard master).
+     * @param nodeId the Id of the node that issued {@code cursor}.
+     * @param cursor the cursor returned with the page.
+     */
+    void update(String shardId, String nodeId, ScanCursor cursor) {
+
+        if (cursor.isFinished()) {
+            finishedShardIds.add(shardId);
+            cursors.remove(shardId);
+        } else {
+            cursors.put(shardId, new NodeCursor(nodeId, cursor.getCursor()));
+        }
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getSimpleName());
+        sb.append(" [cursors=").append(cursors);
+        sb.append(", finishedShardIds=").append(finishedShardIds);
+        sb.append(']');
+        return sb.toString();
+    }
+
+    /**
+     * Cursor along with the Id of the node that issued it.
+     */
+    static class NodeCursor implements Serializable {
+
+        final String nodeId;
+        final String cursor;
+
+        NodeCursor(String nodeId, String cursor) {
+            this.nodeId = nodeId;
+            this.cursor = cursor;
+        }
+
+        @Override
+        public String toString() {
+            return cursor + "@" + nodeId;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import io.lettuce.core.RedisException;
+import io.lettuce.core.ScanArgs;
+import io.lettuce.core.ScanIterator;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.api.sync.RedisAdvancedClusterCommands;
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Cluster-wide scan support exposed through {@link Spliterator}.
+ * <p>
+ * {@link ClusterScanSpliterator} scans each cluster node using a {@link ScanIterator} and splits across nodes so that a
+ * parallel {@link Stream} scans and processes keys of multiple nodes concurrently. Each node is scanned sequentially. Nodes are
+ * selected using the {@link StatefulRedisClusterConnection#getReadFrom() ReadFrom} setting of the connection.
+ * <p>
+ * The scan position of each shard is recorded in a {@link ClusterScanCheckpoint} after a key was consumed. Passing the
+ * checkpoint of an interrupted scan to a subsequent scan resumes scanning where it was interrupted. Keys of the page that was
+ * consumed during the interruption may be returned again.
+ *
+ * @param <K> Key type.
+ * @author Mark Paluch
+ * @since 5.2
+ * @see ClusterScanCheckpoint
+ * @see ScanIterator
+ */
+public class ClusterScanSpliterator<K> implements Spliterator<K> {
+
+    private final StatefulRedisClusterConnection<K, ?> connection;
+    private final ScanArgs scanArgs;
+    private final ClusterScanCheckpoint checkpoint;
+
+    private final Map<String, String> shardNodeIds;
+
+    private List<String> shardIds;
+    private int index;
+    private String shardId;
+    private String nodeId;
+    private ScanIterator<K> iterator;
+
+    private ClusterScanSpliterator(StatefulRedisClusterConnection<K, ?> connection, ScanArgs scanArgs,
+            ClusterScanCheckpoint checkpoint, Map<String, String> shardNodeIds, List<String> shardIds) {
+
+        this.connection = connection;
+        this.scanArgs = scanArgs;
+        this.checkpoint = checkpoint;
+        this.shardNodeIds = shardNodeIds;
+        this.shardIds = shardIds;
+    }
+
+    /**
+     * Create a new {@link ClusterScanSpliterator} over keys in the keyspace of all cluster nodes starting at the positions
+     * recorded in {@link ClusterScanCheckpoint}. This method uses {@code SCAN} to perform an iterative scan on each node.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param scanArgs the scan arguments, must not be {@literal null}.
+     * @param checkpoint the checkpoint to resume from and to record scan progress, must not be {@literal null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link ClusterScanSpliterator}.
+     */
+    public static <K, V> ClusterScanSpliterator<K> create(RedisAdvancedClusterCommands<K, V> commands, ScanArgs scanArgs,
+            ClusterScanCheckpoint checkpoint) {
+
+        LettuceAssert.notNull(commands, "RedisAdvancedClusterCommands must not be null");
+        LettuceAssert.notNull(scanArgs, "ScanArgs must not be null");
+        LettuceAssert.notNull(checkpoint, "ClusterScanCheckpoint must not be null");
+
+        StatefulRedisClusterConnection<K, V> connection = commands.getStatefulConnection();
+        Map<String, String> shardNodeIds = ClusterScanSupport.getShardNodeIds(connection);
+
+        if (shardNodeIds.isEmpty()) {
+            throw new RedisException("No available nodes for a scan");
+        }
+
+        return new ClusterScanSpliterator<>(connection, scanArgs, checkpoint, shardNodeIds, new ArrayList<>(
+                shardNodeIds.keySet()));
+    }
+
+    /**
+     * Returns a parallel {@link Stream} over keys in the keyspace of all cluster nodes starting at the positions recorded in
+     * {@link ClusterScanCheckpoint}.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param scanArgs the scan arguments, must not be {@literal null}.
+     * @param checkpoint the checkpoint to resume from and to record scan progress, must not be {@literal null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a parallel {@link Stream}.
+     */
+    public static <K, V> Stream<K> parallelStream(RedisAdvancedClusterCommands<K, V> commands, ScanArgs scanArgs,
+            ClusterScanCheckpoint checkpoint) {
+        return StreamSupport.stream(create(commands, scanArgs, checkpoint), true);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super K> action) {
+
+        LettuceAssert.notNull(action, "Action must not be null");
+
+        while (true) {
+
+            if (iterator == null) {
+
+                if (index >= shardIds.size()) {
+                    return false;
+                }
+
+                shardId = shardIds.get(index++);
+
+                if (checkpoint.isFinished(shardId)) {
+                    continue;
+                }
+
+                nodeId = shardNodeIds.get(shardId);
+                iterator = ScanIterator.scan(connection.getConnection(nodeId).sync(), checkpoint.getCursor(shardId, nodeId),
+                        scanArgs);
+            }
+
+            if (iterator.hasNext()) {
+
+                action.accept(iterator.next());
+                checkpoint.update(shardId, nodeId, iterator.getCursor());
+                return true;
+            }
+
+            checkpoint.update(shardId, nodeId, iterator.getCursor());
+            iterator = null;
+        }
+    }
+
+    @Override
+    public Spliterator<K> trySplit() {
+
+        int remaining = shardIds.size() - index;
+
+        if (remaining < (iterator == null ? 2 : 1)) {
+            return null;
+        }
+
+        int split = index + remaining / 2;
+
+        ClusterScanSpliterator<K> other = new ClusterScanSpliterator<>(connection, scanArgs, checkpoint, shardNodeIds,
+                new ArrayList<>(shardIds.subList(split, shardIds.size())));
+
+        shardIds = new ArrayList<>(shardIds.subList(0, split));
+
+        return other;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return NONNULL;
+    }
+}
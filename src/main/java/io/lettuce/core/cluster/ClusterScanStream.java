@@ -0,0 +1,160 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster;
+
+import java.util.Map;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import io.lettuce.core.*;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.api.reactive.RedisAdvancedClusterReactiveCommands;
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Cluster-wide scan support exposed through {@link Flux}.
+ * <p>
+ * In contrast to {@link RedisAdvancedClusterReactiveCommands#scan() cluster SCAN} that scans nodes one after another using a
+ * composite cursor, {@link ClusterScanStream} scans all masters in parallel and merges their keys into a single {@link Flux}.
+ * Nodes are selected using the {@link StatefulRedisClusterConnection#getReadFrom() ReadFrom} setting of the connection so
+ * that a scan can be performed on one replica per shard. The number of concurrently scanned nodes can be bounded.
+ * <p>
+ * Each node is scanned using {@link ScanStream#scanCursors(io.lettuce.core.api.reactive.RedisKeyReactiveCommands, ScanCursor,
+ * ScanArgs, ScanStreamOptions)} and {@link ScanStreamOptions} apply to each node. The scan position of each shard is recorded
+ * in a {@link ClusterScanCheckpoint} once the keys of a page were emitted. Passing the checkpoint of an interrupted scan to a
+ * subsequent scan resumes scanning where it was interrupted.
+ * <p>
+ * Keys are emitted in the order in which pages are received. The key order across nodes is not deterministic.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see ClusterScanCheckpoint
+ * @see ScanStream
+ */
+public abstract class ClusterScanStream {
+
+    private ClusterScanStream() {
+    }
+
+    /**
+     * Iterate over keys in the keyspace of all cluster nodes in parallel. This method uses {@code SCAN} to perform an iterative
+     * scan on each node.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Flux}.
+     */
+    public static <K, V> Flux<K> scan(RedisAdvancedClusterReactiveCommands<K, V> commands) {
+        return scan(commands, new ScanArgs());
+    }
+
+    /**
+     * Iterate over keys in the keyspace of all cluster nodes in parallel. This method uses {@code SCAN} to perform an iterative
+     * scan on each node.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param scanArgs the scan arguments, must not be {@literal null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Flux}.
+     */
+    public static <K, V> Flux<K> scan(RedisAdvancedClusterReactiveCommands<K, V> commands, ScanArgs scanArgs) {
+        return scan(commands, scanArgs, ClusterScanCheckpoint.create());
+    }
+
+    /**
+     * Iterate over keys in the keyspace of all cluster nodes in parallel starting at the positions recorded in
+     * {@link ClusterScanCheckpoint}. This method uses {@code SCAN} to perform an iterative scan on each node.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param scanArgs the scan arguments, must not be {@literal null}.
+     * @param checkpoint the checkpoint to resume from and to record scan progress, must not be {@literal null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Flux}.
+     */
+    public static <K, V> Flux<K> scan(RedisAdvancedClusterReactiveCommands<K, V> commands, ScanArgs scanArgs,
+            ClusterScanCheckpoint checkpoint) {
+        return scan(commands, scanArgs, checkpoint, Integer.MAX_VALUE, ScanStreamOptions.create());
+    }
+
+    /**
+     * Iterate over keys in the keyspace of up to {@code concurrency} cluster nodes in parallel starting at the positions
+     * recorded in {@link ClusterScanCheckpoint}. This method uses {@code SCAN} to perform an iterative scan on each node.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param scanArgs the scan arguments, must not be {@literal null}.
+     * @param checkpoint the checkpoint to resume from and to record scan progress, must not be {@literal null}.
+     * @param concurrency the maximum number of nodes to scan concurrently, must be greater zero.
+     * @param options the scan stream options applied to each node, must not be {@literal null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Flux}.
+     */
+    public static <K, V> Flux<K> scan(RedisAdvancedClusterReactiveCommands<K, V> commands, ScanArgs scanArgs,
+            ClusterScanCheckpoint checkpoint, int concurrency, ScanStreamOptions options) {
+
+        LettuceAssert.notNull(commands, "RedisAdvancedClusterReactiveCommands must not be null");
+        LettuceAssert.notNull(scanArgs, "ScanArgs must not be null");
+        LettuceAssert.notNull(checkpoint, "ClusterScanCheckpoint must not be null");
+        LettuceAssert.isTrue(concurrency > 0, "Concurrency must be greater 0");
+        LettuceAssert.notNull(options, "ScanStreamOptions must not be null");
+
+        return Flux.defer(() -> {
+
+            StatefulRedisClusterConnection<K, V> connection = commands.getStatefulConnection();
+            Map<String, String> shardNodeIds = ClusterScanSupport.getShardNodeIds(connection);
+
+            if (shardNodeIds.isEmpty()) {
+                return Flux.error(new RedisException("No available nodes for a scan"));
+            }
+
+            int nodes = Math.min(concurrency, shardNodeIds.size());
+
+            return Flux.fromIterable(shardNodeIds.entrySet()).filter(shard -> !checkpoint.isFinished(shard.getKey()))
+                    .flatMap(shard -> scan(connection, shard.getKey(), shard.getValue(), scanArgs, checkpoint, options), nodes,
+                            options.getPrefetch())
+                    .concatMap(page -> Flux.fromIterable(page.cursor.getKeys()).concatWith(
+                            Mono.fromRunnable(() -> checkpoint.update(page.shardId, page.nodeId, page.cursor))), nodes
+                            * options.getPrefetch());
+        });
+    }
+
+    private static <K, V> Flux<NodePage<K>> scan(StatefulRedisClusterConnection<K, V> connection, String shardId,
+            String nodeId, ScanArgs scanArgs, ClusterScanCheckpoint checkpoint, ScanStreamOptions options) {
+
+        return Mono.fromFuture(connection.getConnectionAsync(nodeId)).flatMapMany(
+                nodeConnection -> ScanStream.scanCursors(nodeConnection.reactive(), checkpoint.getCursor(shardId, nodeId),
+                        scanArgs, options)).map(cursor -> new NodePage<>(shardId, nodeId, cursor));
+    }
+
+    /**
+     * A page of keys scanned from a node.
+     */
+    static class NodePage<K> {
+
+        final String shardId;
+        final String nodeId;
+        final KeyScanCursor<K> cursor;
+
+        NodePage(String shardId, String nodeId, KeyScanCursor<K> cursor) {
+            this.shardId = shardId;
+            this.nodeId = nodeId;
+            this.cursor = cursor;
+        }
+    }
+}
@@ -17,7 +17,9 @@ package io.lettuce.core.cluster;
 
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 
 import reactor.core.publisher.Mono;
@@ -135,8 +137,18 @@ class ClusterScanSupport {
      * @param connection
      * @return
      */
-    private static List<String> getNodeIds(StatefulRedisClusterConnection<?, ?> connection) {
-        List<String> nodeIds = new ArrayList<>();
+    static List<String> getNodeIds(StatefulRedisClusterConnection<?, ?> connection) {
+        return new ArrayList<>(getShardNodeIds(connection).values());
+    }
+
+    /**
+     * Retrieve the node Ids to use for the SCAN operation by shard. Shards are identified by the node Id of their master.
+     *
+     * @param connection
+     * @return
+     */
+    static Map<String, String> getShardNodeIds(StatefulRedisClusterConnection<?, ?> connection) {
+        Map<String, String> nodeIds = new LinkedHashMap<>();
 
         PartitionAccessor partitionAccessor = new PartitionAccessor(connection.getPartitions());
         for (RedisClusterNode redisClusterNode : partitionAccessor.getMasters()) {
@@ -159,11 +171,11 @@ class ClusterScanSupport {
 
                 if (!selection.isEmpty()) {
                     RedisClusterNode selectedNode = (RedisClusterNode) selection.get(0);
-                    nodeIds.add(selectedNode.getNodeId());
+                    nodeIds.put(redisClusterNode.getNodeId(), selectedNode.getNodeId());
                     continue;
                 }
             }
-            nodeIds.add(redisClusterNode.getNodeId());
+            nodeIds.put(redisClusterNode.getNodeId(), redisClusterNode.getNodeId());
         }
         return nodeIds;
     }
@@ -16,13 +16,15 @@
 package io.lettuce.core.cluster;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -56,10 +58,12 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
     private static final InternalLogger logger = InternalLoggerFactory.getInstance(PooledClusterConnectionProvider.class);
 
     // Contains NodeId-identified and HostAndPort-identified connections.
-    private final Object stateLock = new Object();
+    private final Lock stateLock = new ReentrantLock();
     private final boolean debugEnabled = logger.isDebugEnabled();
-    private final CompletableFuture<StatefulRedisConnection<K, V>> writers[] = new CompletableFuture[SlotHash.SLOT_COUNT];
-    private final CompletableFuture<StatefulRedisConnection<K, V>> readers[][] = new CompletableFuture[SlotHash.SLOT_COUNT][];
+    private final AtomicReferenceArray<CompletableFuture<StatefulRedisConnection<K, V>>> writers = new AtomicReferenceArray<>(
+            SlotHash.SLOT_COUNT);
+    private final AtomicReferenceArray<CompletableFuture<StatefulRedisConnection<K, V>>[]> readers = new AtomicReferenceArray<>(
+            SlotHash.SLOT_COUNT);
     private final RedisClusterClient redisClusterClient;
     private final ClusterNodeConnectionFactory<K, V> connectionFactory;
     private final RedisChannelWriter clusterWriter;
@@ -67,9 +71,9 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
     private final RedisCodec<K, V> redisCodec;
     private final AsyncConnectionProvider<ConnectionKey, StatefulRedisConnection<K, V>, ConnectionFuture<StatefulRedisConnection<K, V>>> connectionProvider;
 
-    private Partitions partitions;
-    private boolean autoFlushCommands = true;
-    private ReadFrom readFrom;
+    private volatile Partitions partitions;
+    private volatile boolean autoFlushCommands = true;
+    private volatile ReadFrom readFrom;
 
     public PooledClusterConnectionProvider(RedisClusterClient redisClusterClient, RedisChannelWriter clusterWriter,
             RedisCodec<K, V> redisCodec, ClusterEventListener clusterEventListener) {
@@ -115,10 +119,8 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
 
     private CompletableFuture<StatefulRedisConnection<K, V>> getWriteConnection(int slot) {
 
-        CompletableFuture<StatefulRedisConnection<K, V>> writer;// avoid races when reconfiguring partitions.
-        synchronized (stateLock) {
-            writer = writers[slot];
-        }
+        // avoid races when reconfiguring partitions.
+        CompletableFuture<StatefulRedisConnection<K, V>> writer = writers.get(slot);
 
         if (writer == null) {
             RedisClusterNode partition = partitions.getPartitionBySlot(slot);
@@ -137,11 +139,7 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
 
             return future.thenApply(connection -> {
 
-                synchronized (stateLock) {
-                    if (writers[slot] == null) {
-                        writers[slot] = CompletableFuture.completedFuture(connection);
-                    }
-                }
+                writers.compareAndSet(slot, null, CompletableFuture.completedFuture(connection));
 
                 return connection;
             }).toCompletableFuture();
@@ -152,14 +150,11 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
 
     private CompletableFuture<StatefulRedisConnection<K, V>> getReadConnection(int slot) {
 
-        CompletableFuture<StatefulRedisConnection<K, V>> readerCandidates[];// avoid races when reconfiguring partitions.
+        // avoid races when reconfiguring partitions.
+        CompletableFuture<StatefulRedisConnection<K, V>> readerCandidates[] = readers.get(slot);
 
         boolean cached = true;
 
-        synchronized (stateLock) {
-            readerCandidates = readers[slot];
-        }
-
         if (readerCandidates == null) {
 
             RedisClusterNode master = partitions.getPartitionBySlot(slot);
@@ -253,9 +248,7 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
                     for (int i = 0; i < toCache.length; i++) {
                         toCache[i] = CompletableFuture.completedFuture(statefulRedisConnections[i]);
                     }
-                    synchronized (stateLock) {
-                        readers[slot] = toCache;
-                    }
+                    readers.set(slot, toCache);
 
                     if (!orderSensitive) {
 
@@ -478,12 +471,15 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
 
         boolean reconfigurePartitions = false;
 
-        synchronized (stateLock) {
+        stateLock.lock();
+        try {
             if (this.partitions != null) {
                 reconfigurePartitions = true;
             }
             this.partitions = partitions;
             this.connectionFactory.setPartitions(partitions);
+        } finally {
+            stateLock.unlock();
         }
 
         if (reconfigurePartitions) {
@@ -543,8 +539,11 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
     @Override
     public void setAutoFlushCommands(boolean autoFlush) {
 
-        synchronized (stateLock) {
+        stateLock.lock();
+        try {
             this.autoFlushCommands = autoFlush;
+        } finally {
+            stateLock.unlock();
         }
 
         connectionProvider.forEach(connection -> connection.setAutoFlushCommands(autoFlush));
@@ -558,9 +557,12 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
     @Override
     public void setReadFrom(ReadFrom readFrom) {
 
-        synchronized (stateLock) {
+        stateLock.lock();
+        try {
             this.readFrom = readFrom;
-            Arrays.fill(readers, null);
+            clear(readers);
+        } finally {
+            stateLock.unlock();
         }
     }
 
@@ -585,9 +587,19 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
      */
     private void resetFastConnectionCache() {
 
-        synchronized (stateLock) {
-            Arrays.fill(writers, null);
-            Arrays.fill(readers, null);
+        stateLock.lock();
+        try {
+            clear(writers);
+            clear(readers);
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    private static void clear(AtomicReferenceArray<?> array) {
+
+        for (int i = 0; i < array.length(); i++) {
+            array.set(i, null);
         }
     }
 
@@ -654,8 +666,11 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
             }
 
             connection = connection.thenApply(c -> {
-                synchronized (stateLock) {
+                stateLock.lock();
+                try {
                     c.setAutoFlushCommands(autoFlushCommands);
+                } finally {
+                    stateLock.unlock();
                 }
                 return c;
             });
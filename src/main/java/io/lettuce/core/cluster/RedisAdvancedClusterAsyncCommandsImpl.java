@@ -45,9 +45,11 @@ import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
 import io.lettuce.core.cluster.models.partitions.Partitions;
 import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.output.GeoWithinStreamingChannel;
 import io.lettuce.core.output.IntegerOutput;
 import io.lettuce.core.output.KeyStreamingChannel;
 import io.lettuce.core.output.KeyValueStreamingChannel;
+import io.lettuce.core.output.ValueStreamingChannel;
 import io.lettuce.core.protocol.AsyncCommand;
 import io.lettuce.core.protocol.Command;
 import io.lettuce.core.protocol.CommandType;
@@ -240,6 +242,50 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
         return super.georadiusbymember(key, member, distance, unit, geoArgs);
     }
 
+    @Override
+    public RedisFuture<Long> georadius(ValueStreamingChannel<V> channel, K key, double longitude, double latitude,
+            double distance, GeoArgs.Unit unit) {
+
+        if (getStatefulConnection().getState().hasCommand(CommandType.GEORADIUS_RO)) {
+            return super.georadius_ro(channel, key, longitude, latitude, distance, unit);
+        }
+
+        return super.georadius(channel, key, longitude, latitude, distance, unit);
+    }
+
+    @Override
+    public RedisFuture<Long> georadius(GeoWithinStreamingChannel<V> channel, K key, double longitude, double latitude,
+            double distance, GeoArgs.Unit unit, GeoArgs geoArgs) {
+
+        if (getStatefulConnection().getState().hasCommand(CommandType.GEORADIUS_RO)) {
+            return super.georadius_ro(channel, key, longitude, latitude, distance, unit, geoArgs);
+        }
+
+        return super.georadius(channel, key, longitude, latitude, distance, unit, geoArgs);
+    }
+
+    @Override
+    public RedisFuture<Long> georadiusbymember(ValueStreamingChannel<V> channel, K key, V member, double distance,
+            GeoArgs.Unit unit) {
+
+        if (getStatefulConnection().getState().hasCommand(CommandType.GEORADIUSBYMEMBER_RO)) {
+            return super.georadiusbymember_ro(channel, key, member, distance, unit);
+        }
+
+        return super.georadiusbymember(channel, key, member, distance, unit);
+    }
+
+    @Override
+    public RedisFuture<Long> georadiusbymember(GeoWithinStreamingChannel<V> channel, K key, V member, double distance,
+            GeoArgs.Unit unit, GeoArgs geoArgs) {
+
+        if (getStatefulConnection().getState().hasCommand(CommandType.GEORADIUSBYMEMBER_RO)) {
+            return super.georadiusbymember_ro(channel, key, member, distance, unit, geoArgs);
+        }
+
+        return super.georadiusbymember(channel, key, member, distance, unit, geoArgs);
+    }
+
     @Override
     public RedisFuture<List<K>> keys(K pattern) {
 
@@ -45,8 +45,10 @@ import io.lettuce.core.cluster.models.partitions.Partitions;
 import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.internal.LettuceLists;
+import io.lettuce.core.output.GeoWithinStreamingChannel;
 import io.lettuce.core.output.KeyStreamingChannel;
 import io.lettuce.core.output.KeyValueStreamingChannel;
+import io.lettuce.core.output.ValueStreamingChannel;
 
 /**
  * An advanced reactive and thread-safe API to a Redis Cluster connection.
@@ -229,6 +231,50 @@ public class RedisAdvancedClusterReactiveCommandsImpl<K, V> extends AbstractRedi
         return super.georadiusbymember(key, member, distance, unit, geoArgs);
     }
 
+    @Override
+    public Mono<Long> georadius(ValueStreamingChannel<V> channel, K key, double longitude, double latitude,
+            double distance, GeoArgs.Unit unit) {
+
+        if (getStatefulConnection().getState().hasCommand(GEORADIUS_RO)) {
+            return super.georadius_ro(channel, key, longitude, latitude, distance, unit);
+        }
+
+        return super.georadius(channel, key, longitude, latitude, distance, unit);
+    }
+
+    @Override
+    public Mono<Long> georadius(GeoWithinStreamingChannel<V> channel, K key, double longitude, double latitude,
+            double distance, GeoArgs.Unit unit, GeoArgs geoArgs) {
+
+        if (getStatefulConnection().getState().hasCommand(GEORADIUS_RO)) {
+            return super.georadius_ro(channel, key, longitude, latitude, distance, unit, geoArgs);
+        }
+
+        return super.georadius(channel, key, longitude, latitude, distance, unit, geoArgs);
+    }
+
+    @Override
+    public Mono<Long> georadiusbymember(ValueStreamingChannel<V> channel, K key, V member, double distance,
+            GeoArgs.Unit unit) {
+
+        if (getStatefulConnection().getState().hasCommand(GEORADIUSBYMEMBER_RO)) {
+            return super.georadiusbymember_ro(channel, key, member, distance, unit);
+        }
+
+        return super.georadiusbymember(channel, key, member, distance, unit);
+    }
+
+    @Override
+    public Mono<Long> georadiusbymember(GeoWithinStreamingChannel<V> channel, K key, V member, double distance,
+            GeoArgs.Unit unit, GeoArgs geoArgs) {
+
+        if (getStatefulConnection().getState().hasCommand(GEORADIUSBYMEMBER_RO)) {
+            return super.georadiusbymember_ro(channel, key, member, distance, unit, geoArgs);
+        }
+
+        return super.georadiusbymember(channel, key, member, distance, unit, geoArgs);
+    }
+
     @Override
     public Flux<K> keys(K pattern) {
 
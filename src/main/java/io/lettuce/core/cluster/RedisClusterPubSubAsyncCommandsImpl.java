@@ -35,6 +35,8 @@ import io.lettuce.core.cluster.pubsub.api.async.NodeSelectionPubSubAsyncCommands
 import io.lettuce.core.cluster.pubsub.api.async.PubSubAsyncNodeSelection;
 import io.lettuce.core.cluster.pubsub.api.async.RedisClusterPubSubAsyncCommands;
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.output.GeoWithinStreamingChannel;
+import io.lettuce.core.output.ValueStreamingChannel;
 import io.lettuce.core.protocol.CommandType;
 import io.lettuce.core.pubsub.RedisPubSubAsyncCommandsImpl;
 import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
@@ -98,6 +100,50 @@ class RedisClusterPubSubAsyncCommandsImpl<K, V> extends RedisPubSubAsyncCommands
         return super.georadiusbymember(key, member, distance, unit, geoArgs);
     }
 
+    @Override
+    public RedisFuture<Long> georadius(ValueStreamingChannel<V> channel, K key, double longitude, double latitude,
+            double distance, GeoArgs.Unit unit) {
+
+        if (getStatefulConnection().getState().hasCommand(CommandType.GEORADIUS_RO)) {
+            return super.georadius_ro(channel, key, longitude, latitude, distance, unit);
+        }
+
+        return super.georadius(channel, key, longitude, latitude, distance, unit);
+    }
+
+    @Override
+    public RedisFuture<Long> georadius(GeoWithinStreamingChannel<V> channel, K key, double longitude, double latitude,
+            double distance, GeoArgs.Unit unit, GeoArgs geoArgs) {
+
+        if (getStatefulConnection().getState().hasCommand(CommandType.GEORADIUS_RO)) {
+            return super.georadius_ro(channel, key, longitude, latitude, distance, unit, geoArgs);
+        }
+
+        return super.georadius(channel, key, longitude, latitude, distance, unit, geoArgs);
+    }
+
+    @Override
+    public RedisFuture<Long> georadiusbymember(ValueStreamingChannel<V> channel, K key, V member, double distance,
+            GeoArgs.Unit unit) {
+
+        if (getStatefulConnection().getState().hasCommand(CommandType.GEORADIUSBYMEMBER_RO)) {
+            return super.georadiusbymember_ro(channel, key, member, distance, unit);
+        }
+
+        return super.georadiusbymember(channel, key, member, distance, unit);
+    }
+
+    @Override
+    public RedisFuture<Long> georadiusbymember(GeoWithinStreamingChannel<V> channel, K key, V member, double distance,
+            GeoArgs.Unit unit, GeoArgs geoArgs) {
+
+        if (getStatefulConnection().getState().hasCommand(CommandType.GEORADIUSBYMEMBER_RO)) {
+            return super.georadiusbymember_ro(channel, key, member, distance, unit, geoArgs);
+        }
+
+        return super.georadiusbymember(channel, key, member, distance, unit, geoArgs);
+    }
+
     @Override
     public StatefulRedisClusterPubSubConnectionImpl<K, V> getStatefulConnection() {
         return (StatefulRedisClusterPubSubConnectionImpl<K, V>) super.getStatefulConnection();
@@ -24,6 +24,7 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import io.lettuce.core.GeoArgs;
 import io.lettuce.core.GeoWithin;
 import io.lettuce.core.RedisURI;
@@ -34,6 +35,8 @@ import io.lettuce.core.cluster.pubsub.api.reactive.NodeSelectionPubSubReactiveCo
 import io.lettuce.core.cluster.pubsub.api.reactive.PubSubReactiveNodeSelection;
 import io.lettuce.core.cluster.pubsub.api.reactive.RedisClusterPubSubReactiveCommands;
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.output.GeoWithinStreamingChannel;
+import io.lettuce.core.output.ValueStreamingChannel;
 import io.lettuce.core.protocol.CommandType;
 import io.lettuce.core.pubsub.RedisPubSubReactiveCommandsImpl;
 import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
@@ -96,6 +99,50 @@ class RedisClusterPubSubReactiveCommandsImpl<K, V> extends RedisPubSubReactiveCo
         return super.georadiusbymember(key, member, distance, unit, geoArgs);
     }
 
+    @Override
+    public Mono<Long> georadius(ValueStreamingChannel<V> channel, K key, double longitude, double latitude,
+            double distance, GeoArgs.Unit unit) {
+
+        if (getStatefulConnection().getState().hasCommand(CommandType.GEORADIUS_RO)) {
+            return super.georadius_ro(channel, key, longitude, latitude, distance, unit);
+        }
+
+        return super.georadius(channel, key, longitude, latitude, distance, unit);
+    }
+
+    @Override
+    public Mono<Long> georadius(GeoWithinStreamingChannel<V> channel, K key, double longitude, double latitude,
+            double distance, GeoArgs.Unit unit, GeoArgs geoArgs) {
+
+        if (getStatefulConnection().getState().hasCommand(CommandType.GEORADIUS_RO)) {
+            return super.georadius_ro(channel, key, longitude, latitude, distance, unit, geoArgs);
+        }
+
+        return super.georadius(channel, key, longitude, latitude, distance, unit, geoArgs);
+    }
+
+    @Override
+    public Mono<Long> georadiusbymember(ValueStreamingChannel<V> channel, K key, V member, double distance,
+            GeoArgs.Unit unit) {
+
+        if (getStatefulConnection().getState().hasCommand(CommandType.GEORADIUSBYMEMBER_RO)) {
+            return super.georadiusbymember_ro(channel, key, member, distance, unit);
+        }
+
+        return super.georadiusbymember(channel, key, member, distance, unit);
+    }
+
+    @Override
+    public Mono<Long> georadiusbymember(GeoWithinStreamingChannel<V> channel, K key, V member, double distance,
+            GeoArgs.Unit unit, GeoArgs geoArgs) {
+
+        if (getStatefulConnection().getState().hasCommand(CommandType.GEORADIUSBYMEMBER_RO)) {
+            return super.georadiusbymember_ro(channel, key, member, distance, unit, geoArgs);
+        }
+
+        return super.georadiusbymember(channel, key, member, distance, unit, geoArgs);
+    }
+
     @Override
     public StatefulRedisClusterPubSubConnectionImpl<K, V> getStatefulConnection() {
         return (StatefulRedisClusterPubSubConnectionImpl<K, V>) super.getStatefulConnection();
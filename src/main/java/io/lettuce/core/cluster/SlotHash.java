@@ -89,7 +89,7 @@ public class SlotHash {
 
         try {
             if (key.hasArray()) {
-                return CRC16.crc16(key.array(), key.position(), key.limit() - key.position()) % SLOT_COUNT;
+                return CRC16.crc16(key.array(), key.arrayOffset() + key.position(), key.limit() - key.position()) % SLOT_COUNT;
             }
             return CRC16.crc16(key) % SLOT_COUNT;
         } finally {
@@ -103,7 +103,7 @@ public class SlotHash {
 
     private static int indexOf(ByteBuffer haystack, int start, byte needle) {
 
-        for (int i = start; i < haystack.remaining(); i++) {
+        for (int i = start; i < haystack.limit(); i++) {
 
             if (haystack.get(i) == needle) {
                 return i;
@@ -19,6 +19,8 @@ import java.util.List;
 import java.util.Set;
 
 import io.lettuce.core.*;
+import io.lettuce.core.output.GeoWithinStreamingChannel;
+import io.lettuce.core.output.ValueStreamingChannel;
 
 /**
  * Asynchronous executed commands on a node selection for the Geo-API.
@@ -70,6 +72,20 @@ public interface NodeSelectionGeoAsyncCommands<K, V> {
      */
     AsyncExecutions<Set<V>> georadius(K key, double longitude, double latitude, double distance, GeoArgs.Unit unit);
 
+    /**
+     * Retrieve members selected by distance with the center of {@code longitude} and {@code latitude}.
+     *
+     * @param channel streaming channel that receives a call for every value
+     * @param key the key of the geo set
+     * @param longitude the longitude coordinate according to WGS84
+     * @param latitude the latitude coordinate according to WGS84
+     * @param distance radius distance
+     * @param unit distance unit
+     * @return Long count of members.
+     * @since 5.2
+     */
+    AsyncExecutions<Long> georadius(ValueStreamingChannel<V> channel, K key, double longitude, double latitude, double distance, GeoArgs.Unit unit);
+
     /**
      * Retrieve members selected by distance with the center of {@code longitude} and {@code latitude}.
      *
@@ -83,6 +99,21 @@ public interface NodeSelectionGeoAsyncCommands<K, V> {
      */
     AsyncExecutions<List<GeoWithin<V>>> georadius(K key, double longitude, double latitude, double distance, GeoArgs.Unit unit, GeoArgs geoArgs);
 
+    /**
+     * Retrieve members selected by distance with the center of {@code longitude} and {@code latitude}.
+     *
+     * @param channel streaming channel that receives a call for every value
+     * @param key the key of the geo set
+     * @param longitude the longitude coordinate according to WGS84
+     * @param latitude the latitude coordinate according to WGS84
+     * @param distance radius distance
+     * @param unit distance unit
+     * @param geoArgs args to control the result
+     * @return Long count of members. The {@link GeoWithin} contains only fields which were requested by {@link GeoArgs}
+     * @since 5.2
+     */
+    AsyncExecutions<Long> georadius(GeoWithinStreamingChannel<V> channel, K key, double longitude, double latitude, double distance, GeoArgs.Unit unit, GeoArgs geoArgs);
+
     /**
      * Perform a {@link #georadius(Object, double, double, double, GeoArgs.Unit, GeoArgs)} query and store the results in a sorted set.
      *
@@ -109,6 +140,20 @@ public interface NodeSelectionGeoAsyncCommands<K, V> {
      */
     AsyncExecutions<Set<V>> georadiusbymember(K key, V member, double distance, GeoArgs.Unit unit);
 
+    /**
+     * Retrieve members selected by distance with the center of {@code member}. The member itself is always contained in the
+     * results.
+     *
+     * @param channel streaming channel that receives a call for every value
+     * @param key the key of the geo set
+     * @param member reference member
+     * @param distance radius distance
+     * @param unit distance unit
+     * @return Long count of members.
+     * @since 5.2
+     */
+    AsyncExecutions<Long> georadiusbymember(ValueStreamingChannel<V> channel, K key, V member, double distance, GeoArgs.Unit unit);
+
     /**
      * Retrieve members selected by distance with the center of {@code member}. The member itself is always contained in the
      * results.
@@ -122,6 +167,21 @@ public interface NodeSelectionGeoAsyncCommands<K, V> {
      */
     AsyncExecutions<List<GeoWithin<V>>> georadiusbymember(K key, V member, double distance, GeoArgs.Unit unit, GeoArgs geoArgs);
 
+    /**
+     * Retrieve members selected by distance with the center of {@code member}. The member itself is always contained in the
+     * results.
+     *
+     * @param channel streaming channel that receives a call for every value
+     * @param key the key of the geo set
+     * @param member reference member
+     * @param distance radius distance
+     * @param unit distance unit
+     * @param geoArgs args to control the result
+     * @return Long count of members. The {@link GeoWithin} contains only fields which were requested by {@link GeoArgs}
+     * @since 5.2
+     */
+    AsyncExecutions<Long> georadiusbymember(GeoWithinStreamingChannel<V> channel, K key, V member, double distance, GeoArgs.Unit unit, GeoArgs geoArgs);
+
     /**
      * Perform a {@link #georadiusbymember(Object, Object, double, GeoArgs.Unit, GeoArgs)} query and store the results in a sorted set.
      *
@@ -20,6 +20,7 @@ import java.util.Map;
 
 import io.lettuce.core.*;
 import io.lettuce.core.XReadArgs.StreamOffset;
+import io.lettuce.core.output.StreamMessageStreamingChannel;
 
 /**
  * Synchronous executed commands on a node selection for Streams.
@@ -207,6 +208,18 @@ public interface NodeSelectionStreamCommands<K, V> {
      */
     Executions<List<StreamMessage<K, V>>> xrange(K key, Range<String> range);
 
+    /**
+     * Read messages from a stream within a specific {@link Range}. Messages are emitted to the
+     * {@link StreamMessageStreamingChannel} as they are decoded.
+     *
+     * @param channel streaming channel that receives a call for every message.
+     * @param key the stream key.
+     * @param range must not be {@literal null}.
+     * @return Long count of messages.
+     * @since 5.2
+     */
+    Executions<Long> xrange(StreamMessageStreamingChannel<K, V> channel, K key, Range<String> range);
+
     /**
      * Read messages from a stream within a specific {@link Range} applying a {@link Limit}.
      *
@@ -217,6 +230,19 @@ public interface NodeSelectionStreamCommands<K, V> {
      */
     Executions<List<StreamMessage<K, V>>> xrange(K key, Range<String> range, Limit limit);
 
+    /**
+     * Read messages from a stream within a specific {@link Range} applying a {@link Limit}. Messages are emitted to the
+     * {@link StreamMessageStreamingChannel} as they are decoded.
+     *
+     * @param channel streaming channel that receives a call for every message.
+     * @param key the stream key.
+     * @param range must not be {@literal null}.
+     * @param limit must not be {@literal null}.
+     * @return Long count of messages.
+     * @since 5.2
+     */
+    Executions<Long> xrange(StreamMessageStreamingChannel<K, V> channel, K key, Range<String> range, Limit limit);
+
     /**
      * Read messages from one or more {@link StreamOffset}s.
      *
@@ -225,6 +251,17 @@ public interface NodeSelectionStreamCommands<K, V> {
      */
     Executions<List<StreamMessage<K, V>>> xread(StreamOffset<K>... streams);
 
+    /**
+     * Read messages from one or more {@link StreamOffset}s. Messages are emitted to the {@link StreamMessageStreamingChannel}
+     * as they are decoded.
+     *
+     * @param channel streaming channel that receives a call for every message.
+     * @param streams the streams to read from.
+     * @return Long count of messages.
+     * @since 5.2
+     */
+    Executions<Long> xread(StreamMessageStreamingChannel<K, V> channel, StreamOffset<K>... streams);
+
     /**
      * Read messages from one or more {@link StreamOffset}s.
      *
@@ -234,6 +271,18 @@ public interface NodeSelectionStreamCommands<K, V> {
      */
     Executions<List<StreamMessage<K, V>>> xread(XReadArgs args, StreamOffset<K>... streams);
 
+    /**
+     * Read messages from one or more {@link StreamOffset}s. Messages are emitted to the {@link StreamMessageStreamingChannel}
+     * as they are decoded.
+     *
+     * @param channel streaming channel that receives a call for every message.
+     * @param args read arguments.
+     * @param streams the streams to read from.
+     * @return Long count of messages.
+     * @since 5.2
+     */
+    Executions<Long> xread(StreamMessageStreamingChannel<K, V> channel, XReadArgs args, StreamOffset<K>... streams);
+
     /**
      * Read messages from one or more {@link StreamOffset}s using a consumer group.
      *
@@ -243,6 +292,18 @@ public interface NodeSelectionStreamCommands<K, V> {
      */
     Executions<List<StreamMessage<K, V>>> xreadgroup(Consumer<K> consumer, StreamOffset<K>... streams);
 
+    /**
+     * Read messages from one or more {@link StreamOffset}s using a consumer group. Messages are emitted to the
+     * {@link StreamMessageStreamingChannel} as they are decoded.
+     *
+     * @param channel streaming channel that receives a call for every message.
+     * @param consumer consumer/group.
+     * @param streams the streams to read from.
+     * @return Long count of messages.
+     * @since 5.2
+     */
+    Executions<Long> xreadgroup(StreamMessageStreamingChannel<K, V> channel, Consumer<K> consumer, StreamOffset<K>... streams);
+
     /**
      * Read messages from one or more {@link StreamOffset}s using a consumer group.
      *
@@ -253,6 +314,19 @@ public interface NodeSelectionStreamCommands<K, V> {
      */
     Executions<List<StreamMessage<K, V>>> xreadgroup(Consumer<K> consumer, XReadArgs args, StreamOffset<K>... streams);
 
+    /**
+     * Read messages from one or more {@link StreamOffset}s using a consumer group. Messages are emitted to the
+     * {@link StreamMessageStreamingChannel} as they are decoded.
+     *
+     * @param channel streaming channel that receives a call for every message.
+     * @param consumer consumer/group.
+     * @param args read arguments.
+     * @param streams the streams to read from.
+     * @return Long count of messages.
+     * @since 5.2
+     */
+    Executions<Long> xreadgroup(StreamMessageStreamingChannel<K, V> channel, Consumer<K> consumer, XReadArgs args, StreamOffset<K>... streams);
+
     /**
      * Read messages from a stream within a specific {@link Range} in reverse order.
      *
@@ -262,6 +336,18 @@ public interface NodeSelectionStreamCommands<K, V> {
      */
     Executions<List<StreamMessage<K, V>>> xrevrange(K key, Range<String> range);
 
+    /**
+     * Read messages from a stream within a specific {@link Range} in reverse order. Messages are emitted to the
+     * {@link StreamMessageStreamingChannel} as they are decoded.
+     *
+     * @param channel streaming channel that receives a call for every message.
+     * @param key the stream key.
+     * @param range must not be {@literal null}.
+     * @return Long count of messages.
+     * @since 5.2
+     */
+    Executions<Long> xrevrange(StreamMessageStreamingChannel<K, V> channel, K key, Range<String> range);
+
     /**
      * Read messages from a stream within a specific {@link Range} applying a {@link Limit} in reverse order.
      *
@@ -272,6 +358,19 @@ public interface NodeSelectionStreamCommands<K, V> {
      */
     Executions<List<StreamMessage<K, V>>> xrevrange(K key, Range<String> range, Limit limit);
 
+    /**
+     * Read messages from a stream within a specific {@link Range} applying a {@link Limit} in reverse order. Messages are
+     * emitted to the {@link StreamMessageStreamingChannel} as they are decoded.
+     *
+     * @param channel streaming channel that receives a call for every message.
+     * @param key the stream key.
+     * @param range must not be {@literal null}.
+     * @param limit must not be {@literal null}.
+     * @return Long count of messages.
+     * @since 5.2
+     */
+    Executions<Long> xrevrange(StreamMessageStreamingChannel<K, V> channel, K key, Range<String> range, Limit limit);
+
     /**
      * Trims the stream to {@code count} elements.
      *
@@ -15,31 +15,59 @@
  */
 package io.lettuce.core.codec;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
 import java.nio.ByteBuffer;
-import java.util.zip.DeflaterOutputStream;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
-import java.util.zip.InflaterInputStream;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 
+import io.airlift.compress.Compressor;
+import io.airlift.compress.Decompressor;
+import io.airlift.compress.MalformedInputException;
+import io.airlift.compress.lz4.Lz4Compressor;
+import io.airlift.compress.lz4.Lz4Decompressor;
+import io.airlift.compress.zstd.ZstdCompressor;
+import io.airlift.compress.zstd.ZstdDecompressor;
 import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.internal.LettuceClassUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.compression.DecompressionException;
+import io.netty.handler.codec.compression.Snappy;
+import io.netty.util.concurrent.FastThreadLocal;
 
 /**
- * A compressing/decompressing {@link RedisCodec} that wraps a typed {@link RedisCodec codec} and compresses values using GZIP
- * or Deflate. See {@link io.lettuce.core.codec.CompressionCodec.CompressionType} for supported compression types.
+ * A compressing/decompressing {@link RedisCodec} that wraps a typed {@link RedisCodec codec} and compresses values using GZIP,
+ * Deflate, LZ4, Snappy or Zstandard. See {@link io.lettuce.core.codec.CompressionCodec.CompressionType} for supported
+ * compression types.
+ * <p>
+ * GZIP and Deflate compressed values created through {@link #valueCompressor(RedisCodec, CompressionType)} consist of the
+ * compressed representation only. All other values are prefixed with a header byte identifying the compression type, see
+ * {@link CompressionOptions}. All compression types are implemented in Java. LZ4 and Zstandard compression require
+ * {@code io.airlift:aircompressor}.
+ * <p>
+ * The codec reuses per-thread compressors, decompressors and working buffers. Values are compressed straight into the target
+ * {@link ByteBuf} when used through {@link ToByteBufEncoder}. Decompressed values are handed to the delegate codec in a buffer
+ * owned by the delegate so that the delegate can retain it.
  *
  * @author Mark Paluch
  */
 public abstract class CompressionCodec {
 
+    private static final boolean AIRCOMPRESSOR_AVAILABLE = LettuceClassUtils.isPresent("io.airlift.compress.Compressor");
+
+    private static final byte UNCOMPRESSED = 0;
+
     private CompressionCodec() {
     }
 
     /**
-     * A {@link RedisCodec} that compresses values from a delegating {@link RedisCodec}.
+     * A {@link RedisCodec} that compresses values from a delegating {@link RedisCodec}. {@link CompressionType#GZIP GZIP}
+     * and {@link CompressionType#DEFLATE Deflate} compressed values are stored without a header byte. Other compression types
+     * use {@link CompressionOptions#create(CompressionType) default options}.
      *
      * @param delegate codec used for key-value encoding/decoding, must not be {@literal null}.
      * @param compressionType the compression type, must not be {@literal null}.
@@ -51,17 +79,51 @@ public abstract class CompressionCodec {
     public static <K, V> RedisCodec<K, V> valueCompressor(RedisCodec<K, V> delegate, CompressionType compressionType) {
         LettuceAssert.notNull(delegate, "RedisCodec must not be null");
         LettuceAssert.notNull(compressionType, "CompressionType must not be null");
-        return (RedisCodec) new CompressingValueCodecWrapper((RedisCodec) delegate, compressionType);
+
+        if (compressionType == CompressionType.GZIP || compressionType == CompressionType.DEFLATE) {
+            return (RedisCodec) new CompressingValueCodecWrapper((RedisCodec) delegate, compressionType);
+        }
+
+        return valueCompressor(delegate, CompressionOptions.create(compressionType));
     }
 
-    private static class CompressingValueCodecWrapper implements RedisCodec<Object, Object> {
+    /**
+     * A {@link RedisCodec} that compresses values from a delegating {@link RedisCodec} according to {@link CompressionOptions}.
+     * Values are prefixed with a header byte identifying the compression type. Values of any compression type and uncompressed
+     * values can be decoded.
+     *
+     * @param delegate codec used for key-value encoding/decoding, must not be {@literal null}.
+     * @param compressionOptions the compression options, must not be {@literal null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return Value-compressing codec.
+     * @since 5.2
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public static <K, V> RedisCodec<K, V> valueCompressor(RedisCodec<K, V> delegate, CompressionOptions compressionOptions) {
+        LettuceAssert.notNull(delegate, "RedisCodec must not be null");
+        LettuceAssert.notNull(compressionOptions, "CompressionOptions must not be null");
 
-        private RedisCodec<Object, Object> delegate;
-        private CompressionType compressionType;
+        assertAvailable(compressionOptions.getCompressionType());
 
-        public CompressingValueCodecWrapper(RedisCodec<Object, Object> delegate, CompressionType compressionType) {
+        return (RedisCodec) new HeaderCompressingValueCodecWrapper((RedisCodec) delegate, compressionOptions);
+    }
+
+    private static void assertAvailable(CompressionType compressionType) {
+
+        if (compressionType == CompressionType.LZ4 || compressionType == CompressionType.ZSTD) {
+            LettuceAssert.assertState(AIRCOMPRESSOR_AVAILABLE,
+                    "LZ4 and ZSTD compression require io.airlift:aircompressor which is not on the class path");
+        }
+    }
+
+    private abstract static class CompressingValueCodecSupport
+            implements RedisCodec<Object, Object>, ToByteBufEncoder<Object, Object> {
+
+        private final RedisCodec<Object, Object> delegate;
+
+        CompressingValueCodecSupport(RedisCodec<Object, Object> delegate) {
             this.delegate = delegate;
-            this.compressionType = compressionType;
         }
 
         @Override
@@ -71,11 +133,12 @@ public abstract class CompressionCodec {
 
         @Override
         public Object decodeValue(ByteBuffer bytes) {
-            try {
-                return delegate.decodeValue(decompress(bytes));
-            } catch (IOException e) {
-                throw new IllegalStateException(e);
+
+            if (bytes.remaining() == 0) {
+                return delegate.decodeValue(bytes);
             }
+
+            return delegate.decodeValue(decompress(bytes));
         }
 
         @Override
@@ -85,91 +148,771 @@ public abstract class CompressionCodec {
 
         @Override
         public ByteBuffer encodeValue(Object value) {
-            try {
-                return compress(delegate.encodeValue(value));
-            } catch (IOException e) {
-                throw new IllegalStateException(e);
-            }
-        }
 
-        private ByteBuffer compress(ByteBuffer source) throws IOException {
+            ByteBuffer source = delegate.encodeValue(value);
+
             if (source.remaining() == 0) {
                 return source;
             }
 
-            ByteBufferInputStream sourceStream = new ByteBufferInputStream(source);
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(source.remaining() / 2);
-            OutputStream compressor = null;
-            if (compressionType == CompressionType.GZIP) {
-                compressor = new GZIPOutputStream(outputStream);
+            ByteBuf target = ByteBufAllocator.DEFAULT.heapBuffer(source.remaining() / 2 + 32);
+
+            try {
+                compress(source, target);
+
+                byte[] bytes = new byte[target.readableBytes()];
+                target.readBytes(bytes);
+                return ByteBuffer.wrap(bytes);
+            } finally {
+                target.release();
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void encodeKey(Object key, ByteBuf target) {
+
+            if (delegate instanceof ToByteBufEncoder) {
+                ((ToByteBufEncoder<Object, Object>) delegate).encodeKey(key, target);
+                return;
             }
 
-            if (compressionType == CompressionType.DEFLATE) {
-                compressor = new DeflaterOutputStream(outputStream);
+            target.writeBytes(delegate.encodeKey(key));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void encodeValue(Object value, ByteBuf target) {
+
+            if (!(delegate instanceof ToByteBufEncoder)) {
+
+                ByteBuffer source = delegate.encodeValue(value);
+                if (source.remaining() != 0) {
+                    compress(source, target);
+                }
+                return;
             }
 
+            ToByteBufEncoder<Object, Object> encoder = (ToByteBufEncoder<Object, Object>) delegate;
+            ByteBuf source = target.alloc().heapBuffer(encoder.estimateValueSize(value));
+
             try {
-                copy(sourceStream, compressor);
+                encoder.encodeValue(value, source);
+
+                if (source.isReadable()) {
+                    compress(source.nioBuffer(), target);
+                }
             } finally {
-                compressor.close();
+                source.release();
             }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public int estimateSize(Object keyOrValue) {
 
-            return ByteBuffer.wrap(outputStream.toByteArray());
+            if (delegate instanceof ToByteBufEncoder) {
+                return ((ToByteBufEncoder<Object, Object>) delegate).estimateSize(keyOrValue);
+            }
+
+            return 0;
         }
 
-        private ByteBuffer decompress(ByteBuffer source) throws IOException {
-            if (source.remaining() == 0) {
+        @Override
+        @SuppressWarnings("unchecked")
+        public int estimateKeySize(Object key) {
+
+            if (delegate instanceof ToByteBufEncoder) {
+                return ((ToByteBufEncoder<Object, Object>) delegate).estimateKeySize(key);
+            }
+
+            return 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public int estimateValueSize(Object value) {
+
+            if (delegate instanceof ToByteBufEncoder) {
+                return ((ToByteBufEncoder<Object, Object>) delegate).estimateValueSize(value);
+            }
+
+            return 0;
+        }
+
+        /**
+         * Compress a non-empty {@code source} into {@code target}.
+         *
+         * @param source the encoded value.
+         * @param target the target buffer.
+         */
+        abstract void compress(ByteBuffer source, ByteBuf target);
+
+        /**
+         * Decompress a non-empty {@code source}.
+         *
+         * @param source the compressed value.
+         * @return the decompressed value in a buffer that is not reused by subsequent decompressions.
+         */
+        abstract ByteBuffer decompress(ByteBuffer source);
+    }
+
+    private static class CompressingValueCodecWrapper extends CompressingValueCodecSupport {
+
+        private final CompressionType compressionType;
+
+        public CompressingValueCodecWrapper(RedisCodec<Object, Object> delegate, CompressionType compressionType) {
+            super(delegate);
+            this.compressionType = compressionType;
+        }
+
+        @Override
+        void compress(ByteBuffer source, ByteBuf target) {
+            Compressors.get().compress(compressionType, null, source, target);
+        }
+
+        @Override
+        ByteBuffer decompress(ByteBuffer source) {
+            return Compressors.get().decompress(compressionType, null, source);
+        }
+    }
+
+    /**
+     * Codec wrapper prefixing values with a header byte identifying the compression type or {@link #UNCOMPRESSED}.
+     */
+    private static class HeaderCompressingValueCodecWrapper extends CompressingValueCodecSupport {
+
+        private final CompressionType compressionType;
+        private final int minimumSize;
+        private final byte[] dictionary;
+
+        HeaderCompressingValueCodecWrapper(RedisCodec<Object, Object> delegate, CompressionOptions options) {
+            super(delegate);
+            this.compressionType = options.getCompressionType();
+            this.minimumSize = options.getMinimumSize();
+            this.dictionary = options.getDictionary();
+        }
+
+        @Override
+        void compress(ByteBuffer source, ByteBuf target) {
+
+            int length = source.remaining();
+            int start = target.writerIndex();
+
+            if (length >= minimumSize) {
+
+                target.writeByte(compressionType.id);
+                Compressors.get().compress(compressionType, dictionary, source, target);
+
+                if (target.writerIndex() - start <= length) {
+                    return;
+                }
+
+                // compressed representation is not smaller than the value.
+                target.writerIndex(start);
+            }
+
+            target.writeByte(UNCOMPRESSED);
+            target.writeBytes(source.duplicate());
+        }
+
+        @Override
+        ByteBuffer decompress(ByteBuffer source) {
+
+            byte header = source.get();
+
+            if (header == UNCOMPRESSED) {
                 return source;
             }
 
-            ByteBufferInputStream sourceStream = new ByteBufferInputStream(source);
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(source.remaining() * 2);
-            InputStream decompressor = null;
-            if (compressionType == CompressionType.GZIP) {
-                decompressor = new GZIPInputStream(sourceStream);
+            CompressionType type = CompressionType.fromId(header);
+            assertAvailable(type);
+
+            return Compressors.get().decompress(type, dictionary, source);
+        }
+    }
+
+    private static final byte[] GZIP_HEADER = new byte[] { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0 };
+
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+
+    /**
+     * Consume the GZIP header from {@code source}.
+     *
+     * @param source the GZIP member.
+     * @return the uncompressed size from the GZIP trailer.
+     */
+    private static int readGzipHeader(ByteBuffer source) {
+
+        if (source.remaining() < GZIP_HEADER.length + 8 || source.get() != GZIP_HEADER[0] || source.get() != GZIP_HEADER[1]) {
+            throw new IllegalStateException("Not in GZIP format");
+        }
+
+        if (source.get() != Deflater.DEFLATED) {
+            throw new IllegalStateException("Unsupported compression method");
+        }
+
+        int flags = source.get() & 0xFF;
+        source.position(source.position() + 6);
+
+        if ((flags & FEXTRA) != 0) {
+            int extra = (source.get() & 0xFF) | ((source.get() & 0xFF) << 8);
+            source.position(source.position() + extra);
+        }
+
+        if ((flags & FNAME) != 0) {
+            skipZeroTerminated(source);
+        }
+
+        if ((flags & FCOMMENT) != 0) {
+            skipZeroTerminated(source);
+        }
+
+        if ((flags & FHCRC) != 0) {
+            source.position(source.position() + 2);
+        }
+
+        return Integer.reverseBytes(source.getInt(source.limit() - 4));
+    }
+
+    private static void skipZeroTerminated(ByteBuffer source) {
+
+        byte b;
+        do {
+            b = source.get();
+        } while (b != 0);
+    }
+
+    /**
+     * Per-thread compressors, decompressors and working buffers. Buffers exceeding {@link #MAX_RETAINED_BUFFER_SIZE} are not
+     * retained.
+     */
+    private static class Compressors {
+
+        private static final int BUFFER_SIZE = 4096;
+
+        private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+
+        /**
+         * Maximum uncompressed size of a raw Snappy block, see {@code io.netty.handler.codec.compression.SnappyFrameEncoder}.
+         */
+        private static final int SNAPPY_BLOCK_SIZE = Short.MAX_VALUE;
+
+        private static final FastThreadLocal<Compressors> COMPRESSORS = new FastThreadLocal<Compressors>() {
+
+            @Override
+            protected Compressors initialValue() {
+                return new Compressors();
+            }
+
+            @Override
+            protected void onRemoval(Compressors value) {
+                value.end();
+            }
+        };
+
+        private Deflater gzipDeflater;
+        private Deflater deflater;
+        private Inflater gzipInflater;
+        private Inflater inflater;
+        private CRC32 crc32;
+        private Snappy snappy;
+        private ByteBuf snappyOutput;
+        private AircompressorCompressors aircompressor;
+
+        private byte[] input = new byte[BUFFER_SIZE];
+        private byte[] output = new byte[BUFFER_SIZE];
+
+        static Compressors get() {
+            return COMPRESSORS.get();
+        }
+
+        /**
+         * Compress {@code source} into {@code target}. Does not consume {@code source}.
+         */
+        void compress(CompressionType compressionType, byte[] dictionary, ByteBuffer source, ByteBuf target) {
+
+            switch (compressionType) {
+
+                case GZIP:
+
+                    target.writeBytes(GZIP_HEADER);
+                    deflate(gzipDeflater(), null, source, target);
+
+                    CRC32 crc = crc32();
+                    crc.update(source.duplicate());
+                    target.writeIntLE((int) crc.getValue());
+                    target.writeIntLE(source.remaining());
+                    return;
+
+                case DEFLATE:
+                    deflate(deflater(), dictionary, source, target);
+                    return;
+
+                case SNAPPY:
+                    snappyEncode(source, target);
+                    return;
+
+                default:
+                    aircompressor().compress(compressionType, this, source, target);
+            }
+        }
+
+        /**
+         * Decompress {@code source} into a newly allocated buffer and advance {@code source} to the end of the compressed data.
+         */
+        ByteBuffer decompress(CompressionType compressionType, byte[] dictionary, ByteBuffer source) {
+
+            switch (compressionType) {
+
+                case GZIP:
+
+                    int length = readGzipHeader(source);
+
+                    // the trailer is not trusted to size the buffer, it grows as data is inflated.
+                    ByteBuffer result = inflate(gzipInflater(), null, source, Math.min(length, MAX_RETAINED_BUFFER_SIZE));
+
+                    if (source.remaining() < 8) {
+                        throw new IllegalStateException("Corrupt GZIP trailer");
+                    }
+
+                    CRC32 crc = crc32();
+                    crc.update(result.array(), 0, result.remaining());
+
+                    if (Integer.reverseBytes(source.getInt()) != (int) crc.getValue()
+                            || Integer.reverseBytes(source.getInt()) != result.remaining()) {
+                        throw new IllegalStateException("Corrupt GZIP trailer");
+                    }
+
+                    return result;
+
+                case DEFLATE:
+                    return inflate(inflater(), dictionary, source, source.remaining() * 2);
+
+                case SNAPPY:
+                    return snappyDecode(source);
+
+                default:
+                    return aircompressor().decompress(compressionType, this, source);
+            }
+        }
+
+        private Deflater gzipDeflater() {
+
+            if (gzipDeflater == null) {
+                gzipDeflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
             }
+            return gzipDeflater;
+        }
+
+        private Deflater deflater() {
+
+            if (deflater == null) {
+                deflater = new Deflater();
+            }
+            return deflater;
+        }
+
+        private Inflater gzipInflater() {
+
+            if (gzipInflater == null) {
+                gzipInflater = new Inflater(true);
+            }
+            return gzipInflater;
+        }
+
+        private Inflater inflater() {
+
+            if (inflater == null) {
+                inflater = new Inflater();
+            }
+            return inflater;
+        }
+
+        private CRC32 crc32() {
+
+            if (crc32 == null) {
+                crc32 = new CRC32();
+            }
+
+            crc32.reset();
+            return crc32;
+        }
+
+        private Snappy snappy() {
+
+            if (snappy == null) {
+                snappy = new Snappy();
+            }
+            return snappy;
+        }
+
+        private AircompressorCompressors aircompressor() {
+
+            if (aircompressor == null) {
+                aircompressor = new AircompressorCompressors();
+            }
+            return aircompressor;
+        }
+
+        private void deflate(Deflater deflater, byte[] dictionary, ByteBuffer source, ByteBuf target) {
+
+            deflater.reset();
+
+            if (dictionary != null) {
+                deflater.setDictionary(dictionary);
+            }
+
+            deflater.setInput(array(source), arrayOffset(source), source.remaining());
+            deflater.finish();
+
+            while (!deflater.finished()) {
+
+                target.ensureWritable(BUFFER_SIZE);
+
+                if (target.hasArray()) {
+
+                    int written = deflater.deflate(target.array(), target.arrayOffset() + target.writerIndex(),
+                            target.writableBytes());
+                    target.writerIndex(target.writerIndex() + written);
+                } else {
 
-            if (compressionType == CompressionType.DEFLATE) {
-                decompressor = new InflaterInputStream(sourceStream);
+                    int written = deflater.deflate(output);
+                    target.writeBytes(output, 0, written);
+                }
             }
+        }
+
+        private ByteBuffer inflate(Inflater inflater, byte[] dictionary, ByteBuffer source, int sizeHint) {
+
+            inflater.reset();
+            inflater.setInput(array(source), arrayOffset(source), source.remaining());
+
+            byte[] buffer = sizeHint > 0 ? output(sizeHint) : output;
+            int length = 0;
 
             try {
-                copy(decompressor, outputStream);
-            } finally {
-                decompressor.close();
+                while (!inflater.finished()) {
+
+                    if (length == buffer.length) {
+                        buffer = grow(buffer);
+                    }
+
+                    int read = inflater.inflate(buffer, length, buffer.length - length);
+
+                    if (read == 0 && inflater.needsDictionary()) {
+
+                        if (dictionary == null) {
+                            throw new IllegalStateException("Compressed value requires a dictionary");
+                        }
+
+                        inflater.setDictionary(dictionary);
+                        continue;
+                    }
+
+                    if (read == 0 && inflater.needsInput()) {
+                        throw new IllegalStateException("Unexpected end of compressed data");
+                    }
+
+                    length += read;
+                }
+            } catch (DataFormatException | IllegalArgumentException e) {
+                throw new IllegalStateException(e);
+            }
+
+            source.position(source.position() + inflater.getTotalIn());
+
+            // per-thread buffers are reused, hand out a copy
+            return ByteBuffer.wrap(buffer == output ? Arrays.copyOf(buffer, length) : buffer, 0, length);
+        }
+
+        /**
+         * Compress {@code source} into length-prefixed raw Snappy blocks of at most {@link #SNAPPY_BLOCK_SIZE} bytes. Raw
+         * Snappy encoding cannot address offsets beyond a block of that size.
+         */
+        private void snappyEncode(ByteBuffer source, ByteBuf target) {
+
+            ByteBuf input = Unpooled.wrappedBuffer(source.duplicate());
+
+            while (input.isReadable()) {
+
+                ByteBuf block = input.readSlice(Math.min(input.readableBytes(), SNAPPY_BLOCK_SIZE));
+                int lengthIndex = target.writerIndex();
+
+                target.writeInt(0);
+                snappy().encode(block, target, block.readableBytes());
+                target.setInt(lengthIndex, target.writerIndex() - lengthIndex - 4);
+            }
+        }
+
+        private ByteBuffer snappyDecode(ByteBuffer source) {
+
+            if (snappyOutput == null || snappyOutput.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+                snappyOutput = Unpooled.buffer(BUFFER_SIZE);
+            }
+
+            snappyOutput.clear();
+
+            ByteBuf input = Unpooled.wrappedBuffer(source);
+
+            while (input.isReadable()) {
+
+                int length = input.readableBytes() >= 4 ? input.readInt() : -1;
+
+                if (length < 0 || length > input.readableBytes()) {
+                    throw new IllegalStateException("Corrupt Snappy block");
+                }
+
+                try {
+                    snappy().decode(input.readSlice(length), snappyOutput);
+                } catch (DecompressionException e) {
+                    throw new IllegalStateException(e);
+                } finally {
+                    snappy().reset();
+                }
+            }
+
+            source.position(source.limit());
+            return ByteBuffer.wrap(ByteBufUtil.getBytes(snappyOutput));
+        }
+
+        /**
+         * Obtain the per-thread output buffer with at least {@code size} bytes.
+         */
+        byte[] output(int size) {
+
+            if (output.length >= size) {
+                return output;
+            }
+
+            byte[] buffer = new byte[size];
+
+            if (size <= MAX_RETAINED_BUFFER_SIZE) {
+                output = buffer;
             }
 
-            return ByteBuffer.wrap(outputStream.toByteArray());
+            return buffer;
         }
 
+        private byte[] grow(byte[] buffer) {
+
+            byte[] grown = new byte[buffer.length * 2];
+            System.arraycopy(buffer, 0, grown, 0, buffer.length);
+
+            if (grown.length <= MAX_RETAINED_BUFFER_SIZE) {
+                output = grown;
+            }
+
+            return grown;
+        }
+
+        /**
+         * Obtain an array holding the remaining bytes of {@code source} starting at {@link #arrayOffset(ByteBuffer)}. Copies
+         * the bytes to a per-thread buffer if {@code source} is not backed by an accessible array. Does not consume
+         * {@code source}.
+         */
+        byte[] array(ByteBuffer source) {
+
+            if (source.hasArray()) {
+                return source.array();
+            }
+
+            byte[] buffer = input;
+
+            if (buffer.length < source.remaining()) {
+
+                buffer = new byte[source.remaining()];
+
+                if (buffer.length <= MAX_RETAINED_BUFFER_SIZE) {
+                    input = buffer;
+                }
+            }
+
+            source.duplicate().get(buffer, 0, source.remaining());
+            return buffer;
+        }
+
+        static int arrayOffset(ByteBuffer source) {
+            return source.hasArray() ? source.arrayOffset() + source.position() : 0;
+        }
+
+        void end() {
+
+            if (gzipDeflater != null) {
+                gzipDeflater.end();
+            }
+
+            if (deflater != null) {
+                deflater.end();
+            }
+
+            if (gzipInflater != null) {
+                gzipInflater.end();
+            }
+
+            if (inflater != null) {
+                inflater.end();
+            }
+
+            if (snappyOutput != null) {
+                snappyOutput.release();
+            }
+        }
     }
 
     /**
-     * Copies all bytes from the input stream to the output stream. Does not close or flush either stream.
-     *
-     * @param from the input stream to read from
-     * @param to the output stream to write to
-     * @return the number of bytes copied
-     * @throws IOException if an I/O error occurs
+     * Per-thread LZ4 and Zstandard compressors. Values are stored as the uncompressed length followed by the compressed block.
+     * Isolated in its own class to load {@code io.airlift:aircompressor} types only when used.
      */
-    private static long copy(InputStream from, OutputStream to) throws IOException {
-        LettuceAssert.notNull(from, "From must not be null");
-        LettuceAssert.notNull(to, "From must not be null");
-        byte[] buf = new byte[4096];
-        long total = 0;
-        while (true) {
-            int r = from.read(buf);
-            if (r == -1) {
-                break;
-            }
-            to.write(buf, 0, r);
-            total += r;
-        }
-        return total;
+    private static class AircompressorCompressors {
+
+        private Compressor lz4Compressor;
+        private Decompressor lz4Decompressor;
+        private Compressor zstdCompressor;
+        private Decompressor zstdDecompressor;
+
+        void compress(CompressionType compressionType, Compressors buffers, ByteBuffer source, ByteBuf target) {
+
+            Compressor compressor = compressor(compressionType);
+            int length = source.remaining();
+            int maxLength = compressor.maxCompressedLength(length);
+            byte[] input = buffers.array(source);
+            int inputOffset = Compressors.arrayOffset(source);
+
+            target.writeInt(length);
+            target.ensureWritable(maxLength);
+
+            if (target.hasArray()) {
+
+                int written = compressor.compress(input, inputOffset, length, target.array(),
+                        target.arrayOffset() + target.writerIndex(), maxLength);
+                target.writerIndex(target.writerIndex() + written);
+            } else {
+
+                byte[] output = buffers.output(maxLength);
+                int written = compressor.compress(input, inputOffset, length, output, 0, maxLength);
+                target.writeBytes(output, 0, written);
+            }
+        }
+
+        ByteBuffer decompress(CompressionType compressionType, Compressors buffers, ByteBuffer source) {
+
+            if (source.remaining() < 4) {
+                throw new IllegalStateException("Unexpected end of compressed data");
+            }
+
+            int length = source.getInt();
+
+            if (length < 0) {
+                throw new IllegalStateException("Corrupt compressed data");
+            }
+
+            byte[] output = new byte[length];
+
+            try {
+                int read = decompressor(compressionType).decompress(buffers.array(source), Compressors.arrayOffset(source),
+                        source.remaining(), output, 0, length);
+
+                if (read != length) {
+                    throw new IllegalStateException("Corrupt compressed data");
+                }
+            } catch (MalformedInputException e) {
+                throw new IllegalStateException(e);
+            }
+
+            source.position(source.limit());
+            return ByteBuffer.wrap(output, 0, length);
+        }
+
+        private Compressor compressor(CompressionType compressionType) {
+
+            if (compressionType == CompressionType.LZ4) {
+
+                if (lz4Compressor == null) {
+                    lz4Compressor = new Lz4Compressor();
+                }
+                return lz4Compressor;
+            }
+
+            if (zstdCompressor == null) {
+                zstdCompressor = new ZstdCompressor();
+            }
+            return zstdCompressor;
+        }
+
+        private Decompressor decompressor(CompressionType compressionType) {
+
+            if (compressionType == CompressionType.LZ4) {
+
+                if (lz4Decompressor == null) {
+                    lz4Decompressor = new Lz4Decompressor();
+                }
+                return lz4Decompressor;
+            }
+
+            if (zstdDecompressor == null) {
+                zstdDecompressor = new ZstdDecompressor();
+            }
+            return zstdDecompressor;
+        }
     }
 
+    /**
+     * Supported compression types.
+     */
     public enum CompressionType {
-        GZIP, DEFLATE;
+
+        /**
+         * GZIP using {@link Deflater}.
+         */
+        GZIP(1),
+
+        /**
+         * zlib-wrapped Deflate using {@link Deflater}. Supports preset dictionaries.
+         */
+        DEFLATE(2),
+
+        /**
+         * LZ4 block compression. Requires {@code io.airlift:aircompressor}.
+         *
+         * @since 5.2
+         */
+        LZ4(3),
+
+        /**
+         * Snappy compression. Values are compressed into raw Snappy blocks of up to 32 KB, each prefixed with its compressed
+         * length.
+         *
+         * @since 5.2
+         */
+        SNAPPY(4),
+
+        /**
+         * Zstandard compression. Requires {@code io.airlift:aircompressor}.
+         *
+         * @since 5.2
+         */
+        ZSTD(5);
+
+        final byte id;
+
+        CompressionType(int id) {
+            this.id = (byte) id;
+        }
+
+        static CompressionType fromId(byte id) {
+
+            for (CompressionType type : values()) {
+                if (type.id == id) {
+                    return type;
+                }
+            }
+
+            throw new IllegalStateException("Unknown compression type " + id);
+        }
     }
 
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.codec;
+
+import java.util.Arrays;
+
+import io.lettuce.core.codec.CompressionCodec.CompressionType;
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Options for value compression through {@link CompressionCodec#valueCompressor(RedisCodec, CompressionOptions)}. Values
+ * compressed with {@link CompressionOptions} are prefixed with a header byte that identifies the compression type so that
+ * compressed and uncompressed values can coexist and values remain readable after changing the compression type.
+ * <p>
+ * Values smaller than {@link #getMinimumSize() the minimum size} and values that do not shrink when compressed are stored
+ * uncompressed.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public class CompressionOptions {
+
+    public static final CompressionType DEFAULT_COMPRESSION_TYPE = CompressionType.SNAPPY;
+
+    public static final int DEFAULT_MINIMUM_SIZE = 64;
+
+    private final CompressionType compressionType;
+    private final int minimumSize;
+    private final byte[] dictionary;
+
+    private CompressionOptions(CompressionType compressionType, int minimumSize, byte[] dictionary) {
+
+        this.compressionType = compressionType;
+        this.minimumSize = minimumSize;
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * Returns a new {@link CompressionOptions.Builder} to construct {@link CompressionOptions}.
+     *
+     * @return a new {@link CompressionOptions.Builder} to construct {@link CompressionOptions}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a new instance of {@link CompressionOptions} with default settings.
+     *
+     * @return a new instance of {@link CompressionOptions} with default settings.
+     */
+    public static CompressionOptions create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a new instance of {@link CompressionOptions} using {@link CompressionType}.
+     *
+     * @param compressionType the compression type, must not be {@literal null}.
+     * @return a new instance of {@link CompressionOptions} using {@link CompressionType}.
+     */
+    public static CompressionOptions create(CompressionType compressionType) {
+        return builder().compressionType(compressionType).build();
+    }
+
+    /**
+     * Builder for {@link CompressionOptions}.
+     */
+    public static class Builder {
+
+        private CompressionType compressionType = DEFAULT_COMPRESSION_TYPE;
+        private int minimumSize = DEFAULT_MINIMUM_SIZE;
+        private byte[] dictionary;
+
+        /**
+         * Set the {@link CompressionType} used to compress values. Defaults to {@link CompressionType#SNAPPY}.
+         * {@link CompressionType#LZ4} and {@link CompressionType#ZSTD} require {@code io.airlift:aircompressor}.
+         *
+         * @param compressionType the compression type, must not be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder compressionType(CompressionType compressionType) {
+
+            LettuceAssert.notNull(compressionType, "CompressionType must not be null");
+
+            this.compressionType = compressionType;
+            return this;
+        }
+
+        /**
+         * Set the minimum encoded value size in bytes to apply compression. Smaller values are stored uncompressed. Defaults to
+         * {@literal 64}. See {@link #DEFAULT_MINIMUM_SIZE}.
+         *
+         * @param minimumSize the minimum size, must not be negative.
+         * @return {@code this}
+         */
+        public Builder minimumSize(int minimumSize) {
+
+            LettuceAssert.isTrue(minimumSize >= 0, "Minimum size must not be negative");
+
+            this.minimumSize = minimumSize;
+            return this;
+        }
+
+        /**
+         * Set a preset dictionary to improve compression of small values that share common content, such as JSON documents
+         * with the same structure. The dictionary should contain byte sequences that are likely to occur in values, most
+         * frequent sequences last. Dictionaries are supported with {@link CompressionType#DEFLATE}. Values must be read with the
+         * same dictionary they were written with.
+         *
+         * @param dictionary the dictionary, must not be {@literal null} or empty.
+         * @return {@code this}
+         */
+        public Builder dictionary(byte[] dictionary) {
+
+            LettuceAssert.isTrue(dictionary != null && dictionary.length > 0, "Dictionary must not be empty");
+
+            this.dictionary = Arrays.copyOf(dictionary, dictionary.length);
+            return this;
+        }
+
+        /**
+         * Create a new instance of {@link CompressionOptions}
+         *
+         * @return new instance of {@link CompressionOptions}
+         */
+        public CompressionOptions build() {
+
+            LettuceAssert.isTrue(dictionary == null || compressionType == CompressionType.DEFLATE,
+                    "Dictionaries are supported only with DEFLATE compression");
+
+            return new CompressionOptions(compressionType, minimumSize, dictionary);
+        }
+    }
+
+    /**
+     * @return the {@link CompressionType} used to compress values.
+     */
+    public CompressionType getCompressionType() {
+        return compressionType;
+    }
+
+    /**
+     * @return the minimum encoded value size in bytes to apply compression.
+     */
+    public int getMinimumSize() {
+        return minimumSize;
+    }
+
+    /**
+     * @return {@literal true} if a preset dictionary is configured.
+     */
+    public boolean hasDictionary() {
+        return dictionary != null;
+    }
+
+    byte[] getDictionary() {
+        return dictionary;
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import io.lettuce.core.internal.LettuceAssert;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * A {@link RedisCodec} that wraps a typed {@link RedisCodec codec} and prefixes all keys with a namespace. Keys are encoded as
+ * {@code prefix + key}. The prefix is written directly to the target {@link ByteBuf} when the delegate codec implements
+ * {@link ToByteBufEncoder} and stripped on decode by handing a view of the remaining bytes to the delegate codec without
+ * copying. Keys that do not start with the prefix are decoded as-is. Values are not affected.
+ * <p>
+ * Everything that is encoded as key is prefixed, including key patterns of {@code KEYS} and {@code SCAN} and Pub/Sub
+ * channels.
+ * <p>
+ * Redis Cluster slots are calculated from the prefixed key. Hash tags in keys remain effective as long as the prefix does not
+ * contain a hash tag. A prefix with a hash tag such as {@code {tenant}:} maps all keys of the namespace to the same slot.
+ * Prefixes with an unterminated or empty hash tag are rejected because they would change the slot of keys using hash tags.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public abstract class KeyPrefixCodec {
+
+    private KeyPrefixCodec() {
+    }
+
+    /**
+     * A {@link RedisCodec} that prefixes keys of a delegating {@link RedisCodec} with the UTF-8 encoded {@code prefix}.
+     *
+     * @param delegate codec used for key-value encoding/decoding, must not be {@literal null}.
+     * @param prefix the key prefix, must not be {@literal null} or empty.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return Key-prefixing codec.
+     */
+    public static <K, V> RedisCodec<K, V> prefixKeys(RedisCodec<K, V> delegate, String prefix) {
+
+        LettuceAssert.notNull(prefix, "Prefix must not be null");
+
+        return prefixKeys(delegate, prefix.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * A {@link RedisCodec} that prefixes keys of a delegating {@link RedisCodec} with {@code prefix}.
+     *
+     * @param delegate codec used for key-value encoding/decoding, must not be {@literal null}.
+     * @param prefix the key prefix, must not be {@literal null} or empty.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return Key-prefixing codec.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> RedisCodec<K, V> prefixKeys(RedisCodec<K, V> delegate, byte[] prefix) {
+
+        LettuceAssert.notNull(delegate, "RedisCodec must not be null");
+        LettuceAssert.notNull(prefix, "Prefix must not be null");
+        LettuceAssert.isTrue(prefix.length > 0, "Prefix must not be empty");
+        assertHashTagSafe(prefix);
+
+        if (delegate instanceof ToByteBufEncoder) {
+            return new ByteBufKeyPrefixingCodec<>(delegate, (ToByteBufEncoder<K, V>) delegate, prefix.clone());
+        }
+
+        return new KeyPrefixingCodec<>(delegate, prefix.clone());
+    }
+
+    private static void assertHashTagSafe(byte[] prefix) {
+
+        int start = indexOf(prefix, 0, (byte) '{');
+
+        if (start == -1) {
+            return;
+        }
+
+        int end = indexOf(prefix, start + 1, (byte) '}');
+
+        LettuceAssert.isTrue(end > start + 1, "Prefix must not contain an unterminated or empty hash tag");
+    }
+
+    private static int indexOf(byte[] bytes, int start, byte b) {
+
+        for (int i = start; i < bytes.length; i++) {
+            if (bytes[i] == b) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private static class KeyPrefixingCodec<K, V> implements RedisCodec<K, V> {
+
+        final RedisCodec<K, V> delegate;
+        final byte[] prefix;
+
+        KeyPrefixingCodec(RedisCodec<K, V> delegate, byte[] prefix) {
+            this.delegate = delegate;
+            this.prefix = prefix;
+        }
+
+        @Override
+        public K decodeKey(ByteBuffer bytes) {
+
+            if (bytes == null || !startsWithPrefix(bytes)) {
+                return delegate.decodeKey(bytes);
+            }
+
+            ByteBuffer key = bytes.duplicate();
+            key.position(key.position() + prefix.length);
+
+            return delegate.decodeKey(key);
+        }
+
+        @Override
+        public V decodeValue(ByteBuffer bytes) {
+            return delegate.decodeValue(bytes);
+        }
+
+        @Override
+        public ByteBuffer encodeKey(K key) {
+
+            ByteBuffer encoded = delegate.encodeKey(key);
+            ByteBuffer prefixed = ByteBuffer.allocate(prefix.length + encoded.remaining());
+
+            prefixed.put(prefix).put(encoded.duplicate()).flip();
+
+            return prefixed;
+        }
+
+        @Override
+        public ByteBuffer encodeValue(V value) {
+            return delegate.encodeValue(value);
+        }
+
+        private boolean startsWithPrefix(ByteBuffer bytes) {
+
+            if (bytes.remaining() < prefix.length) {
+                return false;
+            }
+
+            int position = bytes.position();
+
+            for (int i = 0; i < prefix.length; i++) {
+                if (bytes.get(position + i) != prefix[i]) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+
+    private static class ByteBufKeyPrefixingCodec<K, V> extends KeyPrefixingCodec<K, V> implements ToByteBufEncoder<K, V> {
+
+        private final ToByteBufEncoder<K, V> encoder;
+
+        ByteBufKeyPrefixingCodec(RedisCodec<K, V> delegate, ToByteBufEncoder<K, V> encoder, byte[] prefix) {
+            super(delegate, prefix);
+            this.encoder = encoder;
+        }
+
+        @Override
+        public void encodeKey(K key, ByteBuf target) {
+
+            target.writeBytes(prefix);
+            encoder.encodeKey(key, target);
+        }
+
+        @Override
+        public void encodeValue(V value, ByteBuf target) {
+            encoder.encodeValue(value, target);
+        }
+
+        @Override
+        public int estimateSize(Object keyOrValue) {
+            return encoder.estimateSize(keyOrValue);
+        }
+
+        @Override
+        public int estimateKeySize(K key) {
+            return prefix.length + encoder.estimateKeySize(key);
+        }
+
+        @Override
+        public int estimateValueSize(V value) {
+            return encoder.estimateValueSize(value);
+        }
+
+        @Override
+        public ByteBuffer encodeKey(K key) {
+
+            ByteBuf buffer = Unpooled.buffer(estimateKeySize(key));
+            encodeKey(key, buffer);
+
+            return buffer.nioBuffer();
+        }
+    }
+}
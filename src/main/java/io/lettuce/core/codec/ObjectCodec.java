@@ -0,0 +1,143 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.codec;
+
+import java.nio.ByteBuffer;
+
+import io.lettuce.core.internal.LettuceAssert;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * {@link RedisCodec} for {@link String} keys and object values serialized with an {@link ObjectSerializer}. Values are
+ * serialized directly into the command buffer and deserialized from the response buffer.
+ * <p>
+ * {@link ObjectCodec} is a {@link TypedCodec} exposing its {@link #getKeyType() key} and {@link #getValueType() value
+ * type} so that dynamic {@link io.lettuce.core.dynamic.Commands command interfaces} can select it for methods declaring the
+ * serialized type.
+ *
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 5.2
+ * @see ObjectSchema
+ */
+public class ObjectCodec<V> implements RedisCodec<String, V>, ToByteBufEncoder<String, V>, TypedCodec<String, V> {
+
+    private final StringCodec keyCodec;
+    private final ObjectSerializer<V> serializer;
+
+    private ObjectCodec(StringCodec keyCodec, ObjectSerializer<V> serializer) {
+        this.keyCodec = keyCodec;
+        this.serializer = serializer;
+    }
+
+    /**
+     * Create a new {@link ObjectCodec} using UTF-8 encoded keys and the given {@link ObjectSerializer} for values.
+     *
+     * @param serializer the value serializer, must not be {@literal null}.
+     * @return a new {@link ObjectCodec}.
+     */
+    public static <V> ObjectCodec<V> create(ObjectSerializer<V> serializer) {
+        return create(StringCodec.UTF8, serializer);
+    }
+
+    /**
+     * Create a new {@link ObjectCodec} using the given {@link StringCodec} for keys and the given {@link ObjectSerializer}
+     * for values.
+     *
+     * @param keyCodec the key codec, must not be {@literal null}.
+     * @param serializer the value serializer, must not be {@literal null}.
+     * @return a new {@link ObjectCodec}.
+     */
+    public static <V> ObjectCodec<V> create(StringCodec keyCodec, ObjectSerializer<V> serializer) {
+
+        LettuceAssert.notNull(keyCodec, "Key codec must not be null");
+        LettuceAssert.notNull(serializer, "ObjectSerializer must not be null");
+
+        return new ObjectCodec<>(keyCodec, serializer);
+    }
+
+    @Override
+    public Class<String> getKeyType() {
+        return String.class;
+    }
+
+    @Override
+    public Class<V> getValueType() {
+        return serializer.getType();
+    }
+
+    @Override
+    public void encodeKey(String key, ByteBuf target) {
+        keyCodec.encodeKey(key, target);
+    }
+
+    @Override
+    public void encodeValue(V value, ByteBuf target) {
+
+        if (value != null) {
+            serializer.serialize(value, target);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public int estimateSize(Object keyOrValue) {
+
+        if (keyOrValue == null) {
+            return 0;
+        }
+
+        if (keyOrValue instanceof String) {
+            return keyCodec.estimateSize(keyOrValue);
+        }
+
+        return serializer.estimateSize((V) keyOrValue);
+    }
+
+    @Override
+    public String decodeKey(ByteBuffer bytes) {
+        return keyCodec.decodeKey(bytes);
+    }
+
+    @Override
+    public V decodeValue(ByteBuffer bytes) {
+
+        if (!bytes.hasRemaining()) {
+            return null;
+        }
+
+        return serializer.deserialize(bytes);
+    }
+
+    @Override
+    public ByteBuffer encodeKey(String key) {
+        return keyCodec.encodeKey(key);
+    }
+
+    @Override
+    public ByteBuffer encodeValue(V value) {
+
+        if (value == null) {
+            return ByteBuffer.allocate(0);
+        }
+
+        ByteBuf buffer = Unpooled.buffer(serializer.estimateSize(value));
+        serializer.serialize(value, buffer);
+
+        return buffer.nioBuffer();
+    }
+}
@@ -0,0 +1,640 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.*;
+
+import io.lettuce.core.internal.LettuceAssert;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+
+/**
+ * Schema-based {@link ObjectSerializer} using a compact binary format. A schema maps numbered fields to accessors of the
+ * serialized type:
+ *
+ * <pre class="code">
+ * ObjectSchema&lt;Person&gt; schema = ObjectSchema.builder(Person.class, Person::new)
+ *         .string(1, Person::getName, Person::setName)
+ *         .int32(2, Person::getAge, Person::setAge)
+ *         .object(3, addressSchema, Person::getAddress, Person::setAddress)
+ *         .build();
+ * </pre>
+ *
+ * Serialized objects start with a format byte followed by fields. Each field is written as a varint tag that combines its
+ * number and wire type followed by its payload: zig-zag encoded varints for integers, fixed 8 bytes for floating point
+ * numbers, and length-prefixed bytes for strings, byte arrays and nested objects. {@literal null} values are omitted.
+ * <p>
+ * Field numbers identify fields across schema versions:
+ * <ul>
+ * <li>Fields can be added. Readers using an older schema skip unknown fields.</li>
+ * <li>Fields can be removed. Readers using a newer schema retain the value assigned by the instance factory.</li>
+ * <li>Field numbers must not be reused for a different field and the type of a field must not change.</li>
+ * </ul>
+ * Instances are immutable and thread-safe.
+ *
+ * @param <T> serialized type.
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public class ObjectSchema<T> implements ObjectSerializer<T> {
+
+    /**
+     * Maximum field number.
+     */
+    public static final int MAX_FIELD_NUMBER = (1 << 28) - 1;
+
+    static final byte FORMAT_VERSION = 1;
+
+    static final int WIRE_VARINT = 0;
+    static final int WIRE_FIXED64 = 1;
+    static final int WIRE_LENGTH_DELIMITED = 2;
+    static final int WIRE_FIXED32 = 5;
+
+    private static final int PADDED_LENGTH_SIZE = 5;
+
+    private final Class<T> type;
+    private final Supplier<? extends T> instanceFactory;
+    private final Field<T>[] fields;
+    private final int[] fieldNumbers;
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private ObjectSchema(Class<T> type, Supplier<? extends T> instanceFactory, List<Field<T>> fields) {
+
+        this.type = type;
+        this.instanceFactory = instanceFactory;
+        this.fields = fields.toArray(new Field[0]);
+        this.fieldNumbers = new int[this.fields.length];
+
+        for (int i = 0; i < this.fields.length; i++) {
+            this.fieldNumbers[i] = this.fields[i].number;
+        }
+    }
+
+    /**
+     * Returns a new {@link ObjectSchema.Builder} to construct a {@link ObjectSchema}.
+     *
+     * @param type the serialized type, must not be {@literal null}.
+     * @param instanceFactory factory creating instances during deserialization, must not be {@literal null}.
+     * @return a new {@link ObjectSchema.Builder}.
+     */
+    public static <T> Builder<T> builder(Class<T> type, Supplier<? extends T> instanceFactory) {
+
+        LettuceAssert.notNull(type, "Type must not be null");
+        LettuceAssert.notNull(instanceFactory, "Instance factory must not be null");
+
+        return new Builder<>(type, instanceFactory);
+    }
+
+    /**
+     * Builder for {@link ObjectSchema}.
+     *
+     * @param <T> serialized type.
+     */
+    public static class Builder<T> {
+
+        private final Class<T> type;
+        private final Supplier<? extends T> instanceFactory;
+        private final List<Field<T>> fields = new ArrayList<>();
+
+        private Builder(Class<T> type, Supplier<? extends T> instanceFactory) {
+            this.type = type;
+            this.instanceFactory = instanceFactory;
+        }
+
+        /**
+         * Add a {@code boolean} field.
+         *
+         * @param number the field number, between {@literal 1} and {@link #MAX_FIELD_NUMBER}.
+         * @param getter must not be {@literal null}.
+         * @param setter must not be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder<T> bool(int number, Predicate<? super T> getter, BiConsumer<? super T, Boolean> setter) {
+
+            LettuceAssert.notNull(getter, "Getter must not be null");
+            LettuceAssert.notNull(setter, "Setter must not be null");
+
+            return add(new Field<T>(number, WIRE_VARINT) {
+
+                @Override
+                void write(T object, ByteBuf target) {
+                    writeTag(target);
+                    target.writeByte(getter.test(object) ? 1 : 0);
+                }
+
+                @Override
+                void read(T object, ByteBuffer source) {
+                    setter.accept(object, readVarint(source) != 0);
+                }
+
+                @Override
+                int estimateSize(T object) {
+                    return 6;
+                }
+            });
+        }
+
+        /**
+         * Add an {@code int} field.
+         *
+         * @param number the field number, between {@literal 1} and {@link #MAX_FIELD_NUMBER}.
+         * @param getter must not be {@literal null}.
+         * @param setter must not be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder<T> int32(int number, ToIntFunction<? super T> getter, ObjIntConsumer<? super T> setter) {
+
+            LettuceAssert.notNull(getter, "Getter must not be null");
+            LettuceAssert.notNull(setter, "Setter must not be null");
+
+            return add(new Field<T>(number, WIRE_VARINT) {
+
+                @Override
+                void write(T object, ByteBuf target) {
+                    writeTag(target);
+                    writeVarint(target, zigZag(getter.applyAsInt(object)));
+                }
+
+                @Override
+                void read(T object, ByteBuffer source) {
+                    setter.accept(object, (int) unZigZag(readVarint(source)));
+                }
+
+                @Override
+                int estimateSize(T object) {
+                    return 10;
+                }
+            });
+        }
+
+        /**
+         * Add a {@code long} field.
+         *
+         * @param number the field number, between {@literal 1} and {@link #MAX_FIELD_NUMBER}.
+         * @param getter must not be {@literal null}.
+         * @param setter must not be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder<T> int64(int number, ToLongFunction<? super T> getter, ObjLongConsumer<? super T> setter) {
+
+            LettuceAssert.notNull(getter, "Getter must not be null");
+            LettuceAssert.notNull(setter, "Setter must not be null");
+
+            return add(new Field<T>(number, WIRE_VARINT) {
+
+                @Override
+                void write(T object, ByteBuf target) {
+                    writeTag(target);
+                    writeVarint(target, zigZag(getter.applyAsLong(object)));
+                }
+
+                @Override
+                void read(T object, ByteBuffer source) {
+                    setter.accept(object, unZigZag(readVarint(source)));
+                }
+
+                @Override
+                int estimateSize(T object) {
+                    return 15;
+                }
+            });
+        }
+
+        /**
+         * Add a {@code double} field.
+         *
+         * @param number the field number, between {@literal 1} and {@link #MAX_FIELD_NUMBER}.
+         * @param getter must not be {@literal null}.
+         * @param setter must not be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder<T> float64(int number, ToDoubleFunction<? super T> getter, ObjDoubleConsumer<? super T> setter) {
+
+            LettuceAssert.notNull(getter, "Getter must not be null");
+            LettuceAssert.notNull(setter, "Setter must not be null");
+
+            return add(new Field<T>(number, WIRE_FIXED64) {
+
+                @Override
+                void write(T object, ByteBuf target) {
+                    writeTag(target);
+                    target.writeLong(Double.doubleToLongBits(getter.applyAsDouble(object)));
+                }
+
+                @Override
+                void read(T object, ByteBuffer source) {
+                    setter.accept(object, Double.longBitsToDouble(readFixed64(source)));
+                }
+
+                @Override
+                int estimateSize(T object) {
+                    return 13;
+                }
+            });
+        }
+
+        /**
+         * Add a {@link String} field. Strings are encoded using UTF-8.
+         *
+         * @param number the field number, between {@literal 1} and {@link #MAX_FIELD_NUMBER}.
+         * @param getter must not be {@literal null}.
+         * @param setter must not be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder<T> string(int number, Function<? super T, String> getter, BiConsumer<? super T, String> setter) {
+
+            LettuceAssert.notNull(getter, "Getter must not be null");
+            LettuceAssert.notNull(setter, "Setter must not be null");
+
+            return add(new Field<T>(number, WIRE_LENGTH_DELIMITED) {
+
+                @Override
+                void write(T object, ByteBuf target) {
+
+                    String value = getter.apply(object);
+
+                    if (value != null) {
+                        writeTag(target);
+                        writeVarint(target, ByteBufUtil.utf8Bytes(value));
+                        ByteBufUtil.writeUtf8(target, value);
+                    }
+                }
+
+                @Override
+                void read(T object, ByteBuffer source) {
+                    setter.accept(object, readString(source, readLength(source)));
+                }
+
+                @Override
+                int estimateSize(T object) {
+
+                    String value = getter.apply(object);
+                    return value == null ? 0 : 10 + ByteBufUtil.utf8MaxBytes(value);
+                }
+            });
+        }
+
+        /**
+         * Add a {@code byte[]} field.
+         *
+         * @param number the field number, between {@literal 1} and {@link #MAX_FIELD_NUMBER}.
+         * @param getter must not be {@literal null}.
+         * @param setter must not be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder<T> bytes(int number, Function<? super T, byte[]> getter, BiConsumer<? super T, byte[]> setter) {
+
+            LettuceAssert.notNull(getter, "Getter must not be null");
+            LettuceAssert.notNull(setter, "Setter must not be null");
+
+            return add(new Field<T>(number, WIRE_LENGTH_DELIMITED) {
+
+                @Override
+                void write(T object, ByteBuf target) {
+
+                    byte[] value = getter.apply(object);
+
+                    if (value != null) {
+                        writeTag(target);
+                        writeVarint(target, value.length);
+                        target.writeBytes(value);
+                    }
+                }
+
+                @Override
+                void read(T object, ByteBuffer source) {
+
+                    byte[] value = new byte[readLength(source)];
+                    source.get(value);
+                    setter.accept(object, value);
+                }
+
+                @Override
+                int estimateSize(T object) {
+
+                    byte[] value = getter.apply(object);
+                    return value == null ? 0 : 10 + value.length;
+                }
+            });
+        }
+
+        /**
+         * Add a nested object field serialized with the given {@link ObjectSerializer}, typically another
+         * {@link ObjectSchema}.
+         *
+         * @param number the field number, between {@literal 1} and {@link #MAX_FIELD_NUMBER}.
+         * @param serializer must not be {@literal null}.
+         * @param getter must not be {@literal null}.
+         * @param setter must not be {@literal null}.
+         * @return {@code this}
+         */
+        public <F> Builder<T> object(int number, ObjectSerializer<F> serializer, Function<? super T, ? extends F> getter,
+                BiConsumer<? super T, ? super F> setter) {
+
+            LettuceAssert.notNull(serializer, "ObjectSerializer must not be null");
+            LettuceAssert.notNull(getter, "Getter must not be null");
+            LettuceAssert.notNull(setter, "Setter must not be null");
+
+            return add(new Field<T>(number, WIRE_LENGTH_DELIMITED) {
+
+                @Override
+                void write(T object, ByteBuf target) {
+
+                    F value = getter.apply(object);
+
+                    if (value == null) {
+                        return;
+                    }
+
+                    writeTag(target);
+
+                    // length is known after serialization: reserve a fixed-size varint and fill it in afterwards
+                    int lengthIndex = target.writerIndex();
+                    target.writeZero(PADDED_LENGTH_SIZE);
+                    serializer.serialize(value, target);
+
+                    setPaddedVarint(target, lengthIndex, target.writerIndex() - lengthIndex - PADDED_LENGTH_SIZE);
+                }
+
+                @Override
+                void read(T object, ByteBuffer source) {
+
+                    int length = readLength(source);
+                    ByteBuffer nested = source.duplicate();
+                    nested.limit(source.position() + length);
+                    source.position(source.position() + length);
+
+                    setter.accept(object, serializer.deserialize(nested));
+                }
+
+                @Override
+                int estimateSize(T object) {
+
+                    F value = getter.apply(object);
+                    return value == null ? 0 : 10 + serializer.estimateSize(value);
+                }
+            });
+        }
+
+        private Builder<T> add(Field<T> field) {
+
+            for (Field<T> existing : fields) {
+                LettuceAssert.isTrue(existing.number != field.number, "Duplicate field number " + field.number);
+            }
+
+            fields.add(field);
+            return this;
+        }
+
+        /**
+         * Create a new {@link ObjectSchema}.
+         *
+         * @return a new {@link ObjectSchema}.
+         */
+        public ObjectSchema<T> build() {
+
+            List<Field<T>> sorted = new ArrayList<>(fields);
+            sorted.sort(Comparator.comparingInt(field -> field.number));
+
+            return new ObjectSchema<>(type, instanceFactory, sorted);
+        }
+    }
+
+    @Override
+    public Class<T> getType() {
+        return type;
+    }
+
+    @Override
+    public void serialize(T value, ByteBuf target) {
+
+        target.writeByte(FORMAT_VERSION);
+
+        for (Field<T> field : fields) {
+            field.write(value, target);
+        }
+    }
+
+    @Override
+    public T deserialize(ByteBuffer source) {
+
+        if (!source.hasRemaining() || source.get() != FORMAT_VERSION) {
+            throw new IllegalStateException("Unsupported object format");
+        }
+
+        T object = instanceFactory.get();
+        int index = 0;
+
+        while (source.hasRemaining()) {
+
+            long tag = readVarint(source);
+            int number = (int) (tag >>> 3);
+            int wireType = (int) (tag & 0x07);
+
+            // fields are written in order: check the next field before searching
+            if (index >= fields.length || fieldNumbers[index] != number) {
+                index = findField(number);
+            }
+
+            if (index < 0) {
+                skip(source, wireType);
+                index = -index - 1;
+                continue;
+            }
+
+            Field<T> field = fields[index];
+
+            if (field.wireType != wireType) {
+                throw new IllegalStateException(
+                        String.format("Field %d: expected wire type %d but was %d", number, field.wireType, wireType));
+            }
+
+            field.read(object, source);
+            index++;
+        }
+
+        return object;
+    }
+
+    @Override
+    public int estimateSize(T value) {
+
+        int size = 1;
+        for (Field<T> field : fields) {
+            size += field.estimateSize(value);
+        }
+
+        return size;
+    }
+
+    private int findField(int number) {
+
+        int low = 0;
+        int high = fieldNumbers.length - 1;
+
+        while (low <= high) {
+
+            int mid = (low + high) >>> 1;
+            int candidate = fieldNumbers[mid];
+
+            if (candidate < number) {
+                low = mid + 1;
+            } else if (candidate > number) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+
+        return -(low + 1);
+    }
+
+    private static void skip(ByteBuffer source, int wireType) {
+
+        switch (wireType) {
+            case WIRE_VARINT:
+                readVarint(source);
+                return;
+            case WIRE_FIXED64:
+                source.position(source.position() + 8);
+                return;
+            case WIRE_LENGTH_DELIMITED:
+                int length = readLength(source);
+                source.position(source.position() + length);
+                return;
+            case WIRE_FIXED32:
+                source.position(source.position() + 4);
+                return;
+            default:
+                throw new IllegalStateException("Unsupported wire type " + wireType);
+        }
+    }
+
+    static void writeVarint(ByteBuf target, long value) {
+
+        while ((value & ~0x7FL) != 0) {
+            target.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+
+        target.writeByte((int) value);
+    }
+
+    static void setPaddedVarint(ByteBuf target, int index, int value) {
+
+        for (int i = 0; i < PADDED_LENGTH_SIZE - 1; i++) {
+            target.setByte(index + i, (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        target.setByte(index + PADDED_LENGTH_SIZE - 1, value);
+    }
+
+    static long readVarint(ByteBuffer source) {
+
+        long value = 0;
+
+        for (int shift = 0; shift < 64; shift += 7) {
+
+            byte b = source.get();
+            value |= (long) (b & 0x7F) << shift;
+
+            if (b >= 0) {
+                return value;
+            }
+        }
+
+        throw new IllegalStateException("Malformed varint");
+    }
+
+    static int readLength(ByteBuffer source) {
+
+        long length = readVarint(source);
+
+        if (length < 0 || length > source.remaining()) {
+            throw new IllegalStateException("Length " + length + " exceeds remaining bytes " + source.remaining());
+        }
+
+        return (int) length;
+    }
+
+    static long readFixed64(ByteBuffer source) {
+
+        long value = source.getLong();
+        return source.order() == ByteOrder.BIG_ENDIAN ? value : Long.reverseBytes(value);
+    }
+
+    static String readString(ByteBuffer source, int length) {
+
+        String value;
+
+        if (source.hasArray()) {
+            value = new String(source.array(), source.arrayOffset() + source.position(), length, StandardCharsets.UTF_8);
+            source.position(source.position() + length);
+        } else {
+
+            byte[] bytes = new byte[length];
+            source.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        return value;
+    }
+
+    static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Field within a schema.
+     */
+    abstract static class Field<T> {
+
+        final int number;
+        final int wireType;
+        private final long tag;
+
+        Field(int number, int wireType) {
+
+            LettuceAssert.isTrue(number > 0 && number <= MAX_FIELD_NUMBER,
+                    "Field number must be between 1 and " + MAX_FIELD_NUMBER);
+
+            this.number = number;
+            this.wireType = wireType;
+            this.tag = ((long) number << 3) | wireType;
+        }
+
+        void writeTag(ByteBuf target) {
+            writeVarint(target, tag);
+        }
+
+        abstract void write(T object, ByteBuf target);
+
+        abstract void read(T object, ByteBuffer source);
+
+        abstract int estimateSize(T object);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.codec;
+
+import java.nio.ByteBuffer;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Serializer for objects of a single type used by {@link ObjectCodec}. Serializers write directly into the target
+ * {@link ByteBuf} and read from the {@link ByteBuffer} provided by the response decoder so that serialization does not
+ * require intermediate {@code byte[]} copies.
+ * <p>
+ * {@link ObjectSchema} provides a compact binary format with schema evolution. Other formats can be plugged in by
+ * implementing this interface.
+ *
+ * @param <T> serialized type.
+ * @author Mark Paluch
+ * @since 5.2
+ * @see ObjectSchema
+ * @see ObjectCodec
+ */
+public interface ObjectSerializer<T> {
+
+    /**
+     * @return the type handled by this serializer.
+     */
+    Class<T> getType();
+
+    /**
+     * Serialize {@code value} into {@code target}.
+     *
+     * @param value the value, must not be {@literal null}.
+     * @param target the target buffer, must not be {@literal null}.
+     */
+    void serialize(T value, ByteBuf target);
+
+    /**
+     * Deserialize an object from the remaining bytes of {@code source}. Implementations may consume {@code source}.
+     *
+     * @param source the source buffer, must not be {@literal null}.
+     * @return the deserialized object.
+     */
+    T deserialize(ByteBuffer source);
+
+    /**
+     * Estimates the size of the serialized representation. Used to size temporary buffers.
+     *
+     * @param value the value, must not be {@literal null}.
+     * @return the estimated number of bytes in the serialized representation.
+     */
+    default int estimateSize(T value) {
+        return 64;
+    }
+}
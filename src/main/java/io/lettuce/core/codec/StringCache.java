@@ -0,0 +1,115 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.codec;
+
+import java.util.Arrays;
+
+/**
+ * Lossy, fixed-size cache of decoded {@link String strings} indexed by the hash of their encoded representation. Entries are
+ * replaced on hash collisions so the cache retains frequently repeated strings such as keys and hash field names without
+ * requiring eviction bookkeeping.
+ * <p>
+ * The cache is thread-safe: entries are immutable and published by a single array store. Concurrent updates may replace each
+ * other.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+class StringCache {
+
+    /**
+     * Maximum length in bytes of cached strings.
+     */
+    static final int MAX_LENGTH = 64;
+
+    private final Entry[] entries;
+    private final int mask;
+
+    /**
+     * @param size the number of entries, rounded up to the next power of two.
+     */
+    StringCache(int size) {
+
+        int capacity = Integer.highestOneBit(Math.max(size, 2) - 1) << 1;
+
+        this.entries = new Entry[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Compute the hash of the encoded representation.
+     */
+    static int hash(byte[] bytes, int offset, int length) {
+
+        int hash = 1;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Lookup a cached string.
+     *
+     * @return the cached string or {@literal null} if absent.
+     */
+    String get(int hash, byte[] bytes, int offset, int length) {
+
+        Entry entry = entries[hash & mask];
+
+        if (entry != null && entry.hash == hash && entry.matches(bytes, offset, length)) {
+            return entry.value;
+        }
+
+        return null;
+    }
+
+    /**
+     * Cache {@code value} for its encoded representation.
+     */
+    void put(int hash, byte[] bytes, int offset, int length, String value) {
+        entries[hash & mask] = new Entry(hash, Arrays.copyOfRange(bytes, offset, offset + length), value);
+    }
+
+    private static class Entry {
+
+        final int hash;
+        final byte[] bytes;
+        final String value;
+
+        Entry(int hash, byte[] bytes, String value) {
+            this.hash = hash;
+            this.bytes = bytes;
+            this.value = value;
+        }
+
+        boolean matches(byte[] other, int offset, int length) {
+
+            if (bytes.length != length) {
+                return false;
+            }
+
+            for (int i = 0; i < length; i++) {
+                if (bytes[i] != other[offset + i]) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+}
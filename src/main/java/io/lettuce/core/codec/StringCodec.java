@@ -21,6 +21,7 @@ import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetEncoder;
 import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
 
 import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.protocol.LettuceCharsets;
@@ -28,10 +29,14 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
 import io.netty.util.CharsetUtil;
+import io.netty.util.concurrent.FastThreadLocal;
 
 /**
  * Optimized String codec. This {@link RedisCodec} encodes and decodes {@link String} keys and values using a specified
  * {@link Charset}. It accepts provided {@link ByteBuf buffers} so it does not need to allocate buffers during encoding.
+ * ASCII and UTF-8 decoding creates strings straight from the encoded bytes without intermediate buffers. Decoded keys can be
+ * cached to share {@link String} instances for frequently repeated keys and hash field names, see
+ * {@link #StringCodec(Charset, int)}.
  *
  * @author Mark Paluch
  * @since 4.3
@@ -43,9 +48,20 @@ public class StringCodec implements RedisCodec<String, String>, ToByteBufEncoder
 
     private static final byte[] EMPTY = new byte[0];
 
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    private static final FastThreadLocal<DecodeBuffers> DECODE_BUFFERS = new FastThreadLocal<DecodeBuffers>() {
+
+        @Override
+        protected DecodeBuffers initialValue() {
+            return new DecodeBuffers();
+        }
+    };
+
     private final Charset charset;
     private final boolean ascii;
     private final boolean utf8;
+    private final StringCache keyCache;
 
     /**
      * Creates a new {@link StringCodec} with the default {@link Charset#defaultCharset() charset}. The default is determined
@@ -61,10 +77,26 @@ public class StringCodec implements RedisCodec<String, String>, ToByteBufEncoder
      * @param charset must not be {@literal null}.
      */
     public StringCodec(Charset charset) {
+        this(charset, 0);
+    }
+
+    /**
+     * Creates a new {@link StringCodec} for the given {@link Charset} that encodes and decodes keys and values and caches up
+     * to {@code keyCacheSize} decoded keys. Cached keys are shared across decode calls so repeated keys and hash field names
+     * (e.g. from {@literal HGETALL} or {@literal SCAN}) resolve to the same {@link String} instance. The cache is lossy and
+     * considers only short keys.
+     *
+     * @param charset must not be {@literal null}.
+     * @param keyCacheSize number of cached keys, {@literal 0} to disable caching.
+     * @since 5.2
+     */
+    public StringCodec(Charset charset, int keyCacheSize) {
 
         LettuceAssert.notNull(charset, "Charset must not be null");
+        LettuceAssert.isTrue(keyCacheSize >= 0, "Key cache size must not be negative");
 
         this.charset = charset;
+        this.keyCache = keyCacheSize > 0 ? new StringCache(keyCacheSize) : null;
 
         if (charset.name().equals("UTF-8")) {
             utf8 = true;
@@ -136,12 +168,153 @@ public class StringCodec implements RedisCodec<String, String>, ToByteBufEncoder
 
     @Override
     public String decodeKey(ByteBuffer bytes) {
-        return Unpooled.wrappedBuffer(bytes).toString(charset);
+
+        if (keyCache == null || bytes.remaining() > StringCache.MAX_LENGTH) {
+            return decode(bytes);
+        }
+
+        int length = bytes.remaining();
+        byte[] array = array(bytes);
+        int offset = arrayOffset(bytes);
+        int hash = StringCache.hash(array, offset, length);
+
+        String cached = keyCache.get(hash, array, offset, length);
+
+        if (cached == null) {
+            cached = decode(array, offset, length);
+            keyCache.put(hash, array, offset, length, cached);
+        }
+
+        return cached;
     }
 
     @Override
     public String decodeValue(ByteBuffer bytes) {
-        return Unpooled.wrappedBuffer(bytes).toString(charset);
+        return decode(bytes);
+    }
+
+    private String decode(ByteBuffer bytes) {
+
+        if (!utf8 && !ascii) {
+            return Unpooled.wrappedBuffer(bytes).toString(charset);
+        }
+
+        return decode(array(bytes), arrayOffset(bytes), bytes.remaining());
+    }
+
+    private String decode(byte[] bytes, int offset, int length) {
+
+        if (!utf8 && !ascii) {
+            return new String(bytes, offset, length, charset);
+        }
+
+        int nonAscii = offset;
+        int end = offset + length;
+        while (nonAscii < end && bytes[nonAscii] >= 0) {
+            nonAscii++;
+        }
+
+        if (nonAscii == end) {
+            // ASCII is a subset of ISO-8859-1 which creates compact strings without decoding.
+            return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+        }
+
+        if (ascii) {
+            return new String(bytes, offset, length, charset);
+        }
+
+        return decodeUtf8(bytes, offset, length, nonAscii);
+    }
+
+    /**
+     * Decode UTF-8 without intermediate buffers besides a per-thread {@code char[]}. Falls back to {@link Charset} decoding
+     * for malformed input to apply its replacement rules.
+     */
+    private String decodeUtf8(byte[] bytes, int offset, int length, int nonAscii) {
+
+        char[] chars = DECODE_BUFFERS.get().chars(length);
+        int count = 0;
+
+        for (int i = offset; i < nonAscii; i++) {
+            chars[count++] = (char) bytes[i];
+        }
+
+        int end = offset + length;
+        int i = nonAscii;
+
+        while (i < end) {
+
+            int b = bytes[i];
+
+            if (b >= 0) {
+                chars[count++] = (char) b;
+                i++;
+                continue;
+            }
+
+            if ((b & 0xE0) == 0xC0 && i + 1 < end && (b & 0x1E) != 0 && isContinuation(bytes[i + 1])) {
+
+                chars[count++] = (char) (((b & 0x1F) << 6) | (bytes[i + 1] & 0x3F));
+                i += 2;
+                continue;
+            }
+
+            if ((b & 0xF0) == 0xE0 && i + 2 < end && isContinuation(bytes[i + 1]) && isContinuation(bytes[i + 2])) {
+
+                char c = (char) (((b & 0x0F) << 12) | ((bytes[i + 1] & 0x3F) << 6) | (bytes[i + 2] & 0x3F));
+
+                if (c < 0x800 || Character.isSurrogate(c)) {
+                    return new String(bytes, offset, length, charset);
+                }
+
+                chars[count++] = c;
+                i += 3;
+                continue;
+            }
+
+            if ((b & 0xF8) == 0xF0 && i + 3 < end && isContinuation(bytes[i + 1]) && isContinuation(bytes[i + 2])
+                    && isContinuation(bytes[i + 3])) {
+
+                int codePoint = ((b & 0x07) << 18) | ((bytes[i + 1] & 0x3F) << 12) | ((bytes[i + 2] & 0x3F) << 6)
+                        | (bytes[i + 3] & 0x3F);
+
+                if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT || codePoint > Character.MAX_CODE_POINT) {
+                    return new String(bytes, offset, length, charset);
+                }
+
+                chars[count++] = Character.highSurrogate(codePoint);
+                chars[count++] = Character.lowSurrogate(codePoint);
+                i += 4;
+                continue;
+            }
+
+            return new String(bytes, offset, length, charset);
+        }
+
+        return new String(chars, 0, count);
+    }
+
+    private static boolean isContinuation(byte b) {
+        return (b & 0xC0) == 0x80;
+    }
+
+    /**
+     * Obtain an array holding the remaining bytes of {@code bytes} starting at {@link #arrayOffset(ByteBuffer)}. Copies the
+     * bytes to a per-thread buffer if {@code bytes} is not backed by an accessible array. Does not consume {@code bytes}.
+     */
+    private static byte[] array(ByteBuffer bytes) {
+
+        if (bytes.hasArray()) {
+            return bytes.array();
+        }
+
+        byte[] array = DECODE_BUFFERS.get().bytes(bytes.remaining());
+        bytes.duplicate().get(array, 0, bytes.remaining());
+        return array;
+    }
+
+    private static int arrayOffset(ByteBuffer bytes) {
+        return bytes.hasArray() ? bytes.arrayOffset() + bytes.position() : 0;
     }
 
     @Override
@@ -175,4 +348,43 @@ public class StringCodec implements RedisCodec<String, String>, ToByteBufEncoder
 
         return buffer;
     }
+
+    /**
+     * Per-thread decoding buffers. Buffers exceeding {@link #MAX_RETAINED_BUFFER_SIZE} are not retained.
+     */
+    private static class DecodeBuffers {
+
+        private byte[] bytes = new byte[256];
+        private char[] chars = new char[256];
+
+        byte[] bytes(int length) {
+
+            if (bytes.length >= length) {
+                return bytes;
+            }
+
+            byte[] buffer = new byte[length];
+
+            if (length <= MAX_RETAINED_BUFFER_SIZE) {
+                bytes = buffer;
+            }
+
+            return buffer;
+        }
+
+        char[] chars(int length) {
+
+            if (chars.length >= length) {
+                return chars;
+            }
+
+            char[] buffer = new char[length];
+
+            if (length <= MAX_RETAINED_BUFFER_SIZE) {
+                chars = buffer;
+            }
+
+            return buffer;
+        }
+    }
 }
@@ -55,4 +55,28 @@ public interface ToByteBufEncoder<K, V> {
      * @return the estimated number of bytes in the encoded representation.
      */
     int estimateSize(Object keyOrValue);
+
+    /**
+     * Estimates the size of the encoded key. Codecs that encode keys differently than values override this method, defaults
+     * to {@link #estimateSize(Object)}.
+     *
+     * @param key the key, may be {@literal null}.
+     * @return the estimated number of bytes in the encoded representation.
+     * @since 5.2
+     */
+    default int estimateKeySize(K key) {
+        return estimateSize(key);
+    }
+
+    /**
+     * Estimates the size of the encoded value. Codecs that encode values differently than keys override this method, defaults
+     * to {@link #estimateSize(Object)}.
+     *
+     * @param value the value, may be {@literal null}.
+     * @return the estimated number of bytes in the encoded representation.
+     * @since 5.2
+     */
+    default int estimateValueSize(V value) {
+        return estimateSize(value);
+    }
 }
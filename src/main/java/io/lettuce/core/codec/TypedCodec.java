@@ -0,0 +1,42 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.codec;
+
+/**
+ * Codec that declares its key and value types at runtime. Type resolution considers the generic declaration of a
+ * {@link RedisCodec} class by default. Codecs whose types are determined at runtime, such as codecs backed by a serializer
+ * configured for a particular type, implement this interface to expose their actual key and value types, e.g. for selecting a
+ * codec for {@link io.lettuce.core.dynamic.Commands command interface} methods.
+ * <p>
+ * Classes implementing {@link TypedCodec} are required to implement {@link RedisCodec} as well.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public interface TypedCodec<K, V> {
+
+    /**
+     * @return the key type.
+     */
+    Class<K> getKeyType();
+
+    /**
+     * @return the value type.
+     */
+    Class<V> getValueType();
+}
@@ -36,6 +36,8 @@ class AsyncExecutableCommand implements ExecutableCommand {
     private final CommandMethod commandMethod;
     private final CommandFactory commandFactory;
     private final StatefulConnection<Object, Object> connection;
+    private final boolean futureExecution;
+    private final int timeoutIndex;
 
     AsyncExecutableCommand(CommandMethod commandMethod, CommandFactory commandFactory,
             StatefulConnection<Object, Object> connection) {
@@ -43,6 +45,23 @@ class AsyncExecutableCommand implements ExecutableCommand {
         this.commandMethod = commandMethod;
         this.commandFactory = commandFactory;
         this.connection = connection;
+        this.futureExecution = commandMethod.isFutureExecution();
+        this.timeoutIndex = getTimeoutIndex(commandMethod);
+    }
+
+    private static int getTimeoutIndex(CommandMethod commandMethod) {
+
+        if (commandMethod.getParameters() instanceof ExecutionSpecificParameters) {
+
+            ExecutionSpecificParameters executionSpecificParameters = (ExecutionSpecificParameters) commandMethod
+                    .getParameters();
+
+            if (executionSpecificParameters.hasTimeoutIndex()) {
+                return executionSpecificParameters.getTimeoutIndex();
+            }
+        }
+
+        return -1;
     }
 
     @Override
@@ -58,7 +77,7 @@ class AsyncExecutableCommand implements ExecutableCommand {
 
         AsyncCommand<Object, Object, Object> asyncCommand = new AsyncCommand<>(command);
 
-        if (commandMethod.isFutureExecution()) {
+        if (futureExecution) {
             return connection.dispatch(asyncCommand);
         }
 
@@ -66,15 +85,11 @@ class AsyncExecutableCommand implements ExecutableCommand {
 
         Duration timeout = connection.getTimeout();
 
-        if (commandMethod.getParameters() instanceof ExecutionSpecificParameters) {
-            ExecutionSpecificParameters executionSpecificParameters = (ExecutionSpecificParameters) commandMethod
-                    .getParameters();
+        if (timeoutIndex != -1) {
 
-            if (executionSpecificParameters.hasTimeoutIndex()) {
-                Timeout timeoutArg = (Timeout) arguments[executionSpecificParameters.getTimeoutIndex()];
-                if (timeoutArg != null) {
-                    timeout = timeoutArg.getTimeout();
-                }
+            Timeout timeoutArg = (Timeout) arguments[timeoutIndex];
+            if (timeoutArg != null) {
+                timeout = timeoutArg.getTimeout();
             }
         }
 
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.dynamic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.dynamic.batch.CommandBatching;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.RedisCommand;
+
+/**
+ * Threadsafe {@link Batcher} bounded by command count, estimated size in bytes and linger time. Queued commands are flushed
+ * when either:
+ * <ul>
+ * <li>Reaching the configured {@link #batchSize}</li>
+ * <li>Reaching the configured {@link #maxBytes} estimated from the {@link CommandArgs#estimateSize() command arguments}</li>
+ * <li>The first queued command lingered for {@link #lingerMillis}</li>
+ * <li>Encountering a {@link CommandBatching#flush() force flush}</li>
+ * </ul>
+ * Commands are queued in a lock-free queue and flushed as a single {@link StatefulConnection#dispatch(java.util.Collection)
+ * pipelined write}. Linger timeouts are scheduled on the {@link io.lettuce.core.resource.ClientResources#eventExecutorGroup()
+ * event executor}. Flushing is serialized so that batches are dispatched in the order in which commands were queued.
+ * <p>
+ * Commands flushed by the linger timeout have no caller to report to. Commands of such batches that complete exceptionally
+ * are retained and reported with the result of the next {@link #flush()} so that synchronous batch methods still surface
+ * them through a {@link io.lettuce.core.dynamic.batch.BatchException}.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+class BoundedBatcher implements Batcher {
+
+    /**
+     * Estimated size of the array header and the framing of the command name.
+     */
+    private static final int COMMAND_OVERHEAD = 16;
+
+    private final StatefulConnection<Object, Object> connection;
+    private final int batchSize;
+    private final long maxBytes;
+    private final long lingerMillis;
+    private final Queue<QueuedCommand> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queuedCommands = new AtomicInteger();
+    private final AtomicLong queuedBytes = new AtomicLong();
+    private final AtomicBoolean lingerScheduled = new AtomicBoolean();
+    private final AtomicBoolean flushing = new AtomicBoolean();
+    private final Queue<RedisCommand<?, ?, ?>> failedCommands = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Create a new {@link BoundedBatcher}.
+     *
+     * @param connection the connection.
+     * @param batchSize the batch size or {@code -1} to not bound batches by command count.
+     * @param maxBytes the maximum estimated batch size in bytes or {@code 0} to not bound batches by size.
+     * @param lingerMillis the linger time in milliseconds or {@code 0} to hold commands until the batch is flushed.
+     */
+    BoundedBatcher(StatefulConnection<Object, Object> connection, int batchSize, long maxBytes, long lingerMillis) {
+
+        LettuceAssert.isTrue(batchSize == -1 || batchSize > 0, "Batch size must be greater zero or -1");
+        this.connection = connection;
+        this.batchSize = batchSize;
+        this.maxBytes = Math.max(maxBytes, 0);
+        this.lingerMillis = Math.max(lingerMillis, 0);
+    }
+
+    @Override
+    public BatchTasks batch(RedisCommand<Object, Object, Object> command, CommandBatching batching) {
+
+        int size = maxBytes > 0 ? estimateSize(command) : 0;
+
+        queue.add(new QueuedCommand(command, size));
+
+        int commands = queuedCommands.incrementAndGet();
+        long bytes = queuedBytes.addAndGet(size);
+
+        if (batching == CommandBatching.flush()) {
+            return flush();
+        }
+
+        if (batching != CommandBatching.queue()) {
+
+            if ((batchSize != -1 && commands >= batchSize) || (maxBytes > 0 && bytes >= maxBytes)) {
+                return flush();
+            }
+        }
+
+        scheduleLinger();
+
+        return BatchTasks.EMPTY;
+    }
+
+    @Override
+    public BatchTasks flush() {
+        return flush(true);
+    }
+
+    /**
+     * Flush queued commands. Only a single thread polls and dispatches at a time. A thread that finds the queue non-empty
+     * after releasing the flush guard flushes again so that commands queued during a concurrent flush are not left behind.
+     *
+     * @param report {@code true} to return the flushed commands (and previously retained failures) to the caller,
+     *        {@code false} to retain commands that fail for the next {@link #flush()}.
+     * @return the flushed commands.
+     */
+    private BatchTasks flush(boolean report) {
+
+        List<RedisCommand<?, ?, ?>> flushed = new ArrayList<>(Math.max(batchSize, 10));
+
+        while (!queue.isEmpty() && flushing.compareAndSet(false, true)) {
+
+            try {
+                flushed.addAll(doFlush());
+            } finally {
+                flushing.set(false);
+            }
+        }
+
+        if (!report) {
+            flushed.forEach(this::retainOnFailure);
+            return BatchTasks.EMPTY;
+        }
+
+        RedisCommand<?, ?, ?> failed;
+        while ((failed = failedCommands.poll()) != null) {
+            flushed.add(failed);
+        }
+
+        return flushed.isEmpty() ? BatchTasks.EMPTY : new BatchTasks(flushed);
+    }
+
+    private List<RedisCommand<Object, Object, Object>> doFlush() {
+
+        List<RedisCommand<Object, Object, Object>> commands = new ArrayList<>(Math.max(batchSize, 10));
+        long bytes = 0;
+
+        QueuedCommand queued;
+        while ((queued = queue.poll()) != null) {
+            commands.add(queued.command);
+            bytes += queued.size;
+        }
+
+        if (commands.isEmpty()) {
+            return commands;
+        }
+
+        queuedCommands.addAndGet(-commands.size());
+        queuedBytes.addAndGet(-bytes);
+
+        if (commands.size() == 1) {
+            connection.dispatch(commands.get(0));
+        } else {
+            connection.dispatch(commands);
+        }
+
+        return commands;
+    }
+
+    private void retainOnFailure(RedisCommand<?, ?, ?> command) {
+
+        if (command instanceof CompletionStage) {
+            ((CompletionStage<?>) command).whenComplete((result, throwable) -> {
+
+                if (throwable != null) {
+                    failedCommands.add(command);
+                }
+            });
+        }
+    }
+
+    private void scheduleLinger() {
+
+        if (lingerMillis == 0 || !lingerScheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        connection.getResources().eventExecutorGroup().schedule(() -> {
+
+            lingerScheduled.set(false);
+            flush(false);
+        }, lingerMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private static int estimateSize(RedisCommand<?, ?, ?> command) {
+
+        CommandArgs<?, ?> args = command.getArgs();
+        int size = command.getType().getBytes().length + COMMAND_OVERHEAD;
+
+        return args != null ? size + args.estimateSize() : size;
+    }
+
+    static class QueuedCommand {
+
+        final RedisCommand<Object, Object, Object> command;
+        final int size;
+
+        QueuedCommand(RedisCommand<Object, Object, Object> command, int size) {
+            this.command = command;
+            this.size = size;
+        }
+    }
+}
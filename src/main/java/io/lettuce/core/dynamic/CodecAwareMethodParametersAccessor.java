@@ -18,8 +18,8 @@ package io.lettuce.core.dynamic;
 import java.util.Iterator;
 
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.dynamic.codec.RedisCodecTypes;
 import io.lettuce.core.dynamic.parameter.MethodParametersAccessor;
-import io.lettuce.core.dynamic.support.ClassTypeInformation;
 import io.lettuce.core.dynamic.support.TypeInformation;
 import io.lettuce.core.internal.LettuceAssert;
 
@@ -126,15 +126,12 @@ class CodecAwareMethodParametersAccessor implements MethodParametersAccessor {
         final TypeInformation<?> keyType;
         final TypeInformation<?> valueType;
 
-        @SuppressWarnings("rawtypes")
         public TypeContext(RedisCodec<?, ?> redisCodec) {
 
             LettuceAssert.notNull(redisCodec, "RedisCodec must not be null");
 
-            ClassTypeInformation<? extends RedisCodec> typeInformation = ClassTypeInformation.from(redisCodec.getClass());
-
-            this.keyType = typeInformation.getTypeArgument(RedisCodec.class, 0);
-            this.valueType = typeInformation.getTypeArgument(RedisCodec.class, 1);
+            this.keyType = RedisCodecTypes.getKeyType(redisCodec);
+            this.valueType = RedisCodecTypes.getValueType(redisCodec);
         }
     }
 }
@@ -29,7 +29,9 @@ import io.lettuce.core.protocol.CommandArgs;
 import io.lettuce.core.protocol.RedisCommand;
 
 /**
- * {@link CommandFactory} based on {@link CommandSegments}.
+ * {@link CommandFactory} based on {@link CommandSegments}. The output factory and a {@link MethodParametersBinding} are
+ * resolved once on construction so that {@link #createCommand(Object[])} binds arguments without inspecting the
+ * {@link CommandMethod} per invocation.
  *
  * @author Mark Paluch
  * @since 5.0
@@ -43,6 +45,7 @@ class CommandSegmentCommandFactory implements CommandFactory {
     private final ParameterBinder parameterBinder = new ParameterBinder();
     private final CommandOutputFactory outputFactory;
     private final TypeContext typeContext;
+    private final MethodParametersBinding binding;
 
     public CommandSegmentCommandFactory(CommandSegments commandSegments, CommandMethod commandMethod,
             RedisCodec<?, ?> redisCodec, CommandOutputFactoryResolver outputResolver) {
@@ -72,6 +75,7 @@ class CommandSegmentCommandFactory implements CommandFactory {
         }
 
         this.outputFactory = factory;
+        this.binding = MethodParametersBinding.create(commandSegments, commandMethod.getParameters(), typeContext);
     }
 
     protected CommandOutputFactoryResolver getOutputResolver() {
@@ -85,6 +89,14 @@ class CommandSegmentCommandFactory implements CommandFactory {
     @Override
     public RedisCommand<Object, Object, Object> createCommand(Object[] parameters) {
 
+        if (binding != null) {
+
+            CommandArgs<Object, Object> args = new CommandArgs<>(redisCodec);
+            parameterBinder.bind(args, redisCodec, binding, parameters);
+
+            return (Command) new Command<>(this.segments.getCommandType(), outputFactory.create(redisCodec), args);
+        }
+
         MethodParametersAccessor parametersAccessor = new CodecAwareMethodParametersAccessor(
                 new DefaultMethodParametersAccessor(commandMethod.getParameters(), parameters), typeContext);
 
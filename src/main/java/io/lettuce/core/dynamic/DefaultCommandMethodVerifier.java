@@ -16,7 +16,10 @@
 package io.lettuce.core.dynamic;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -41,7 +44,8 @@ class DefaultCommandMethodVerifier implements CommandMethodVerifier {
      */
     public static final int DEFAULT_MAX_DISTANCE = 2;
 
-    private List<CommandDetail> commandDetails;
+    private final List<CommandDetail> commandDetails;
+    private final Map<String, CommandDetail> commandDetailsByName;
 
     /**
      * Create a new {@link DefaultCommandMethodVerifier} given a {@link List} of {@link CommandDetail}
@@ -53,6 +57,11 @@ class DefaultCommandMethodVerifier implements CommandMethodVerifier {
         LettuceAssert.notNull(commandDetails, "Command details must not be null");
 
         this.commandDetails = LettuceLists.newList(commandDetails);
+        this.commandDetailsByName = new HashMap<>(commandDetails.size() * 2);
+
+        for (CommandDetail commandDetail : commandDetails) {
+            this.commandDetailsByName.putIfAbsent(commandDetail.getName().toUpperCase(Locale.ROOT), commandDetail);
+        }
     }
 
     /**
@@ -167,8 +176,7 @@ class DefaultCommandMethodVerifier implements CommandMethodVerifier {
     }
 
     private Optional<CommandDetail> findCommandDetail(String commandName) {
-        return commandDetails.stream().filter(commandDetail -> commandDetail.getName().equalsIgnoreCase(commandName))
-                .findFirst();
+        return Optional.ofNullable(commandDetailsByName.get(commandName.toUpperCase(Locale.ROOT)));
     }
 
     static class CommandMatches {
@@ -21,12 +21,15 @@ import java.lang.reflect.Modifier;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.lettuce.core.internal.LettuceAssert;
 
 /**
- * Default implementation of {@link RedisCommandsMetadata}.
+ * Default implementation of {@link RedisCommandsMetadata}. Command methods and their {@link CommandMethod} representation
+ * are resolved once per instance. Use {@link #of(Class)} to obtain a cached instance per command interface.
  *
  * @author Mark Paluch
  * @since 5.0
@@ -36,7 +39,17 @@ class DefaultRedisCommandsMetadata implements RedisCommandsMetadata {
     /** The package separator character: '.' */
     private static final char PACKAGE_SEPARATOR = '.';
 
+    private static final ClassValue<DefaultRedisCommandsMetadata> CACHE = new ClassValue<DefaultRedisCommandsMetadata>() {
+
+        @Override
+        protected DefaultRedisCommandsMetadata computeValue(Class<?> type) {
+            return new DefaultRedisCommandsMetadata(type);
+        }
+    };
+
     private final Class<?> apiInterface;
+    private final Map<Method, CommandMethod> commandMethods = new ConcurrentHashMap<>();
+    private volatile Collection<Method> methods;
 
     /**
      * Create {@link DefaultRedisCommandsMetadata} given a {@link Class command interface}.
@@ -47,6 +60,20 @@ class DefaultRedisCommandsMetadata implements RedisCommandsMetadata {
         this.apiInterface = apiInterface;
     }
 
+    /**
+     * Obtain {@link DefaultRedisCommandsMetadata} for a {@link Class command interface}. Instances are cached per command
+     * interface and shared across {@link RedisCommandFactory} instances.
+     *
+     * @param apiInterface must not be {@literal null}.
+     * @return the {@link DefaultRedisCommandsMetadata} for {@code apiInterface}.
+     */
+    static DefaultRedisCommandsMetadata of(Class<?> apiInterface) {
+
+        LettuceAssert.notNull(apiInterface, "Command interface must not be null");
+
+        return CACHE.get(apiInterface);
+    }
+
     @Override
     public Class<?> getCommandsInterface() {
         return apiInterface;
@@ -55,6 +82,27 @@ class DefaultRedisCommandsMetadata implements RedisCommandsMetadata {
     @Override
     public Collection<Method> getMethods() {
 
+        Collection<Method> methods = this.methods;
+
+        if (methods == null) {
+            this.methods = methods = resolveMethods();
+        }
+
+        return methods;
+    }
+
+    /**
+     * Return the {@link CommandMethod} for a command {@link Method}.
+     *
+     * @param method must not be {@literal null}.
+     * @return the {@link CommandMethod}.
+     */
+    CommandMethod getCommandMethod(Method method) {
+        return commandMethods.computeIfAbsent(method, DeclaredCommandMethod::create);
+    }
+
+    private Collection<Method> resolveMethods() {
+
         Set<Method> result = new HashSet<Method>();
 
         for (Method method : getCommandsInterface().getMethods()) {
@@ -0,0 +1,299 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.dynamic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import io.lettuce.core.dynamic.CodecAwareMethodParametersAccessor.TypeContext;
+import io.lettuce.core.dynamic.parameter.MethodParametersAccessor;
+import io.lettuce.core.dynamic.parameter.Parameter;
+import io.lettuce.core.dynamic.parameter.Parameters;
+import io.lettuce.core.dynamic.segment.CommandSegment;
+import io.lettuce.core.dynamic.segment.CommandSegment.ArgumentContribution;
+import io.lettuce.core.dynamic.segment.CommandSegments;
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Precomputed binding plan of a {@link CommandMethod}. Resolves {@link CommandSegments} to parameter indexes, bindable
+ * parameters to method argument positions and declared key/value hints once when the command method is resolved. Binding
+ * an invocation uses the precomputed plan and does not inspect {@link Parameter}s, resolve parameter names or allocate
+ * per-segment contributions.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see ParameterBinder#bind(io.lettuce.core.protocol.CommandArgs, io.lettuce.core.codec.RedisCodec, MethodParametersBinding,
+ *      Object[])
+ */
+class MethodParametersBinding {
+
+    /**
+     * Segment index marker for constant segments.
+     */
+    static final int CONSTANT = -1;
+
+    private final int[] segmentIndexes;
+    private final String[] segmentConstants;
+    private final int[] remainingIndexes;
+    private final int[] argumentIndexes;
+    private final boolean[] declaredKeys;
+    private final boolean[] declaredValues;
+    private final boolean[] bindableNullValues;
+    private final String[] names;
+    private final Class<?> keyType;
+    private final Class<?> valueType;
+
+    private MethodParametersBinding(int[] segmentIndexes, String[] segmentConstants, int[] remainingIndexes,
+            Parameters<? extends Parameter> parameters, TypeContext typeContext) {
+
+        this.segmentIndexes = segmentIndexes;
+        this.segmentConstants = segmentConstants;
+        this.remainingIndexes = remainingIndexes;
+
+        DefaultMethodParametersAccessor accessor = new DefaultMethodParametersAccessor(parameters,
+                new Object[parameters.getParameters().size()]);
+        List<? extends Parameter> bindableParameters = parameters.getBindableParameters();
+        int count = bindableParameters.size();
+
+        this.argumentIndexes = new int[count];
+        this.declaredKeys = new boolean[count];
+        this.declaredValues = new boolean[count];
+        this.bindableNullValues = new boolean[count];
+        this.names = new String[count];
+
+        for (int i = 0; i < count; i++) {
+
+            Parameter parameter = bindableParameters.get(i);
+
+            this.argumentIndexes[i] = parameter.getParameterIndex();
+            this.declaredKeys[i] = accessor.isKey(i);
+            this.declaredValues[i] = accessor.isValue(i);
+            this.bindableNullValues[i] = accessor.isBindableNullValue(i);
+            this.names[i] = parameter.getName();
+        }
+
+        this.keyType = typeContext.keyType != null ? typeContext.keyType.getType() : null;
+        this.valueType = typeContext.valueType != null ? typeContext.valueType.getType() : null;
+    }
+
+    /**
+     * Create a {@link MethodParametersBinding} for {@link CommandSegments} and {@link Parameters}.
+     *
+     * @param segments must not be {@literal null}.
+     * @param parameters must not be {@literal null}.
+     * @param typeContext must not be {@literal null}.
+     * @return the {@link MethodParametersBinding} or {@literal null} if the segments cannot be resolved upfront, e.g. because
+     *         a segment refers to an unknown parameter name.
+     */
+    static MethodParametersBinding create(CommandSegments segments, Parameters<? extends Parameter> parameters,
+            TypeContext typeContext) {
+
+        LettuceAssert.notNull(segments, "CommandSegments must not be null");
+        LettuceAssert.notNull(parameters, "Parameters must not be null");
+        LettuceAssert.notNull(typeContext, "TypeContext must not be null");
+
+        ProbingAccessor probe = new ProbingAccessor(parameters);
+
+        int[] segmentIndexes = new int[segments.size()];
+        String[] segmentConstants = new String[segments.size()];
+        boolean[] consumed = new boolean[probe.getParameterCount()];
+
+        int segmentIndex = 0;
+        for (CommandSegment segment : segments) {
+
+            ArgumentContribution contribution;
+            try {
+                contribution = segment.contribute(probe);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+
+            int parameterIndex = contribution.getParameterIndex();
+
+            if (parameterIndex == CONSTANT) {
+
+                if (!(contribution.getValue() instanceof String)) {
+                    return null;
+                }
+
+                segmentConstants[segmentIndex] = (String) contribution.getValue();
+            } else {
+
+                if (contribution.getValue() != probe.marker(parameterIndex)) {
+                    return null;
+                }
+
+                consumed[parameterIndex] = true;
+            }
+
+            segmentIndexes[segmentIndex++] = parameterIndex;
+        }
+
+        List<Integer> remaining = new ArrayList<>(consumed.length);
+        for (int i = 0; i < consumed.length; i++) {
+            if (!consumed[i]) {
+                remaining.add(i);
+            }
+        }
+
+        return new MethodParametersBinding(segmentIndexes, segmentConstants,
+                remaining.stream().mapToInt(Integer::intValue).toArray(), parameters, typeContext);
+    }
+
+    /**
+     * @return the number of command segments.
+     */
+    int getSegmentCount() {
+        return segmentIndexes.length;
+    }
+
+    /**
+     * @param segment the segment index.
+     * @return the bindable parameter index of the segment or {@link #CONSTANT} if the segment is a constant.
+     */
+    int getSegmentParameterIndex(int segment) {
+        return segmentIndexes[segment];
+    }
+
+    /**
+     * @param segment the segment index.
+     * @return the constant of the segment.
+     */
+    String getSegmentConstant(int segment) {
+        return segmentConstants[segment];
+    }
+
+    /**
+     * @return bindable parameter indexes that are not consumed by a command segment in their declaration order.
+     */
+    int[] getRemainingParameterIndexes() {
+        return remainingIndexes;
+    }
+
+    /**
+     * Create a {@link MethodParametersAccessor} for the invocation {@code arguments}.
+     *
+     * @param arguments the method invocation arguments.
+     * @return the {@link MethodParametersAccessor}.
+     */
+    MethodParametersAccessor accessor(Object[] arguments) {
+        return new Accessor(arguments);
+    }
+
+    /**
+     * Codec-aware {@link MethodParametersAccessor} using the precomputed parameter metadata.
+     */
+    class Accessor implements MethodParametersAccessor {
+
+        private final Object[] arguments;
+
+        Accessor(Object[] arguments) {
+            this.arguments = arguments;
+        }
+
+        @Override
+        public int getParameterCount() {
+            return argumentIndexes.length;
+        }
+
+        @Override
+        public Object getBindableValue(int index) {
+            return arguments[argumentIndexes[index]];
+        }
+
+        @Override
+        public boolean isKey(int index) {
+
+            if (declaredValues[index]) {
+                return false;
+            }
+
+            return declaredKeys[index] || isInstance(keyType, getBindableValue(index));
+        }
+
+        @Override
+        public boolean isValue(int index) {
+
+            if (declaredKeys[index]) {
+                return false;
+            }
+
+            return declaredValues[index] || isInstance(valueType, getBindableValue(index));
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+
+            Object[] values = new Object[argumentIndexes.length];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = getBindableValue(i);
+            }
+
+            return Arrays.asList(values).iterator();
+        }
+
+        @Override
+        public int resolveParameterIndex(String name) {
+
+            for (int i = 0; i < names.length; i++) {
+                if (name.equals(names[i])) {
+                    return i;
+                }
+            }
+
+            throw new IllegalArgumentException(String.format("Cannot resolve named parameter %s", name));
+        }
+
+        @Override
+        public boolean isBindableNullValue(int index) {
+            return bindableNullValues[index];
+        }
+
+        private boolean isInstance(Class<?> type, Object value) {
+            return type != null && value != null && type.isAssignableFrom(value.getClass());
+        }
+    }
+
+    /**
+     * {@link MethodParametersAccessor} returning a unique marker per bindable parameter to determine which parameter a
+     * {@link CommandSegment} consumes.
+     */
+    static class ProbingAccessor extends DefaultMethodParametersAccessor {
+
+        private final Object[] markers;
+
+        ProbingAccessor(Parameters<? extends Parameter> parameters) {
+
+            super(parameters, new Object[parameters.getParameters().size()]);
+
+            this.markers = new Object[getParameterCount()];
+            for (int i = 0; i < markers.length; i++) {
+                markers[i] = new Object();
+            }
+        }
+
+        Object marker(int index) {
+            return index >= 0 && index < markers.length ? markers[index] : null;
+        }
+
+        @Override
+        public Object getBindableValue(int index) {
+            return marker(index);
+        }
+    }
+}
@@ -82,6 +82,38 @@ class ParameterBinder {
         return args;
     }
 
+    /**
+     * Bind method parameters to {@link CommandArgs} using a precomputed {@link MethodParametersBinding}.
+     *
+     * @param args the command arguments.
+     * @param codec the codec.
+     * @param binding the precomputed binding plan.
+     * @param arguments the method invocation arguments.
+     * @return
+     */
+    <K, V> CommandArgs<K, V> bind(CommandArgs<K, V> args, RedisCodec<K, V> codec, MethodParametersBinding binding,
+            Object[] arguments) {
+
+        MethodParametersAccessor accessor = binding.accessor(arguments);
+
+        for (int i = 0; i < binding.getSegmentCount(); i++) {
+
+            int parameterIndex = binding.getSegmentParameterIndex(i);
+
+            if (parameterIndex == MethodParametersBinding.CONSTANT) {
+                bind(args, codec, binding.getSegmentConstant(i), parameterIndex, accessor);
+            } else {
+                bind(args, codec, accessor.getBindableValue(parameterIndex), parameterIndex, accessor);
+            }
+        }
+
+        for (int parameterIndex : binding.getRemainingParameterIndexes()) {
+            bind(args, codec, accessor.getBindableValue(parameterIndex), parameterIndex, accessor);
+        }
+
+        return args;
+    }
+
     /*
      * Bind key/value/byte[] arguments. Other arguments are unwound, if applicable, and bound according to their type.
      */
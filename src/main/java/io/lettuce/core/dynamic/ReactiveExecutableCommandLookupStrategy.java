@@ -32,8 +32,13 @@ import io.lettuce.core.internal.LettuceAssert;
  */
 class ReactiveExecutableCommandLookupStrategy implements ExecutableCommandLookupStrategy {
 
+    private static final ConversionService CONVERSION_SERVICE = new ConversionService();
+
+    static {
+        ReactiveTypeAdapters.registerIn(CONVERSION_SERVICE);
+    }
+
     private final AbstractRedisReactiveCommands<Object, Object> redisReactiveCommands;
-    private final ConversionService conversionService = new ConversionService();
     private final List<RedisCodec<?, ?>> redisCodecs;
     private final CommandOutputFactoryResolver outputFactoryResolver;
     private final ReactiveCommandFactoryResolver commandFactoryResolver;
@@ -47,8 +52,6 @@ class ReactiveExecutableCommandLookupStrategy implements ExecutableCommandLookup
         this.redisCodecs = redisCodecs;
         this.outputFactoryResolver = outputFactoryResolver;
         this.commandMethodVerifier = commandMethodVerifier;
-
-        ReactiveTypeAdapters.registerIn(this.conversionService);
         this.commandFactoryResolver = new ReactiveCommandFactoryResolver();
     }
 
@@ -64,7 +67,7 @@ class ReactiveExecutableCommandLookupStrategy implements ExecutableCommandLookup
         ReactiveCommandSegmentCommandFactory commandFactory = commandFactoryResolver.resolveRedisCommandFactory(method,
                 commandsMetadata);
 
-        return new ConvertingCommand(conversionService, new ReactiveExecutableCommand(method, commandFactory,
+        return new ConvertingCommand(CONVERSION_SERVICE, new ReactiveExecutableCommand(method, commandFactory,
                 redisReactiveCommands));
     }
 
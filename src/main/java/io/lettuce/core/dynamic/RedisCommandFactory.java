@@ -16,6 +16,7 @@
 package io.lettuce.core.dynamic;
 
 import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
 import java.util.*;
 
 import io.lettuce.core.AbstractRedisReactiveCommands;
@@ -89,13 +90,24 @@ import io.netty.util.internal.logging.InternalLoggerFactory;
  */
 public class RedisCommandFactory {
 
-    private final InternalLogger log = InternalLoggerFactory.getInstance(getClass());
+    private static final InternalLogger log = InternalLoggerFactory.getInstance(RedisCommandFactory.class);
+
+    /**
+     * Command metadata per connection. Weakly keyed to not retain closed connections. The map is locked only to look up or
+     * register a pending load. {@code COMMAND} runs outside of the lock.
+     */
+    private static final Map<StatefulConnection<?, ?>, CompletableFuture<List<CommandDetail>>> COMMAND_DETAILS = Collections
+            .synchronizedMap(new WeakHashMap<>());
+
+    private static final CommandOutputFactoryResolver DEFAULT_OUTPUT_RESOLVER = new OutputRegistryCommandOutputFactoryResolver(
+            new OutputRegistry());
+
     private final StatefulConnection<?, ?> connection;
-    private final DefaultCommandMethodVerifier commandMethodVerifier;
     private final List<RedisCodec<?, ?>> redisCodecs = new ArrayList<>();
 
-    private CommandOutputFactoryResolver commandOutputFactoryResolver = new OutputRegistryCommandOutputFactoryResolver(
-            new OutputRegistry());
+    private volatile CommandMethodVerifier commandMethodVerifier;
+
+    private CommandOutputFactoryResolver commandOutputFactoryResolver = DEFAULT_OUTPUT_RESOLVER;
 
     private boolean verifyCommandMethods = true;
 
@@ -121,11 +133,74 @@ public class RedisCommandFactory {
 
         this.connection = connection;
         this.redisCodecs.addAll(LettuceLists.newList(redisCodecs));
-        this.commandMethodVerifier = new DefaultCommandMethodVerifier(getCommands(connection));
+    }
+
+    /**
+     * Obtain the {@link CommandMethodVerifier}. Command metadata is loaded lazily on first use and cached per connection so
+     * that factories created for the same connection issue {@code COMMAND} only once.
+     *
+     * @return the {@link CommandMethodVerifier}.
+     */
+    private CommandMethodVerifier getCommandMethodVerifier() {
+
+        if (!verifyCommandMethods) {
+            return CommandMethodVerifier.NONE;
+        }
+
+        CommandMethodVerifier verifier = this.commandMethodVerifier;
+
+        if (verifier == null) {
+
+            List<CommandDetail> commandDetails = getCommandDetails(connection);
+
+            if (commandDetails.isEmpty()) {
+                setVerifyCommandMethods(false);
+                return CommandMethodVerifier.NONE;
+            }
+
+            this.commandMethodVerifier = verifier = new DefaultCommandMethodVerifier(commandDetails);
+        }
+
+        return verifier;
+    }
+
+    /**
+     * Obtain command metadata for {@code connection}. Concurrent callers for the same connection await a single
+     * {@code COMMAND} invocation. Empty results (e.g. {@code COMMAND} failed) are not cached so that a later factory retries
+     * loading the metadata.
+     *
+     * @param connection the connection.
+     * @return the command metadata, empty if not available.
+     */
+    private static List<CommandDetail> getCommandDetails(StatefulConnection<?, ?> connection) {
+
+        CompletableFuture<List<CommandDetail>> load = new CompletableFuture<>();
+        CompletableFuture<List<CommandDetail>> existing = COMMAND_DETAILS.putIfAbsent(connection, load);
+
+        if (existing != null) {
+            return existing.join();
+        }
+
+        try {
+
+            List<CommandDetail> details = getCommands(connection);
+
+            if (details.isEmpty()) {
+                COMMAND_DETAILS.remove(connection, load);
+            }
+
+            load.complete(details);
+            return details;
+        } catch (RuntimeException e) {
+
+            COMMAND_DETAILS.remove(connection, load);
+            load.completeExceptionally(e);
+            throw e;
+        }
     }
 
     @SuppressWarnings("unchecked")
-    private List<CommandDetail> getCommands(StatefulConnection<?, ?> connection) {
+    private static List<CommandDetail> getCommands(StatefulConnection<?, ?> connection) {
 
         List<Object> commands = Collections.emptyList();
         try {
@@ -140,10 +215,6 @@ public class RedisCommandFactory {
             log.debug("Cannot obtain command metadata", e);
         }
 
-        if (commands.isEmpty()) {
-            setVerifyCommandMethods(false);
-        }
-
         return CommandDetailParser.parse(commands);
     }
 
@@ -161,6 +232,7 @@ public class RedisCommandFactory {
 
     /**
      * Enables/disables command verification which checks the command name against Redis {@code COMMAND} and the argument count.
+     * Command metadata is obtained lazily when creating the first command interface with verification enabled.
      *
      * @param verifyCommandMethods {@literal true} to enable command verification (default) or {@literal false} to disable
      *        command verification.
@@ -180,7 +252,7 @@ public class RedisCommandFactory {
 
         LettuceAssert.notNull(commandInterface, "Redis Command Interface must not be null");
 
-        RedisCommandsMetadata metadata = new DefaultRedisCommandsMetadata(commandInterface);
+        DefaultRedisCommandsMetadata metadata = DefaultRedisCommandsMetadata.of(commandInterface);
 
         InvocationProxyFactory factory = new InvocationProxyFactory();
         factory.addInterface(commandInterface);
@@ -204,13 +276,13 @@ public class RedisCommandFactory {
 
         private final Map<Method, ExecutableCommand> commandMethods = new HashMap<>();
 
-        CommandFactoryExecutorMethodInterceptor(RedisCommandsMetadata redisCommandsMetadata,
+        CommandFactoryExecutorMethodInterceptor(DefaultRedisCommandsMetadata redisCommandsMetadata,
                 ExecutableCommandLookupStrategy strategy) {
 
             for (Method method : redisCommandsMetadata.getMethods()) {
 
-                ExecutableCommand executableCommand = strategy.resolveCommandMethod(DeclaredCommandMethod.create(method),
-                        redisCommandsMetadata);
+                ExecutableCommand executableCommand = strategy
+                        .resolveCommandMethod(redisCommandsMetadata.getCommandMethod(method), redisCommandsMetadata);
                 commandMethods.put(method, executableCommand);
             }
         }
@@ -218,21 +290,14 @@ public class RedisCommandFactory {
         @Override
         public Object invoke(MethodInvocation invocation) throws Throwable {
 
-            Method method = invocation.getMethod();
-            Object[] arguments = invocation.getArguments();
-
-            if (hasFactoryFor(method)) {
+            ExecutableCommand executableCommand = commandMethods.get(invocation.getMethod());
 
-                ExecutableCommand executableCommand = commandMethods.get(method);
-                return executableCommand.execute(arguments);
+            if (executableCommand != null) {
+                return executableCommand.execute(invocation.getArguments());
             }
 
             return invocation.proceed();
         }
-
-        private boolean hasFactoryFor(Method method) {
-            return commandMethods.containsKey(method);
-        }
     }
 
     @SuppressWarnings({ "rawtypes", "unchecked" })
@@ -243,7 +308,7 @@ public class RedisCommandFactory {
 
         CompositeCommandLookupStrategy() {
 
-            CommandMethodVerifier verifier = verifyCommandMethods ? commandMethodVerifier : CommandMethodVerifier.NONE;
+            CommandMethodVerifier verifier = getCommandMethodVerifier();
 
             AbstractRedisReactiveCommands reactive = null;
             if (connection instanceof StatefulRedisConnection) {
@@ -281,6 +346,8 @@ public class RedisCommandFactory {
         private final boolean globalBatching;
         private final CommandMethodVerifier verifier;
         private final long batchSize;
+        private final long maxBytes;
+        private final long lingerMillis;
 
         private Batcher batcher = Batcher.NONE;
         private BatchExecutableCommandLookupStrategy batchingStrategy;
@@ -288,7 +355,7 @@ public class RedisCommandFactory {
         public BatchAwareCommandLookupStrategy(ExecutableCommandLookupStrategy fallbackStrategy, RedisCommandsMetadata metadata) {
 
             this.fallbackStrategy = fallbackStrategy;
-            this.verifier = verifyCommandMethods ? commandMethodVerifier : CommandMethodVerifier.NONE;
+            this.verifier = getCommandMethodVerifier();
 
             if (metadata.hasAnnotation(BatchSize.class)) {
 
@@ -296,11 +363,15 @@ public class RedisCommandFactory {
 
                 this.globalBatching = true;
                 this.batchSize = batchSize.value();
+                this.maxBytes = batchSize.maxBytes();
+                this.lingerMillis = batchSize.lingerMillis();
 
             } else {
 
                 this.globalBatching = false;
                 this.batchSize = -1;
+                this.maxBytes = 0;
+                this.lingerMillis = 0;
             }
         }
 
@@ -310,7 +381,7 @@ public class RedisCommandFactory {
             if (BatchExecutableCommandLookupStrategy.supports(method) || globalBatching) {
 
                 if (batcher == Batcher.NONE) {
-                    batcher = new SimpleBatcher((StatefulConnection) connection, Math.toIntExact(batchSize));
+                    batcher = createBatcher();
                     batchingStrategy = new BatchExecutableCommandLookupStrategy(redisCodecs, commandOutputFactoryResolver,
                             verifier, batcher, (StatefulConnection) connection);
                 }
@@ -320,5 +391,15 @@ public class RedisCommandFactory {
 
             return fallbackStrategy.resolveCommandMethod(method, metadata);
         }
+
+        @SuppressWarnings("unchecked")
+        private Batcher createBatcher() {
+
+            if (maxBytes > 0 || lingerMillis > 0) {
+                return new BoundedBatcher((StatefulConnection) connection, Math.toIntExact(batchSize), maxBytes, lingerMillis);
+            }
+
+            return new SimpleBatcher((StatefulConnection) connection, Math.toIntExact(batchSize));
+        }
     }
 }
@@ -44,7 +44,13 @@ import java.lang.annotation.*;
  * <p>
  * Alternatively, a command interface can implement {@link BatchExecutor} to {@link BatchExecutor#flush()} commands before the
  * batch size is reached. Commands remain in a batch queue until the batch size is reached or the queue is
- * {@link BatchExecutor#flush() flushed}. If the batch size is not reached, commands remain not executed.
+ * {@link BatchExecutor#flush() flushed}. If the batch size is not reached, commands remain not executed unless a
+ * {@link #lingerMillis() linger time} is configured.
+ * <p>
+ * Batches can be additionally bounded by a {@link #lingerMillis() linger time} and an estimated {@link #maxBytes() size in
+ * bytes}. The linger time limits how long commands remain queued: commands are flushed on the event executor of the
+ * connection's {@link io.lettuce.core.resource.ClientResources} once the linger time expires. The byte size flushes the queue
+ * once the estimated size of the queued commands reaches {@link #maxBytes()}.
  * <p>
  * Batching command interfaces are thread-safe and can be shared amongst multiple threads.
  *
@@ -64,4 +70,22 @@ public @interface BatchSize {
      * @return a positive, non-zero number of commands.
      */
     int value();
+
+    /**
+     * Declares the maximum time in milliseconds commands remain in the batch queue before they are flushed. The linger time
+     * applies to all queued commands including commands enqueued with {@link CommandBatching#queue()}.
+     *
+     * @return the linger time in milliseconds. Zero or a negative value (default) disables time-bounded flushing.
+     * @since 5.2
+     */
+    long lingerMillis() default 0;
+
+    /**
+     * Declares the maximum estimated number of bytes of queued commands. The batch queue is flushed once the estimated size of
+     * queued commands reaches this limit.
+     *
+     * @return the maximum number of bytes. Zero or a negative value (default) disables size-bounded flushing.
+     * @since 5.2
+     */
+    long maxBytes() default 0;
 }
@@ -106,16 +106,11 @@ public class AnnotationRedisCodecResolver implements RedisCodecResolver {
         return voted;
     }
 
-    @SuppressWarnings("rawtypes")
     private static void vote(List<Voted<RedisCodec<?, ?>>> votes, Parameter parameter) {
 
         for (Voted<RedisCodec<?, ?>> vote : votes) {
 
-            ClassTypeInformation<? extends RedisCodec> typeInformation = ClassTypeInformation.from(vote.subject.getClass());
-
-            TypeInformation<?> superTypeInformation = typeInformation.getSuperTypeInformation(RedisCodec.class);
-
-            List<TypeInformation<?>> typeArguments = superTypeInformation.getTypeArguments();
+            List<TypeInformation<?>> typeArguments = RedisCodecTypes.getTypeArguments(vote.subject);
 
             if (typeArguments.size() != 2) {
                 continue;
@@ -145,9 +140,8 @@ public class AnnotationRedisCodecResolver implements RedisCodecResolver {
 
         for (RedisCodec<?, ?> codec : codecs) {
 
-            ClassTypeInformation<?> typeInformation = ClassTypeInformation.from(codec.getClass());
-            TypeInformation<?> keyTypeArgument = typeInformation.getTypeArgument(RedisCodec.class, 0);
-            TypeInformation<?> valueTypeArgument = typeInformation.getTypeArgument(RedisCodec.class, 1);
+            TypeInformation<?> keyTypeArgument = RedisCodecTypes.getKeyType(codec);
+            TypeInformation<?> valueTypeArgument = RedisCodecTypes.getValueType(codec);
 
             if (keyTypeArgument == null || valueTypeArgument == null) {
                 continue;
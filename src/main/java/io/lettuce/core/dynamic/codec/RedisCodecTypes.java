@@ -0,0 +1,116 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.dynamic.codec;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.TypedCodec;
+import io.lettuce.core.dynamic.support.ClassTypeInformation;
+import io.lettuce.core.dynamic.support.TypeInformation;
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Utility to determine key and value types of a {@link RedisCodec}. Types are resolved from the generic declaration of the
+ * codec class and cached per codec class. Codecs implementing {@link TypedCodec} declare their types at runtime.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public final class RedisCodecTypes {
+
+    private static final ClassValue<CodecTypes> CACHE = new ClassValue<CodecTypes>() {
+
+        @Override
+        protected CodecTypes computeValue(Class<?> type) {
+            return new CodecTypes(ClassTypeInformation.from(type));
+        }
+    };
+
+    private RedisCodecTypes() {
+    }
+
+    /**
+     * Resolve the key type of a {@link RedisCodec}.
+     *
+     * @param codec must not be {@literal null}.
+     * @return the key type or {@literal null} if not resolvable.
+     */
+    public static TypeInformation<?> getKeyType(RedisCodec<?, ?> codec) {
+
+        LettuceAssert.notNull(codec, "RedisCodec must not be null");
+
+        if (codec instanceof TypedCodec) {
+            return ClassTypeInformation.from(((TypedCodec<?, ?>) codec).getKeyType());
+        }
+
+        return CACHE.get(codec.getClass()).keyType;
+    }
+
+    /**
+     * Resolve the value type of a {@link RedisCodec}.
+     *
+     * @param codec must not be {@literal null}.
+     * @return the value type or {@literal null} if not resolvable.
+     */
+    public static TypeInformation<?> getValueType(RedisCodec<?, ?> codec) {
+
+        LettuceAssert.notNull(codec, "RedisCodec must not be null");
+
+        if (codec instanceof TypedCodec) {
+            return ClassTypeInformation.from(((TypedCodec<?, ?>) codec).getValueType());
+        }
+
+        return CACHE.get(codec.getClass()).valueType;
+    }
+
+    /**
+     * Resolve the type arguments of the {@link RedisCodec} interface as declared by the codec.
+     *
+     * @param codec must not be {@literal null}.
+     * @return the key and value type arguments.
+     */
+    public static List<TypeInformation<?>> getTypeArguments(RedisCodec<?, ?> codec) {
+
+        LettuceAssert.notNull(codec, "RedisCodec must not be null");
+
+        if (codec instanceof TypedCodec) {
+            return Arrays.asList(getKeyType(codec), getValueType(codec));
+        }
+
+        return CACHE.get(codec.getClass()).typeArguments;
+    }
+
+    /**
+     * Key and value types declared by a {@link RedisCodec} class.
+     */
+    static class CodecTypes {
+
+        final TypeInformation<?> keyType;
+        final TypeInformation<?> valueType;
+        final List<TypeInformation<?>> typeArguments;
+
+        CodecTypes(ClassTypeInformation<?> codecType) {
+
+            this.keyType = codecType.getTypeArgument(RedisCodec.class, 0);
+            this.valueType = codecType.getTypeArgument(RedisCodec.class, 1);
+            this.typeArguments = Collections.unmodifiableList(codecType.getSuperTypeInformation(RedisCodec.class)
+                    .getTypeArguments());
+        }
+    }
+}
@@ -20,8 +20,10 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.dynamic.codec.RedisCodecTypes;
 import io.lettuce.core.dynamic.support.ClassTypeInformation;
 import io.lettuce.core.dynamic.support.ResolvableType;
 import io.lettuce.core.dynamic.support.TypeInformation;
@@ -50,20 +52,25 @@ public class OutputRegistry {
         register(registry, DoubleOutput.class, DoubleOutput::new);
         register(registry, ByteArrayOutput.class, ByteArrayOutput::new);
         register(registry, IntegerOutput.class, IntegerOutput::new);
+        register(registry, LongArrayOutput.class, LongArrayOutput::new);
 
         register(registry, KeyOutput.class, KeyOutput::new);
         register(registry, ValueOutput.class, ValueOutput::new);
         register(registry, KeyListOutput.class, KeyListOutput::new);
         register(registry, ValueListOutput.class, ValueListOutput::new);
+        register(registry, LazyValueListOutput.class, LazyValueListOutput::new);
         register(registry, MapOutput.class, MapOutput::new);
+        register(registry, LazyKeyValueMapOutput.class, LazyKeyValueMapOutput::new);
 
         register(registry, ValueSetOutput.class, ValueSetOutput::new);
 
         register(registry, BooleanOutput.class, BooleanOutput::new);
         register(registry, BooleanListOutput.class, BooleanListOutput::new);
+        register(registry, BitSetOutput.class, BitSetOutput::new);
         register(registry, GeoCoordinatesListOutput.class, GeoCoordinatesListOutput::new);
         register(registry, GeoCoordinatesValueListOutput.class, GeoCoordinatesValueListOutput::new);
         register(registry, ScoredValueListOutput.class, ScoredValueListOutput::new);
+        register(registry, ScoredValueArrayOutput.class, ScoredValueArrayOutput::new);
         register(registry, ValueValueListOutput.class, ValueValueListOutput::new);
         register(registry, StringValueListOutput.class, StringValueListOutput::new);
 
@@ -162,15 +169,13 @@ public class OutputRegistry {
 
         List<TypeInformation<?>> typeArguments = superTypeInformation.getTypeArguments();
 
-        return new OutputType(commandOutputClass, typeArguments.get(0), true) {
+        return new CodecAwareOutputType(commandOutputClass, typeArguments.get(0), true) {
 
             @Override
-            public ResolvableType withCodec(RedisCodec<?, ?> codec) {
+            ResolvableType resolve(RedisCodec<?, ?> codec) {
 
-                TypeInformation<?> typeInformation = ClassTypeInformation.from(codec.getClass());
-
-                ResolvableType resolvableType = ResolvableType.forType(commandOutputClass, new CodecVariableTypeResolver(
-                        typeInformation));
+                ResolvableType resolvableType = ResolvableType.forType(commandOutputClass,
+                        new CodecVariableTypeResolver(codec));
 
                 while (resolvableType != ResolvableType.NONE) {
 
@@ -208,14 +213,13 @@ public class OutputRegistry {
 
         List<TypeInformation<?>> typeArguments = superTypeInformation.getTypeArguments();
 
-        return new OutputType(commandOutputClass, typeArguments.get(2), false) {
-            @Override
-            public ResolvableType withCodec(RedisCodec<?, ?> codec) {
+        return new CodecAwareOutputType(commandOutputClass, typeArguments.get(2), false) {
 
-                TypeInformation<?> typeInformation = ClassTypeInformation.from(codec.getClass());
+            @Override
+            ResolvableType resolve(RedisCodec<?, ?> codec) {
 
-                ResolvableType resolvableType = ResolvableType.forType(commandOutputClass, new CodecVariableTypeResolver(
-                        typeInformation));
+                ResolvableType resolvableType = ResolvableType.forType(commandOutputClass,
+                        new CodecVariableTypeResolver(codec));
 
                 while (!resolvableType.getRawClass().equals(CommandOutput.class)) {
                     resolvableType = resolvableType.getSuperType();
@@ -226,21 +230,53 @@ public class OutputRegistry {
         };
     }
 
+    /**
+     * {@link OutputType} resolving its produced type against the key and value types of a {@link RedisCodec}. Resolved types
+     * are cached per codec key and value type.
+     */
+    @SuppressWarnings("rawtypes")
+    abstract static class CodecAwareOutputType extends OutputType {
+
+        private final Map<List<TypeInformation<?>>, ResolvableType> resolvedTypes = new ConcurrentHashMap<>();
+
+        CodecAwareOutputType(Class<? extends CommandOutput> commandOutputClass, TypeInformation<?> typeInformation,
+                boolean streaming) {
+            super(commandOutputClass, typeInformation, streaming);
+        }
+
+        @Override
+        public ResolvableType withCodec(RedisCodec<?, ?> codec) {
+
+            List<TypeInformation<?>> typeArguments = RedisCodecTypes.getTypeArguments(codec);
+            ResolvableType resolvableType = resolvedTypes.get(typeArguments);
+
+            if (resolvableType == null) {
+
+                resolvableType = resolve(codec);
+                resolvedTypes.put(typeArguments, resolvableType);
+            }
+
+            return resolvableType;
+        }
+
+        abstract ResolvableType resolve(RedisCodec<?, ?> codec);
+    }
+
     @SuppressWarnings("serial")
     static class CodecVariableTypeResolver implements ResolvableType.VariableResolver {
 
-        private final TypeInformation<?> codecType;
+        private final RedisCodec<?, ?> codec;
         private final List<TypeInformation<?>> typeArguments;
 
-        public CodecVariableTypeResolver(TypeInformation<?> codecType) {
+        public CodecVariableTypeResolver(RedisCodec<?, ?> codec) {
 
-            this.codecType = codecType.getSuperTypeInformation(RedisCodec.class);
-            this.typeArguments = this.codecType.getTypeArguments();
+            this.codec = codec;
+            this.typeArguments = RedisCodecTypes.getTypeArguments(codec);
         }
 
         @Override
         public Object getSource() {
-            return codecType;
+            return codec;
         }
 
         @Override
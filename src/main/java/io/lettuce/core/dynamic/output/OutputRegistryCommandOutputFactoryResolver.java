@@ -18,9 +18,14 @@ package io.lettuce.core.dynamic.output;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+import io.lettuce.core.dynamic.codec.RedisCodecTypes;
 import io.lettuce.core.dynamic.support.ClassTypeInformation;
+import io.lettuce.core.dynamic.support.ResolvableType;
+import io.lettuce.core.dynamic.support.TypeInformation;
 import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.output.CommandOutput;
 
@@ -28,7 +33,8 @@ import io.lettuce.core.output.CommandOutput;
  * {@link CommandOutputFactoryResolver} using {@link OutputRegistry} to resolve a {@link CommandOutputFactory}.
  * <p>
  * Types registered in {@link OutputRegistry} are inspected for the types they produce and matched with the declared repository
- * method. If resolution yields multiple {@link CommandOutput}s, the first matched output is used.
+ * method. If resolution yields multiple {@link CommandOutput}s, the first matched output is used. Resolution results are cached
+ * per output type and codec key/value types until further outputs are registered.
  *
  * @author Mark Paluch
  * @since 5.0
@@ -40,7 +46,11 @@ public class OutputRegistryCommandOutputFactoryResolver extends CommandOutputRes
     @SuppressWarnings("rawtypes")
     private static final ClassTypeInformation<CommandOutput> COMMAND_OUTPUT = ClassTypeInformation.from(CommandOutput.class);
 
+    private static final Object NONE = new Object();
+
     private final OutputRegistry outputRegistry;
+    private final Map<CacheKey, Object> cache = new ConcurrentHashMap<>();
+    private volatile int registrySize;
 
     /**
      * Create a new {@link OutputRegistryCommandOutputFactoryResolver} given {@link OutputRegistry}.
@@ -56,6 +66,39 @@ public class OutputRegistryCommandOutputFactoryResolver extends CommandOutputRes
 
     @Override
     public CommandOutputFactory resolveCommandOutput(OutputSelector outputSelector) {
+        return getCached(outputSelector, false);
+    }
+
+    @Override
+    public CommandOutputFactory resolveStreamingCommandOutput(OutputSelector outputSelector) {
+        return getCached(outputSelector, true);
+    }
+
+    private CommandOutputFactory getCached(OutputSelector outputSelector, boolean streaming) {
+
+        int registrySize = outputRegistry.getRegistry().size();
+
+        if (this.registrySize != registrySize) {
+            cache.clear();
+            this.registrySize = registrySize;
+        }
+
+        CacheKey key = new CacheKey(outputSelector.getOutputType(), RedisCodecTypes.getTypeArguments(outputSelector
+                .getRedisCodec()), streaming);
+        Object factory = cache.get(key);
+
+        if (factory == null) {
+
+            CommandOutputFactory resolved = streaming ? doResolveStreamingCommandOutput(outputSelector)
+                    : doResolveCommandOutput(outputSelector);
+            factory = resolved != null ? resolved : NONE;
+            cache.put(key, factory);
+        }
+
+        return factory != NONE ? (CommandOutputFactory) factory : null;
+    }
+
+    private CommandOutputFactory doResolveCommandOutput(OutputSelector outputSelector) {
 
         Map<OutputType, CommandOutputFactory> registry = outputRegistry.getRegistry();
 
@@ -71,8 +114,7 @@ public class OutputRegistryCommandOutputFactoryResolver extends CommandOutputRes
         return registry.get(candidates.get(0));
     }
 
-    @Override
-    public CommandOutputFactory resolveStreamingCommandOutput(OutputSelector outputSelector) {
+    private CommandOutputFactory doResolveStreamingCommandOutput(OutputSelector outputSelector) {
 
         Map<OutputType, CommandOutputFactory> registry = outputRegistry.getRegistry();
 
@@ -101,4 +143,37 @@ public class OutputRegistryCommandOutputFactoryResolver extends CommandOutputRes
             return isAssignableFrom(outputSelector, outputType);
         }).collect(Collectors.toList());
     }
+
+    static class CacheKey {
+
+        private final ResolvableType outputType;
+        private final List<TypeInformation<?>> codecTypes;
+        private final boolean streaming;
+
+        CacheKey(ResolvableType outputType, List<TypeInformation<?>> codecTypes, boolean streaming) {
+            this.outputType = outputType;
+            this.codecTypes = codecTypes;
+            this.streaming = streaming;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+
+            CacheKey that = (CacheKey) o;
+            return streaming == that.streaming && outputType.equals(that.outputType) && codecTypes.equals(that.codecTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(outputType, codecTypes, streaming);
+        }
+    }
 }
@@ -769,6 +769,16 @@ public class ResolvableType implements Serializable {
         return true;
     }
 
+    @Override
+    public int hashCode() {
+
+        int hashCode = this.type != null ? this.type.hashCode() : 0;
+        if (this.componentType != null) {
+            hashCode = 31 * hashCode + this.componentType.hashCode();
+        }
+        return hashCode;
+    }
+
     /**
      * Adapts this {@link ResolvableType} to a {@link VariableResolver}.
      */
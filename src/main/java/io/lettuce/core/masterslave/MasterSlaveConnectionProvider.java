@@ -19,6 +19,8 @@ import static io.lettuce.core.masterslave.MasterSlaveUtils.findNodeByHostAndPort
 
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 
 import reactor.core.publisher.Flux;
@@ -52,9 +54,9 @@ public class MasterSlaveConnectionProvider<K, V> {
 
     private List<RedisNodeDescription> knownNodes = new ArrayList<>();
 
-    private boolean autoFlushCommands = true;
-    private final Object stateLock = new Object();
-    private ReadFrom readFrom;
+    private volatile boolean autoFlushCommands = true;
+    private final Lock stateLock = new ReentrantLock();
+    private volatile ReadFrom readFrom;
 
     MasterSlaveConnectionProvider(RedisClient redisClient, RedisCodec<K, V> redisCodec, RedisURI initialRedisUri,
             Map<RedisURI, StatefulRedisConnection<K, V>> initialConnections) {
@@ -253,9 +255,12 @@ public class MasterSlaveConnectionProvider<K, V> {
      */
     public void setAutoFlushCommands(boolean autoFlush) {
 
-        synchronized (stateLock) {
+        stateLock.lock();
+        try {
             this.autoFlushCommands = autoFlush;
             connectionProvider.forEach(connection -> connection.setAutoFlushCommands(autoFlush));
+        } finally {
+            stateLock.unlock();
         }
     }
 
@@ -274,12 +279,15 @@ public class MasterSlaveConnectionProvider<K, V> {
      * @param knownNodes
      */
     public void setKnownNodes(Collection<RedisNodeDescription> knownNodes) {
-        synchronized (stateLock) {
+        stateLock.lock();
+        try {
 
             this.knownNodes.clear();
             this.knownNodes.addAll(knownNodes);
 
             closeStaleConnections();
+        } finally {
+            stateLock.unlock();
         }
     }
 
@@ -287,15 +295,11 @@ public class MasterSlaveConnectionProvider<K, V> {
      * @return the current read-from setting.
      */
     public ReadFrom getReadFrom() {
-        synchronized (stateLock) {
-            return readFrom;
-        }
+        return readFrom;
     }
 
     public void setReadFrom(ReadFrom readFrom) {
-        synchronized (stateLock) {
-            this.readFrom = readFrom;
-        }
+        this.readFrom = readFrom;
     }
 
     public RedisNodeDescription getMaster() {
@@ -339,8 +343,11 @@ public class MasterSlaveConnectionProvider<K, V> {
                     builder.build());
 
             connectionFuture.thenAccept(connection -> {
-                synchronized (stateLock) {
+                stateLock.lock();
+                try {
                     connection.setAutoFlushCommands(autoFlushCommands);
+                } finally {
+                    stateLock.unlock();
                 }
             });
 
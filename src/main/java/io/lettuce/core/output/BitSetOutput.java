@@ -0,0 +1,78 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+
+import io.lettuce.core.codec.RedisCodec;
+
+/**
+ * {@link BitSet} output for boolean array replies. The bit at index {@code i} is set if the {@code i}-th element of the
+ * response is a non-zero integer. Elements are recorded without allocating a {@link Boolean} per element.
+ * <p>
+ * A {@link BitSet} does not retain the number of elements of the reply: trailing zero (or {@code false}) elements leave no
+ * trace and {@link BitSet#length()} only reports the index of the highest set bit plus one. Use {@link #getCount()} to
+ * obtain the number of elements of the reply.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public class BitSetOutput<K, V> extends CommandOutput<K, V, BitSet> {
+
+    private boolean initialized;
+    private int index;
+
+    public BitSetOutput(RedisCodec<K, V> codec) {
+        super(codec, new BitSet(0));
+    }
+
+    @Override
+    public void set(long integer) {
+
+        if (integer != 0) {
+            output.set(index);
+        }
+
+        index++;
+    }
+
+    @Override
+    public void set(ByteBuffer bytes) {
+        index++;
+    }
+
+    @Override
+    public void multi(int count) {
+
+        if (!initialized) {
+            output = new BitSet(count);
+            initialized = true;
+        }
+    }
+
+    /**
+     * Returns the number of elements of the array reply, including trailing zero elements that are not represented in the
+     * {@link BitSet}.
+     *
+     * @return the number of elements of the array reply.
+     */
+    public int getCount() {
+        return index;
+    }
+}
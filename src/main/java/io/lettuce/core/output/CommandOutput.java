@@ -131,6 +131,16 @@ public abstract class CommandOutput<K, V, T> {
         // nothing to do by default
     }
 
+    /**
+     * Signal that the command owning this output was cancelled. Outputs holding resources such as buffers release them. May
+     * be called from a different thread than the one decoding the response.
+     *
+     * @since 5.2
+     */
+    public void cancel() {
+        // nothing to do by default
+    }
+
     protected String decodeAscii(ByteBuffer bytes) {
         if (bytes == null) {
             return null;
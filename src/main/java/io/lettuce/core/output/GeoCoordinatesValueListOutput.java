@@ -15,13 +15,12 @@
  */
 package io.lettuce.core.output;
 
-import static java.lang.Double.parseDouble;
-
 import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.List;
 
 import io.lettuce.core.GeoCoordinates;
+import io.lettuce.core.LettuceStrings;
 import io.lettuce.core.Value;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.internal.LettuceAssert;
@@ -46,7 +45,7 @@ public class GeoCoordinatesValueListOutput<K, V> extends CommandOutput<K, V, Lis
     @Override
     public void set(ByteBuffer bytes) {
 
-        Double value = (bytes == null) ? 0 : parseDouble(decodeAscii(bytes));
+        Double value = (bytes == null) ? 0 : LettuceStrings.toDouble(bytes);
 
         if (x == null) {
             x = value;
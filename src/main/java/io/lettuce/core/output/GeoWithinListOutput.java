@@ -15,13 +15,13 @@
  */
 package io.lettuce.core.output;
 
-import static java.lang.Double.parseDouble;
-
 import java.nio.ByteBuffer;
+import java.util.Collections;
 import java.util.List;
 
 import io.lettuce.core.GeoCoordinates;
 import io.lettuce.core.GeoWithin;
+import io.lettuce.core.LettuceStrings;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.internal.LettuceAssert;
 
@@ -39,13 +39,14 @@ public class GeoWithinListOutput<K, V> extends CommandOutput<K, V, List<GeoWithi
 
     private Double x;
 
+    private boolean initialized;
     private boolean withDistance;
     private boolean withHash;
     private boolean withCoordinates;
     private Subscriber<GeoWithin<V>> subscriber;
 
     public GeoWithinListOutput(RedisCodec<K, V> codec, boolean withDistance, boolean withHash, boolean withCoordinates) {
-        super(codec, OutputFactory.newList(16));
+        super(codec, Collections.emptyList());
         this.withDistance = withDistance;
         this.withHash = withHash;
         this.withCoordinates = withCoordinates;
@@ -73,7 +74,7 @@ public class GeoWithinListOutput<K, V> extends CommandOutput<K, V, List<GeoWithi
             return;
         }
 
-        Double value = (bytes == null) ? 0 : parseDouble(decodeAscii(bytes));
+        Double value = (bytes == null) ? 0 : LettuceStrings.toDouble(bytes);
         if (withDistance) {
             if (distance == null) {
                 distance = value;
@@ -91,6 +92,20 @@ public class GeoWithinListOutput<K, V> extends CommandOutput<K, V, List<GeoWithi
         }
     }
 
+    @Override
+    public void multi(int count) {
+
+        if (!initialized) {
+
+            // streaming subscribers do not collect elements
+            if (subscriber instanceof ListSubscriber) {
+                output = OutputFactory.newList(count);
+            }
+
+            initialized = true;
+        }
+    }
+
     @Override
     public void complete(int depth) {
 
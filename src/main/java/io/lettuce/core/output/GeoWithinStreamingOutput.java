@@ -0,0 +1,71 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import java.nio.ByteBuffer;
+
+import io.lettuce.core.GeoWithin;
+import io.lettuce.core.codec.RedisCodec;
+
+/**
+ * Streaming-Output of {@link GeoWithin} results. Results are emitted to the {@link GeoWithinStreamingChannel} as soon as
+ * they are decoded and are not retained. Returns the count of all results.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public class GeoWithinStreamingOutput<K, V> extends CommandOutput<K, V, Long> {
+
+    private final GeoWithinListOutput<K, V> delegate;
+
+    public GeoWithinStreamingOutput(RedisCodec<K, V> codec, GeoWithinStreamingChannel<V> channel, boolean withDistance,
+            boolean withHash, boolean withCoordinates) {
+
+        super(codec, Long.valueOf(0));
+
+        this.delegate = new GeoWithinListOutput<>(codec, withDistance, withHash, withCoordinates);
+        this.delegate.setSubscriber(new StreamingOutput.Subscriber<GeoWithin<V>>() {
+
+            @Override
+            public void onNext(GeoWithin<V> value) {
+                channel.onValue(value);
+                output = output.longValue() + 1;
+            }
+        });
+    }
+
+    @Override
+    public void set(ByteBuffer bytes) {
+        delegate.set(bytes);
+    }
+
+    @Override
+    public void set(long integer) {
+        delegate.set(integer);
+    }
+
+    @Override
+    public void multi(int count) {
+        delegate.multi(count);
+    }
+
+    @Override
+    public void complete(int depth) {
+        delegate.complete(depth);
+    }
+}
@@ -33,6 +33,11 @@ public class KeyScanOutput<K, V> extends ScanOutput<K, V, KeyScanCursor<K>> {
         super(codec, new KeyScanCursor<K>());
     }
 
+    @Override
+    protected void multiElements(int count) {
+        OutputFactory.ensureCapacity(output.getKeys(), count);
+    }
+
     @Override
     protected void setOutput(ByteBuffer bytes) {
         output.getKeys().add(bytes == null ? null : codec.decodeKey(bytes));
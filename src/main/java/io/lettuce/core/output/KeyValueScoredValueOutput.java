@@ -52,7 +52,7 @@ public class KeyValueScoredValueOutput<K, V> extends CommandOutput<K, V, KeyValu
             return;
         }
 
-        double score = LettuceStrings.toDouble(decodeAscii(bytes));
+        double score = LettuceStrings.toDouble(bytes);
 
         output = KeyValue.just(key, ScoredValue.just(score, value));
         key = null;
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import io.lettuce.core.codec.RedisCodec;
+
+/**
+ * Read-only {@link Map} view of a key-value array reply such as {@code HGETALL} that retains the raw reply bytes and
+ * decodes keys and values through the {@link RedisCodec} each time they are accessed. Entries retain the reply order.
+ * Lookups through {@link #get(Object)} scan and decode keys, copy the map into a {@link java.util.HashMap} for repeated
+ * lookups. Use {@link #getRawKey(int)} and {@link #getRawValue(int)} to forward entry bytes without decoding.
+ * <p>
+ * The raw reply is held in a reference-counted buffer that is retained until {@link #release() released}. Accessing entries
+ * of a released map throws {@link IllegalStateException}. Instances are not thread-safe.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 5.2
+ * @see LazyKeyValueMapOutput
+ */
+public class LazyKeyValueMap<K, V> extends AbstractMap<K, V> implements Closeable {
+
+    private final RedisCodec<K, V> codec;
+    private final LazyReply reply;
+    private final Set<Entry<K, V>> entrySet = new EntrySet();
+
+    LazyKeyValueMap(RedisCodec<K, V> codec, LazyReply reply) {
+        this.codec = codec;
+        this.reply = reply;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return entrySet;
+    }
+
+    @Override
+    public int size() {
+        return reply.size() / 2;
+    }
+
+    /**
+     * Return the raw bytes of the key of the entry at {@code index} in reply order. The returned buffer is a read-only view
+     * that is valid until this map is released.
+     *
+     * @param index the entry index.
+     * @return the raw key bytes.
+     * @throws IllegalStateException if this map is released.
+     */
+    public ByteBuffer getRawKey(int index) {
+        return raw(checkIndex(index) * 2);
+    }
+
+    /**
+     * Return the raw bytes of the value of the entry at {@code index} in reply order. The returned buffer is a read-only
+     * view that is valid until this map is released.
+     *
+     * @param index the entry index.
+     * @return the raw value bytes or {@literal null} for a {@literal null} value.
+     * @throws IllegalStateException if this map is released.
+     */
+    public ByteBuffer getRawValue(int index) {
+        return raw(checkIndex(index) * 2 + 1);
+    }
+
+    /**
+     * @return {@literal true} if the raw reply was released.
+     */
+    public boolean isReleased() {
+        return reply.isReleased();
+    }
+
+    /**
+     * Release the raw reply. Subsequent entry access fails.
+     *
+     * @return {@literal true} if this call released the reply, {@literal false} if already released.
+     */
+    public boolean release() {
+        return reply.release();
+    }
+
+    /**
+     * Release the raw reply.
+     *
+     * @see #release()
+     */
+    @Override
+    public void close() {
+        release();
+    }
+
+    private int checkIndex(int index) {
+
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+
+        return index;
+    }
+
+    private ByteBuffer raw(int index) {
+
+        ByteBuffer bytes = reply.get(index);
+        return bytes == null ? null : bytes.asReadOnlyBuffer();
+    }
+
+    private K decodeKey(int index) {
+
+        ByteBuffer bytes = reply.get(index * 2);
+        return bytes == null ? null : codec.decodeKey(bytes);
+    }
+
+    private V decodeValue(int index) {
+
+        ByteBuffer bytes = reply.get(index * 2 + 1);
+        return bytes == null ? null : codec.decodeValue(bytes);
+    }
+
+    class EntrySet extends AbstractSet<Entry<K, V>> {
+
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+
+            return new Iterator<Entry<K, V>>() {
+
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < size();
+                }
+
+                @Override
+                public Entry<K, V> next() {
+
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+
+                    return new LazyEntry(index++);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return LazyKeyValueMap.this.size();
+        }
+    }
+
+    /**
+     * Entry decoding its key and value on access.
+     */
+    class LazyEntry implements Entry<K, V> {
+
+        private final int index;
+
+        LazyEntry(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public K getKey() {
+            return decodeKey(index);
+        }
+
+        @Override
+        public V getValue() {
+            return decodeValue(index);
+        }
+
+        @Override
+        public V setValue(V value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+
+            Entry<?, ?> that = (Entry<?, ?>) o;
+            K key = getKey();
+            V value = getValue();
+
+            return (key == null ? that.getKey() == null : key.equals(that.getKey()))
+                    && (value == null ? that.getValue() == null : value.equals(that.getValue()));
+        }
+
+        @Override
+        public int hashCode() {
+
+            K key = getKey();
+            V value = getValue();
+
+            return (key == null ? 0 : key.hashCode()) ^ (value == null ? 0 : value.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import io.lettuce.core.internal.LettuceAssert;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+
+/**
+ * Raw elements of an array reply held in a single reference-counted {@link ByteBuf} along with an index of element offsets
+ * and lengths. {@literal null} elements are recorded with a length of {@code -1}.
+ * <p>
+ * The reply can be released by a thread other than the one decoding the response when a command is cancelled, times out or
+ * completes exceptionally. Appending and releasing are therefore mutually exclusive and elements appended after releasing
+ * the reply are discarded.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+final class LazyReply {
+
+    private static final int ESTIMATED_ELEMENT_SIZE = 16;
+
+    private static final int[] EMPTY = new int[0];
+
+    private final ByteBufAllocator allocator;
+
+    private ByteBuf buffer;
+    private int[] offsets = EMPTY;
+    private int[] lengths = EMPTY;
+    private int size;
+    private volatile boolean released;
+
+    LazyReply(ByteBufAllocator allocator) {
+        this.allocator = allocator;
+    }
+
+    /**
+     * Ensure capacity for {@code count} additional elements.
+     *
+     * @param count number of additional elements.
+     */
+    synchronized void ensureCapacity(int count) {
+
+        if (count < 1 || released) {
+            return;
+        }
+
+        if (buffer == null) {
+            buffer = allocator.heapBuffer(count * ESTIMATED_ELEMENT_SIZE);
+        }
+
+        if (size + count > offsets.length) {
+            offsets = Arrays.copyOf(offsets, size + count);
+            lengths = Arrays.copyOf(lengths, size + count);
+        }
+    }
+
+    /**
+     * Append an element. Copies the remaining bytes of {@code bytes} without consuming them.
+     *
+     * @param bytes the element, can be {@literal null}.
+     */
+    synchronized void add(ByteBuffer bytes) {
+
+        if (released) {
+            return;
+        }
+
+        if (size == offsets.length) {
+            ensureCapacity(Math.max(4, size));
+        }
+
+        if (buffer == null) {
+            buffer = allocator.heapBuffer();
+        }
+
+        offsets[size] = buffer.writerIndex();
+
+        if (bytes == null) {
+            lengths[size] = -1;
+        } else {
+            lengths[size] = bytes.remaining();
+            buffer.writeBytes(bytes.duplicate());
+        }
+
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @param index the element index.
+     * @return a view of the element bytes or {@literal null} if the element is {@literal null}.
+     */
+    ByteBuffer get(int index) {
+
+        LettuceAssert.assertState(!released, "Reply is already released");
+
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        if (lengths[index] == -1) {
+            return null;
+        }
+
+        return buffer.nioBuffer(offsets[index], lengths[index]);
+    }
+
+    boolean isReleased() {
+        return released;
+    }
+
+    /**
+     * Release the underlying buffer.
+     *
+     * @return {@literal true} if this call released the buffer, {@literal false} if already released.
+     */
+    synchronized boolean release() {
+
+        if (released) {
+            return false;
+        }
+
+        released = true;
+
+        if (buffer != null) {
+            buffer.release();
+            buffer = null;
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+import io.lettuce.core.codec.RedisCodec;
+
+/**
+ * Read-only {@link java.util.List} view of an array reply that retains the raw reply bytes and decodes an element through
+ * the {@link RedisCodec} each time it is accessed. Use {@link #getRaw(int)} to forward element bytes without decoding.
+ * <p>
+ * The raw reply is held in a reference-counted buffer that is retained until {@link #release() released}. Accessing
+ * elements of a released list throws {@link IllegalStateException}. Instances are not thread-safe.
+ *
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 5.2
+ * @see LazyValueListOutput
+ */
+public class LazyValueList<V> extends AbstractList<V> implements RandomAccess, Closeable {
+
+    private final RedisCodec<?, V> codec;
+    private final LazyReply reply;
+
+    LazyValueList(RedisCodec<?, V> codec, LazyReply reply) {
+        this.codec = codec;
+        this.reply = reply;
+    }
+
+    /**
+     * Decode the element at {@code index}.
+     *
+     * @param index the index.
+     * @return the decoded element.
+     * @throws IllegalStateException if this list is released.
+     */
+    @Override
+    public V get(int index) {
+
+        ByteBuffer bytes = reply.get(index);
+        return bytes == null ? null : codec.decodeValue(bytes);
+    }
+
+    /**
+     * Return the raw bytes of the element at {@code index}. The returned buffer is a read-only view that is valid until this
+     * list is released.
+     *
+     * @param index the index.
+     * @return the raw element bytes or {@literal null} for a {@literal null} element.
+     * @throws IllegalStateException if this list is released.
+     */
+    public ByteBuffer getRaw(int index) {
+
+        ByteBuffer bytes = reply.get(index);
+        return bytes == null ? null : bytes.asReadOnlyBuffer();
+    }
+
+    @Override
+    public int size() {
+        return reply.size();
+    }
+
+    /**
+     * @return {@literal true} if the raw reply was released.
+     */
+    public boolean isReleased() {
+        return reply.isReleased();
+    }
+
+    /**
+     * Release the raw reply. Subsequent element access fails.
+     *
+     * @return {@literal true} if this call released the reply, {@literal false} if already released.
+     */
+    public boolean release() {
+        return reply.release();
+    }
+
+    /**
+     * Release the raw reply.
+     *
+     * @see #release()
+     */
+    @Override
+    public void close() {
+        release();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import java.nio.ByteBuffer;
+
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.LettuceAssert;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
+
+/**
+ * {@link LazyValueList} output retaining the raw reply bytes of an array reply such as {@code LRANGE} or {@code SMEMBERS} and
+ * decoding values on access. Element bytes are copied into a single buffer instead of being decoded through the
+ * {@link RedisCodec} while reading the response.
+ * <p>
+ * Raw bytes are allocated from an unpooled heap allocator by default and are reclaimed by garbage collection if the result
+ * is not released. Results using a pooled {@link ByteBufAllocator} must be released to return their buffer to the pool.
+ * The buffer is released if the command completes with an error, times out or is cancelled.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public class LazyValueListOutput<K, V> extends CommandOutput<K, V, LazyValueList<V>> {
+
+    private final LazyReply reply;
+    private boolean initialized;
+
+    public LazyValueListOutput(RedisCodec<K, V> codec) {
+        this(codec, UnpooledByteBufAllocator.DEFAULT);
+    }
+
+    public LazyValueListOutput(RedisCodec<K, V> codec, ByteBufAllocator allocator) {
+        this(codec, new LazyReply(allocator(allocator)));
+    }
+
+    private LazyValueListOutput(RedisCodec<K, V> codec, LazyReply reply) {
+        super(codec, new LazyValueList<>(codec, reply));
+        this.reply = reply;
+    }
+
+    @Override
+    public void set(ByteBuffer bytes) {
+        reply.add(bytes);
+    }
+
+    @Override
+    public void multi(int count) {
+
+        if (!initialized) {
+            reply.ensureCapacity(count);
+            initialized = true;
+        }
+    }
+
+    @Override
+    public void setError(ByteBuffer error) {
+        reply.release();
+        super.setError(error);
+    }
+
+    @Override
+    public void setError(String error) {
+        reply.release();
+        super.setError(error);
+    }
+
+    @Override
+    public void cancel() {
+        reply.release();
+    }
+
+    private static ByteBufAllocator allocator(ByteBufAllocator allocator) {
+
+        LettuceAssert.notNull(allocator, "ByteBufAllocator must not be null");
+        return allocator;
+    }
+}
@@ -64,11 +64,15 @@ public class ListOfMapsOutput<K, V> extends CommandOutput<K, V, List<Map<K, V>>>
     @Override
     public void multi(int count) {
 
-        nested.multi(count);
-
         if (mapCount == -1) {
             mapCount = count;
+
+            if (count > 0) {
+                output = new ArrayList<>(count);
+            }
         } else {
+            nested.multi(count);
+
             // div 2 because of key value pair counts twice
             counts.add(count / 2);
         }
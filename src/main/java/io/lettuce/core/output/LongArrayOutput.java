@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import io.lettuce.core.codec.RedisCodec;
+
+/**
+ * Primitive {@code long[]} output for integer array replies. The array is sized from the response element count so integer
+ * elements are stored without boxing. {@literal null} elements are represented as {@code 0}.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public class LongArrayOutput<K, V> extends CommandOutput<K, V, long[]> {
+
+    private static final long[] EMPTY = new long[0];
+
+    private boolean initialized;
+    private int index;
+
+    public LongArrayOutput(RedisCodec<K, V> codec) {
+        super(codec, EMPTY);
+    }
+
+    @Override
+    public void set(long integer) {
+        next()[index++] = integer;
+    }
+
+    @Override
+    public void set(ByteBuffer bytes) {
+
+        next();
+        index++;
+    }
+
+    @Override
+    public void multi(int count) {
+
+        if (!initialized) {
+            output = count == 0 ? EMPTY : new long[count];
+            initialized = true;
+        }
+    }
+
+    private long[] next() {
+
+        if (index == output.length) {
+            output = Arrays.copyOf(output, Math.max(4, index * 2));
+        }
+
+        return output;
+    }
+
+    @Override
+    public long[] get() {
+
+        if (index != output.length) {
+            output = Arrays.copyOf(output, index);
+        }
+
+        return output;
+    }
+}
@@ -76,6 +76,10 @@ public class MultiOutput<K, V> extends CommandOutput<K, V, TransactionResult> {
 
         if (discarded == null) {
             discarded = count == -1;
+
+            if (count > 0) {
+                responses = new ArrayList<>(count);
+            }
         } else {
             if (!queue.isEmpty()) {
                 queue.peek().getOutput().multi(count);
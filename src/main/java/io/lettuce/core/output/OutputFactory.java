@@ -39,4 +39,11 @@ class OutputFactory {
 
         return new LinkedHashSet<>(capacity, 1);
     }
+
+    static void ensureCapacity(Collection<?> collection, int capacity) {
+
+        if (capacity > 0 && collection instanceof ArrayList) {
+            ((ArrayList<?>) collection).ensureCapacity(collection.size() + capacity);
+        }
+    }
 }
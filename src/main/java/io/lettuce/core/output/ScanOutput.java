@@ -50,5 +50,23 @@ public abstract class ScanOutput<K, V, T extends ScanCursor> extends CommandOutp
 
     }
 
+    @Override
+    public void multi(int count) {
+
+        // the element array follows the cursor
+        if (output.getCursor() != null) {
+            multiElements(count);
+        }
+    }
+
+    /**
+     * Notification about the number of elements in the scan result. Subclasses can size their element containers.
+     *
+     * @param count the number of elements.
+     * @since 5.2
+     */
+    protected void multiElements(int count) {
+    }
+
     protected abstract void setOutput(ByteBuffer bytes);
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.lettuce.core.LettuceStrings;
+import io.lettuce.core.ScoredValueArray;
+import io.lettuce.core.codec.RedisCodec;
+
+/**
+ * {@link ScoredValueArray} output for value/score pairs. Scores are parsed from their ASCII representation into a
+ * {@code double[]} sized from the response element count.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public class ScoredValueArrayOutput<K, V> extends CommandOutput<K, V, ScoredValueArray<V>> {
+
+    private boolean initialized;
+    private List<V> values;
+    private double[] scores;
+    private boolean hasValue;
+    private V value;
+
+    public ScoredValueArrayOutput(RedisCodec<K, V> codec) {
+        super(codec, ScoredValueArray.empty());
+    }
+
+    @Override
+    public void set(ByteBuffer bytes) {
+
+        if (!hasValue) {
+            value = bytes == null ? null : codec.decodeValue(bytes);
+            hasValue = true;
+            return;
+        }
+
+        if (values == null) {
+            multi(2);
+        }
+
+        int index = values.size();
+
+        if (index == scores.length) {
+            scores = Arrays.copyOf(scores, Math.max(4, index * 2));
+            output = ScoredValueArray.of(values, scores);
+        }
+
+        scores[index] = LettuceStrings.toDouble(bytes);
+        values.add(value);
+
+        value = null;
+        hasValue = false;
+    }
+
+    @Override
+    public void multi(int count) {
+
+        if (!initialized) {
+
+            values = new ArrayList<>(count / 2);
+            scores = new double[count / 2];
+            output = ScoredValueArray.of(values, scores);
+            initialized = true;
+        }
+    }
+}
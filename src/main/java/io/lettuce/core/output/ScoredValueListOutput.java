@@ -51,7 +51,7 @@ public class ScoredValueListOutput<K, V> extends CommandOutput<K, V, List<Scored
             return;
         }
 
-        double score = LettuceStrings.toDouble(decodeAscii(bytes));
+        double score = LettuceStrings.toDouble(bytes);
         subscriber.onNext(output, ScoredValue.fromNullable(score, value));
         value = null;
     }
@@ -60,7 +60,7 @@ public class ScoredValueListOutput<K, V> extends CommandOutput<K, V, List<Scored
     public void multi(int count) {
 
         if (!initialized) {
-            output = OutputFactory.newList(count);
+            output = OutputFactory.newList((count + 1) / 2);
             initialized = true;
         }
     }
@@ -45,7 +45,7 @@ public class ScoredValueOutput<K, V> extends CommandOutput<K, V, ScoredValue<V>>
             return;
         }
 
-        double score = LettuceStrings.toDouble(decodeAscii(bytes));
+        double score = LettuceStrings.toDouble(bytes);
         output = ScoredValue.just(score, value);
         value = null;
     }
@@ -37,6 +37,11 @@ public class ScoredValueScanOutput<K, V> extends ScanOutput<K, V, ScoredValueSca
         super(codec, new ScoredValueScanCursor<V>());
     }
 
+    @Override
+    protected void multiElements(int count) {
+        OutputFactory.ensureCapacity(output.getValues(), count / 2);
+    }
+
     @Override
     protected void setOutput(ByteBuffer bytes) {
 
@@ -45,7 +50,7 @@ public class ScoredValueScanOutput<K, V> extends ScanOutput<K, V, ScoredValueSca
             return;
         }
 
-        double score = LettuceStrings.toDouble(decodeAscii(bytes));
+        double score = LettuceStrings.toDouble(bytes);
         output.getValues().add(ScoredValue.fromNullable(score, value));
         value = null;
     }
@@ -47,7 +47,7 @@ public class ScoredValueScanStreamingOutput<K, V> extends ScanOutput<K, V, Strea
             return;
         }
 
-        double score = LettuceStrings.toDouble(decodeAscii(bytes));
+        double score = LettuceStrings.toDouble(bytes);
         channel.onValue(ScoredValue.fromNullable(score, value));
         value = null;
         output.setCount(output.getCount() + 1);
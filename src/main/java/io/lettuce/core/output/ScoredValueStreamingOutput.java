@@ -46,7 +46,7 @@ public class ScoredValueStreamingOutput<K, V> extends CommandOutput<K, V, Long>
             return;
         }
 
-        double score = LettuceStrings.toDouble(decodeAscii(bytes));
+        double score = LettuceStrings.toDouble(bytes);
         channel.onValue(ScoredValue.fromNullable(score, value));
         value = null;
         output = output.longValue() + 1;
@@ -74,8 +74,18 @@ public class StreamMessageListOutput<K, V> extends CommandOutput<K, V, List<Stre
     public void multi(int count) {
 
         if (!initialized) {
-            output = OutputFactory.newList(count);
+
+            // streaming subscribers do not collect elements
+            if (subscriber instanceof ListSubscriber) {
+                output = OutputFactory.newList(count);
+            }
+
             initialized = true;
+            return;
+        }
+
+        if (id != null && body == null && count > 0) {
+            body = new LinkedHashMap<>(count / 2, 1);
         }
     }
 
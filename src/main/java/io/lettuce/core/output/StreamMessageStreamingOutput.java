@@ -0,0 +1,98 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import java.nio.ByteBuffer;
+
+import io.lettuce.core.StreamMessage;
+import io.lettuce.core.codec.RedisCodec;
+
+/**
+ * Streaming-Output of stream messages. Messages are emitted to the {@link StreamMessageStreamingChannel} as soon as they are
+ * decoded and are not retained. Returns the count of all messages.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public class StreamMessageStreamingOutput<K, V> extends CommandOutput<K, V, Long> {
+
+    private final CommandOutput<K, V, ?> delegate;
+
+    /**
+     * Create a new {@link StreamMessageStreamingOutput} for {@code XREAD} and {@code XREADGROUP} replies that contain
+     * messages of one or more streams.
+     *
+     * @param codec the codec.
+     * @param channel the channel.
+     */
+    public StreamMessageStreamingOutput(RedisCodec<K, V> codec, StreamMessageStreamingChannel<K, V> channel) {
+
+        super(codec, Long.valueOf(0));
+
+        StreamReadOutput<K, V> delegate = new StreamReadOutput<>(codec);
+        delegate.setSubscriber(new ChannelSubscriber(channel));
+        this.delegate = delegate;
+    }
+
+    /**
+     * Create a new {@link StreamMessageStreamingOutput} for {@code XRANGE} and {@code XREVRANGE} replies that contain
+     * messages of {@code stream}.
+     *
+     * @param codec the codec.
+     * @param channel the channel.
+     * @param stream the stream key.
+     */
+    public StreamMessageStreamingOutput(RedisCodec<K, V> codec, StreamMessageStreamingChannel<K, V> channel, K stream) {
+
+        super(codec, Long.valueOf(0));
+
+        StreamMessageListOutput<K, V> delegate = new StreamMessageListOutput<>(codec, stream);
+        delegate.setSubscriber(new ChannelSubscriber(channel));
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void set(ByteBuffer bytes) {
+        delegate.set(bytes);
+    }
+
+    @Override
+    public void multi(int count) {
+        delegate.multi(count);
+    }
+
+    @Override
+    public void complete(int depth) {
+        delegate.complete(depth);
+    }
+
+    class ChannelSubscriber extends StreamingOutput.Subscriber<StreamMessage<K, V>> {
+
+        private final StreamMessageStreamingChannel<K, V> channel;
+
+        ChannelSubscriber(StreamMessageStreamingChannel<K, V> channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public void onNext(StreamMessage<K, V> message) {
+            channel.onMessage(message);
+            output = output.longValue() + 1;
+        }
+    }
+}
@@ -38,6 +38,7 @@ public class StreamReadOutput<K, V> extends CommandOutput<K, V, List<StreamMessa
     private K key;
     private String id;
     private Map<K, V> body;
+    private boolean streamStarted;
 
     public StreamReadOutput(RedisCodec<K, V> codec) {
         super(codec, Collections.emptyList());
@@ -49,6 +50,7 @@ public class StreamReadOutput<K, V> extends CommandOutput<K, V, List<StreamMessa
 
         if (stream == null) {
             stream = codec.decodeKey(bytes);
+            streamStarted = true;
             return;
         }
 
@@ -74,8 +76,25 @@ public class StreamReadOutput<K, V> extends CommandOutput<K, V, List<StreamMessa
     public void multi(int count) {
 
         if (!initialized) {
-            output = OutputFactory.newList(count);
+
+            // streaming subscribers do not collect elements
+            if (subscriber instanceof ListSubscriber) {
+                output = OutputFactory.newList(count);
+            }
+
             initialized = true;
+            return;
+        }
+
+        // the outermost array counts streams, grow the output by the message count of each stream
+        if (streamStarted) {
+            streamStarted = false;
+            OutputFactory.ensureCapacity(output, count);
+            return;
+        }
+
+        if (id != null && body == null && count > 0) {
+            body = new LinkedHashMap<>(count / 2, 1);
         }
     }
 
@@ -33,6 +33,11 @@ public class ValueScanOutput<K, V> extends ScanOutput<K, V, ValueScanCursor<V>>
         super(codec, new ValueScanCursor<V>());
     }
 
+    @Override
+    protected void multiElements(int count) {
+        OutputFactory.ensureCapacity(output.getValues(), count);
+    }
+
     @Override
     protected void setOutput(ByteBuffer bytes) {
         output.getValues().add(bytes == null ? null : codec.decodeValue(bytes));
@@ -20,6 +20,8 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -32,7 +34,13 @@ import io.netty.buffer.ByteBuf;
 
 /**
  * An asynchronous redis command and its result. All successfully executed commands will eventually return a
- * {@link CommandOutput} object.
+ * {@link CommandOutput} object. {@link AsyncCommand} records {@link WithLatency latency} itself so it does not require a
+ * latency-tracking wrapper.
+ * <p>
+ * {@link #await(long, TimeUnit)} parks a single waiting thread until the command completes and completion unparks that
+ * thread directly, so blocking callers do not enqueue a {@link CompletableFuture} wait node. Parking through
+ * {@link LockSupport} does not hold a monitor and therefore does not pin the carrier of a virtual thread. Additional
+ * concurrent waiters fall back to {@link CompletableFuture#get(long, TimeUnit)}.
  *
  * @param <K> Key type.
  * @param <V> Value type.
@@ -41,18 +49,29 @@ import io.netty.buffer.ByteBuf;
  * @author Mark Paluch
  */
 public class AsyncCommand<K, V, T> extends CompletableFuture<T> implements RedisCommand<K, V, T>, RedisFuture<T>,
-        CompleteableCommand<T>, DecoratedCommand<K, V, T> {
+        CompleteableCommand<T>, DecoratedCommand<K, V, T>, WithDeadline, WithLatency {
 
     @SuppressWarnings("rawtypes")
     private static final AtomicIntegerFieldUpdater<AsyncCommand> COUNT_UPDATER = AtomicIntegerFieldUpdater.newUpdater(
             AsyncCommand.class, "count");
 
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<AsyncCommand, Thread> WAITER_UPDATER = AtomicReferenceFieldUpdater
+            .newUpdater(AsyncCommand.class, Thread.class, "waiter");
+
     private final RedisCommand<K, V, T> command;
 
     // access via COUNT_UPDATER
     @SuppressWarnings({ "unused" })
     private volatile int count = 1;
 
+    // access via WAITER_UPDATER
+    private volatile Thread waiter;
+
+    private long sentNs = -1;
+    private long firstResponseNs = -1;
+    private long completedNs = -1;
+
     /**
      * @param command the command, must not be {@literal null}.
      */
@@ -79,6 +98,44 @@ public class AsyncCommand<K, V, T> extends CompletableFuture<T> implements Redis
      */
     @Override
     public boolean await(long timeout, TimeUnit unit) {
+
+        if (isDone()) {
+            return true;
+        }
+
+        Thread thread = Thread.currentThread();
+
+        if (!WAITER_UPDATER.compareAndSet(this, null, thread)) {
+            return awaitFuture(timeout, unit);
+        }
+
+        try {
+
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+            while (!isDone()) {
+
+                long remaining = deadline - System.nanoTime();
+
+                if (remaining <= 0) {
+                    return false;
+                }
+
+                LockSupport.parkNanos(this, remaining);
+
+                if (Thread.interrupted()) {
+                    thread.interrupt();
+                    throw new RedisCommandInterruptedException(new InterruptedException());
+                }
+            }
+
+            return true;
+        } finally {
+            WAITER_UPDATER.compareAndSet(this, thread, null);
+        }
+    }
+
+    private boolean awaitFuture(long timeout, TimeUnit unit) {
         try {
             get(timeout, unit);
             return true;
@@ -123,6 +180,14 @@ public class AsyncCommand<K, V, T> extends CompletableFuture<T> implements Redis
         }
     }
 
+    @Override
+    public boolean complete(T value) {
+
+        boolean result = super.complete(value);
+        signalWaiter();
+        return result;
+    }
+
     @Override
     public boolean completeExceptionally(Throwable ex) {
         boolean result = false;
@@ -136,7 +201,19 @@ public class AsyncCommand<K, V, T> extends CompletableFuture<T> implements Redis
 
     private boolean doCompleteExceptionally(Throwable ex) {
         command.completeExceptionally(ex);
-        return super.completeExceptionally(ex);
+
+        boolean result = super.completeExceptionally(ex);
+        signalWaiter();
+        return result;
+    }
+
+    private void signalWaiter() {
+
+        Thread waiter = this.waiter;
+
+        if (waiter != null) {
+            LockSupport.unpark(waiter);
+        }
     }
 
     @Override
@@ -146,6 +223,7 @@ public class AsyncCommand<K, V, T> extends CompletableFuture<T> implements Redis
             return super.cancel(mayInterruptIfRunning);
         } finally {
             COUNT_UPDATER.set(this, 0);
+            signalWaiter();
         }
     }
 
@@ -190,6 +268,51 @@ public class AsyncCommand<K, V, T> extends CompletableFuture<T> implements Redis
         command.setOutput(output);
     }
 
+    @Override
+    public void deadline(long deadline) {
+
+        if (command instanceof WithDeadline) {
+            ((WithDeadline) command).deadline(deadline);
+        }
+    }
+
+    @Override
+    public long getDeadline() {
+        return command instanceof WithDeadline ? ((WithDeadline) command).getDeadline() : NO_DEADLINE;
+    }
+
+    @Override
+    public void sent(long timeNs) {
+        sentNs = timeNs;
+        firstResponseNs = -1;
+        completedNs = -1;
+    }
+
+    @Override
+    public void firstResponse(long timeNs) {
+        firstResponseNs = timeNs;
+    }
+
+    @Override
+    public void completed(long timeNs) {
+        completedNs = timeNs;
+    }
+
+    @Override
+    public long getSent() {
+        return sentNs;
+    }
+
+    @Override
+    public long getFirstResponse() {
+        return firstResponseNs;
+    }
+
+    @Override
+    public long getCompleted() {
+        return completedNs;
+    }
+
     @Override
     public void onComplete(Consumer<? super T> action) {
         thenAccept(action);
@@ -30,7 +30,7 @@ import io.netty.buffer.ByteBuf;
  * @author Will Glozer
  * @author Mark Paluch
  */
-public class Command<K, V, T> implements RedisCommand<K, V, T> {
+public class Command<K, V, T> implements RedisCommand<K, V, T>, WithDeadline {
 
     protected static final byte ST_INITIAL = 0;
     protected static final byte ST_COMPLETED = 1;
@@ -43,6 +43,8 @@ public class Command<K, V, T> implements RedisCommand<K, V, T> {
     protected Throwable exception;
     protected volatile byte status = ST_INITIAL;
 
+    private long deadline = NO_DEADLINE;
+
     /**
      * Create a new command with the supplied type.
      *
@@ -97,7 +99,12 @@ public class Command<K, V, T> implements RedisCommand<K, V, T> {
 
     @Override
     public void cancel() {
+
         this.status = ST_CANCELLED;
+
+        if (output != null) {
+            output.cancel();
+        }
     }
 
     /**
@@ -167,6 +174,16 @@ public class Command<K, V, T> implements RedisCommand<K, V, T> {
         return status == ST_CANCELLED;
     }
 
+    @Override
+    public void deadline(long deadline) {
+        this.deadline = deadline;
+    }
+
+    @Override
+    public long getDeadline() {
+        return deadline;
+    }
+
     @Override
     public boolean isDone() {
         return status != ST_INITIAL;
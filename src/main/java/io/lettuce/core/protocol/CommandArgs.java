@@ -347,6 +347,30 @@ public class CommandArgs<K, V> {
         }
     }
 
+    /**
+     * Estimate the number of bytes required to encode the arguments including their protocol framing. Keys and values are
+     * estimated using {@link ToByteBufEncoder#estimateSize(Object)} if the codec implements {@link ToByteBufEncoder},
+     * otherwise keys and values are encoded to determine their size.
+     *
+     * @return the estimated number of bytes.
+     * @since 5.2
+     */
+    public int estimateSize() {
+
+        int size = 0;
+        for (SingularArgument singularArgument : singularArguments) {
+            size += singularArgument.estimateSize();
+        }
+        return size;
+    }
+
+    /**
+     * Remove all arguments so this {@link CommandArgs} instance can be reused.
+     */
+    void clear() {
+        singularArguments.clear();
+    }
+
     /**
      * Single argument wrapper that can be encoded.
      */
@@ -358,6 +382,21 @@ public class CommandArgs<K, V> {
          * @param buffer
          */
         abstract void encode(ByteBuf buffer);
+
+        /**
+         * Estimate the number of bytes written by {@link #encode(ByteBuf)}.
+         *
+         * @return the estimated number of bytes.
+         */
+        abstract int estimateSize();
+
+        /**
+         * @param length length of the bulk string content.
+         * @return the number of bytes of a bulk string including {@code $}, length and {@code CRLF}s.
+         */
+        static int bulkStringSize(int length) {
+            return length + 5 + IntegerArgument.digits(length);
+        }
     }
 
     static class BytesArgument extends SingularArgument {
@@ -377,6 +416,11 @@ public class CommandArgs<K, V> {
             writeBytes(buffer, val);
         }
 
+        @Override
+        int estimateSize() {
+            return bulkStringSize(val.length);
+        }
+
         static void writeBytes(ByteBuf buffer, byte[] value) {
 
             buffer.writeByte('$');
@@ -501,6 +545,20 @@ public class CommandArgs<K, V> {
             StringArgument.writeString(target, Long.toString(val));
         }
 
+        @Override
+        int estimateSize() {
+            return bulkStringSize(val < 0 ? digits(-val) + 1 : digits(val));
+        }
+
+        static int digits(long value) {
+
+            int digits = 1;
+            for (long limit = 10; digits < 19 && value >= limit; limit *= 10) {
+                digits++;
+            }
+            return digits;
+        }
+
         @Override
         public String toString() {
             return "" + val;
@@ -554,6 +612,11 @@ public class CommandArgs<K, V> {
             StringArgument.writeString(target, Double.toString(val));
         }
 
+        @Override
+        int estimateSize() {
+            return bulkStringSize(24);
+        }
+
         @Override
         public String toString() {
             return "" + val;
@@ -577,6 +640,11 @@ public class CommandArgs<K, V> {
             writeString(target, val);
         }
 
+        @Override
+        int estimateSize() {
+            return bulkStringSize(val.length());
+        }
+
         static void writeString(ByteBuf target, String value) {
 
             target.writeByte('$');
@@ -613,6 +681,11 @@ public class CommandArgs<K, V> {
             writeString(target, val);
         }
 
+        @Override
+        int estimateSize() {
+            return bulkStringSize(val.length);
+        }
+
         static void writeString(ByteBuf target, char[] value) {
 
             target.writeByte('$');
@@ -653,7 +726,7 @@ public class CommandArgs<K, V> {
             if (codec instanceof ToByteBufEncoder) {
 
                 ToByteBufEncoder<K, V> toByteBufEncoder = (ToByteBufEncoder<K, V>) codec;
-                ByteBuf temporaryBuffer = target.alloc().buffer(toByteBufEncoder.estimateSize(key) + 6);
+                ByteBuf temporaryBuffer = target.alloc().buffer(toByteBufEncoder.estimateKeySize(key) + 6);
 
                 try {
 
@@ -669,6 +742,17 @@ public class CommandArgs<K, V> {
             ByteBufferArgument.writeByteBuffer(target, codec.encodeKey(key));
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        int estimateSize() {
+
+            if (codec instanceof ToByteBufEncoder) {
+                return bulkStringSize(((ToByteBufEncoder<K, V>) codec).estimateKeySize(key));
+            }
+
+            return bulkStringSize(codec.encodeKey(key).remaining());
+        }
+
         @Override
         public String toString() {
             return String.format("key<%s>", new StringCodec().decodeKey(codec.encodeKey(key)));
@@ -696,7 +780,7 @@ public class CommandArgs<K, V> {
             if (codec instanceof ToByteBufEncoder) {
 
                 ToByteBufEncoder<K, V> toByteBufEncoder = (ToByteBufEncoder<K, V>) codec;
-                ByteBuf temporaryBuffer = target.alloc().buffer(toByteBufEncoder.estimateSize(val) + 6);
+                ByteBuf temporaryBuffer = target.alloc().buffer(toByteBufEncoder.estimateValueSize(val) + 6);
 
                 try {
                     toByteBufEncoder.encodeValue(val, temporaryBuffer);
@@ -711,6 +795,17 @@ public class CommandArgs<K, V> {
             ByteBufferArgument.writeByteBuffer(target, codec.encodeValue(val));
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        int estimateSize() {
+
+            if (codec instanceof ToByteBufEncoder) {
+                return bulkStringSize(((ToByteBufEncoder<K, V>) codec).estimateValueSize(val));
+            }
+
+            return bulkStringSize(codec.encodeValue(val).remaining());
+        }
+
         @Override
         public String toString() {
             return String.format("value<%s>", new StringCodec().decodeValue(codec.encodeValue(val)));
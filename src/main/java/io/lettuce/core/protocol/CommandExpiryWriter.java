@@ -18,11 +18,16 @@ package io.lettuce.core.protocol;
 import static io.lettuce.core.TimeoutOptions.TimeoutSource;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.ExceptionFactory;
@@ -30,10 +35,20 @@ import io.lettuce.core.RedisChannelWriter;
 import io.lettuce.core.TimeoutOptions;
 import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.resource.ClientResources;
+import io.netty.util.Recycler;
+import io.netty.util.internal.PlatformDependent;
 
 /**
  * Extension to {@link RedisChannelWriter} that expires commands. Command timeout starts at the time the command is written
- * regardless to {@link #setAutoFlushCommands(boolean) flushing mode} (user-controlled batching).
+ * regardless to {@link #setAutoFlushCommands(boolean) flushing mode} (user-controlled batching). The resulting deadline is
+ * propagated to the command so that endpoints and the command handler can discard expired commands before sending them.
+ * <p>
+ * Commands sharing the same timeout are tracked in a FIFO deadline queue: deadlines of such commands are monotonic in write
+ * order, so a single scheduled task per queue head expires commands by scanning the queue from its head. The queue is a
+ * lock-free multi-producer queue of pooled entries so writers neither contend on a lock nor allocate per command. Completed
+ * commands are purged from the head on writes unless another thread is already consuming the queue. The task is rescheduled
+ * if a command is queued with an earlier deadline than the scheduled one. Commands with a different timeout than the first
+ * queued timeout, or commands that cannot carry a deadline, fall back to a scheduled task per command.
  *
  * @author Mark Paluch
  * @since 5.1
@@ -49,6 +64,13 @@ public class CommandExpiryWriter implements RedisChannelWriter {
 
     private volatile long timeout = -1;
 
+    private final Queue<Expiry> expiryQueue = PlatformDependent.newMpscQueue();
+
+    // single consumer of expiryQueue at a time
+    private final AtomicBoolean consuming = new AtomicBoolean();
+    private final AtomicLong queuedTimeout = new AtomicLong(-1);
+    private final AtomicLong scheduledDeadline = new AtomicLong(WithDeadline.NO_DEADLINE);
+
     /**
      * Create a new {@link CommandExpiryWriter}.
      *
@@ -131,11 +153,15 @@ public class CommandExpiryWriter implements RedisChannelWriter {
 
     @Override
     public void close() {
+
+        cancelExpiryTask();
         writer.close();
     }
 
     @Override
     public CompletableFuture<Void> closeAsync() {
+
+        cancelExpiryTask();
         return writer.closeAsync();
     }
 
@@ -161,6 +187,22 @@ public class CommandExpiryWriter implements RedisChannelWriter {
             return;
         }
 
+        if (command instanceof WithDeadline) {
+
+            WithDeadline withDeadline = (WithDeadline) command;
+
+            if (withDeadline.getDeadline() != WithDeadline.NO_DEADLINE) {
+                // already subject to expiry, e.g. when written through a cluster writer or retried after a redirect.
+                return;
+            }
+
+            if (enqueue(command, timeout, executors)) {
+                return;
+            }
+
+            withDeadline.deadline(System.nanoTime() + timeUnit.toNanos(timeout));
+        }
+
         ScheduledFuture<?> schedule = executors.schedule(() -> {
 
             if (!command.isDone()) {
@@ -179,4 +221,211 @@ public class CommandExpiryWriter implements RedisChannelWriter {
             });
         }
     }
+
+    /**
+     * Append a command to the deadline queue if its timeout matches the timeout of the queued commands. Enqueueing is
+     * lock-free and uses a pooled queue entry.
+     *
+     * @param command the command.
+     * @param timeout the command timeout in {@link #timeUnit}.
+     * @param executors the executor to schedule the expiry task.
+     * @return {@literal true} if the command was enqueued.
+     */
+    private boolean enqueue(RedisCommand<?, ?, ?> command, long timeout, ScheduledExecutorService executors) {
+
+        if (queuedTimeout.get() != timeout && !queuedTimeout.compareAndSet(-1, timeout) && queuedTimeout.get() != timeout) {
+            return false;
+        }
+
+        long deadline = System.nanoTime() + timeUnit.toNanos(timeout);
+
+        ((WithDeadline) command).deadline(deadline);
+        expiryQueue.offer(Expiry.newInstance(command, deadline));
+
+        scheduleExpiry(executors, deadline);
+
+        if (consuming.compareAndSet(false, true)) {
+            try {
+                purgeCompleted();
+            } finally {
+                consuming.set(false);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Schedule the expiry task for {@code deadline} unless a task is already scheduled for the same or an earlier deadline. A
+     * task replaced by a task for an earlier deadline does not expire commands when it runs.
+     */
+    private void scheduleExpiry(ScheduledExecutorService executors, long deadline) {
+
+        while (true) {
+
+            long scheduled = scheduledDeadline.get();
+
+            if (scheduled != WithDeadline.NO_DEADLINE && deadline - scheduled >= 0) {
+                return;
+            }
+
+            if (scheduledDeadline.compareAndSet(scheduled, deadline)) {
+                executors.schedule(() -> expireCommands(deadline), deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Remove completed commands from the head of the queue. Must be called while {@link #consuming}.
+     */
+    private void purgeCompleted() {
+
+        Expiry head;
+        while ((head = expiryQueue.peek()) != null && head.isStale()) {
+            expiryQueue.poll().recycle();
+        }
+    }
+
+    private void expireCommands(long deadline) {
+
+        if (scheduledDeadline.get() != deadline) {
+            return;
+        }
+
+        List<RedisCommand<?, ?, ?>> expired = null;
+        long next = WithDeadline.NO_DEADLINE;
+
+        // writers purge without waiting for each other, the expiry task must not be skipped.
+        while (!consuming.compareAndSet(false, true)) {
+            Thread.yield();
+        }
+
+        try {
+
+            long now = System.nanoTime();
+
+            Expiry head;
+            while ((head = expiryQueue.peek()) != null) {
+
+                if (head.isStale()) {
+                    expiryQueue.poll().recycle();
+                    continue;
+                }
+
+                if (head.deadline - now > 0) {
+                    next = head.deadline;
+                    break;
+                }
+
+                if (expired == null) {
+                    expired = new ArrayList<>();
+                }
+
+                Expiry expiry = expiryQueue.poll();
+                expired.add(expiry.command);
+                expiry.recycle();
+            }
+        } finally {
+            consuming.set(false);
+        }
+
+        if (next != WithDeadline.NO_DEADLINE) {
+
+            if (scheduledDeadline.compareAndSet(deadline, WithDeadline.NO_DEADLINE)) {
+                scheduleExpiry(executorService, next);
+            }
+        } else if (scheduledDeadline.compareAndSet(deadline, WithDeadline.NO_DEADLINE)) {
+
+            // a command enqueued while draining may have observed this task as scheduled.
+            Expiry head = expiryQueue.peek();
+
+            if (head != null) {
+                scheduleExpiry(executorService, head.deadline);
+            }
+        }
+
+        if (expired == null) {
+            return;
+        }
+
+        Duration duration = Duration.ofNanos(timeUnit.toNanos(queuedTimeout.get()));
+
+        for (RedisCommand<?, ?, ?> command : expired) {
+
+            if (!command.isDone() && isExpired(command, System.nanoTime())) {
+                command.completeExceptionally(ExceptionFactory.createTimeoutException(duration));
+            }
+        }
+    }
+
+    private static boolean isExpired(RedisCommand<?, ?, ?> command, long now) {
+
+        long deadline = ((WithDeadline) command).getDeadline();
+        return deadline != WithDeadline.NO_DEADLINE && now - deadline >= 0;
+    }
+
+    private void cancelExpiryTask() {
+
+        scheduledDeadline.set(WithDeadline.NO_DEADLINE);
+
+        while (!consuming.compareAndSet(false, true)) {
+            Thread.yield();
+        }
+
+        try {
+
+            Expiry expiry;
+            while ((expiry = expiryQueue.poll()) != null) {
+                expiry.recycle();
+            }
+        } finally {
+            consuming.set(false);
+        }
+    }
+
+    /**
+     * Pooled deadline queue entry. The deadline is recorded along with the command as pooled commands can be completed,
+     * recycled and written again with a new deadline while still being referenced by the queue.
+     */
+    static class Expiry {
+
+        private static final Recycler<Expiry> RECYCLER = new Recycler<Expiry>() {
+            @Override
+            protected Expiry newObject(Handle<Expiry> handle) {
+                return new Expiry(handle);
+            }
+        };
+
+        private final Recycler.Handle<Expiry> handle;
+
+        RedisCommand<?, ?, ?> command;
+        long deadline;
+
+        Expiry(Recycler.Handle<Expiry> handle) {
+            this.handle = handle;
+        }
+
+        static Expiry newInstance(RedisCommand<?, ?, ?> command, long deadline) {
+
+            Expiry expiry = RECYCLER.get();
+
+            expiry.command = command;
+            expiry.deadline = deadline;
+
+            return expiry;
+        }
+
+        boolean isStale() {
+            return command.isDone() || ((WithDeadline) command).getDeadline() != deadline;
+        }
+
+        void recycle() {
+
+            this.command = null;
+            this.deadline = WithDeadline.NO_DEADLINE;
+
+            handle.recycle(this);
+        }
+    }
 }
@@ -26,8 +26,11 @@ import java.util.*;
 import java.util.concurrent.atomic.AtomicLong;
 
 import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ConcurrencyLimitOptions;
+import io.lettuce.core.ConcurrencyLimitOptions.OverloadBehavior;
 import io.lettuce.core.RedisConnectionException;
 import io.lettuce.core.RedisException;
+import io.lettuce.core.RedisOverloadException;
 import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.internal.LettuceSets;
 import io.lettuce.core.output.CommandOutput;
@@ -84,6 +87,10 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
     private final float discardReadBytesRatio;
     private final boolean boundedQueues;
     private final BackpressureSource backpressureSource = new BackpressureSource();
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final OverloadBehavior overloadBehavior;
+    private final ArrayDeque<PendingWrite> pendingWrites = new ArrayDeque<>();
+    private int pendingCommands;
 
     Channel channel;
     private ByteBuf buffer;
@@ -119,6 +126,12 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
         float bufferUsageRatio = clientOptions.getBufferUsageRatio();
         this.discardReadBytesRatio = bufferUsageRatio / (bufferUsageRatio + 1);
+
+        ConcurrencyLimitOptions concurrencyLimitOptions = clientOptions.getConcurrencyLimitOptions();
+
+        this.concurrencyLimiter = concurrencyLimitOptions.isLimitConcurrency() ? new ConcurrencyLimiter(
+                concurrencyLimitOptions) : null;
+        this.overloadBehavior = concurrencyLimitOptions.getOverloadBehavior();
     }
 
     public Queue<RedisCommand<?, ?, ?>> getStack() {
@@ -134,7 +147,11 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
     @Override
     public Collection<RedisCommand<?, ?, ?>> drainQueue() {
-        return drainCommands(stack);
+
+        List<RedisCommand<?, ?, ?>> commands = drainCommands(stack);
+        commands.addAll(drainPendingWrites());
+
+        return commands;
     }
 
     protected LifecycleState getState() {
@@ -224,6 +241,11 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
         if (!stack.isEmpty()) {
             RedisCommand<?, ?, ?> command = stack.poll();
+
+            if (concurrencyLimiter != null) {
+                concurrencyLimiter.discard(command);
+            }
+
             if (debugEnabled) {
                 logger.debug("{} Storing exception in {}", logPrefix(), command);
             }
@@ -349,6 +371,17 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
             logger.debug("{} write(ctx, {}, promise)", logPrefix(), msg);
         }
 
+        if (concurrencyLimiter != null && isOverLimit(msg)) {
+            onOverLimit(msg, promise);
+            return;
+        }
+
+        doWrite(ctx, msg, promise);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void doWrite(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+
         if (msg instanceof RedisCommand) {
             writeSingleCommand(ctx, (RedisCommand<?, ?, ?>) msg, promise);
             return;
@@ -384,10 +417,10 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
         if (tracingEnabled && command instanceof CompleteableCommand) {
 
-            TracedCommand<?, ?, ?> provider = CommandWrapper.unwrap(command, TracedCommand.class);
+            CommandWrapper<?, ?, ?> traced = CommandWrapper.unwrapTraced(command);
             Tracer tracer = clientResources.tracing().getTracerProvider().getTracer();
-            TraceContext context = (provider == null ? clientResources.tracing().initialTraceContextProvider() : provider)
-                    .getTraceContext();
+            TraceContext context = traced == null ? clientResources.tracing().initialTraceContextProvider().getTraceContext()
+                    : traced.traceContext;
 
             Tracer.Span span = tracer.nextSpan(context);
             span.name(command.getType().name());
@@ -398,7 +431,10 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
             span.remoteEndpoint(tracedEndpoint);
             span.start();
-            provider.setSpan(span);
+
+            if (traced != null) {
+                traced.span = span;
+            }
 
             CompleteableCommand<?> completeableCommand = (CompleteableCommand<?>) command;
             completeableCommand.onComplete((o, throwable) -> {
@@ -469,10 +505,14 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
             RedisCommand<?, ?, ?> redisCommand = potentiallyWrapLatencyCommand(command);
 
+            if (concurrencyLimiter != null) {
+                concurrencyLimiter.onWrite(redisCommand, promise.isVoid(), nanoTime());
+            }
+
             if (promise.isVoid()) {
                 stack.add(redisCommand);
             } else {
-                promise.addListener(AddToStack.newInstance(stack, redisCommand));
+                promise.addListener(AddToStack.newInstance(stack, redisCommand, concurrencyLimiter));
             }
         } catch (Exception e) {
             command.completeExceptionally(e);
@@ -499,8 +539,123 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
         return boundedQueues;
     }
 
+    private boolean isOverLimit(Object msg) {
+
+        if (!(msg instanceof RedisCommand) && !(msg instanceof Collection)) {
+            return false;
+        }
+
+        return !pendingWrites.isEmpty() || !concurrencyLimiter.hasCapacity(stack.size(), getCommandCount(msg));
+    }
+
+    private void onOverLimit(Object msg, ChannelPromise promise) {
+
+        if (overloadBehavior == OverloadBehavior.QUEUE) {
+
+            int commands = getCommandCount(msg);
+
+            if (usesBoundedQueues() && stack.size() + pendingCommands + commands > clientOptions.getRequestQueueSize()) {
+
+                reject(msg, promise, new RedisOverloadException("Request queue size exceeded: "
+                        + clientOptions.getRequestQueueSize()
+                        + ". Commands are not accepted until in-flight commands complete."));
+                return;
+            }
+
+            if (debugEnabled) {
+                logger.debug("{} Concurrency limit {} reached, queueing {}", logPrefix(), concurrencyLimiter.getLimit(), msg);
+            }
+
+            pendingWrites.add(new PendingWrite(msg, promise, commands));
+            pendingCommands += commands;
+            return;
+        }
+
+        reject(msg, promise, new RedisOverloadException("Concurrency limit exceeded: " + concurrencyLimiter.getLimit()
+                + ". Commands are not accepted until in-flight commands complete."));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void reject(Object msg, ChannelPromise promise, RedisOverloadException exception) {
+
+        if (msg instanceof RedisCommand) {
+            ((RedisCommand<?, ?, ?>) msg).completeExceptionally(exception);
+        } else {
+            for (RedisCommand<?, ?, ?> command : (Collection<RedisCommand<?, ?, ?>>) msg) {
+                command.completeExceptionally(exception);
+            }
+        }
+
+        promise.trySuccess();
+    }
+
+    /**
+     * Write commands that were queued because of the concurrency limit as long as the limit permits.
+     *
+     * @param ctx
+     */
+    private void writePendingCommands(ChannelHandlerContext ctx) {
+
+        boolean written = false;
+        PendingWrite pendingWrite;
+
+        while ((pendingWrite = pendingWrites.peek()) != null
+                && concurrencyLimiter.hasCapacity(stack.size(), pendingWrite.commands)) {
+
+            pendingWrites.poll();
+            pendingCommands -= pendingWrite.commands;
+
+            try {
+                doWrite(ctx, pendingWrite.msg, pendingWrite.promise);
+            } catch (Exception e) {
+                pendingWrite.promise.tryFailure(e);
+            }
+
+            written = true;
+        }
+
+        if (written) {
+            ctx.flush();
+        }
+    }
+
+    /**
+     * Drain commands that were queued because of the concurrency limit. Pending write promises are completed so that the
+     * drained commands can be requeued.
+     *
+     * @return the drained commands.
+     */
+    @SuppressWarnings("unchecked")
+    private List<RedisCommand<?, ?, ?>> drainPendingWrites() {
+
+        if (pendingWrites.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<RedisCommand<?, ?, ?>> commands = new ArrayList<>(pendingCommands);
+        pendingCommands = 0;
+
+        PendingWrite pendingWrite;
+        while ((pendingWrite = pendingWrites.poll()) != null) {
+
+            if (pendingWrite.msg instanceof RedisCommand) {
+                commands.add((RedisCommand<?, ?, ?>) pendingWrite.msg);
+            } else {
+                commands.addAll((Collection<RedisCommand<?, ?, ?>>) pendingWrite.msg);
+            }
+
+            pendingWrite.promise.trySuccess();
+        }
+
+        return commands;
+    }
+
+    private static int getCommandCount(Object msg) {
+        return msg instanceof Collection ? ((Collection<?>) msg).size() : 1;
+    }
+
     private static boolean isWriteable(RedisCommand<?, ?, ?> command) {
-        return !command.isDone();
+        return !command.isDone() && !WithDeadline.expireIfNecessary(command);
     }
 
     private RedisCommand<?, ?, ?> potentiallyWrapLatencyCommand(RedisCommand<?, ?, ?> command) {
@@ -561,6 +716,10 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
             buffer.writeBytes(input);
 
             decode(ctx, buffer);
+
+            if (!pendingWrites.isEmpty()) {
+                writePendingCommands(ctx);
+            }
         } finally {
             input.release();
         }
@@ -601,12 +760,19 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
                 throw e;
             }
 
+            boolean completed = false;
+
             if (isProtectedMode(command)) {
                 onProtectedMode(command.getOutput().getError());
             } else {
 
                 if (canComplete(command)) {
                     stack.poll();
+                    completed = true;
+
+                    if (concurrencyLimiter != null) {
+                        concurrencyLimiter.onComplete(command, stack.size(), nanoTime());
+                    }
 
                     try {
                         complete(command);
@@ -617,6 +783,10 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
             }
 
             afterDecode(ctx, command);
+
+            if (completed) {
+                recycle(command);
+            }
         }
 
         discardReadBytesIfNecessary(buffer);
@@ -764,6 +934,11 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
         stack.forEach(cmd -> cmd.completeExceptionally(exception));
         stack.clear();
+
+        if (concurrencyLimiter != null) {
+            concurrencyLimiter.reset();
+            drainPendingWrites().forEach(cmd -> cmd.completeExceptionally(exception));
+        }
     }
 
     /**
@@ -806,19 +981,40 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
     private void reset() {
 
         resetInternals();
-        cancelCommands("Reset", drainCommands(stack));
+
+        Collection<RedisCommand<?, ?, ?>> commands = drainQueue();
+        cancelCommands("Reset", commands);
+        commands.forEach(CommandHandler::recycle);
     }
 
     private void resetInternals() {
 
         rsm.reset();
 
+        if (concurrencyLimiter != null) {
+            concurrencyLimiter.reset();
+        }
+
         if (buffer.refCnt() > 0) {
             buffer.clear();
         }
     }
 
-    private static void cancelCommands(String message, List<RedisCommand<?, ?, ?>> toCancel) {
+    /**
+     * Return a {@link RecyclableCommand} to its pool once it has left the command stack and can no longer receive a response.
+     *
+     * @param command
+     */
+    private static void recycle(RedisCommand<?, ?, ?> command) {
+
+        RecyclableCommand<?, ?, ?> recyclable = CommandWrapper.unwrap(command, RecyclableCommand.class);
+
+        if (recyclable != null && recyclable.isDone()) {
+            recyclable.recycle();
+        }
+    }
+
+    private static void cancelCommands(String message, Collection<RedisCommand<?, ?, ?>> toCancel) {
 
         for (RedisCommand<?, ?, ?> cmd : toCancel) {
             if (cmd.getOutput() != null) {
@@ -881,6 +1077,22 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
         INSTANCE
     }
 
+    /**
+     * Write that was deferred because of the concurrency limit.
+     */
+    static class PendingWrite {
+
+        final Object msg;
+        final ChannelPromise promise;
+        final int commands;
+
+        PendingWrite(Object msg, ChannelPromise promise, int commands) {
+            this.msg = msg;
+            this.promise = promise;
+            this.commands = commands;
+        }
+    }
+
     /**
      * Add to stack listener. This listener is pooled and must be {@link #recycle() recycled after usage}.
      */
@@ -896,6 +1108,7 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
         private final Recycler.Handle<AddToStack> handle;
         private ArrayDeque<Object> stack;
         private RedisCommand<?, ?, ?> command;
+        private ConcurrencyLimiter concurrencyLimiter;
 
         AddToStack(Recycler.Handle<AddToStack> handle) {
             this.handle = handle;
@@ -906,15 +1119,18 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
          *
          * @param stack
          * @param command
+         * @param concurrencyLimiter may be {@literal null}.
          * @return
          */
         @SuppressWarnings("unchecked")
-        static AddToStack newInstance(ArrayDeque<?> stack, RedisCommand<?, ?, ?> command) {
+        static AddToStack newInstance(ArrayDeque<?> stack, RedisCommand<?, ?, ?> command,
+                ConcurrencyLimiter concurrencyLimiter) {
 
             AddToStack entry = RECYCLER.get();
 
             entry.stack = (ArrayDeque<Object>) stack;
             entry.command = command;
+            entry.concurrencyLimiter = concurrencyLimiter;
 
             return entry;
         }
@@ -924,8 +1140,15 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
         public void operationComplete(Future<Void> future) {
 
             try {
+
+                if (concurrencyLimiter != null) {
+                    concurrencyLimiter.onAcknowledge();
+                }
+
                 if (future.isSuccess()) {
                     stack.add(command);
+                } else if (concurrencyLimiter != null) {
+                    concurrencyLimiter.discard(command);
                 }
             } finally {
                 recycle();
@@ -936,6 +1159,7 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
             this.stack = null;
             this.command = null;
+            this.concurrencyLimiter = null;
 
             handle.recycle(this);
         }
@@ -21,30 +21,66 @@ import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 import io.lettuce.core.output.CommandOutput;
+import io.lettuce.core.tracing.TraceContext;
+import io.lettuce.core.tracing.Tracer;
 import io.netty.buffer.ByteBuf;
 
 /**
- * Wrapper for a command.
+ * Wrapper for a command. Wrappers carry {@link WithLatency latency} and tracing state as fields so a single wrapper can
+ * record latency and trace the command without stacking further wrappers. A wrapped plain {@link TracedCommand} is collapsed
+ * into its outer wrapper by adopting its trace state.
  *
  * @author Mark Paluch
  */
-public class CommandWrapper<K, V, T> implements RedisCommand<K, V, T>, CompleteableCommand<T>, DecoratedCommand<K, V, T> {
+public class CommandWrapper<K, V, T> implements RedisCommand<K, V, T>, CompleteableCommand<T>, DecoratedCommand<K, V, T>,
+        WithDeadline, WithLatency {
 
     @SuppressWarnings({ "rawtypes", "unchecked" })
     private static final AtomicReferenceFieldUpdater<CommandWrapper, Object[]> ONCOMPLETE = AtomicReferenceFieldUpdater
             .newUpdater(CommandWrapper.class, Object[].class, "onComplete");
 
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static final AtomicReferenceFieldUpdater<CommandWrapper, CommandWrapper> COLLAPSED_INTO = AtomicReferenceFieldUpdater
+            .newUpdater(CommandWrapper.class, CommandWrapper.class, "collapsedInto");
+
     @SuppressWarnings({ "rawtypes", "unchecked" })
     private static final Object[] EMPTY = new Object[0];
 
+    /**
+     * Marker for a wrapper that was collapsed into its outer wrapper. Callbacks are registered with the outer wrapper.
+     */
+    private static final Object[] COLLAPSED = new Object[0];
+
     protected final RedisCommand<K, V, T> command;
 
     // accessed via AtomicReferenceFieldUpdater.
     @SuppressWarnings("unused")
     private volatile Object[] onComplete = EMPTY;
 
+    private volatile CommandWrapper<K, V, T> collapsedInto;
+
+    TraceContext traceContext;
+
+    Tracer.Span span;
+
+    private long sentNs = -1;
+    private long firstResponseNs = -1;
+    private long completedNs = -1;
+
+    @SuppressWarnings("unchecked")
     public CommandWrapper(RedisCommand<K, V, T> command) {
-        this.command = command;
+
+        if (command != null && command.getClass() == TracedCommand.class
+                && ((TracedCommand<K, V, T>) command).collapseInto(this)) {
+
+            TracedCommand<K, V, T> traced = (TracedCommand<K, V, T>) command;
+
+            this.command = traced.command;
+            this.traceContext = traced.traceContext;
+            this.span = traced.span;
+        } else {
+            this.command = command;
+        }
     }
 
     @Override
@@ -126,7 +162,29 @@ public class CommandWrapper<K, V, T> implements RedisCommand<K, V, T>, Completea
     }
 
     private boolean expireCallbacks(Object[] consumers) {
-        return consumers != EMPTY && ONCOMPLETE.compareAndSet(this, consumers, EMPTY);
+        return consumers != EMPTY && consumers != COLLAPSED && ONCOMPLETE.compareAndSet(this, consumers, EMPTY);
+    }
+
+    /**
+     * Collapse this wrapper into {@code outer} if no callbacks were registered yet. Callbacks registered afterwards are
+     * registered with {@code outer}.
+     *
+     * @param outer the wrapper replacing this wrapper.
+     * @return {@literal true} if this wrapper was collapsed.
+     */
+    boolean collapseInto(CommandWrapper<K, V, T> outer) {
+
+        if (ONCOMPLETE.get(this) != EMPTY || !COLLAPSED_INTO.compareAndSet(this, null, outer)) {
+            return false;
+        }
+
+        if (ONCOMPLETE.compareAndSet(this, EMPTY, COLLAPSED)) {
+            return true;
+        }
+
+        // a callback was registered concurrently. collapsedInto is only read once collapsed.
+        this.collapsedInto = null;
+        return false;
     }
 
     @Override
@@ -141,7 +199,16 @@ public class CommandWrapper<K, V, T> implements RedisCommand<K, V, T>, Completea
 
     @Override
     public void encode(ByteBuf buf) {
+
+        if (span != null) {
+            span.annotate("redis.encode.start");
+        }
+
         command.encode(buf);
+
+        if (span != null) {
+            span.annotate("redis.encode.end");
+        }
     }
 
     @Override
@@ -154,6 +221,19 @@ public class CommandWrapper<K, V, T> implements RedisCommand<K, V, T>, Completea
         command.setOutput(output);
     }
 
+    @Override
+    public void deadline(long deadline) {
+
+        if (command instanceof WithDeadline) {
+            ((WithDeadline) command).deadline(deadline);
+        }
+    }
+
+    @Override
+    public long getDeadline() {
+        return command instanceof WithDeadline ? ((WithDeadline) command).getDeadline() : NO_DEADLINE;
+    }
+
     @Override
     public void onComplete(Consumer<? super T> action) {
         addOnComplete(action);
@@ -170,6 +250,12 @@ public class CommandWrapper<K, V, T> implements RedisCommand<K, V, T>, Completea
         for (;;) {
 
             Object[] existing = ONCOMPLETE.get(this);
+
+            if (existing == COLLAPSED) {
+                collapsedInto.addOnComplete(action);
+                return;
+            }
+
             Object[] updated = new Object[existing.length + 1];
             System.arraycopy(existing, 0, updated, 0, existing.length);
             updated[existing.length] = action;
@@ -180,6 +266,38 @@ public class CommandWrapper<K, V, T> implements RedisCommand<K, V, T>, Completea
         }
     }
 
+    @Override
+    public void sent(long timeNs) {
+        sentNs = timeNs;
+        firstResponseNs = -1;
+        completedNs = -1;
+    }
+
+    @Override
+    public void firstResponse(long timeNs) {
+        firstResponseNs = timeNs;
+    }
+
+    @Override
+    public void completed(long timeNs) {
+        completedNs = timeNs;
+    }
+
+    @Override
+    public long getSent() {
+        return sentNs;
+    }
+
+    @Override
+    public long getFirstResponse() {
+        return firstResponseNs;
+    }
+
+    @Override
+    public long getCompleted() {
+        return completedNs;
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
@@ -218,6 +336,30 @@ public class CommandWrapper<K, V, T> implements RedisCommand<K, V, T>, Completea
         return result;
     }
 
+    /**
+     * Find the outermost wrapper carrying a {@link TraceContext}.
+     *
+     * @param wrapped
+     * @return the wrapper carrying a {@link TraceContext} or {@literal null}.
+     * @since 5.2
+     */
+    @SuppressWarnings("unchecked")
+    static <K, V, T> CommandWrapper<K, V, T> unwrapTraced(RedisCommand<K, V, T> wrapped) {
+
+        RedisCommand<K, V, T> result = wrapped;
+
+        while (result instanceof DecoratedCommand<?, ?, ?>) {
+
+            if (result instanceof CommandWrapper && ((CommandWrapper<K, V, T>) result).traceContext != null) {
+                return (CommandWrapper<K, V, T>) result;
+            }
+
+            result = ((DecoratedCommand<K, V, T>) result).getDelegate();
+        }
+
+        return null;
+    }
+
     /**
      * Returns an object that implements the given interface to allow access to non-standard methods, or standard methods not
      * exposed by the proxy.
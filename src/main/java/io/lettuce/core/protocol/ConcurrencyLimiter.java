@@ -0,0 +1,149 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import io.lettuce.core.ConcurrencyLimitOptions;
+
+/**
+ * AIMD-based concurrency limiter sizing the number of in-flight commands of a single connection from observed round-trip
+ * times. Round-trip times are sampled using a single probe command per round-trip so sampling does not require per-command
+ * state.
+ * <p>
+ * This class is not thread-safe and must be accessed only from the event loop of the associated channel.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see ConcurrencyLimitOptions
+ */
+class ConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThreshold;
+
+    private double limit;
+
+    /**
+     * Number of commands written to the transport that are not yet added to the command stack.
+     */
+    private int unacknowledged;
+
+    private RedisCommand<?, ?, ?> probe;
+    private long probeSent;
+
+    ConcurrencyLimiter(ConcurrencyLimitOptions options) {
+
+        this.minLimit = options.getMinLimit();
+        this.maxLimit = options.getMaxLimit();
+        this.backoffRatio = options.getBackoffRatio();
+        this.latencyThreshold = options.getLatencyThreshold().toNanos();
+        this.limit = options.getInitialLimit();
+    }
+
+    /**
+     * Check whether {@code commands} can be written at once. A batch that exceeds the limit on its own is admitted only if no
+     * commands are in flight so that it does not stall forever.
+     *
+     * @param queued number of commands awaiting a response.
+     * @param commands number of commands to write.
+     * @return {@literal true} if {@code commands} can be written without exceeding the limit.
+     */
+    boolean hasCapacity(int queued, int commands) {
+
+        int inFlight = queued + unacknowledged;
+        return inFlight + commands <= getLimit() || inFlight == 0;
+    }
+
+    /**
+     * Register a command that is written to the transport.
+     *
+     * @param command the command.
+     * @param acknowledged {@literal true} if the command is already added to the command stack.
+     * @param now current time in nanoseconds.
+     */
+    void onWrite(RedisCommand<?, ?, ?> command, boolean acknowledged, long now) {
+
+        if (!acknowledged) {
+            unacknowledged++;
+        }
+
+        if (probe == null) {
+            probe = command;
+            probeSent = now;
+        }
+    }
+
+    /**
+     * Acknowledge a previously unacknowledged write (i.e. the command was added to the command stack or the write failed).
+     */
+    void onAcknowledge() {
+
+        if (unacknowledged > 0) {
+            unacknowledged--;
+        }
+    }
+
+    /**
+     * Register a command completion.
+     *
+     * @param command the completed command.
+     * @param inFlight number of remaining in-flight commands.
+     * @param now current time in nanoseconds.
+     */
+    void onComplete(RedisCommand<?, ?, ?> command, int inFlight, long now) {
+
+        if (command != probe) {
+            return;
+        }
+
+        probe = null;
+
+        if (now - probeSent > latencyThreshold) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } else if ((inFlight + unacknowledged) * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    /**
+     * Discard a command that was removed without completion.
+     *
+     * @param command the command.
+     */
+    void discard(RedisCommand<?, ?, ?> command) {
+
+        if (command == probe) {
+            probe = null;
+        }
+    }
+
+    /**
+     * Reset the in-flight state. Retains the current limit.
+     */
+    void reset() {
+
+        probe = null;
+        unacknowledged = 0;
+    }
+
+    /**
+     * @return the current concurrency limit.
+     */
+    int getLimit() {
+        return (int) limit;
+    }
+}
@@ -591,7 +591,14 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint {
 
             commands.addAll(drainCommands(disconnectedBuffer));
 
-            for (RedisCommand<?, ?, ?> command : commands) {
+            for (Iterator<RedisCommand<?, ?, ?>> iterator = commands.iterator(); iterator.hasNext();) {
+
+                RedisCommand<?, ?, ?> command = iterator.next();
+
+                if (WithDeadline.expireIfNecessary(command)) {
+                    iterator.remove();
+                    continue;
+                }
 
                 if (command instanceof DemandAware.Sink) {
                     ((DemandAware.Sink) command).removeSource();
@@ -645,7 +652,7 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint {
     }
 
     /**
-     * Drain commands from a queue and return only active commands.
+     * Drain commands from a queue and return only active commands. Commands past their deadline are expired.
      *
      * @param source the source queue.
      * @return List of commands.
@@ -657,7 +664,7 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint {
         RedisCommand<?, ?, ?> cmd;
         while ((cmd = source.poll()) != null) {
 
-            if (!cmd.isDone()) {
+            if (!cmd.isDone() && !WithDeadline.expireIfNecessary(cmd)) {
                 target.add(cmd);
             }
         }
@@ -934,16 +941,34 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint {
                 Collection<? extends RedisCommand<?, ?, ?>> sentCommands, DefaultEndpoint endpoint) {
 
             if (sentCommand != null) {
+
+                if (sentCommand.isDone() || WithDeadline.expireIfNecessary(sentCommand)) {
+                    return;
+                }
+
                 try {
                     endpoint.write(sentCommand);
                 } catch (Exception e) {
                     sentCommand.completeExceptionally(e);
                 }
             } else {
+
+                List<RedisCommand<?, ?, ?>> toRequeue = new ArrayList<>(sentCommands.size());
+
+                for (RedisCommand<?, ?, ?> command : sentCommands) {
+                    if (!command.isDone() && !WithDeadline.expireIfNecessary(command)) {
+                        toRequeue.add(command);
+                    }
+                }
+
+                if (toRequeue.isEmpty()) {
+                    return;
+                }
+
                 try {
-                    endpoint.write((Collection) sentCommands);
+                    endpoint.write((Collection) toRequeue);
                 } catch (Exception e) {
-                    for (RedisCommand<?, ?, ?> command : sentCommands) {
+                    for (RedisCommand<?, ?, ?> command : toRequeue) {
                         command.completeExceptionally(e);
                     }
                 }
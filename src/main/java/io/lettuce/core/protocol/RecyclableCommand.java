@@ -0,0 +1,293 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import io.lettuce.core.ExceptionFactory;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.output.CommandOutput;
+import io.netty.buffer.ByteBuf;
+import io.netty.util.Recycler;
+
+/**
+ * Pooled {@link RedisCommand} for low-allocation fire-and-forget and callback-style command execution. Instances and their
+ * {@link CommandArgs} are obtained from and returned to a {@link Recycler} pool instead of allocating a command, arguments
+ * container and future per invocation.
+ * <p>
+ * Recyclable commands follow a strict ownership contract:
+ * <ul>
+ * <li>{@link #newInstance(ProtocolKeyword, CommandOutput, RedisCodec, BiConsumer)} hands out a command owned by the caller.
+ * The caller populates {@link #getArgs() arguments} and dispatches the command exactly once, e.g. using
+ * {@link io.lettuce.core.api.StatefulConnection#dispatch(RedisCommand)}.</li>
+ * <li>Dispatching transfers ownership to the connection. The caller must not retain or access the command, its arguments
+ * or its output after dispatching.</li>
+ * <li>Once completed, successfully, exceptionally or by cancellation, the callback is notified with the result or the
+ * failure. The result object can be retained, the output must not be referenced beyond the callback.</li>
+ * <li>The connection returns the command to the pool once the command has left its command stack, i.e. after its response
+ * was read or the command was cancelled by a connection reset. A command that completed early, e.g. by a timeout, remains
+ * allocated until its response arrives. A command that never reaches the command stack is left to garbage
+ * collection.</li>
+ * <li>A command that is not dispatched can be returned to the pool using {@link #recycle()} or left to garbage
+ * collection.</li>
+ * </ul>
+ * Recyclable commands are not suitable for Pub/Sub subscriptions and commands that are issued within a transaction as
+ * these keep references to commands beyond their completion.
+ *
+ * <h3>Example</h3>
+ *
+ * <pre class="code">
+ * RecyclableCommand&lt;String, String, String&gt; command = RecyclableCommand.newInstance(CommandType.SET,
+ *         new StatusOutput&lt;&gt;(codec), codec, (result, error) -&gt; ...);
+ * command.getArgs().addKey(key).addValue(value);
+ *
+ * connection.dispatch(command);
+ * </pre>
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @param <T> Command output type.
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public final class RecyclableCommand<K, V, T> implements RedisCommand<K, V, T>, CompleteableCommand<T>, WithDeadline {
+
+    private static final int ST_INITIAL = 0;
+    private static final int ST_COMPLETED = 1;
+    private static final int ST_CANCELLED = 2;
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<RecyclableCommand> STATUS = AtomicIntegerFieldUpdater
+            .newUpdater(RecyclableCommand.class, "status");
+
+    @SuppressWarnings("rawtypes")
+    private static final Recycler<RecyclableCommand> RECYCLER = new Recycler<RecyclableCommand>() {
+        @Override
+        protected RecyclableCommand newObject(Handle<RecyclableCommand> handle) {
+            return new RecyclableCommand(handle);
+        }
+    };
+
+    @SuppressWarnings("rawtypes")
+    private final Recycler.Handle<RecyclableCommand> handle;
+
+    private final List<BiConsumer<? super T, Throwable>> onComplete = new ArrayList<>(2);
+
+    private ProtocolKeyword type;
+    private CommandArgs<K, V> args;
+    private CommandOutput<K, V, T> output;
+    private BiConsumer<? super T, Throwable> callback;
+    private volatile int status = ST_INITIAL;
+    private volatile long deadline = NO_DEADLINE;
+
+    @SuppressWarnings("rawtypes")
+    private RecyclableCommand(Recycler.Handle<RecyclableCommand> handle) {
+        this.handle = handle;
+    }
+
+    /**
+     * Obtain a pooled command.
+     *
+     * @param type Command type, must not be {@literal null}.
+     * @param output Command output, must not be {@literal null}.
+     * @param codec Codec used to encode keys and values, must not be {@literal null}.
+     * @param callback completion callback notified with the result or the failure, can be {@literal null} for
+     *        fire-and-forget usage.
+     * @return the pooled command.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V, T> RecyclableCommand<K, V, T> newInstance(ProtocolKeyword type, CommandOutput<K, V, T> output,
+            RedisCodec<K, V> codec, BiConsumer<? super T, Throwable> callback) {
+
+        LettuceAssert.notNull(type, "Command type must not be null");
+        LettuceAssert.notNull(output, "CommandOutput must not be null");
+        LettuceAssert.notNull(codec, "RedisCodec must not be null");
+
+        RecyclableCommand<K, V, T> command = RECYCLER.get();
+
+        if (command.args == null || command.args.codec != codec) {
+            command.args = new CommandArgs<>(codec);
+        }
+
+        command.type = type;
+        command.output = output;
+        command.callback = callback;
+
+        return command;
+    }
+
+    @Override
+    public CommandOutput<K, V, T> getOutput() {
+        return output;
+    }
+
+    @Override
+    public void complete() {
+
+        if (!STATUS.compareAndSet(this, ST_INITIAL, ST_COMPLETED)) {
+            return;
+        }
+
+        if (output.hasError()) {
+            notifyListeners(null, ExceptionFactory.createExecutionException(output.getError()));
+        } else {
+            notifyListeners(output.get(), null);
+        }
+    }
+
+    @Override
+    public void cancel() {
+
+        if (STATUS.compareAndSet(this, ST_INITIAL, ST_CANCELLED)) {
+            output.cancel();
+            notifyListeners(null, new CancellationException());
+        }
+    }
+
+    @Override
+    public boolean completeExceptionally(Throwable throwable) {
+
+        if (!STATUS.compareAndSet(this, ST_INITIAL, ST_COMPLETED)) {
+            return false;
+        }
+
+        output.setError(throwable.getMessage());
+        notifyListeners(null, throwable);
+        return true;
+    }
+
+    private void notifyListeners(T result, Throwable throwable) {
+
+        synchronized (onComplete) {
+            for (BiConsumer<? super T, Throwable> action : onComplete) {
+                action.accept(result, throwable);
+            }
+        }
+
+        if (callback != null) {
+            callback.accept(result, throwable);
+        }
+    }
+
+    /**
+     * Return this command to the pool. Dispatched commands are recycled by the connection so calling this method is only
+     * required to release a command that is not going to be dispatched.
+     */
+    public void recycle() {
+
+        deadline = NO_DEADLINE;
+        type = null;
+        output = null;
+        callback = null;
+
+        synchronized (onComplete) {
+            onComplete.clear();
+        }
+
+        args.clear();
+        status = ST_INITIAL;
+
+        handle.recycle(this);
+    }
+
+    @Override
+    public CommandArgs<K, V> getArgs() {
+        return args;
+    }
+
+    @Override
+    public ProtocolKeyword getType() {
+        return type;
+    }
+
+    @Override
+    public void encode(ByteBuf buf) {
+
+        buf.writeByte('*');
+        CommandArgs.IntegerArgument.writeInteger(buf, 1 + args.count());
+
+        buf.writeBytes(CommandArgs.CRLF);
+
+        CommandArgs.BytesArgument.writeBytes(buf, type.getBytes());
+
+        args.encode(buf);
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return status == ST_CANCELLED;
+    }
+
+    @Override
+    public boolean isDone() {
+        return status != ST_INITIAL;
+    }
+
+    @Override
+    public void setOutput(CommandOutput<K, V, T> output) {
+
+        if (this.status != ST_INITIAL) {
+            throw new IllegalStateException("Command is completed/cancelled. Cannot set a new output");
+        }
+        this.output = output;
+    }
+
+    @Override
+    public void onComplete(Consumer<? super T> action) {
+
+        onComplete((result, throwable) -> {
+            if (throwable == null) {
+                action.accept(result);
+            }
+        });
+    }
+
+    @Override
+    public void onComplete(BiConsumer<? super T, Throwable> action) {
+
+        LettuceAssert.notNull(action, "Action must not be null");
+
+        synchronized (onComplete) {
+            onComplete.add(action);
+        }
+    }
+
+    @Override
+    public void deadline(long deadline) {
+        this.deadline = deadline;
+    }
+
+    @Override
+    public long getDeadline() {
+        return deadline;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getSimpleName());
+        sb.append(" [type=").append(type);
+        sb.append(", output=").append(output);
+        sb.append(']');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import io.lettuce.core.RedisCommandTimeoutException;
+
+/**
+ * Interface to items carrying a deadline. Deadlines are expressed in {@link System#nanoTime()} units. Commands past their
+ * deadline are not worth being sent to Redis as nobody awaits their result anymore.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+interface WithDeadline {
+
+    /**
+     * Value indicating that no deadline is set.
+     */
+    long NO_DEADLINE = 0;
+
+    /**
+     * Sets the deadline.
+     *
+     * @param deadline the deadline in {@link System#nanoTime()} units.
+     */
+    void deadline(long deadline);
+
+    /**
+     * @return the deadline in {@link System#nanoTime()} units or {@link #NO_DEADLINE} if the item has no deadline.
+     */
+    long getDeadline();
+
+    /**
+     * Check whether the {@link RedisCommand} is past its deadline and complete it exceptionally with a
+     * {@link RedisCommandTimeoutException} if so.
+     *
+     * @param command the command.
+     * @return {@literal true} if the command was past its deadline.
+     */
+    static boolean expireIfNecessary(RedisCommand<?, ?, ?> command) {
+
+        if (!(command instanceof WithDeadline)) {
+            return false;
+        }
+
+        long deadline = ((WithDeadline) command).getDeadline();
+
+        if (deadline == NO_DEADLINE || System.nanoTime() - deadline < 0) {
+            return false;
+        }
+
+        command.completeExceptionally(new RedisCommandTimeoutException("Command timed out before it was sent"));
+        return true;
+    }
+}
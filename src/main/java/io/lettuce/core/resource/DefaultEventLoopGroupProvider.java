@@ -22,6 +22,8 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import io.lettuce.core.EpollProvider;
 import io.lettuce.core.KqueueProvider;
@@ -43,6 +45,7 @@ public class DefaultEventLoopGroupProvider implements EventLoopGroupProvider {
 
     private final Map<Class<? extends EventExecutorGroup>, EventExecutorGroup> eventLoopGroups = new ConcurrentHashMap<>(2);
     private final Map<ExecutorService, Long> refCounter = new ConcurrentHashMap<>(2);
+    private final Lock lock = new ReentrantLock();
 
     private final int numberOfThreads;
 
@@ -60,47 +63,41 @@ public class DefaultEventLoopGroupProvider implements EventLoopGroupProvider {
     @Override
     public <T extends EventLoopGroup> T allocate(Class<T> type) {
 
-        synchronized (this) {
+        lock.lock();
+        try {
             logger.debug("Allocating executor {}", type.getName());
             return addReference(getOrCreate(type));
+        } finally {
+            lock.unlock();
         }
     }
 
     private <T extends ExecutorService> T addReference(T reference) {
 
-        synchronized (refCounter) {
-            long counter = 0;
-            if (refCounter.containsKey(reference)) {
-                counter = refCounter.get(reference);
-            }
+        refCounter.compute(reference, (key, counter) -> {
 
-            logger.debug("Adding reference to {}, existing ref count {}", reference, counter);
-            counter++;
-            refCounter.put(reference, counter);
-        }
+            long current = counter == null ? 0 : counter;
+
+            logger.debug("Adding reference to {}, existing ref count {}", reference, current);
+            return current + 1;
+        });
 
         return reference;
     }
 
     private <T extends ExecutorService> T release(T reference) {
 
-        synchronized (refCounter) {
-            long counter = 0;
-            if (refCounter.containsKey(reference)) {
-                counter = refCounter.get(reference);
-            }
+        refCounter.compute(reference, (key, counter) -> {
 
-            if (counter < 1) {
-                logger.debug("Attempting to release {} but ref count is {}", reference, counter);
-            }
+            long current = counter == null ? 0 : counter;
 
-            counter--;
-            if (counter == 0) {
-                refCounter.remove(reference);
-            } else {
-                refCounter.put(reference, counter);
+            if (current < 1) {
+                logger.debug("Attempting to release {} but ref count is {}", reference, current);
             }
-        }
+
+            current--;
+            return current == 0 ? null : current;
+        });
 
         return reference;
     }
@@ -15,6 +15,7 @@
  */
 package io.lettuce.core.support;
 
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicReference;
@@ -140,6 +141,75 @@ public abstract class AsyncConnectionPoolSupport {
         return pool;
     }
 
+    /**
+     * Creates a new {@link BoundedBlockingPool} using the {@link Supplier}. Allocated instances are wrapped and must not be
+     * returned with {@link BoundedBlockingPool#release(Object)}.
+     *
+     * @param connectionSupplier must not be {@literal null}.
+     * @param config must not be {@literal null}.
+     * @param <T> connection type.
+     * @return the connection pool.
+     * @since 5.2
+     */
+    public static <T extends StatefulConnection<?, ?>> BoundedBlockingPool<T> createBoundedBlockingPool(
+            Supplier<CompletionStage<T>> connectionSupplier, BoundedPoolConfig config) {
+        return createBoundedBlockingPool(connectionSupplier, config, true);
+    }
+
+    /**
+     * Creates a new {@link BoundedBlockingPool} using the {@link Supplier}.
+     *
+     * @param connectionSupplier must not be {@literal null}.
+     * @param config must not be {@literal null}.
+     * @param wrapConnections {@literal false} to return direct connections that need to be returned to the pool using
+     *        {@link BoundedBlockingPool#release(Object)}. {@literal true} to return wrapped connection that are returned to the
+     *        pool when invoking {@link StatefulConnection#close()}/{@link StatefulConnection#closeAsync()}.
+     * @param <T> connection type.
+     * @return the connection pool.
+     * @since 5.2
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends StatefulConnection<?, ?>> BoundedBlockingPool<T> createBoundedBlockingPool(
+            Supplier<CompletionStage<T>> connectionSupplier, BoundedPoolConfig config, boolean wrapConnections) {
+
+        LettuceAssert.notNull(connectionSupplier, "Connection supplier must not be null");
+        LettuceAssert.notNull(config, "BoundedPoolConfig must not be null");
+
+        AtomicReference<Origin<T>> poolRef = new AtomicReference<>();
+
+        BoundedBlockingPool<T> pool = new BoundedBlockingPool<T>(new RedisPooledObjectFactory<T>(connectionSupplier), config) {
+
+            @Override
+            public T acquire() throws InterruptedException {
+                return wrap(super.acquire());
+            }
+
+            @Override
+            public T acquire(Duration timeout) throws InterruptedException {
+                return wrap(super.acquire(timeout));
+            }
+
+            private T wrap(T connection) {
+                return wrapConnections ? ConnectionWrapping.wrapConnection(connection, poolRef.get()) : connection;
+            }
+
+            @Override
+            public void release(T object) {
+
+                if (wrapConnections && object instanceof HasTargetConnection) {
+                    super.release((T) ((HasTargetConnection) object).getTargetConnection());
+                    return;
+                }
+
+                super.release(object);
+            }
+        };
+
+        poolRef.set(new BlockingPoolWrapper<>(pool));
+
+        return pool;
+    }
+
     /**
      * @author Mark Paluch
      * @since 5.1
@@ -186,4 +256,25 @@ public abstract class AsyncConnectionPoolSupport {
             return pool.release(o);
         }
     }
+
+    private static class BlockingPoolWrapper<T> implements Origin<T> {
+
+        private final BoundedBlockingPool<T> pool;
+
+        BlockingPoolWrapper(BoundedBlockingPool<T> pool) {
+            this.pool = pool;
+        }
+
+        @Override
+        public void returnObject(T o) {
+            pool.release(o);
+        }
+
+        @Override
+        public CompletableFuture<Void> returnObjectAsync(T o) {
+
+            pool.release(o);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
 }
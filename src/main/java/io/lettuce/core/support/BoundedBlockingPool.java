@@ -0,0 +1,204 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.support;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Bounded object pool for blocking callers. {@link BoundedBlockingPool} is intended for large numbers of cheap threads,
+ * such as virtual threads, that borrow an object for a short time. Callers waiting for an object queue up in a fair
+ * {@link Semaphore} limited to {@link BoundedPoolConfig#getMaxTotal()} permits. Waiting parks the thread through
+ * {@link java.util.concurrent.locks.LockSupport} and never blocks while holding a monitor, so waiting virtual threads do not
+ * pin their carrier. Object creation, validation and idle handling are delegated to a {@link BoundedAsyncPool}.
+ * <p>
+ * Objects must be returned with {@link #release(Object)} once they are no longer in use. The pool is stateful and requires
+ * {@link #close() cleanup} once it's no longer in use.
+ *
+ * @param <T> object type.
+ * @author Mark Paluch
+ * @since 5.2
+ * @see BoundedPoolConfig
+ * @see AsyncObjectFactory
+ */
+public class BoundedBlockingPool<T> implements Closeable {
+
+    private static final NoSuchElementException POOL_EXHAUSTED = BasePool.unknownStackTrace(
+            new NoSuchElementException("Pool exhausted"), BoundedBlockingPool.class, "acquire()");
+
+    private static final IllegalStateException POOL_SHUTDOWN = BasePool.unknownStackTrace(new IllegalStateException(
+            "BlockingPool is closed"), BoundedBlockingPool.class, "acquire()");
+
+    private static final IllegalStateException NOT_PART_OF_POOL = BasePool.unknownStackTrace(new IllegalStateException(
+            "Returned object not currently part of this pool"), BoundedBlockingPool.class, "release()");
+
+    private final BoundedAsyncPool<T> pool;
+    private final Semaphore permits;
+    private final Set<T> borrowed = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean closed;
+
+    /**
+     * Create a new {@link BoundedBlockingPool} given {@link AsyncObjectFactory} and {@link BoundedPoolConfig}. The factory
+     * creates idle objects upon construction and requires {@link #close() termination} once it's no longer in use.
+     *
+     * @param factory must not be {@literal null}.
+     * @param poolConfig must not be {@literal null} and must configure a non-negative
+     *        {@link BoundedPoolConfig#getMaxTotal() maxTotal} as waiting callers are bounded by it.
+     */
+    public BoundedBlockingPool(AsyncObjectFactory<T> factory, BoundedPoolConfig poolConfig) {
+
+        LettuceAssert.notNull(factory, "AsyncObjectFactory must not be null");
+        LettuceAssert.notNull(poolConfig, "BoundedPoolConfig must not be null");
+        LettuceAssert.isTrue(poolConfig.getMaxTotal() >= 0, "BoundedPoolConfig.maxTotal must not be negative");
+
+        this.pool = new BoundedAsyncPool<>(factory, poolConfig);
+        this.permits = new Semaphore(poolConfig.getMaxTotal(), true);
+    }
+
+    /**
+     * Acquire an object from this {@link BoundedBlockingPool}, waiting until an object becomes available.
+     *
+     * @return the acquired object.
+     * @throws InterruptedException if the current thread was interrupted while waiting.
+     * @throws IllegalStateException if the pool is closed or the object cannot be created.
+     */
+    public T acquire() throws InterruptedException {
+
+        permits.acquire();
+        return acquire0();
+    }
+
+    /**
+     * Acquire an object from this {@link BoundedBlockingPool}, waiting up to {@code timeout} until an object becomes
+     * available.
+     *
+     * @param timeout the maximum time to wait, must not be {@literal null}.
+     * @return the acquired object.
+     * @throws InterruptedException if the current thread was interrupted while waiting.
+     * @throws NoSuchElementException if no object became available within {@code timeout}.
+     * @throws IllegalStateException if the pool is closed or the object cannot be created.
+     */
+    public T acquire(Duration timeout) throws InterruptedException {
+
+        LettuceAssert.notNull(timeout, "Timeout must not be null");
+
+        if (!permits.tryAcquire(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+            throw POOL_EXHAUSTED;
+        }
+
+        return acquire0();
+    }
+
+    private T acquire0() {
+
+        if (closed) {
+            permits.release();
+            throw POOL_SHUTDOWN;
+        }
+
+        T object;
+        try {
+            object = pool.acquire().join();
+        } catch (CompletionException e) {
+
+            permits.release();
+
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw new IllegalStateException("Cannot allocate object", e.getCause());
+        }
+
+        borrowed.add(object);
+
+        return object;
+    }
+
+    /**
+     * Release an object back to this {@link BoundedBlockingPool}. Releasing hands the object over to the next waiting caller.
+     *
+     * @param object the object to be released. The object must have been acquired from this pool.
+     * @throws IllegalStateException if the object was not acquired from this pool.
+     */
+    public void release(T object) {
+
+        if (!borrowed.remove(object)) {
+            throw NOT_PART_OF_POOL;
+        }
+
+        pool.release(object).whenComplete((aVoid, throwable) -> permits.release());
+    }
+
+    /**
+     * Clear idle objects from the pool.
+     */
+    public void clear() {
+        pool.clear();
+    }
+
+    /**
+     * Close the pool. Waiting callers are rejected and idle objects are destroyed. Objects released after closing the pool are
+     * destroyed.
+     */
+    @Override
+    public void close() {
+
+        closed = true;
+        pool.close();
+
+        // wake up one waiter, each rejected waiter passes its permit on to the next one.
+        permits.release();
+    }
+
+    /**
+     * @return the cap on the total number of object instances managed by the pool.
+     */
+    public int getMaxTotal() {
+        return pool.getMaxTotal();
+    }
+
+    /**
+     * @return the number of objects currently idle in this pool.
+     */
+    public int getIdle() {
+        return pool.getIdle();
+    }
+
+    /**
+     * @return the number of instances currently borrowed from this pool.
+     */
+    public int getBorrowed() {
+        return borrowed.size();
+    }
+
+    /**
+     * @return an estimate of the number of callers waiting to acquire an object.
+     */
+    public int getWaiting() {
+        return permits.getQueueLength();
+    }
+}
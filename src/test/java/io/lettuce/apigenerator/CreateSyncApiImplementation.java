@@ -0,0 +1,324 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.apigenerator;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.ImportDeclaration;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import com.github.javaparser.ast.type.TypeParameter;
+
+/**
+ * Create the synchronous API implementation {@code RedisSyncCommandsImpl} based on the synchronous and asynchronous API
+ * interfaces. Each synchronous method calls its asynchronous counterpart directly and awaits the resulting
+ * {@code RedisFuture}. Run {@link CreateSyncApi} and {@link CreateAsyncApi} first.
+ *
+ * @author Mark Paluch
+ */
+public class CreateSyncApiImplementation {
+
+    private static final String TARGET_PACKAGE = "io.lettuce.core";
+    private static final String TARGET_NAME = "RedisSyncCommandsImpl";
+
+    private static final int MAX_LINE_LENGTH = 128;
+
+    private static final Set<String> TRANSACTION_CONTROL_METHODS = new HashSet<>(Arrays.asList("multi", "exec", "discard"));
+
+    private static final List<String> SYNC_PACKAGES = Arrays.asList("io.lettuce.core.api.sync",
+            "io.lettuce.core.cluster.api.sync");
+
+    private static final List<String> ASYNC_PACKAGES = Arrays.asList("io.lettuce.core.api.async",
+            "io.lettuce.core.cluster.api.async");
+
+    private final Set<String> imports = new TreeSet<>();
+
+    @Test
+    public void createImplementation() throws Exception {
+
+        Map<String, MethodDeclaration> syncMethods = new LinkedHashMap<>();
+        collectMethods("RedisCommands", SYNC_PACKAGES, syncMethods, new HashSet<>(), true);
+
+        Map<String, MethodDeclaration> asyncMethods = new LinkedHashMap<>();
+        collectMethods("RedisAsyncCommands", ASYNC_PACKAGES, asyncMethods, new HashSet<>(), false);
+
+        StringBuilder methods = new StringBuilder();
+
+        for (Map.Entry<String, MethodDeclaration> entry : syncMethods.entrySet()) {
+
+            MethodDeclaration asyncMethod = asyncMethods.get(entry.getKey());
+
+            if (asyncMethod == null) {
+                throw new IllegalStateException("No asynchronous method for " + entry.getKey());
+            }
+
+            methods.append(createMethod(entry.getValue(), asyncMethod));
+        }
+
+        imports.add("java.util.concurrent.TimeUnit");
+        imports.add("io.lettuce.core.api.StatefulRedisConnection");
+        imports.add("io.lettuce.core.api.async.RedisAsyncCommands");
+        imports.add("io.lettuce.core.api.sync.RedisCommands");
+        imports.add("io.lettuce.core.internal.TimeoutProvider");
+        imports.add("io.lettuce.core.protocol.RedisCommand");
+
+        String source = String.format(TEMPLATE, createImports(), methods);
+
+        File target = new File(Constants.SOURCES, TARGET_PACKAGE.replace('.', '/') + "/" + TARGET_NAME + ".java");
+
+        try (FileOutputStream fos = new FileOutputStream(target)) {
+            fos.write(source.getBytes());
+        }
+    }
+
+    private void collectMethods(String typeName, List<String> packages, Map<String, MethodDeclaration> methods,
+            Set<String> visited, boolean collectImports) throws Exception {
+
+        if (!visited.add(typeName)) {
+            return;
+        }
+
+        File file = findSource(typeName, packages);
+
+        if (file == null) {
+            return;
+        }
+
+        CompilationUnit compilationUnit = JavaParser.parse(file);
+        ClassOrInterfaceDeclaration type = (ClassOrInterfaceDeclaration) compilationUnit.getTypes().get(0);
+
+        if (collectImports) {
+            for (ImportDeclaration importDeclaration : compilationUnit.getImports()) {
+                addImport(importDeclaration);
+            }
+        }
+
+        for (MethodDeclaration method : type.getMethods()) {
+
+            if (method.isDefault() || method.isStatic()) {
+                continue;
+            }
+
+            methods.putIfAbsent(getSignature(method), method);
+        }
+
+        for (ClassOrInterfaceType extendedType : type.getExtendedTypes()) {
+            collectMethods(extendedType.getNameAsString(), packages, methods, visited, collectImports);
+        }
+    }
+
+    private static File findSource(String typeName, List<String> packages) {
+
+        for (String packageName : packages) {
+
+            File file = new File(Constants.SOURCES, packageName.replace('.', '/') + "/" + typeName + ".java");
+
+            if (file.exists()) {
+                return file;
+            }
+        }
+
+        return null;
+    }
+
+    private void addImport(ImportDeclaration importDeclaration) {
+
+        String name = importDeclaration.getNameAsString();
+
+        if (importDeclaration.isStatic() || SYNC_PACKAGES.contains(name) || SYNC_PACKAGES.contains(getPackage(name))) {
+            return;
+        }
+
+        if (importDeclaration.isAsterisk() ? name.equals(TARGET_PACKAGE) : getPackage(name).equals(TARGET_PACKAGE)) {
+            return;
+        }
+
+        imports.add(importDeclaration.isAsterisk() ? name + ".*" : name);
+    }
+
+    private static String getPackage(String name) {
+        return name.substring(0, name.lastIndexOf('.'));
+    }
+
+    private String createImports() {
+
+        Map<Boolean, List<String>> partitioned = imports.stream()
+                .collect(Collectors.partitioningBy(it -> it.startsWith("java.")));
+
+        StringBuilder builder = new StringBuilder();
+
+        partitioned.get(true).forEach(it -> builder.append("import ").append(it).append(";\n"));
+        builder.append("\n");
+        partitioned.get(false).forEach(it -> builder.append("import ").append(it).append(";\n"));
+
+        return builder.toString();
+    }
+
+    private static String getSignature(MethodDeclaration method) {
+        return method.getNameAsString() + method.getParameters().stream().map(CreateSyncApiImplementation::getParameterType)
+                .collect(Collectors.joining(", ", "(", ")"));
+    }
+
+    private static String getParameterType(Parameter parameter) {
+        return parameter.getType().toString() + (parameter.isVarArgs() ? "..." : "");
+    }
+
+    private static String createMethod(MethodDeclaration syncMethod, MethodDeclaration asyncMethod) {
+
+        StringBuilder builder = new StringBuilder("\n");
+
+        if (syncMethod.getAnnotationByName("Deprecated").isPresent()) {
+            builder.append("    @Deprecated\n");
+        }
+
+        builder.append("    @Override\n    public ");
+
+        if (!syncMethod.getTypeParameters().isEmpty()) {
+            builder.append(syncMethod.getTypeParameters().stream().map(TypeParameter::toString)
+                    .collect(Collectors.joining(", ", "<", "> ")));
+        }
+
+        String returnType = syncMethod.getType().toString();
+        String parameters = syncMethod.getParameters().stream().map(it -> getParameterType(it) + " " + it.getNameAsString())
+                .collect(Collectors.joining(", "));
+        String arguments = syncMethod.getParameters().stream().map(Parameter::getNameAsString)
+                .collect(Collectors.joining(", "));
+
+        builder.append(wrap(returnType + " " + syncMethod.getNameAsString() + "(" + parameters + ") {", 11, 12))
+                .append("\n        ");
+
+        String invocation = "async." + syncMethod.getNameAsString() + "(" + arguments + ")";
+
+        if (asyncMethod.getType().toString().startsWith("RedisFuture")) {
+
+            String await = TRANSACTION_CONTROL_METHODS.contains(syncMethod.getNameAsString()) ? "awaitTransactionControl"
+                    : "await";
+            invocation = await + "(" + invocation + ")";
+        }
+
+        String statement = (returnType.equals("void") ? "" : "return ") + invocation + ";";
+
+        return builder.append(wrap(statement, 8, 16)).append("\n    }\n").toString();
+    }
+
+    /**
+     * Wrap {@code line} after the last argument separator that fits into {@link #MAX_LINE_LENGTH}.
+     *
+     * @param line the line to wrap.
+     * @param offset the column at which {@code line} starts.
+     * @param continuationIndent indent of wrapped lines.
+     * @return the wrapped line.
+     */
+    private static String wrap(String line, int offset, int continuationIndent) {
+
+        if (offset + line.length() <= MAX_LINE_LENGTH) {
+            return line;
+        }
+
+        int separator = line.lastIndexOf(", ", MAX_LINE_LENGTH - offset - 1);
+
+        if (separator == -1) {
+            return line;
+        }
+
+        String indent = String.join("", Collections.nCopies(continuationIndent, " "));
+
+        return line.substring(0, separator + 1) + "\n" + indent
+                + wrap(line.substring(separator + 2), continuationIndent, continuationIndent);
+    }
+
+    private static final String LICENSE = "/*\n" //
+            + " * Copyright 2019 the original author or authors.\n" //
+            + " *\n" //
+            + " * Licensed under the Apache License, Version 2.0 (the \"License\");\n" //
+            + " * you may not use this file except in compliance with the License.\n" //
+            + " * You may obtain a copy of the License at\n" //
+            + " *\n" //
+            + " *      http://www.apache.org/licenses/LICENSE-2.0\n" //
+            + " *\n" //
+            + " * Unless required by applicable law or agreed to in writing, software\n" //
+            + " * distributed under the License is distributed on an \"AS IS\" BASIS,\n" //
+            + " * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.\n" //
+            + " * See the License for the specific language governing permissions and\n" //
+            + " * limitations under the License.\n" //
+            + " */\n";
+
+    private static final String TEMPLATE = LICENSE + "package " + TARGET_PACKAGE + ";\n" //
+            + "\n" //
+            + "%s" //
+            + "\n" //
+            + "/**\n" //
+            + " * A synchronous and thread-safe API for a Redis connection. Each method invokes its counterpart of\n" //
+            + " * {@link RedisAsyncCommands} and awaits the {@link RedisFuture} without using reflection.\n" //
+            + " *\n" //
+            + " * @param <K> Key type.\n" //
+            + " * @param <V> Value type.\n" //
+            + " * @author Mark Paluch\n" //
+            + " * @since 5.2\n" //
+            + " * @generated by " + CreateSyncApiImplementation.class.getName() + "\n" //
+            + " */\n" //
+            + "public class " + TARGET_NAME + "<K, V> implements RedisCommands<K, V> {\n" //
+            + "\n" //
+            + "    private final StatefulRedisConnection<K, V> connection;\n" //
+            + "    private final RedisAsyncCommands<K, V> async;\n" //
+            + "    private final TimeoutProvider timeoutProvider;\n" //
+            + "\n" //
+            + "    /**\n" //
+            + "     * Initialize a new instance.\n" //
+            + "     *\n" //
+            + "     * @param connection the connection to operate on.\n" //
+            + "     * @param async the asynchronous API to invoke.\n" //
+            + "     */\n" //
+            + "    public " + TARGET_NAME + "(StatefulRedisConnection<K, V> connection, RedisAsyncCommands<K, V> async) {\n" //
+            + "        this.connection = connection;\n" //
+            + "        this.async = async;\n" //
+            + "        this.timeoutProvider = new TimeoutProvider(() -> connection.getOptions().getTimeoutOptions(),\n" //
+            + "                () -> connection.getTimeout().toNanos());\n" //
+            + "    }\n" //
+            + "%s" //
+            + "\n" //
+            + "    private <T> T await(RedisFuture<T> future) {\n" //
+            + "\n" //
+            + "        if (connection.isMulti()) {\n" //
+            + "            return null;\n" //
+            + "        }\n" //
+            + "\n" //
+            + "        return awaitTransactionControl(future);\n" //
+            + "    }\n" //
+            + "\n" //
+            + "    private <T> T awaitTransactionControl(RedisFuture<T> future) {\n" //
+            + "        return LettuceFutures.awaitOrCancel(future, getTimeoutNs(future), TimeUnit.NANOSECONDS);\n" //
+            + "    }\n" //
+            + "\n" //
+            + "    private long getTimeoutNs(RedisFuture<?> future) {\n" //
+            + "\n" //
+            + "        if (future instanceof RedisCommand) {\n" //
+            + "            return timeoutProvider.getTimeoutNs((RedisCommand) future);\n" //
+            + "        }\n" //
+            + "\n" //
+            + "        return connection.getTimeout().toNanos();\n" //
+            + "    }\n" //
+            + "}\n";
+}
@@ -49,6 +49,7 @@ import io.lettuce.test.Wait;
 import io.lettuce.test.WithPassword;
 import io.lettuce.test.settings.TestSettings;
 import io.netty.channel.Channel;
+import io.netty.handler.flush.FlushConsolidationHandler;
 
 /**
  * @author Mark Paluch
@@ -82,6 +83,26 @@ class ClientOptionsIntegrationTests extends TestSupport {
         connection2.close();
     }
 
+    @Test
+    void autoPipelining() {
+
+        client.setOptions(ClientOptions.builder().autoPipelining(true).autoPipeliningFlushThreshold(10).build());
+
+        StatefulRedisConnection<String, String> connection = client.connect();
+
+        assertThat(getChannel(connection).pipeline().get(FlushConsolidationHandler.class)).isNotNull();
+
+        List<RedisFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            futures.add(connection.async().set(key + i, value));
+        }
+
+        assertThat(LettuceFutures.awaitAll(Duration.ofSeconds(5), futures.toArray(new RedisFuture[0]))).isTrue();
+        assertThat(connection.sync().get(key + 99)).isEqualTo(value);
+
+        connection.close();
+    }
+
     @Test
     void requestQueueSize() {
 
@@ -46,5 +46,8 @@ class ClientOptionsUnitTests {
         assertThat(sut.isSuspendReconnectOnProtocolFailure()).isEqualTo(false);
         assertThat(sut.getDisconnectedBehavior()).isEqualTo(ClientOptions.DisconnectedBehavior.DEFAULT);
         assertThat(sut.getBufferUsageRatio()).isEqualTo(ClientOptions.DEFAULT_BUFFER_USAGE_RATIO);
+        assertThat(sut.getConcurrencyLimitOptions().isLimitConcurrency()).isFalse();
+        assertThat(sut.isAutoPipelining()).isFalse();
+        assertThat(sut.getAutoPipeliningFlushThreshold()).isEqualTo(ClientOptions.DEFAULT_AUTO_PIPELINING_FLUSH_THRESHOLD);
     }
 }
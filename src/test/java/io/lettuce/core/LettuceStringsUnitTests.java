@@ -0,0 +1,80 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link LettuceStrings}.
+ *
+ * @author Mark Paluch
+ */
+class LettuceStringsUnitTests {
+
+    @Test
+    void shouldParseDoubleFromBytes() {
+
+        String[] inputs = { "0", "-0", "1", "+1", "-1.5", "4.567", "0.1", "0.30000000000000004", "123456789012345",
+                "1234567890123456789", "0.000000000000000000000000001", "1e3", "1.5E-7", "inf", "+inf", "-inf",
+                "9007199254740993", ".5", "5." };
+
+        for (String input : inputs) {
+            assertThat(toDouble(input)).describedAs(input).isEqualTo(LettuceStrings.toDouble(input));
+        }
+    }
+
+    @Test
+    void shouldParseRandomDoublesFromBytes() {
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        for (int i = 0; i < 10000; i++) {
+
+            double value = random.nextDouble(-1e6, 1e6);
+            String input = String.format("%." + random.nextInt(0, 17) + "f", value);
+
+            assertThat(toDouble(input)).describedAs(input).isEqualTo(Double.parseDouble(input));
+        }
+    }
+
+    @Test
+    void shouldNotConsumeBuffer() {
+
+        ByteBuffer buffer = ByteBuffer.wrap("x42.5".getBytes());
+        buffer.position(1);
+
+        assertThat(LettuceStrings.toDouble(buffer)).isEqualTo(42.5);
+        assertThat(buffer.position()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectMalformedInput() {
+
+        assertThatThrownBy(() -> toDouble("1.2.3")).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> toDouble("")).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> toDouble("-")).isInstanceOf(NumberFormatException.class);
+    }
+
+    private static double toDouble(String input) {
+        return LettuceStrings.toDouble(ByteBuffer.wrap(input.getBytes()));
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.CommandOutput;
+import io.lettuce.core.protocol.RedisCommand;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.tracing.Tracing;
+
+/**
+ * Unit tests for {@link RedisSyncCommandsImpl}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+class RedisSyncCommandsImplUnitTests {
+
+    @Mock
+    private RedisChannelWriter writer;
+
+    @Mock
+    private ClientResources clientResources;
+
+    private StatefulRedisConnectionImpl<String, String> connection;
+    private RedisCommands<String, String> sync;
+
+    @BeforeEach
+    void before() {
+
+        when(writer.getClientResources()).thenReturn(clientResources);
+        when(clientResources.tracing()).thenReturn(Tracing.disabled());
+
+        connection = new StatefulRedisConnectionImpl<>(writer, StringCodec.UTF8, Duration.ofMillis(100));
+        connection.setOptions(ClientOptions.create());
+        sync = connection.sync();
+    }
+
+    @Test
+    void shouldUseGeneratedImplementation() {
+
+        assertThat(sync).isInstanceOf(RedisSyncCommandsImpl.class);
+        assertThat(sync.getStatefulConnection()).isSameAs(connection);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldAwaitCommandResult() {
+
+        when(writer.write(any(RedisCommand.class))).thenAnswer(invocation -> {
+
+            RedisCommand<String, String, ?> command = invocation.getArgument(0);
+            ((CommandOutput<String, String, ?>) command.getOutput()).set(ByteBuffer.wrap("value".getBytes()));
+            command.complete();
+            return command;
+        });
+
+        assertThat(sync.get("key")).isEqualTo("value");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldNotAwaitCommandsWithinTransaction() {
+
+        when(writer.write(any(RedisCommand.class))).thenAnswer(invocation -> {
+
+            RedisCommand<String, String, ?> command = invocation.getArgument(0);
+
+            if (command.getType().name().equals("MULTI")) {
+                ((CommandOutput<String, String, ?>) command.getOutput()).set(ByteBuffer.wrap("OK".getBytes()));
+                command.complete();
+            }
+
+            return command;
+        });
+
+        assertThat(sync.multi()).isEqualTo("OK");
+        assertThat(sync.set("key", "value")).isNull();
+        assertThat(connection.isMulti()).isTrue();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldTimeoutUncompletedCommand() {
+
+        when(writer.write(any(RedisCommand.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertThatThrownBy(() -> sync.get("key")).isInstanceOf(RedisCommandTimeoutException.class);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.lettuce.core.api.sync.RedisKeyCommands;
+
+/**
+ * Unit tests for {@link ScanIterator}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+class ScanIteratorUnitTests {
+
+    @Mock
+    private RedisKeyCommands<String, String> commands;
+
+    @Test
+    void shouldResumeFromCursor() {
+
+        doReturn(cursor("0", true, "c")).when(commands).scan(argThat((ScanCursor cursor) -> cursor.getCursor().equals("5")),
+                any(ScanArgs.class));
+
+        ScanIterator<String> iterator = ScanIterator.scan(commands, ScanCursor.of("5"), new ScanArgs());
+
+        assertThat(iterator.stream().collect(Collectors.toList())).containsExactly("c");
+        assertThat(iterator.getCursor().isFinished()).isTrue();
+    }
+
+    @Test
+    void shouldNotScanWhenResumingFromFinishedCursor() {
+
+        ScanIterator<String> iterator = ScanIterator.scan(commands, ScanCursor.FINISHED, new ScanArgs());
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThat(iterator.getCursor().isFinished()).isTrue();
+        verifyZeroInteractions(commands);
+    }
+
+    @Test
+    void cursorShouldPointToChunkBeingConsumed() {
+
+        mockPages();
+
+        ScanIterator<String> iterator = ScanIterator.scan(commands, new ScanArgs());
+
+        assertThat(iterator.getCursor()).isEqualTo(ScanCursor.INITIAL);
+
+        assertThat(iterator.next()).isEqualTo("a");
+        assertThat(iterator.getCursor().getCursor()).isEqualTo("0");
+        assertThat(iterator.getCursor().isFinished()).isFalse();
+
+        assertThat(iterator.next()).isEqualTo("b");
+        assertThat(iterator.getCursor().getCursor()).isEqualTo("5");
+
+        assertThat(iterator.next()).isEqualTo("c");
+        assertThat(iterator.hasNext()).isFalse();
+        assertThat(iterator.getCursor().isFinished()).isTrue();
+    }
+
+    @Test
+    void shouldPrefetchNextChunk() {
+
+        mockPages();
+
+        List<Runnable> tasks = new ArrayList<>();
+        ScanIterator<String> iterator = ScanIterator.scan(commands, new ScanArgs()).prefetch(tasks::add);
+
+        assertThat(iterator.next()).isEqualTo("a");
+        assertThat(tasks).hasSize(1);
+        verify(commands, never()).scan(any(ScanCursor.class), any(ScanArgs.class));
+
+        tasks.get(0).run();
+        verify(commands).scan(any(ScanCursor.class), any(ScanArgs.class));
+
+        assertThat(iterator.next()).isEqualTo("b");
+        assertThat(iterator.next()).isEqualTo("c");
+        assertThat(iterator.hasNext()).isFalse();
+        assertThat(tasks).hasSize(1);
+        verify(commands).scan(any(ScanCursor.class), any(ScanArgs.class));
+    }
+
+    @Test
+    void shouldPropagatePrefetchFailure() {
+
+        doReturn(cursor("5", false, "a")).when(commands).scan(any(ScanArgs.class));
+        doThrow(new RedisCommandExecutionException("ERR")).when(commands).scan(any(ScanCursor.class), any(ScanArgs.class));
+
+        ScanIterator<String> iterator = ScanIterator.scan(commands, new ScanArgs()).prefetch(Runnable::run);
+
+        assertThat(iterator.next()).isEqualTo("a");
+        assertThatThrownBy(iterator::hasNext).isInstanceOf(RedisCommandExecutionException.class);
+    }
+
+    @Test
+    void shouldSupportParallelStreams() {
+
+        mockPages();
+
+        List<String> keys = ScanIterator.scan(commands, new ScanArgs()).stream().parallel().map(String::toUpperCase)
+                .collect(Collectors.toList());
+
+        assertThat(keys).containsExactly("A", "B", "C");
+    }
+
+    private void mockPages() {
+        doReturn(cursor("5", false, "a", "b")).when(commands).scan(any(ScanArgs.class));
+        doReturn(cursor("0", true, "c")).when(commands).scan(any(ScanCursor.class), any(ScanArgs.class));
+    }
+
+    private static KeyScanCursor<String> cursor(String cursor, boolean finished, String... keys) {
+
+        KeyScanCursor<String> scanCursor = new KeyScanCursor<>();
+        scanCursor.setCursor(cursor);
+        scanCursor.setFinished(finished);
+
+        for (String key : keys) {
+            scanCursor.getKeys().add(key);
+        }
+
+        return scanCursor;
+    }
+}
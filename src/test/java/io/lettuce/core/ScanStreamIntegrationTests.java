@@ -71,6 +71,20 @@ class ScanStreamIntegrationTests extends TestSupport {
         StepVerifier.create(ScanStream.scan(reactive)).expectNextSequence(list).verifyComplete();
     }
 
+    @Test
+    void shouldScanWithPrefetchAndAdaptiveCount() {
+
+        for (int i = 0; i < 1000; i++) {
+            redis.set("key-" + i, value);
+        }
+
+        RedisReactiveCommands<String, String> reactive = redis.getStatefulConnection().reactive();
+        ScanStreamOptions options = ScanStreamOptions.builder().prefetch(4).adaptiveCount().build();
+
+        StepVerifier.create(ScanStream.scan(reactive, ScanArgs.Builder.matches("key-*"), options).distinct())
+                .expectNextCount(1000).verifyComplete();
+    }
+
     @Test
     void shouldHscanIteratively() {
 
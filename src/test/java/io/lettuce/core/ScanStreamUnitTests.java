@@ -0,0 +1,130 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.test.publisher.PublisherProbe;
+import io.lettuce.core.api.reactive.RedisKeyReactiveCommands;
+
+/**
+ * Unit tests for {@link ScanStream} using {@link ScanStreamOptions}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+class ScanStreamUnitTests {
+
+    @Mock
+    private RedisKeyReactiveCommands<String, String> commands;
+
+    @Test
+    void shouldPrefetchNextPage() {
+
+        KeyScanCursor<String> first = cursor("1", false, "a", "b");
+        PublisherProbe<KeyScanCursor<String>> next = PublisherProbe.of(Mono.just(cursor("0", true, "c")));
+
+        when(commands.scan(any(ScanArgs.class))).thenReturn(Mono.just(first));
+        doReturn(next.mono()).when(commands).scan(eq(first), any(ScanArgs.class));
+
+        StepVerifier.create(ScanStream.scan(commands, new ScanArgs(), ScanStreamOptions.builder().prefetch(2).build()), 1)
+                .expectNext("a") //
+                .then(next::assertWasRequested) //
+                .thenRequest(2) //
+                .expectNext("b", "c") //
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldNotPrefetchWithoutDemand() {
+
+        KeyScanCursor<String> first = cursor("1", false, "a", "b");
+        PublisherProbe<KeyScanCursor<String>> next = PublisherProbe.of(Mono.just(cursor("0", true, "c")));
+
+        when(commands.scan(any(ScanArgs.class))).thenReturn(Mono.just(first));
+        doReturn(next.mono()).when(commands).scan(eq(first), any(ScanArgs.class));
+
+        StepVerifier.create(ScanStream.scan(commands, new ScanArgs(), ScanStreamOptions.builder().prefetch(1).build()), 1)
+                .expectNext("a") //
+                .then(next::assertWasNotRequested) //
+                .thenRequest(2) //
+                .expectNext("b", "c") //
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldPropagateScanErrors() {
+
+        when(commands.scan(any(ScanArgs.class))).thenReturn(Mono.error(new RedisException("boom")));
+
+        StepVerifier.create(ScanStream.scan(commands, new ScanArgs(), ScanStreamOptions.create()))
+                .verifyError(RedisException.class);
+    }
+
+    @Test
+    void adaptiveCountShouldFollowPageLatency() {
+
+        ScanStreamOptions options = ScanStreamOptions.builder().adaptiveCount().minCount(10).maxCount(40)
+                .targetLatency(Duration.ofMillis(10)).build();
+
+        ScanStream.AdaptiveCount count = new ScanStream.AdaptiveCount(ScanArgs.Builder.limit(20), options);
+
+        assertThat(count.getCount()).isEqualTo(20);
+
+        count.record(Duration.ofMillis(1).toNanos());
+        assertThat(count.getCount()).isEqualTo(40);
+
+        count.record(Duration.ofMillis(1).toNanos());
+        assertThat(count.getCount()).isEqualTo(40);
+
+        count.record(Duration.ofMillis(7).toNanos());
+        assertThat(count.getCount()).isEqualTo(40);
+
+        count.record(Duration.ofMillis(20).toNanos());
+        assertThat(count.getCount()).isEqualTo(20);
+
+        count.record(Duration.ofMillis(20).toNanos());
+        count.record(Duration.ofMillis(20).toNanos());
+        assertThat(count.getCount()).isEqualTo(10);
+        assertThat(count.nextArgs().getLimit()).isEqualTo(10);
+    }
+
+    private static KeyScanCursor<String> cursor(String cursor, boolean finished, String... keys) {
+
+        KeyScanCursor<String> scanCursor = new KeyScanCursor<>();
+        scanCursor.setCursor(cursor);
+        scanCursor.setFinished(finished);
+
+        for (String key : keys) {
+            scanCursor.getKeys().add(key);
+        }
+
+        return scanCursor;
+    }
+}
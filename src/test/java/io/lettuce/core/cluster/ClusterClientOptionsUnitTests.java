@@ -29,7 +29,7 @@ class ClusterClientOptionsUnitTests {
 
         ClusterClientOptions options = ClusterClientOptions.builder()
                 .autoReconnect(false).requestQueueSize(100).suspendReconnectOnProtocolFailure(true).maxRedirects(1234)
-                .validateClusterNodeMembership(false).build();
+                .validateClusterNodeMembership(false).autoPipelining(true).autoPipeliningFlushThreshold(16).build();
 
         ClusterClientOptions copy = ClusterClientOptions.copyOf(options);
 
@@ -42,5 +42,7 @@ class ClusterClientOptionsUnitTests {
         assertThat(copy.isCancelCommandsOnReconnectFailure()).isEqualTo(options.isCancelCommandsOnReconnectFailure());
         assertThat(copy.isSuspendReconnectOnProtocolFailure()).isEqualTo(options.isSuspendReconnectOnProtocolFailure());
         assertThat(copy.getMaxRedirects()).isEqualTo(options.getMaxRedirects());
+        assertThat(copy.isAutoPipelining()).isTrue();
+        assertThat(copy.getAutoPipeliningFlushThreshold()).isEqualTo(16);
     }
 }
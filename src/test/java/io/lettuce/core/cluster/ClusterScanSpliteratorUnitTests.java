@@ -0,0 +1,220 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.lettuce.core.KeyScanCursor;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.ScanArgs;
+import io.lettuce.core.ScanCursor;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.api.sync.RedisAdvancedClusterCommands;
+import io.lettuce.core.cluster.models.partitions.Partitions;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+
+/**
+ * Unit tests for {@link ClusterScanSpliterator}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+class ClusterScanSpliteratorUnitTests {
+
+    @Mock
+    private RedisAdvancedClusterCommands<String, String> commands;
+
+    @Mock
+    private StatefulRedisClusterConnection<String, String> clusterConnection;
+
+    @Mock
+    private StatefulRedisConnection<String, String> connection1;
+
+    @Mock
+    private StatefulRedisConnection<String, String> connection2;
+
+    @Mock
+    private RedisCommands<String, String> sync1;
+
+    @Mock
+    private RedisCommands<String, String> sync2;
+
+    @BeforeEach
+    void before() {
+
+        Partitions partitions = new Partitions();
+        partitions.add(master("1"));
+        partitions.add(master("2"));
+
+        when(commands.getStatefulConnection()).thenReturn(clusterConnection);
+        when(clusterConnection.getPartitions()).thenReturn(partitions);
+    }
+
+    @Test
+    void shouldScanAllMastersInParallel() {
+
+        mockNode1();
+        mockNode2();
+
+        ClusterScanCheckpoint checkpoint = ClusterScanCheckpoint.create();
+
+        List<String> keys = ClusterScanSpliterator.parallelStream(commands, new ScanArgs(), checkpoint)
+                .collect(Collectors.toList());
+
+        assertThat(keys).containsExactlyInAnyOrder("a", "b", "c", "d");
+        assertThat(checkpoint.getFinishedShardIds()).containsOnly("1", "2");
+        assertThat(checkpoint.getCursors()).isEmpty();
+    }
+
+    @Test
+    void shouldSplitAcrossNodes() {
+
+        mockNode1();
+        mockNode2();
+
+        ClusterScanSpliterator<String> spliterator = ClusterScanSpliterator.create(commands, new ScanArgs(),
+                ClusterScanCheckpoint.create());
+        Spliterator<String> other = spliterator.trySplit();
+
+        assertThat(other).isNotNull();
+        assertThat(spliterator.trySplit()).isNull();
+        assertThat(other.trySplit()).isNull();
+
+        List<String> node1 = new ArrayList<>();
+        List<String> node2 = new ArrayList<>();
+        spliterator.forEachRemaining(node1::add);
+        other.forEachRemaining(node2::add);
+
+        assertThat(node1).containsExactly("a", "b", "c");
+        assertThat(node2).containsExactly("d");
+    }
+
+    @Test
+    void shouldCheckpointConsumedKeys() {
+
+        mockNode1();
+
+        ClusterScanCheckpoint checkpoint = ClusterScanCheckpoint.create();
+        ClusterScanSpliterator<String> spliterator = ClusterScanSpliterator.create(commands, new ScanArgs(), checkpoint);
+
+        spliterator.tryAdvance(key -> assertThat(key).isEqualTo("a"));
+        assertThat(checkpoint.getCursor("1", "1").getCursor()).isEqualTo("0");
+
+        spliterator.tryAdvance(key -> assertThat(key).isEqualTo("b"));
+        assertThat(checkpoint.getCursor("1", "1").getCursor()).isEqualTo("5");
+        assertThat(checkpoint.getFinishedShardIds()).isEmpty();
+    }
+
+    @Test
+    void shouldRecordNodeIdOfCursor() {
+
+        clusterConnection.getPartitions().add(replica("3", "1"));
+        when(clusterConnection.getReadFrom()).thenReturn(ReadFrom.REPLICA);
+
+        doReturn(connection1).when(clusterConnection).getConnection("3");
+        when(connection1.sync()).thenReturn(sync1);
+        when(sync1.scan(any(ScanCursor.class), any(ScanArgs.class))).thenReturn(cursor("5", false, "a"));
+
+        ClusterScanCheckpoint checkpoint = ClusterScanCheckpoint.create();
+        ClusterScanSpliterator<String> spliterator = ClusterScanSpliterator.create(commands, new ScanArgs(), checkpoint);
+
+        spliterator.tryAdvance(key -> assertThat(key).isEqualTo("a"));
+
+        assertThat(checkpoint.getCursors()).containsEntry("1", "5");
+        assertThat(checkpoint.getCursorNodeIds()).containsEntry("1", "3");
+        assertThat(checkpoint.getCursor("1", "3").getCursor()).isEqualTo("5");
+        assertThat(checkpoint.getCursor("1", "1")).isEqualTo(ScanCursor.INITIAL);
+    }
+
+    @Test
+    void shouldResumeFromCheckpoint() {
+
+        mockNode1();
+
+        ClusterScanCheckpoint checkpoint = ClusterScanCheckpoint.of(Collections.singletonMap("1", "5"),
+                Collections.singleton("2"));
+
+        List<String> keys = ClusterScanSpliterator.parallelStream(commands, new ScanArgs(), checkpoint)
+                .collect(Collectors.toList());
+
+        assertThat(keys).containsExactly("c");
+        verify(clusterConnection, never()).getConnection("2");
+        assertThat(checkpoint.isFinished("1")).isTrue();
+    }
+
+    private void mockNode1() {
+
+        doReturn(connection1).when(clusterConnection).getConnection("1");
+        when(connection1.sync()).thenReturn(sync1);
+        when(sync1.scan(any(ScanCursor.class), any(ScanArgs.class))).thenAnswer(invocation -> {
+
+            ScanCursor cursor = invocation.getArgument(0);
+
+            if (cursor.getCursor().equals("0")) {
+                return cursor("5", false, "a", "b");
+            }
+
+            return cursor("0", true, "c");
+        });
+    }
+
+    private void mockNode2() {
+
+        doReturn(connection2).when(clusterConnection).getConnection("2");
+        when(connection2.sync()).thenReturn(sync2);
+        when(sync2.scan(any(ScanCursor.class), any(ScanArgs.class))).thenReturn(cursor("0", true, "d"));
+    }
+
+    private static RedisClusterNode master(String nodeId) {
+        return new RedisClusterNode(RedisURI.create("localhost", Integer.parseInt(nodeId)), nodeId, true, null, 0, 0, 0,
+                Collections.emptyList(), Collections.singleton(RedisClusterNode.NodeFlag.MASTER));
+    }
+
+    private static RedisClusterNode replica(String nodeId, String masterId) {
+        return new RedisClusterNode(RedisURI.create("localhost", Integer.parseInt(nodeId)), nodeId, true, masterId, 0, 0, 0,
+                Collections.emptyList(), Collections.singleton(RedisClusterNode.NodeFlag.SLAVE));
+    }
+
+    private static KeyScanCursor<String> cursor(String cursor, boolean finished, String... keys) {
+
+        KeyScanCursor<String> scanCursor = new KeyScanCursor<>();
+        scanCursor.setCursor(cursor);
+        scanCursor.setFinished(finished);
+
+        for (String key : keys) {
+            scanCursor.getKeys().add(key);
+        }
+
+        return scanCursor;
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.reactivestreams.Subscription;
+
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import io.lettuce.core.KeyScanCursor;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.ScanArgs;
+import io.lettuce.core.ScanCursor;
+import io.lettuce.core.ScanStreamOptions;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.reactive.RedisReactiveCommands;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.api.reactive.RedisAdvancedClusterReactiveCommands;
+import io.lettuce.core.cluster.models.partitions.Partitions;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+
+/**
+ * Unit tests for {@link ClusterScanStream}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+class ClusterScanStreamUnitTests {
+
+    @Mock
+    private RedisAdvancedClusterReactiveCommands<String, String> commands;
+
+    @Mock
+    private StatefulRedisClusterConnection<String, String> clusterConnection;
+
+    @Mock
+    private StatefulRedisConnection<String, String> connection1;
+
+    @Mock
+    private StatefulRedisConnection<String, String> connection2;
+
+    @Mock
+    private RedisReactiveCommands<String, String> reactive1;
+
+    @Mock
+    private RedisReactiveCommands<String, String> reactive2;
+
+    @BeforeEach
+    void before() {
+
+        Partitions partitions = new Partitions();
+        partitions.add(master("1"));
+        partitions.add(master("2"));
+
+        when(commands.getStatefulConnection()).thenReturn(clusterConnection);
+        when(clusterConnection.getPartitions()).thenReturn(partitions);
+    }
+
+    @Test
+    void shouldScanAllMasters() {
+
+        mockNode1();
+        mockNode2();
+
+        ClusterScanCheckpoint checkpoint = ClusterScanCheckpoint.create();
+
+        StepVerifier.create(ClusterScanStream.scan(commands, new ScanArgs(), checkpoint).collectList())
+                .assertNext(keys -> assertThat(keys).containsExactlyInAnyOrder("a", "b", "c", "d")).verifyComplete();
+
+        assertThat(checkpoint.getFinishedShardIds()).containsOnly("1", "2");
+        assertThat(checkpoint.getCursors()).isEmpty();
+    }
+
+    @Test
+    void shouldResumeFromCheckpoint() {
+
+        mockNode1();
+
+        ClusterScanCheckpoint checkpoint = ClusterScanCheckpoint.of(Collections.singletonMap("1", "5"),
+                Collections.singleton("2"));
+
+        StepVerifier.create(ClusterScanStream.scan(commands, new ScanArgs(), checkpoint)).expectNext("c").verifyComplete();
+
+        verify(clusterConnection, never()).getConnectionAsync("2");
+        assertThat(checkpoint.isFinished("1")).isTrue();
+    }
+
+    @Test
+    void shouldRestartShardScannedOnDifferentNode() {
+
+        clusterConnection.getPartitions().add(replica("3", "1"));
+        when(clusterConnection.getReadFrom()).thenReturn(ReadFrom.REPLICA);
+
+        doReturn(CompletableFuture.completedFuture(connection1)).when(clusterConnection).getConnectionAsync("3");
+        when(connection1.reactive()).thenReturn(reactive1);
+        when(reactive1.scan(any(ScanCursor.class), any(ScanArgs.class))).thenReturn(Mono.just(cursor("0", true, "a")));
+
+        ClusterScanCheckpoint checkpoint = ClusterScanCheckpoint.of(Collections.singletonMap("1", "5"),
+                Collections.singleton("2"));
+
+        StepVerifier.create(ClusterScanStream.scan(commands, new ScanArgs(), checkpoint)).expectNext("a").verifyComplete();
+
+        verify(reactive1).scan(argThat((ScanCursor cursor) -> cursor.getCursor().equals("0")), any(ScanArgs.class));
+        assertThat(checkpoint.isFinished("1")).isTrue();
+    }
+
+    @Test
+    void shouldCheckpointEmittedPages() {
+
+        mockNode1();
+        mockNode2();
+
+        ClusterScanCheckpoint checkpoint = ClusterScanCheckpoint.create();
+
+        List<String> keys = new ArrayList<>();
+        ClusterScanStream.scan(commands, new ScanArgs(), checkpoint, 1, ScanStreamOptions.builder().prefetch(1).build())
+                .subscribe(new BaseSubscriber<String>() {
+
+                    @Override
+                    protected void hookOnSubscribe(Subscription subscription) {
+                        request(2);
+                    }
+
+                    @Override
+                    protected void hookOnNext(String value) {
+                        keys.add(value);
+                    }
+                });
+
+        assertThat(keys).containsExactly("a", "b");
+        assertThat(checkpoint.getCursor("1", "1").getCursor()).isEqualTo("5");
+        assertThat(checkpoint.getCursor("2", "2")).isEqualTo(ScanCursor.INITIAL);
+        assertThat(checkpoint.getCursorNodeIds()).containsEntry("1", "1");
+        assertThat(checkpoint.getFinishedShardIds()).isEmpty();
+    }
+
+    private void mockNode1() {
+
+        doReturn(CompletableFuture.completedFuture(connection1)).when(clusterConnection).getConnectionAsync("1");
+        when(connection1.reactive()).thenReturn(reactive1);
+        when(reactive1.scan(any(ScanCursor.class), any(ScanArgs.class))).thenAnswer(invocation -> {
+
+            ScanCursor cursor = invocation.getArgument(0);
+
+            if (cursor.getCursor().equals("0")) {
+                return Mono.just(cursor("5", false, "a", "b"));
+            }
+
+            return Mono.just(cursor("0", true, "c"));
+        });
+    }
+
+    private void mockNode2() {
+
+        doReturn(CompletableFuture.completedFuture(connection2)).when(clusterConnection).getConnectionAsync("2");
+        when(connection2.reactive()).thenReturn(reactive2);
+        when(reactive2.scan(any(ScanCursor.class), any(ScanArgs.class))).thenReturn(Mono.just(cursor("0", true, "d")));
+    }
+
+    private static RedisClusterNode master(String nodeId) {
+        return new RedisClusterNode(RedisURI.create("localhost", Integer.parseInt(nodeId)), nodeId, true, null, 0, 0, 0,
+                Collections.emptyList(), Collections.singleton(RedisClusterNode.NodeFlag.MASTER));
+    }
+
+    private static RedisClusterNode replica(String nodeId, String masterId) {
+        return new RedisClusterNode(RedisURI.create("localhost", Integer.parseInt(nodeId)), nodeId, true, masterId, 0, 0, 0,
+                Collections.emptyList(), Collections.singleton(RedisClusterNode.NodeFlag.SLAVE));
+    }
+
+    private static KeyScanCursor<String> cursor(String cursor, boolean finished, String... keys) {
+
+        KeyScanCursor<String> scanCursor = new KeyScanCursor<>();
+        scanCursor.setCursor(cursor);
+        scanCursor.setFinished(finished);
+
+        for (String key : keys) {
+            scanCursor.getKeys().add(key);
+        }
+
+        return scanCursor;
+    }
+}
@@ -57,4 +57,15 @@ class SlotHashUnitTests {
         int result = SlotHash.getSlot((ByteBuffer) ByteBuffer.allocateDirect(TAGGED.length).put(TAGGED).flip());
         assertThat(result).isEqualTo(0x31C3);
     }
+
+    @Test
+    void shouldGetTaggedSlotFromOffsetBuffer() {
+
+        ByteBuffer buffer = ByteBuffer.wrap("prefix:key{123456789}a".getBytes());
+        buffer.position(7);
+
+        assertThat(SlotHash.getSlot(buffer)).isEqualTo(0x31C3);
+        assertThat(SlotHash.getSlot(buffer.slice())).isEqualTo(0x31C3);
+        assertThat(buffer.position()).isEqualTo(7);
+    }
 }
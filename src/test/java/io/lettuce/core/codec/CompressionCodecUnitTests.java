@@ -20,9 +20,14 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
 /**
  * @author Mark Paluch
  */
@@ -76,6 +81,215 @@ class CompressionCodecUnitTests {
                 .isInstanceOf(IllegalStateException.class);
     }
 
+    @Test
+    void shouldRoundTripLargeValues() {
+
+        char[] chars = new char[100_000];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) ('a' + (i % 7 == 0 ? i % 26 : 0));
+        }
+        String largeValue = new String(chars);
+
+        for (CompressionCodec.CompressionType type : CompressionCodec.CompressionType.values()) {
+
+            RedisCodec<String, String> sut = CompressionCodec.valueCompressor(StringCodec.UTF8, type);
+            ByteBuffer encoded = sut.encodeValue(largeValue);
+
+            assertThat(encoded.remaining()).isLessThan(largeValue.length());
+            assertThat(sut.decodeValue(encoded)).isEqualTo(largeValue);
+        }
+    }
+
+    @Test
+    void shouldRoundTripSnappyValuesExceedingBlockSize() {
+
+        Random random = new Random(42);
+        byte[] bytes = new byte[140 * 1024];
+
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) ('a' + random.nextInt(8));
+        }
+
+        RedisCodec<byte[], byte[]> sut = CompressionCodec.valueCompressor(ByteArrayCodec.INSTANCE,
+                CompressionCodec.CompressionType.SNAPPY);
+        ByteBuffer encoded = sut.encodeValue(bytes);
+
+        assertThat(encoded.remaining()).isLessThan(bytes.length);
+        assertThat(sut.decodeValue(encoded)).isEqualTo(bytes);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldEncodeToByteBuf() {
+
+        RedisCodec<String, String> sut = CompressionCodec.valueCompressor(StringCodec.UTF8,
+                CompressionCodec.CompressionType.GZIP);
+        ByteBuf target = Unpooled.directBuffer();
+
+        ((ToByteBufEncoder<String, String>) sut).encodeValue(key, target);
+
+        assertThat(toBytes(target.nioBuffer())).isEqualTo(keyGzipBytes);
+        assertThat(sut.decodeValue(target.nioBuffer())).isEqualTo(key);
+
+        target.release();
+    }
+
+    @Test
+    void shouldDecodeFromDirectBuffer() {
+
+        RedisCodec<byte[], byte[]> sut = CompressionCodec.valueCompressor(ByteArrayCodec.INSTANCE,
+                CompressionCodec.CompressionType.DEFLATE);
+        ByteBuffer direct = ByteBuffer.allocateDirect(keyDeflateBytes.length);
+        direct.put(keyDeflateBytes).flip();
+
+        assertThat(sut.decodeValue(direct)).isEqualTo(key.getBytes());
+    }
+
+    @Test
+    void shouldRejectCorruptGzipTrailer() {
+
+        RedisCodec<String, String> sut = CompressionCodec.valueCompressor(StringCodec.UTF8,
+                CompressionCodec.CompressionType.GZIP);
+        byte[] corrupt = Arrays.copyOf(keyGzipBytes, keyGzipBytes.length);
+        corrupt[corrupt.length - 8]++;
+
+        assertThatThrownBy(() -> sut.decodeValue(ByteBuffer.wrap(corrupt))).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldNotTrustGzipTrailerForAllocation() {
+
+        RedisCodec<String, String> sut = CompressionCodec.valueCompressor(StringCodec.UTF8,
+                CompressionCodec.CompressionType.GZIP);
+        byte[] corrupt = Arrays.copyOf(keyGzipBytes, keyGzipBytes.length);
+        corrupt[corrupt.length - 1] = 0x7f;
+
+        assertThatThrownBy(() -> sut.decodeValue(ByteBuffer.wrap(corrupt))).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void decodedValuesShouldNotShareBuffers() {
+
+        for (CompressionCodec.CompressionType type : CompressionCodec.CompressionType.values()) {
+
+            RedisCodec<ByteBuffer, ByteBuffer> sut = CompressionCodec.valueCompressor(new ByteBufferCodec(),
+                    CompressionOptions.builder().compressionType(type).minimumSize(0).build());
+
+            ByteBuffer first = sut.decodeValue(sut.encodeValue(ByteBuffer.wrap(repeat("first", 10).getBytes())));
+            ByteBuffer second = sut.decodeValue(sut.encodeValue(ByteBuffer.wrap(repeat("other", 10).getBytes())));
+
+            assertThat(toString(first)).isEqualTo(repeat("first", 10));
+            assertThat(toString(second)).isEqualTo(repeat("other", 10));
+        }
+    }
+
+    @Test
+    void shouldStoreSmallValuesUncompressed() {
+
+        RedisCodec<String, String> sut = CompressionCodec.valueCompressor(StringCodec.UTF8,
+                CompressionCodec.CompressionType.LZ4);
+
+        ByteBuffer encoded = sut.encodeValue(value);
+
+        assertThat(toBytes(encoded.duplicate())).startsWith(0).hasSize(value.length() + 1);
+        assertThat(sut.decodeValue(encoded)).isEqualTo(value);
+    }
+
+    @Test
+    void shouldStoreIncompressibleValuesUncompressed() {
+
+        byte[] bytes = new byte[256];
+        new java.util.Random(42).nextBytes(bytes);
+
+        RedisCodec<byte[], byte[]> sut = CompressionCodec.valueCompressor(ByteArrayCodec.INSTANCE,
+                CompressionOptions.builder().compressionType(CompressionCodec.CompressionType.ZSTD).minimumSize(0).build());
+
+        ByteBuffer encoded = sut.encodeValue(bytes);
+
+        assertThat(encoded.get(0)).isEqualTo((byte) 0);
+        assertThat(sut.decodeValue(encoded)).isEqualTo(bytes);
+    }
+
+    @Test
+    void shouldDecodeValuesOfOtherCompressionTypes() {
+
+        String json = repeat("{\"name\":\"lettuce\",\"type\":\"client\"}", 10);
+
+        for (CompressionCodec.CompressionType type : CompressionCodec.CompressionType.values()) {
+
+            RedisCodec<String, String> writer = CompressionCodec.valueCompressor(StringCodec.UTF8,
+                    CompressionOptions.create(type));
+            RedisCodec<String, String> reader = CompressionCodec.valueCompressor(StringCodec.UTF8, CompressionOptions.create());
+
+            ByteBuffer encoded = writer.encodeValue(json);
+
+            assertThat(encoded.remaining()).isLessThan(json.length());
+            assertThat(reader.decodeValue(encoded)).isEqualTo(json);
+        }
+    }
+
+    @Test
+    void shouldCompressUsingDictionary() {
+
+        byte[] dictionary = "{\"name\":\"\",\"type\":\"client\",\"language\":\"java\"}".getBytes(StandardCharsets.UTF_8);
+        String json = "{\"name\":\"lettuce\",\"type\":\"client\",\"language\":\"java\"}";
+
+        CompressionOptions withoutDictionary = CompressionOptions.builder()
+                .compressionType(CompressionCodec.CompressionType.DEFLATE).minimumSize(0).build();
+        CompressionOptions withDictionary = CompressionOptions.builder()
+                .compressionType(CompressionCodec.CompressionType.DEFLATE).minimumSize(0).dictionary(dictionary).build();
+
+        RedisCodec<String, String> sut = CompressionCodec.valueCompressor(StringCodec.UTF8, withDictionary);
+        ByteBuffer encoded = sut.encodeValue(json);
+
+        assertThat(encoded.get(0)).isEqualTo((byte) 2);
+        assertThat(encoded.remaining()).isLessThan(json.length());
+        assertThat(sut.decodeValue(encoded.duplicate())).isEqualTo(json);
+
+        assertThatThrownBy(
+                () -> CompressionCodec.valueCompressor(StringCodec.UTF8, withoutDictionary).decodeValue(encoded.duplicate()))
+                        .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldRejectDictionaryForUnsupportedCompressionType() {
+
+        assertThatThrownBy(() -> CompressionOptions.builder().compressionType(CompressionCodec.CompressionType.LZ4)
+                .dictionary(new byte[] { 1 }).build()).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    static class ByteBufferCodec implements RedisCodec<ByteBuffer, ByteBuffer> {
+
+        @Override
+        public ByteBuffer decodeKey(ByteBuffer bytes) {
+            return bytes;
+        }
+
+        @Override
+        public ByteBuffer decodeValue(ByteBuffer bytes) {
+            return bytes;
+        }
+
+        @Override
+        public ByteBuffer encodeKey(ByteBuffer key) {
+            return key.duplicate();
+        }
+
+        @Override
+        public ByteBuffer encodeValue(ByteBuffer value) {
+            return value.duplicate();
+        }
+    }
+
+    private static String repeat(String value, int times) {
+
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < times; i++) {
+            builder.append(value);
+        }
+        return builder.toString();
+    }
+
     private String toString(ByteBuffer buffer) {
         byte[] bytes = toBytes(buffer);
         return new String(bytes, StandardCharsets.UTF_8);
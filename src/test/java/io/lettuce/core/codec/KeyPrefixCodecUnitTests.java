@@ -0,0 +1,145 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.cluster.SlotHash;
+import io.lettuce.core.protocol.CommandArgs;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Unit tests for {@link KeyPrefixCodec}.
+ *
+ * @author Mark Paluch
+ */
+class KeyPrefixCodecUnitTests {
+
+    private final RedisCodec<String, String> codec = KeyPrefixCodec.prefixKeys(StringCodec.UTF8, "tenant:");
+
+    @Test
+    void shouldPrefixKeysInCommandArgs() {
+
+        CommandArgs<String, String> args = new CommandArgs<>(codec).addKey("key").addValue("value");
+
+        ByteBuf buffer = Unpooled.buffer();
+        args.encode(buffer);
+
+        assertThat(buffer.toString(StandardCharsets.US_ASCII)).isEqualTo("$10\r\ntenant:key\r\n$5\r\nvalue\r\n");
+        assertThat(args.getFirstEncodedKey()).isEqualTo(ByteBuffer.wrap("tenant:key".getBytes()));
+
+        buffer.release();
+    }
+
+    @Test
+    void shouldEncodeKeyToByteBuf() {
+
+        assertThat(codec).isInstanceOf(ToByteBufEncoder.class);
+
+        ByteBuf buffer = Unpooled.buffer();
+        ((ToByteBufEncoder<String, String>) codec).encodeKey("key", buffer);
+
+        assertThat(buffer.toString(StandardCharsets.US_ASCII)).isEqualTo("tenant:key");
+        buffer.release();
+    }
+
+    @Test
+    void shouldAddPrefixLengthToKeyEstimatesOnly() {
+
+        ToByteBufEncoder<String, String> encoder = (ToByteBufEncoder<String, String>) codec;
+        ToByteBufEncoder<String, String> delegate = (ToByteBufEncoder<String, String>) StringCodec.UTF8;
+
+        assertThat(encoder.estimateKeySize("key")).isEqualTo("tenant:".length() + delegate.estimateKeySize("key"));
+        assertThat(encoder.estimateValueSize("value")).isEqualTo(delegate.estimateValueSize("value"));
+        assertThat(encoder.estimateSize("value")).isEqualTo(delegate.estimateSize("value"));
+    }
+
+    @Test
+    void shouldStripPrefixWithoutConsumingBuffer() {
+
+        ByteBuffer bytes = ByteBuffer.wrap("tenant:key".getBytes());
+
+        assertThat(codec.decodeKey(bytes)).isEqualTo("key");
+        assertThat(bytes.position()).isEqualTo(0);
+        assertThat(codec.decodeKey(ByteBuffer.wrap("other".getBytes()))).isEqualTo("other");
+        assertThat(codec.decodeValue(ByteBuffer.wrap("tenant:value".getBytes()))).isEqualTo("tenant:value");
+    }
+
+    @Test
+    void shouldPrefixKeysOfNonByteBufCodec() {
+
+        RedisCodec<String, String> delegate = new RedisCodec<String, String>() {
+
+            @Override
+            public String decodeKey(ByteBuffer bytes) {
+                return StringCodec.UTF8.decodeKey(bytes);
+            }
+
+            @Override
+            public String decodeValue(ByteBuffer bytes) {
+                return StringCodec.UTF8.decodeValue(bytes);
+            }
+
+            @Override
+            public ByteBuffer encodeKey(String key) {
+                return StringCodec.UTF8.encodeKey(key);
+            }
+
+            @Override
+            public ByteBuffer encodeValue(String value) {
+                return StringCodec.UTF8.encodeValue(value);
+            }
+        };
+        RedisCodec<String, String> codec = KeyPrefixCodec.prefixKeys(delegate, "tenant:".getBytes());
+
+        assertThat(codec).isNotInstanceOf(ToByteBufEncoder.class);
+        assertThat(codec.encodeKey("key")).isEqualTo(ByteBuffer.wrap("tenant:key".getBytes()));
+        assertThat(codec.decodeKey(codec.encodeKey("key"))).isEqualTo("key");
+    }
+
+    @Test
+    void shouldRouteByHashTagOfKey() {
+
+        assertThat(SlotHash.getSlot(codec.encodeKey("{user}:a"))).isEqualTo(SlotHash.getSlot("user"));
+        assertThat(SlotHash.getSlot(codec.encodeKey("{user}:b"))).isEqualTo(SlotHash.getSlot("user"));
+    }
+
+    @Test
+    void shouldRouteByHashTagOfPrefix() {
+
+        RedisCodec<String, String> codec = KeyPrefixCodec.prefixKeys(StringCodec.UTF8, "{tenant}:");
+
+        assertThat(SlotHash.getSlot(codec.encodeKey("a"))).isEqualTo(SlotHash.getSlot("tenant"));
+        assertThat(SlotHash.getSlot(codec.encodeKey("{user}:b"))).isEqualTo(SlotHash.getSlot("tenant"));
+    }
+
+    @Test
+    void shouldRejectUnsafePrefix() {
+
+        assertThatThrownBy(() -> KeyPrefixCodec.prefixKeys(StringCodec.UTF8, "")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeyPrefixCodec.prefixKeys(StringCodec.UTF8, "{tenant:"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeyPrefixCodec.prefixKeys(StringCodec.UTF8, "{}tenant:"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
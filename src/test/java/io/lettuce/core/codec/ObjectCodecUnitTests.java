@@ -0,0 +1,193 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Unit tests for {@link ObjectCodec} and {@link ObjectSchema}.
+ *
+ * @author Mark Paluch
+ */
+class ObjectCodecUnitTests {
+
+    private final ObjectSchema<Address> addressSchema = ObjectSchema.builder(Address.class, Address::new)
+            .string(1, a -> a.city, (a, city) -> a.city = city).build();
+
+    private final ObjectSchema<Person> personSchema = ObjectSchema.builder(Person.class, Person::new)
+            .string(1, p -> p.name, (p, name) -> p.name = name) //
+            .int32(2, p -> p.age, (p, age) -> p.age = age) //
+            .int64(3, p -> p.id, (p, id) -> p.id = id) //
+            .float64(4, p -> p.score, (p, score) -> p.score = score) //
+            .bool(5, p -> p.active, (p, active) -> p.active = active) //
+            .bytes(6, p -> p.avatar, (p, avatar) -> p.avatar = avatar) //
+            .object(7, addressSchema, p -> p.address, (p, address) -> p.address = address) //
+            .build();
+
+    private final ObjectCodec<Person> codec = ObjectCodec.create(personSchema);
+
+    @Test
+    void shouldRoundTripThroughByteBuf() {
+
+        Person person = newPerson();
+
+        ByteBuf buffer = Unpooled.buffer(codec.estimateSize(person));
+        codec.encodeValue(person, buffer);
+
+        Person decoded = codec.decodeValue(buffer.nioBuffer());
+
+        assertThat(decoded.name).isEqualTo("Heinz €");
+        assertThat(decoded.age).isEqualTo(-42);
+        assertThat(decoded.id).isEqualTo(Long.MAX_VALUE);
+        assertThat(decoded.score).isEqualTo(1.5);
+        assertThat(decoded.active).isTrue();
+        assertThat(decoded.avatar).containsExactly(1, 2, 3);
+        assertThat(decoded.address.city).isEqualTo("Berlin");
+
+        buffer.release();
+    }
+
+    @Test
+    void shouldRoundTripThroughByteBuffer() {
+
+        Person decoded = codec.decodeValue(codec.encodeValue(newPerson()));
+
+        assertThat(decoded.name).isEqualTo("Heinz €");
+        assertThat(decoded.address.city).isEqualTo("Berlin");
+    }
+
+    @Test
+    void shouldDecodeFromDirectBuffer() {
+
+        ByteBuffer heap = codec.encodeValue(newPerson());
+        ByteBuffer direct = ByteBuffer.allocateDirect(heap.remaining());
+        direct.put(heap).flip();
+
+        Person decoded = codec.decodeValue(direct);
+
+        assertThat(decoded.name).isEqualTo("Heinz €");
+        assertThat(decoded.address.city).isEqualTo("Berlin");
+    }
+
+    @Test
+    void shouldOmitNullFields() {
+
+        Person person = new Person();
+        person.age = 7;
+
+        Person decoded = codec.decodeValue(codec.encodeValue(person));
+
+        assertThat(decoded.name).isNull();
+        assertThat(decoded.address).isNull();
+        assertThat(decoded.age).isEqualTo(7);
+        assertThat(codec.decodeValue(ByteBuffer.allocate(0))).isNull();
+    }
+
+    @Test
+    void olderSchemaShouldSkipUnknownFields() {
+
+        ObjectSchema<Person> older = ObjectSchema.builder(Person.class, Person::new)
+                .int32(2, p -> p.age, (p, age) -> p.age = age).build();
+
+        Person decoded = older.deserialize(codec.encodeValue(newPerson()));
+
+        assertThat(decoded.age).isEqualTo(-42);
+        assertThat(decoded.name).isNull();
+        assertThat(decoded.address).isNull();
+    }
+
+    @Test
+    void newerSchemaShouldRetainDefaultsForMissingFields() {
+
+        ObjectSchema<Person> older = ObjectSchema.builder(Person.class, Person::new)
+                .string(1, p -> p.name, (p, name) -> p.name = name).build();
+
+        ByteBuf buffer = Unpooled.buffer();
+        older.serialize(newPerson(), buffer);
+
+        Person decoded = personSchema.deserialize(buffer.nioBuffer());
+
+        assertThat(decoded.name).isEqualTo("Heinz €");
+        assertThat(decoded.age).isEqualTo(Person.DEFAULT_AGE);
+
+        buffer.release();
+    }
+
+    @Test
+    void shouldRejectChangedFieldType() {
+
+        ObjectSchema<Person> changed = ObjectSchema.builder(Person.class, Person::new)
+                .float64(2, p -> p.age, (p, age) -> p.age = (int) age).build();
+
+        assertThatThrownBy(() -> changed.deserialize(codec.encodeValue(newPerson())))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldRejectDuplicateFieldNumbers() {
+
+        assertThatThrownBy(() -> ObjectSchema.builder(Person.class, Person::new)
+                .string(1, p -> p.name, (p, name) -> p.name = name).int32(1, p -> p.age, (p, age) -> p.age = age))
+                        .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldExposeTypes() {
+
+        assertThat(codec.getKeyType()).isEqualTo(String.class);
+        assertThat(codec.getValueType()).isEqualTo(Person.class);
+    }
+
+    private static Person newPerson() {
+
+        Person person = new Person();
+        person.name = "Heinz €";
+        person.age = -42;
+        person.id = Long.MAX_VALUE;
+        person.score = 1.5;
+        person.active = true;
+        person.avatar = new byte[] { 1, 2, 3 };
+        person.address = new Address();
+        person.address.city = "Berlin";
+
+        return person;
+    }
+
+    static class Person {
+
+        static final int DEFAULT_AGE = 18;
+
+        String name;
+        int age = DEFAULT_AGE;
+        long id;
+        double score;
+        boolean active;
+        byte[] avatar;
+        Address address;
+    }
+
+    static class Address {
+        String city;
+    }
+}
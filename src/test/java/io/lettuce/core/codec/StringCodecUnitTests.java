@@ -109,6 +109,59 @@ class StringCodecUnitTests {
         assertThat(codec.decodeKey(buffer.nioBuffer())).isEqualTo(teststringPlain);
     }
 
+    @Test
+    void decodeUtf8MultiByteSequences() {
+
+        String value = "a\u00e9\u20ac\ud83d\ude00z";
+
+        assertThat(StringCodec.UTF8.decodeValue(ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8)))).isEqualTo(value);
+    }
+
+    @Test
+    void decodeUtf8FromDirectBuffer() {
+
+        byte[] bytes = teststring.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length + 2);
+        buffer.put((byte) 'x').put(bytes).put((byte) 'y');
+        buffer.position(1).limit(bytes.length + 1);
+
+        assertThat(StringCodec.UTF8.decodeValue(buffer)).isEqualTo(teststring);
+        assertThat(buffer.position()).isEqualTo(1);
+    }
+
+    @Test
+    void decodeMalformedUtf8LikeCharsetDecoder() {
+
+        byte[][] inputs = { { 'a', (byte) 0xC0, (byte) 0x80 }, { (byte) 0xED, (byte) 0xA0, (byte) 0x80 },
+                { (byte) 0xE2, (byte) 0x82 }, { (byte) 0xF4, (byte) 0x90, (byte) 0x80, (byte) 0x80 }, { (byte) 0x80, 'b' } };
+
+        for (byte[] input : inputs) {
+            assertThat(StringCodec.UTF8.decodeValue(ByteBuffer.wrap(input)))
+                    .isEqualTo(new String(input, StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void decodeAsciiWithNonAsciiBytes() {
+
+        byte[] bytes = { 'a', (byte) 0xE9, 'b' };
+
+        assertThat(StringCodec.ASCII.decodeValue(ByteBuffer.wrap(bytes))).isEqualTo(new String(bytes, StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void decodeKeyShouldReuseCachedKeys() {
+
+        StringCodec codec = new StringCodec(StandardCharsets.UTF_8, 16);
+
+        String first = codec.decodeKey(ByteBuffer.wrap("field".getBytes()));
+        String second = codec.decodeKey(ByteBuffer.wrap("field".getBytes()));
+
+        assertThat(first).isEqualTo("field").isSameAs(second);
+        assertThat(codec.decodeKey(ByteBuffer.wrap("other".getBytes()))).isEqualTo("other");
+        assertThat(codec.decodeValue(ByteBuffer.wrap("field".getBytes()))).isNotSameAs(first);
+    }
+
     @Test
     void estimateSize() {
 
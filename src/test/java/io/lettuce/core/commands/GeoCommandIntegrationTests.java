@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.offset;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -33,6 +34,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import io.lettuce.core.*;
 import io.lettuce.core.api.sync.RedisCommands;
 import io.lettuce.test.LettuceExtension;
+import io.lettuce.test.ListStreamingAdapter;
 import io.lettuce.test.condition.EnabledOnCommand;
 import io.lettuce.test.condition.RedisConditions;
 
@@ -110,6 +112,31 @@ public class GeoCommandIntegrationTests extends TestSupport {
         assertThat(largerGeoradius).hasSize(2).contains("Weinheim").contains("Bahn");
     }
 
+    @Test
+    void georadiusStreaming() {
+
+        prepareGeo();
+
+        ListStreamingAdapter<String> adapter = new ListStreamingAdapter<>();
+
+        Long count = redis.georadius(adapter, key, 8.6582861, 49.5285695, 5, GeoArgs.Unit.km);
+        assertThat(count).isEqualTo(2);
+        assertThat(adapter.getList()).containsOnly("Weinheim", "Bahn");
+
+        List<GeoWithin<String>> result = new ArrayList<>();
+        GeoArgs geoArgs = new GeoArgs().withDistance().withCount(1).desc();
+
+        count = redis.georadius(result::add, key, 8.665351, 49.553302, 5, GeoArgs.Unit.km, geoArgs);
+        assertThat(count).isEqualTo(1);
+        assertThat(result.get(0).getMember()).isEqualTo("Weinheim");
+        assertThat(result.get(0).getDistance()).isEqualTo(2.7882, offset(0.5));
+
+        result.clear();
+        count = redis.georadiusbymember(result::add, key, "Bahn", 5, GeoArgs.Unit.km, new GeoArgs().withDistance().asc());
+        assertThat(count).isEqualTo(2);
+        assertThat(result).extracting(GeoWithin::getMember).containsExactly("Bahn", "Weinheim");
+    }
+
     @Test
     public void georadiusInTransaction() {
 
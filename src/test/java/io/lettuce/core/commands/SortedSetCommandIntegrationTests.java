@@ -274,6 +274,29 @@ public class SortedSetCommandIntegrationTests extends TestSupport {
         assertThat(streamingAdapter.getList()).isEqualTo(svlist(sv(1.0, "a"), sv(2.0, "b"), sv(3.0, "c")));
     }
 
+    @Test
+    void zrangeWithScoresArray() {
+        setup();
+
+        ScoredValueArray<String> result = redis.zrangeWithScoresArray(key, 0, -1);
+
+        assertThat(result.getValues()).containsExactly("a", "b", "c");
+        assertThat(result.getScores()).containsExactly(1.0, 2.0, 3.0);
+        assertThat(redis.zrevrangeWithScoresArray(key, 0, 1).toList()).isEqualTo(svlist(sv(3.0, "c"), sv(2.0, "b")));
+    }
+
+    @Test
+    void zrangebyscoreWithScoresArray() {
+
+        redis.zadd(key, 1.5, "a", 2.0, "b", 3.0, "c", 4.0, "d");
+
+        assertThat(redis.zrangebyscoreWithScoresArray(key, Range.create(2.0, 4.0), Limit.create(1, 2)).toList())
+                .isEqualTo(svlist(sv(3.0, "c"), sv(4.0, "d")));
+        assertThat(redis.zrevrangebyscoreWithScoresArray(key, Range.unbounded(), Limit.unlimited()).getScores())
+                .containsExactly(4.0, 3.0, 2.0, 1.5);
+        assertThat(redis.zrangebyscoreWithScoresArray(key, Range.create(5.0, 6.0), Limit.unlimited()).isEmpty()).isTrue();
+    }
+
     @Test
     void zrangebyscore() {
 
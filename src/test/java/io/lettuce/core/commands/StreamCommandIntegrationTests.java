@@ -204,6 +204,34 @@ public class StreamCommandIntegrationTests extends TestSupport {
         assertThat(secondMessage.getBody()).containsEntry("key4", "value4");
     }
 
+    @Test
+    void xreadStreaming() {
+
+        String initial1 = redis.xadd("stream-1", Collections.singletonMap("key1", "value1"));
+        String initial2 = redis.xadd("stream-2", Collections.singletonMap("key2", "value2"));
+        String message1 = redis.xadd("stream-1", Collections.singletonMap("key3", "value3"));
+        String message2 = redis.xadd("stream-2", Collections.singletonMap("key4", "value4"));
+
+        List<StreamMessage<String, String>> messages = new ArrayList<>();
+
+        Long count = redis.xread(messages::add, StreamOffset.from("stream-1", initial1),
+                StreamOffset.from("stream-2", initial2));
+
+        assertThat(count).isEqualTo(2);
+        assertThat(messages).extracting(StreamMessage::getId).containsExactly(message1, message2);
+        assertThat(messages).extracting(StreamMessage::getStream).containsExactly("stream-1", "stream-2");
+
+        messages.clear();
+
+        assertThat(redis.xrange(messages::add, "stream-1", Range.unbounded(), Limit.from(1))).isEqualTo(1);
+        assertThat(messages).extracting(StreamMessage::getId).containsExactly(initial1);
+
+        messages.clear();
+
+        assertThat(redis.xrevrange(messages::add, "stream-1", Range.unbounded())).isEqualTo(2);
+        assertThat(messages).extracting(StreamMessage::getId).containsExactly(message1, initial1);
+    }
+
     @Test
     void xreadTransactional() {
 
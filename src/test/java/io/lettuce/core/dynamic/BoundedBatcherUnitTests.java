@@ -0,0 +1,201 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.dynamic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.dynamic.batch.CommandBatching;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.RedisCommand;
+import io.lettuce.core.resource.ClientResources;
+import io.netty.util.concurrent.EventExecutorGroup;
+
+/**
+ * Unit tests for {@link BoundedBatcher}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+class BoundedBatcherUnitTests {
+
+    @Mock
+    private StatefulConnection<Object, Object> connection;
+
+    @Mock
+    private ClientResources clientResources;
+
+    @Mock
+    private EventExecutorGroup eventExecutorGroup;
+
+    @Test
+    void shouldBatchWithBatchSize() {
+
+        RedisCommand<Object, Object, Object> c1 = createCommand();
+        RedisCommand<Object, Object, Object> c2 = createCommand();
+
+        BoundedBatcher batcher = new BoundedBatcher(connection, 2, 0, 0);
+
+        assertThat(batcher.batch(c1, null)).isEqualTo(BatchTasks.EMPTY);
+        verifyZeroInteractions(connection);
+
+        BatchTasks batch = batcher.batch(c2, null);
+        verify(connection).dispatch(Arrays.asList(c1, c2));
+        assertThat(batch).containsExactly(c1, c2);
+    }
+
+    @Test
+    void shouldFlushWhenReachingMaxBytes() {
+
+        RedisCommand<Object, Object, Object> c1 = createCommand("value");
+        RedisCommand<Object, Object, Object> c2 = createCommand("value");
+        RedisCommand<Object, Object, Object> c3 = createCommand("value");
+
+        int commandSize = c1.getType().getBytes().length + 16 + c1.getArgs().estimateSize();
+
+        BoundedBatcher batcher = new BoundedBatcher(connection, 100, commandSize * 2, 0);
+
+        batcher.batch(c1, null);
+        verifyZeroInteractions(connection);
+
+        batcher.batch(c2, null);
+        verify(connection).dispatch(Arrays.asList(c1, c2));
+
+        batcher.batch(c3, null);
+        verifyNoMoreInteractions(connection);
+    }
+
+    @Test
+    void shouldFlushAfterLinger() {
+
+        when(connection.getResources()).thenReturn(clientResources);
+        when(clientResources.eventExecutorGroup()).thenReturn(eventExecutorGroup);
+
+        RedisCommand<Object, Object, Object> c1 = createCommand();
+        RedisCommand<Object, Object, Object> c2 = createCommand();
+        RedisCommand<Object, Object, Object> c3 = createCommand();
+
+        BoundedBatcher batcher = new BoundedBatcher(connection, 100, 0, 10);
+
+        batcher.batch(c1, null);
+        batcher.batch(c2, CommandBatching.queue());
+
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(eventExecutorGroup).schedule(captor.capture(), eq(10L), eq(TimeUnit.MILLISECONDS));
+        verify(connection, never()).dispatch(anyCollection());
+
+        captor.getValue().run();
+        verify(connection).dispatch(Arrays.asList(c1, c2));
+
+        batcher.batch(c3, null);
+        verify(eventExecutorGroup, times(2)).schedule(any(Runnable.class), eq(10L), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void shouldReportFailedCommandsFlushedByLingerOnNextFlush() {
+
+        when(connection.getResources()).thenReturn(clientResources);
+        when(clientResources.eventExecutorGroup()).thenReturn(eventExecutorGroup);
+
+        RedisCommand<Object, Object, Object> c1 = createCommand();
+        RedisCommand<Object, Object, Object> c2 = createCommand();
+
+        BoundedBatcher batcher = new BoundedBatcher(connection, 100, 0, 10);
+
+        batcher.batch(c1, null);
+        batcher.batch(c2, null);
+
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(eventExecutorGroup).schedule(captor.capture(), eq(10L), eq(TimeUnit.MILLISECONDS));
+
+        captor.getValue().run();
+        verify(connection).dispatch(Arrays.asList(c1, c2));
+
+        c1.complete();
+        c2.completeExceptionally(new IllegalStateException());
+
+        assertThat(batcher.flush()).containsOnly(c2);
+        assertThat(batcher.flush()).isEqualTo(BatchTasks.EMPTY);
+    }
+
+    @Test
+    void shouldNotDispatchConcurrently() {
+
+        RedisCommand<Object, Object, Object> c1 = createCommand();
+        RedisCommand<Object, Object, Object> c2 = createCommand();
+
+        BoundedBatcher batcher = new BoundedBatcher(connection, 100, 0, 0);
+
+        doAnswer(invocation -> {
+
+            // a concurrent flush while dispatching must not dispatch ahead of the current batch
+            batcher.batch(c2, CommandBatching.queue());
+            assertThat(batcher.flush()).isEqualTo(BatchTasks.EMPTY);
+            return null;
+        }).when(connection).dispatch(c1);
+
+        BatchTasks tasks = batcher.batch(c1, CommandBatching.flush());
+
+        InOrder inOrder = inOrder(connection);
+        inOrder.verify(connection).dispatch(c1);
+        inOrder.verify(connection).dispatch(c2);
+        assertThat(tasks).containsExactly(c1, c2);
+    }
+
+    @Test
+    void shouldFlushWithBatchControlFlush() {
+
+        RedisCommand<Object, Object, Object> c1 = createCommand();
+        RedisCommand<Object, Object, Object> c2 = createCommand();
+
+        BoundedBatcher batcher = new BoundedBatcher(connection, 4, 1024, 0);
+
+        batcher.batch(c1, CommandBatching.queue());
+        batcher.batch(c2, CommandBatching.flush());
+
+        verify(connection).dispatch(Arrays.asList(c1, c2));
+        assertThat(batcher.flush()).isEqualTo(BatchTasks.EMPTY);
+    }
+
+    private static RedisCommand<Object, Object, Object> createCommand() {
+        return new AsyncCommand<>(new Command<>(CommandType.COMMAND, null, null));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RedisCommand<Object, Object, Object> createCommand(String value) {
+
+        CommandArgs<Object, Object> args = (CommandArgs) new CommandArgs<>(StringCodec.UTF8).addKey("key").addValue(value);
+        return new AsyncCommand<>(new Command<>(CommandType.SET, null, args));
+    }
+}
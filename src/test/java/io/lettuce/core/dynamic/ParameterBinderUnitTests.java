@@ -18,6 +18,7 @@ package io.lettuce.core.dynamic;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
@@ -28,6 +29,8 @@ import org.springframework.util.ReflectionUtils;
 
 import io.lettuce.core.*;
 import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.dynamic.CodecAwareMethodParametersAccessor.TypeContext;
+import io.lettuce.core.dynamic.domain.Timeout;
 import io.lettuce.core.dynamic.segment.CommandSegment;
 import io.lettuce.core.dynamic.segment.CommandSegments;
 import io.lettuce.core.protocol.CommandArgs;
@@ -191,6 +194,61 @@ class ParameterBinderUnitTests {
         assertThat(args.toCommandString()).isEqualTo("LINDEX");
     }
 
+    @Test
+    void precomputedBindingShouldBindLikeParameterAccessor() {
+
+        CommandMethod commandMethod = DeclaredCommandMethod.create(ReflectionUtils.findMethod(MyCommands.class,
+                "justObject", Object.class));
+
+        for (Object argument : Arrays.asList(null, "string", new String[] { "arg1", "arg2" }, new int[] { 1, 2 },
+                Value.just("string"), KeyValue.just("key", "value"), Limit.create(1, 2), Range.create(1, 2))) {
+
+            CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8);
+            binder.bind(args, StringCodec.UTF8, segments, new CodecAwareMethodParametersAccessor(
+                    new DefaultMethodParametersAccessor(commandMethod.getParameters(), argument), StringCodec.UTF8));
+
+            assertThat(bindPrecomputed(commandMethod, segments, argument).toCommandString())
+                    .isEqualTo(args.toCommandString());
+        }
+    }
+
+    @Test
+    void precomputedBindingShouldResolveSegments() {
+
+        CommandMethod commandMethod = DeclaredCommandMethod.create(ReflectionUtils.findMethod(MyCommands.class,
+                "keyAndValue", String.class, Timeout.class, String.class));
+        CommandSegments segments = new CommandSegments(Arrays.asList(CommandSegment.constant("SET"),
+                CommandSegment.indexedParameter(1), CommandSegment.constant("NX")));
+
+        CommandArgs<String, String> args = bindPrecomputed(commandMethod, segments, "key", null, "value");
+
+        assertThat(args.toCommandString()).isEqualTo("value<value> NX key<key>");
+    }
+
+    @Test
+    void precomputedBindingShouldNotResolveUnknownNamedParameter() {
+
+        CommandMethod commandMethod = DeclaredCommandMethod.create(ReflectionUtils.findMethod(MyCommands.class,
+                "justObject", Object.class));
+        CommandSegments segments = new CommandSegments(Arrays.asList(CommandSegment.constant("SET"),
+                CommandSegment.namedParameter("unknown")));
+
+        assertThat(MethodParametersBinding.create(segments, commandMethod.getParameters(), new TypeContext(StringCodec.UTF8)))
+                .isNull();
+    }
+
+    private CommandArgs<String, String> bindPrecomputed(CommandMethod commandMethod, CommandSegments segments,
+            Object... arguments) {
+
+        MethodParametersBinding binding = MethodParametersBinding.create(segments, commandMethod.getParameters(),
+                new TypeContext(StringCodec.UTF8));
+
+        CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8);
+        binder.bind(args, StringCodec.UTF8, binding, arguments);
+
+        return args;
+    }
+
     private CommandArgs<String, String> bind(Object object) {
         CommandMethod commandMethod = DeclaredCommandMethod.create(ReflectionUtils.findMethod(MyCommands.class, "justObject",
                 Object.class));
@@ -211,6 +269,9 @@ class ParameterBinderUnitTests {
 
         void justObject(Object object);
 
+        void keyAndValue(@io.lettuce.core.dynamic.annotation.Key String key, Timeout timeout,
+                @io.lettuce.core.dynamic.annotation.Value String value);
+
         void valueRange(@io.lettuce.core.dynamic.annotation.Value Range<String> value);
     }
 }
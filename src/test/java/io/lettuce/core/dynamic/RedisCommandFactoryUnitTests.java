@@ -0,0 +1,168 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.dynamic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.AbstractRedisReactiveCommands;
+import io.lettuce.core.RedisCommandExecutionException;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.reactive.RedisReactiveCommands;
+import io.lettuce.core.api.sync.RedisCommands;
+
+/**
+ * Unit tests for {@link RedisCommandFactory}.
+ *
+ * @author Mark Paluch
+ */
+@SuppressWarnings("unchecked")
+class RedisCommandFactoryUnitTests {
+
+    private StatefulRedisConnection<String, String> connection = mock(StatefulRedisConnection.class);
+    private RedisCommands<String, String> sync = mock(RedisCommands.class);
+
+    @BeforeEach
+    void before() {
+
+        List<Object> set = Arrays.asList("set", -3L, Arrays.asList("write", "denyoom"), 1L, 1L, 1L);
+
+        when(connection.sync()).thenReturn(sync);
+        when(connection.reactive()).thenReturn((RedisReactiveCommands) mock(AbstractRedisReactiveCommands.class,
+                withSettings().extraInterfaces(RedisReactiveCommands.class)));
+        when(sync.command()).thenReturn(Collections.singletonList(set));
+    }
+
+    @Test
+    void shouldNotLoadCommandMetadataOnCreation() {
+
+        RedisCommandFactory factory = new RedisCommandFactory(connection);
+        factory.setVerifyCommandMethods(false);
+
+        assertThat(factory.getCommands(MyCommands.class)).isNotNull();
+
+        verify(sync, never()).command();
+    }
+
+    @Test
+    void shouldShareCommandMetadataAcrossFactories() {
+
+        new RedisCommandFactory(connection).getCommands(MyCommands.class);
+        new RedisCommandFactory(connection).getCommands(MyCommands.class);
+
+        verify(sync, times(1)).command();
+    }
+
+    @Test
+    void shouldNotCacheFailedCommandMetadata() {
+
+        List<Object> set = Arrays.asList("set", -3L, Arrays.asList("write", "denyoom"), 1L, 1L, 1L);
+
+        when(sync.command()).thenThrow(new RedisCommandExecutionException("LOADING"))
+                .thenReturn(Collections.singletonList(set));
+
+        new RedisCommandFactory(connection).getCommands(MyCommands.class);
+
+        assertThatThrownBy(() -> new RedisCommandFactory(connection).getCommands(InvalidCommands.class))
+                .isInstanceOf(CommandMethodSyntaxException.class);
+
+        verify(sync, times(2)).command();
+    }
+
+    @Test
+    void shouldNotCacheEmptyCommandMetadata() {
+
+        when(sync.command()).thenReturn(Collections.emptyList());
+
+        new RedisCommandFactory(connection).getCommands(MyCommands.class);
+        new RedisCommandFactory(connection).getCommands(MyCommands.class);
+
+        verify(sync, times(2)).command();
+    }
+
+    @Test
+    void shouldVerifyCommandMethodsUsingCachedMetadata() {
+
+        new RedisCommandFactory(connection).getCommands(MyCommands.class);
+
+        assertThatThrownBy(() -> new RedisCommandFactory(connection).getCommands(InvalidCommands.class))
+                .isInstanceOf(CommandMethodSyntaxException.class);
+
+        verify(sync, times(1)).command();
+    }
+
+    @Test
+    void shouldNotBlockOtherConnectionsWhileLoadingCommandMetadata() throws Exception {
+
+        StatefulRedisConnection<String, String> slowConnection = mock(StatefulRedisConnection.class);
+        RedisCommands<String, String> slowSync = mock(RedisCommands.class);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RedisReactiveCommands<String, String> reactive = connection.reactive();
+
+        when(slowConnection.sync()).thenReturn(slowSync);
+        when(slowConnection.reactive()).thenReturn(reactive);
+        when(slowSync.command()).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return Collections.emptyList();
+        });
+
+        CompletableFuture<MyCommands> slow = CompletableFuture
+                .supplyAsync(() -> new RedisCommandFactory(slowConnection).getCommands(MyCommands.class));
+
+        try {
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(CompletableFuture.supplyAsync(() -> new RedisCommandFactory(connection).getCommands(MyCommands.class))
+                    .get(5, TimeUnit.SECONDS)).isNotNull();
+        } finally {
+            release.countDown();
+        }
+
+        assertThat(slow.get(5, TimeUnit.SECONDS)).isNotNull();
+    }
+
+    @Test
+    void shouldShareCommandMethodsPerInterface() {
+
+        DefaultRedisCommandsMetadata metadata = DefaultRedisCommandsMetadata.of(MyCommands.class);
+        CommandMethod commandMethod = metadata.getCommandMethod(metadata.getMethods().iterator().next());
+
+        assertThat(DefaultRedisCommandsMetadata.of(MyCommands.class)).isSameAs(metadata);
+        assertThat(metadata.getCommandMethod(metadata.getMethods().iterator().next())).isSameAs(commandMethod);
+    }
+
+    interface MyCommands extends Commands {
+
+        String set(String key, String value);
+    }
+
+    interface InvalidCommands extends Commands {
+
+        String set(String key);
+    }
+}
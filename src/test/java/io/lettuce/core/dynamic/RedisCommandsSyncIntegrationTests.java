@@ -34,6 +34,8 @@ import io.lettuce.core.api.sync.RedisCommands;
 import io.lettuce.core.codec.ByteArrayCodec;
 import io.lettuce.core.dynamic.annotation.Command;
 import io.lettuce.core.dynamic.domain.Timeout;
+import io.lettuce.core.output.LazyKeyValueMap;
+import io.lettuce.core.output.LazyValueList;
 import io.lettuce.test.LettuceExtension;
 
 /**
@@ -109,6 +111,25 @@ class RedisCommandsSyncIntegrationTests extends TestSupport {
         assertThat(values).hasSize(1).contains(value.getBytes());
     }
 
+    @Test
+    void lazyValueListAndMap() {
+
+        redis.rpush(key, "a", "b", "c");
+        redis.hset("hash", "field", value);
+
+        RedisCommandFactory factory = new RedisCommandFactory(redis.getStatefulConnection());
+
+        MultipleExecutionModels api = factory.getCommands(MultipleExecutionModels.class);
+
+        try (LazyValueList<String> list = api.lrange(key, 0, -1)) {
+            assertThat(list).containsExactly("a", "b", "c");
+        }
+
+        try (LazyKeyValueMap<String, String> map = api.hgetall("hash")) {
+            assertThat(map).containsEntry("field", value).hasSize(1);
+        }
+    }
+
     interface MultipleExecutionModels extends Commands {
 
         List<byte[]> mget(Iterable<byte[]> keys);
@@ -127,6 +148,10 @@ class RedisCommandsSyncIntegrationTests extends TestSupport {
 
         @Command("MGET")
         List<Value<String>> mgetAsValues(String... keys);
+
+        LazyValueList<String> lrange(String key, long start, long stop);
+
+        LazyKeyValueMap<String, String> hgetall(String key);
     }
 
 }
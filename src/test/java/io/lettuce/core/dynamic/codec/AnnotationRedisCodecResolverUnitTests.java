@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -28,8 +29,11 @@ import org.junit.jupiter.api.Test;
 
 import io.lettuce.core.Range;
 import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.ObjectCodec;
+import io.lettuce.core.codec.ObjectSchema;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.codec.TypedCodec;
 import io.lettuce.core.dynamic.CommandMethod;
 import io.lettuce.core.dynamic.DeclaredCommandMethod;
 import io.lettuce.core.dynamic.annotation.Key;
@@ -88,6 +92,30 @@ class AnnotationRedisCodecResolverUnitTests {
         assertThat(codec).isInstanceOf(ByteArrayCodec.class);
     }
 
+    @Test
+    void shouldResolveObjectCodecByValueType() {
+
+        ObjectCodec<Person> objectCodec = ObjectCodec.create(ObjectSchema.builder(Person.class, Person::new).build());
+        List<RedisCodec<?, ?>> codecs = Arrays.asList(new StringCodec(), new ByteArrayCodec(), objectCodec);
+
+        Method method = ReflectionUtils.findMethod(CommandMethods.class, "annotatedObjectValue", String.class, Person.class);
+
+        assertThat(new AnnotationRedisCodecResolver(codecs).resolve(DeclaredCommandMethod.create(method)))
+                .isSameAs(objectCodec);
+    }
+
+    @Test
+    void shouldResolveTypedCodecByValueType() {
+
+        RuntimeTypedCodec<Person> typedCodec = new RuntimeTypedCodec<>(Person.class);
+        List<RedisCodec<?, ?>> codecs = Arrays.asList(new StringCodec(), new ByteArrayCodec(), typedCodec);
+
+        Method method = ReflectionUtils.findMethod(CommandMethods.class, "annotatedObjectValue", String.class, Person.class);
+
+        assertThat(new AnnotationRedisCodecResolver(codecs).resolve(DeclaredCommandMethod.create(method)))
+                .isSameAs(typedCodec);
+    }
+
     @Test
     void resolutionShouldFail() {
 
@@ -132,6 +160,50 @@ class AnnotationRedisCodecResolverUnitTests {
         String withWrappers(@Value Range<String> range, @Value io.lettuce.core.Value<Number> value);
 
         String withMap(Map<Integer, String> map);
+
+        String annotatedObjectValue(@Key String key, @Value Person value);
     }
 
+    static class Person {
+    }
+
+
+    static class RuntimeTypedCodec<V> implements RedisCodec<String, V>, TypedCodec<String, V> {
+
+        private final Class<V> valueType;
+
+        RuntimeTypedCodec(Class<V> valueType) {
+            this.valueType = valueType;
+        }
+
+        @Override
+        public Class<String> getKeyType() {
+            return String.class;
+        }
+
+        @Override
+        public Class<V> getValueType() {
+            return valueType;
+        }
+
+        @Override
+        public String decodeKey(ByteBuffer bytes) {
+            return null;
+        }
+
+        @Override
+        public V decodeValue(ByteBuffer bytes) {
+            return null;
+        }
+
+        @Override
+        public ByteBuffer encodeKey(String key) {
+            return null;
+        }
+
+        @Override
+        public ByteBuffer encodeValue(V value) {
+            return null;
+        }
+    }
 }
@@ -18,8 +18,10 @@ package io.lettuce.core.dynamic.output;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.lang.reflect.Method;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 import org.reactivestreams.Publisher;
@@ -29,6 +31,10 @@ import reactor.core.publisher.Mono;
 import io.lettuce.core.GeoCoordinates;
 import io.lettuce.core.ScoredValue;
 import io.lettuce.core.Value;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.ObjectCodec;
+import io.lettuce.core.codec.ObjectSchema;
+import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.dynamic.DeclaredCommandMethod;
 import io.lettuce.core.dynamic.support.ReflectionUtils;
@@ -61,6 +67,21 @@ class OutputRegistryCommandOutputFactoryResolverUnitTests {
         assertThat(getCommandOutput("voidWrapper")).isInstanceOf(VoidOutput.class);
     }
 
+    @Test
+    void shouldResolveLazyOutputs() {
+
+        assertThat(getCommandOutput("lazyValueList")).isInstanceOf(LazyValueListOutput.class);
+        assertThat(getCommandOutput("lazyKeyValueMap")).isInstanceOf(LazyKeyValueMapOutput.class);
+        assertThat(getCommandOutput("stringMap")).isInstanceOf(MapOutput.class);
+    }
+
+    @Test
+    void shouldResolvePrimitiveArrayOutputs() {
+
+        assertThat(getCommandOutput("longArray")).isInstanceOf(LongArrayOutput.class);
+        assertThat(getCommandOutput("bitSet")).isInstanceOf(BitSetOutput.class);
+    }
+
     @Test
     void shouldResolveKeyOutput() {
         assertThat(getCommandOutput("stringMono")).isInstanceOf(KeyOutput.class);
@@ -130,6 +151,42 @@ class OutputRegistryCommandOutputFactoryResolverUnitTests {
         assertThat(commandOutput).isInstanceOf(ListOfMapsOutput.class);
     }
 
+    @Test
+    void shouldResolveObjectCodecValueOutputs() {
+
+        ObjectCodec<Person> codec = ObjectCodec
+                .create(ObjectSchema.builder(Person.class, Person::new).string(1, p -> p.name, (p, name) -> p.name = name).build());
+
+        assertThat(getCommandOutput("person", codec)).isInstanceOf(ValueOutput.class);
+        assertThat(getCommandOutput("personList", codec)).isInstanceOf(ValueListOutput.class);
+    }
+
+    @Test
+    void shouldCacheResolutionPerCodecTypes() {
+
+        OutputSelector selector = getOutputSelector("stringList");
+        OutputSelector byteArraySelector = new OutputSelector(selector.getOutputType(), ByteArrayCodec.INSTANCE);
+
+        assertThat(resolver.resolveCommandOutput(selector)).isSameAs(resolver.resolveCommandOutput(selector));
+        assertThat(resolver.resolveCommandOutput(selector).create(StringCodec.UTF8)).isInstanceOf(KeyListOutput.class);
+        assertThat(resolver.resolveCommandOutput(byteArraySelector).create(ByteArrayCodec.INSTANCE))
+                .isInstanceOf(StringListOutput.class);
+    }
+
+    @Test
+    void shouldResolveOutputsRegisteredAfterResolution() {
+
+        OutputRegistry registry = new OutputRegistry();
+        OutputRegistryCommandOutputFactoryResolver resolver = new OutputRegistryCommandOutputFactoryResolver(registry);
+        OutputSelector selector = getOutputSelector("person");
+
+        assertThat(resolver.resolveCommandOutput(selector)).isNull();
+
+        registry.register(PersonOutput.class, PersonOutput::new);
+
+        assertThat(resolver.resolveCommandOutput(selector).create(StringCodec.UTF8)).isInstanceOf(PersonOutput.class);
+    }
+
     @Test
     void stringValueCollectionIsAssignableFromStringValueListOutput() {
 
@@ -162,6 +219,14 @@ class OutputRegistryCommandOutputFactoryResolverUnitTests {
         return factory.create(new StringCodec());
     }
 
+    CommandOutput<?, ?, ?> getCommandOutput(String methodName, RedisCodec<?, ?> codec) {
+
+        Method method = ReflectionUtils.findMethod(CommandMethods.class, methodName);
+        OutputSelector outputSelector = new OutputSelector(DeclaredCommandMethod.create(method).getActualReturnType(), codec);
+
+        return resolver.resolveCommandOutput(outputSelector).create(codec);
+    }
+
     CommandOutput<?, ?, ?> getStreamingCommandOutput(String methodName) {
 
         OutputSelector outputSelector = getOutputSelector(methodName);
@@ -184,6 +249,16 @@ class OutputRegistryCommandOutputFactoryResolverUnitTests {
 
         List<String> stringList();
 
+        LazyValueList<String> lazyValueList();
+
+        LazyKeyValueMap<String, String> lazyKeyValueMap();
+
+        Map<String, String> stringMap();
+
+        long[] longArray();
+
+        BitSet bitSet();
+
         Iterable<String> stringIterable();
 
         Mono<String> stringMono();
@@ -211,5 +286,20 @@ class OutputRegistryCommandOutputFactoryResolverUnitTests {
         List<Boolean> boolList();
 
         ListOfMapsOutput<?, ?> listOfMapsOutput();
+
+        Person person();
+
+        List<Person> personList();
+    }
+
+    static class Person {
+        String name;
+    }
+
+    static class PersonOutput<K, V> extends CommandOutput<K, V, Person> {
+
+        PersonOutput(RedisCodec<K, V> codec) {
+            super(codec, null);
+        }
     }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.RedisStateMachine;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Unit tests for {@link BitSetOutput}.
+ *
+ * @author Mark Paluch
+ */
+class BitSetOutputUnitTests {
+
+    private BitSetOutput<String, String> sut = new BitSetOutput<>(StringCodec.UTF8);
+
+    @Test
+    void shouldDecodeBooleanArray() {
+
+        new RedisStateMachine().decode(Unpooled.copiedBuffer("*5\r\n:1\r\n:0\r\n$-1\r\n:1\r\n:0\r\n", StandardCharsets.US_ASCII),
+                sut);
+
+        assertThat(sut.get().stream()).containsExactly(0, 3);
+        assertThat(sut.get().cardinality()).isEqualTo(2);
+        assertThat(sut.getCount()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldRetainCountOfTrailingZeroElements() {
+
+        new RedisStateMachine().decode(Unpooled.copiedBuffer("*3\r\n:1\r\n:0\r\n:0\r\n", StandardCharsets.US_ASCII), sut);
+
+        assertThat(sut.get().length()).isEqualTo(1);
+        assertThat(sut.getCount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldReturnEmptyBitSet() {
+        assertThat(sut.get().isEmpty()).isTrue();
+        assertThat(sut.getCount()).isZero();
+    }
+}
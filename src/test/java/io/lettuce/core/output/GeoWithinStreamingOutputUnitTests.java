@@ -0,0 +1,76 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.GeoCoordinates;
+import io.lettuce.core.GeoWithin;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.RedisStateMachine;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Unit tests for {@link GeoWithinStreamingOutput}.
+ *
+ * @author Mark Paluch
+ */
+class GeoWithinStreamingOutputUnitTests {
+
+    private final RedisStateMachine rsm = new RedisStateMachine();
+    private final List<GeoWithin<String>> values = new ArrayList<>();
+
+    @Test
+    void shouldStreamGeoWithin() {
+
+        GeoWithinStreamingOutput<String, String> output = new GeoWithinStreamingOutput<>(StringCodec.UTF8, values::add,
+                true, true, true);
+
+        decode("*2\r\n" //
+                + "*4\r\n$1\r\na\r\n$3\r\n1.5\r\n:42\r\n*2\r\n$1\r\n1\r\n$1\r\n2\r\n" //
+                + "*4\r\n$1\r\nb\r\n$3\r\n2.5\r\n:43\r\n*2\r\n$1\r\n3\r\n$1\r\n4\r\n", output);
+
+        assertThat(output.get()).isEqualTo(2);
+        assertThat(values).containsExactly(new GeoWithin<>("a", 1.5, 42L, new GeoCoordinates(1.0, 2.0)),
+                new GeoWithin<>("b", 2.5, 43L, new GeoCoordinates(3.0, 4.0)));
+    }
+
+    @Test
+    void shouldStreamMembers() {
+
+        GeoWithinStreamingOutput<String, String> output = new GeoWithinStreamingOutput<>(StringCodec.UTF8, values::add,
+                false, false, false);
+
+        decode("*2\r\n$1\r\na\r\n$1\r\nb\r\n", output);
+
+        assertThat(output.get()).isEqualTo(2);
+        assertThat(values).extracting(GeoWithin::getMember).containsExactly("a", "b");
+    }
+
+    private void decode(String reply, CommandOutput<?, ?, ?> output) {
+
+        ByteBuf buffer = Unpooled.copiedBuffer(reply, StandardCharsets.US_ASCII);
+        assertThat(rsm.decode(buffer, output)).isTrue();
+        buffer.release();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.RedisStateMachine;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Unit tests for {@link LazyKeyValueMapOutput} and {@link LazyKeyValueMap}.
+ *
+ * @author Mark Paluch
+ */
+class LazyKeyValueMapOutputUnitTests {
+
+    private final RedisStateMachine rsm = new RedisStateMachine();
+
+    @Test
+    void shouldDecodeOnAccess() {
+
+        LazyKeyValueMapOutput<String, String> output = new LazyKeyValueMapOutput<>(StringCodec.UTF8);
+
+        decode("*4\r\n$1\r\na\r\n$1\r\n1\r\n$1\r\nb\r\n$-1\r\n", output);
+
+        LazyKeyValueMap<String, String> map = output.get();
+
+        Map<String, String> expected = new LinkedHashMap<>();
+        expected.put("a", "1");
+        expected.put("b", null);
+
+        assertThat(map).hasSize(2).isEqualTo(expected);
+        assertThat(map.get("a")).isEqualTo("1");
+        assertThat(map.containsKey("b")).isTrue();
+        assertThat(map.keySet()).containsExactly("a", "b");
+        assertThat(map.hashCode()).isEqualTo(expected.hashCode());
+        assertThat(StandardCharsets.US_ASCII.decode(map.getRawKey(1)).toString()).isEqualTo("b");
+        assertThat(map.getRawValue(1)).isNull();
+        assertThatThrownBy(() -> map.getRawKey(2)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> map.entrySet().iterator().next().setValue("x"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void shouldReleaseBuffer() {
+
+        LazyKeyValueMapOutput<String, String> output = new LazyKeyValueMapOutput<>(StringCodec.UTF8);
+
+        decode("*2\r\n$1\r\na\r\n$1\r\n1\r\n", output);
+
+        LazyKeyValueMap<String, String> map = output.get();
+        map.close();
+
+        assertThat(map.isReleased()).isTrue();
+        assertThatThrownBy(() -> map.get("a")).isInstanceOf(IllegalStateException.class);
+    }
+
+    private void decode(String reply, CommandOutput<?, ?, ?> output) {
+
+        ByteBuf buffer = Unpooled.copiedBuffer(reply, StandardCharsets.UTF_8);
+        assertThat(rsm.decode(buffer, output)).isTrue();
+        buffer.release();
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.RedisStateMachine;
+import io.netty.buffer.AbstractByteBufAllocator;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Unit tests for {@link LazyValueListOutput} and {@link LazyValueList}.
+ *
+ * @author Mark Paluch
+ */
+class LazyValueListOutputUnitTests {
+
+    private final RedisStateMachine rsm = new RedisStateMachine();
+
+    @Test
+    void shouldDecodeOnAccess() {
+
+        LazyValueListOutput<String, String> output = new LazyValueListOutput<>(StringCodec.UTF8);
+
+        decode("*3\r\n$3\r\none\r\n$-1\r\n$6\r\nthr€\r\n", output);
+
+        LazyValueList<String> list = output.get();
+
+        assertThat(list).hasSize(3).containsExactly("one", null, "thr€");
+        assertThat(list.get(2)).isEqualTo("thr€");
+    }
+
+    @Test
+    void shouldExposeRawElements() {
+
+        LazyValueListOutput<String, String> output = new LazyValueListOutput<>(StringCodec.UTF8);
+
+        decode("*2\r\n$3\r\none\r\n$-1\r\n", output);
+
+        ByteBuffer raw = output.get().getRaw(0);
+
+        assertThat(raw.isReadOnly()).isTrue();
+        assertThat(StandardCharsets.US_ASCII.decode(raw).toString()).isEqualTo("one");
+        assertThat(output.get().getRaw(1)).isNull();
+        assertThatThrownBy(() -> output.get().getRaw(2)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void shouldDecodeEmptyArray() {
+
+        LazyValueListOutput<String, String> output = new LazyValueListOutput<>(StringCodec.UTF8);
+
+        decode("*0\r\n", output);
+
+        assertThat(output.get()).isEmpty();
+        assertThat(output.get().release()).isTrue();
+    }
+
+    @Test
+    void shouldReleaseBuffer() {
+
+        LazyValueListOutput<String, String> output = new LazyValueListOutput<>(StringCodec.UTF8,
+                PooledByteBufAllocator.DEFAULT);
+
+        decode("*1\r\n$3\r\none\r\n", output);
+
+        LazyValueList<String> list = output.get();
+
+        try (LazyValueList<String> closeable = list) {
+            assertThat(closeable.get(0)).isEqualTo("one");
+        }
+
+        assertThat(list.isReleased()).isTrue();
+        assertThat(list.release()).isFalse();
+        assertThatThrownBy(() -> list.get(0)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldReleaseBufferOnError() {
+
+        LazyValueListOutput<String, String> output = new LazyValueListOutput<>(StringCodec.UTF8);
+
+        output.multi(1);
+        output.set(ByteBuffer.wrap("one".getBytes()));
+        output.setError("failed");
+
+        assertThat(output.get().isReleased()).isTrue();
+    }
+
+    @Test
+    void shouldReleaseBufferOnCancel() {
+
+        RecordingAllocator allocator = new RecordingAllocator();
+        LazyValueListOutput<String, String> output = new LazyValueListOutput<>(StringCodec.UTF8, allocator);
+        AsyncCommand<String, String, LazyValueList<String>> command = new AsyncCommand<>(new Command<>(CommandType.LRANGE,
+                output));
+
+        output.multi(2);
+        output.set(ByteBuffer.wrap("one".getBytes()));
+
+        command.cancel();
+        output.set(ByteBuffer.wrap("two".getBytes()));
+
+        assertThat(allocator.buffers).hasSize(1);
+        assertThat(allocator.buffers.get(0).refCnt()).isZero();
+        assertThat(output.get().isReleased()).isTrue();
+    }
+
+    @Test
+    void shouldReleaseBufferOnTimeout() {
+
+        RecordingAllocator allocator = new RecordingAllocator();
+        LazyValueListOutput<String, String> output = new LazyValueListOutput<>(StringCodec.UTF8, allocator);
+        AsyncCommand<String, String, LazyValueList<String>> command = new AsyncCommand<>(new Command<>(CommandType.LRANGE,
+                output));
+
+        output.multi(1);
+        output.set(ByteBuffer.wrap("one".getBytes()));
+
+        command.completeExceptionally(new RedisCommandTimeoutException());
+
+        assertThat(allocator.buffers.get(0).refCnt()).isZero();
+    }
+
+    private void decode(String reply, CommandOutput<?, ?, ?> output) {
+
+        ByteBuf buffer = Unpooled.copiedBuffer(reply, StandardCharsets.UTF_8);
+        assertThat(rsm.decode(buffer, output)).isTrue();
+        buffer.release();
+    }
+
+    static class RecordingAllocator extends AbstractByteBufAllocator {
+
+        final List<ByteBuf> buffers = new ArrayList<>();
+
+        @Override
+        protected ByteBuf newHeapBuffer(int initialCapacity, int maxCapacity) {
+
+            ByteBuf buffer = Unpooled.buffer(initialCapacity, maxCapacity);
+            buffers.add(buffer);
+            return buffer;
+        }
+
+        @Override
+        protected ByteBuf newDirectBuffer(int initialCapacity, int maxCapacity) {
+            return Unpooled.directBuffer(initialCapacity, maxCapacity);
+        }
+
+        @Override
+        public boolean isDirectBufferPooled() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.RedisStateMachine;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Unit tests for {@link LongArrayOutput}.
+ *
+ * @author Mark Paluch
+ */
+class LongArrayOutputUnitTests {
+
+    private LongArrayOutput<String, String> sut = new LongArrayOutput<>(StringCodec.UTF8);
+
+    @Test
+    void shouldDecodeIntegerArray() {
+
+        decode("*4\r\n:1\r\n:-42\r\n$-1\r\n:9223372036854775807\r\n");
+
+        assertThat(sut.get()).containsExactly(1L, -42L, 0L, Long.MAX_VALUE);
+    }
+
+    @Test
+    void shouldReturnEmptyArray() {
+
+        decode("*0\r\n");
+
+        assertThat(sut.get()).isEmpty();
+    }
+
+    @Test
+    void shouldGrowBeyondAnnouncedCount() {
+
+        sut.multi(1);
+
+        for (int i = 0; i < 5; i++) {
+            sut.set(i);
+        }
+
+        assertThat(sut.get()).containsExactly(0L, 1L, 2L, 3L, 4L);
+    }
+
+    private void decode(String response) {
+        new RedisStateMachine().decode(Unpooled.copiedBuffer(response, StandardCharsets.US_ASCII), sut);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.ScoredValue;
+import io.lettuce.core.ScoredValueArray;
+import io.lettuce.core.codec.StringCodec;
+
+/**
+ * Unit tests for {@link ScoredValueArrayOutput}.
+ *
+ * @author Mark Paluch
+ */
+class ScoredValueArrayOutputUnitTests {
+
+    private ScoredValueArrayOutput<String, String> sut = new ScoredValueArrayOutput<>(StringCodec.UTF8);
+
+    @Test
+    void shouldDecodeValuesAndScores() {
+
+        sut.multi(4);
+        sut.set(ByteBuffer.wrap("a".getBytes()));
+        sut.set(ByteBuffer.wrap("4.567".getBytes()));
+        sut.set(ByteBuffer.wrap("b".getBytes()));
+        sut.set(ByteBuffer.wrap("-inf".getBytes()));
+
+        ScoredValueArray<String> result = sut.get();
+
+        assertThat(result.size()).isEqualTo(2);
+        assertThat(result.getValues()).containsExactly("a", "b");
+        assertThat(result.getScores()).containsExactly(4.567, Double.NEGATIVE_INFINITY);
+        assertThat(result.toList()).containsExactly(ScoredValue.just(4.567, "a"), ScoredValue.just(Double.NEGATIVE_INFINITY, "b"));
+    }
+
+    @Test
+    void shouldReturnEmptyResult() {
+
+        sut.multi(0);
+
+        assertThat(sut.get().isEmpty()).isTrue();
+        assertThat(sut.get().getScores()).isEmpty();
+    }
+
+    @Test
+    void shouldGrowBeyondAnnouncedCount() {
+
+        sut.multi(2);
+
+        for (int i = 0; i < 5; i++) {
+            sut.set(ByteBuffer.wrap(("v" + i).getBytes()));
+            sut.set(ByteBuffer.wrap(Integer.toString(i).getBytes()));
+        }
+
+        assertThat(sut.get().size()).isEqualTo(5);
+        assertThat(sut.get().getScore(4)).isEqualTo(4.0);
+        assertThat(sut.get().getValue(4)).isEqualTo("v4");
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.StreamMessage;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.RedisStateMachine;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Unit tests for {@link StreamMessageStreamingOutput}.
+ *
+ * @author Mark Paluch
+ */
+class StreamMessageStreamingOutputUnitTests {
+
+    private final RedisStateMachine rsm = new RedisStateMachine();
+    private final List<StreamMessage<String, String>> messages = new ArrayList<>();
+
+    @Test
+    void shouldStreamMessagesOfMultipleStreams() {
+
+        StreamMessageStreamingOutput<String, String> output = new StreamMessageStreamingOutput<>(StringCodec.UTF8,
+                messages::add);
+
+        decode("*2\r\n" //
+                + "*2\r\n$2\r\ns1\r\n*1\r\n*2\r\n$3\r\n1-0\r\n*2\r\n$1\r\na\r\n$1\r\n1\r\n" //
+                + "*2\r\n$2\r\ns2\r\n*1\r\n*2\r\n$3\r\n2-0\r\n*2\r\n$1\r\nb\r\n$1\r\n2\r\n", output);
+
+        assertThat(output.get()).isEqualTo(2);
+        assertThat(messages).containsExactly(new StreamMessage<>("s1", "1-0", Collections.singletonMap("a", "1")),
+                new StreamMessage<>("s2", "2-0", Collections.singletonMap("b", "2")));
+    }
+
+    @Test
+    void shouldStreamMessagesOfRange() {
+
+        StreamMessageStreamingOutput<String, String> output = new StreamMessageStreamingOutput<>(StringCodec.UTF8,
+                messages::add, "s1");
+
+        decode("*2\r\n" //
+                + "*2\r\n$3\r\n1-0\r\n*2\r\n$1\r\na\r\n$1\r\n1\r\n" //
+                + "*2\r\n$3\r\n2-0\r\n*2\r\n$1\r\nb\r\n$1\r\n2\r\n", output);
+
+        assertThat(output.get()).isEqualTo(2);
+        assertThat(messages).containsExactly(new StreamMessage<>("s1", "1-0", Collections.singletonMap("a", "1")),
+                new StreamMessage<>("s1", "2-0", Collections.singletonMap("b", "2")));
+    }
+
+    @Test
+    void shouldStreamEmptyReply() {
+
+        StreamMessageStreamingOutput<String, String> output = new StreamMessageStreamingOutput<>(StringCodec.UTF8,
+                messages::add);
+
+        decode("*-1\r\n", output);
+
+        assertThat(output.get()).isEqualTo(0);
+        assertThat(messages).isEmpty();
+    }
+
+    private void decode(String reply, CommandOutput<?, ?, ?> output) {
+
+        ByteBuf buffer = Unpooled.copiedBuffer(reply, StandardCharsets.US_ASCII);
+        assertThat(rsm.decode(buffer, output)).isTrue();
+        buffer.release();
+    }
+}
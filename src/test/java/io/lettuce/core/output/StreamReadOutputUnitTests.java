@@ -0,0 +1,96 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.StreamMessage;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.RedisStateMachine;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Unit tests for {@link StreamReadOutput} and {@link StreamMessageListOutput}.
+ *
+ * @author Mark Paluch
+ */
+class StreamReadOutputUnitTests {
+
+    private final RedisStateMachine rsm = new RedisStateMachine();
+
+    @Test
+    void shouldDecodeMessagesOfMultipleStreams() {
+
+        StreamReadOutput<String, String> output = new StreamReadOutput<>(StringCodec.UTF8);
+
+        decode("*2\r\n" //
+                + "*2\r\n$2\r\ns1\r\n*2\r\n" //
+                + "*2\r\n$3\r\n1-0\r\n*4\r\n$1\r\na\r\n$1\r\n1\r\n$1\r\nb\r\n$1\r\n2\r\n" //
+                + "*2\r\n$3\r\n2-0\r\n*2\r\n$1\r\nc\r\n$1\r\n3\r\n" //
+                + "*2\r\n$2\r\ns2\r\n*1\r\n" //
+                + "*2\r\n$3\r\n3-0\r\n*2\r\n$1\r\nd\r\n$1\r\n4\r\n", output);
+
+        assertThat(output.get()).containsExactly(new StreamMessage<>("s1", "1-0", map("a", "1", "b", "2")),
+                new StreamMessage<>("s1", "2-0", map("c", "3")), new StreamMessage<>("s2", "3-0", map("d", "4")));
+    }
+
+    @Test
+    void shouldDecodeMessageList() {
+
+        StreamMessageListOutput<String, String> output = new StreamMessageListOutput<>(StringCodec.UTF8, "s1");
+
+        decode("*2\r\n" //
+                + "*2\r\n$3\r\n1-0\r\n*4\r\n$1\r\na\r\n$1\r\n1\r\n$1\r\nb\r\n$1\r\n2\r\n" //
+                + "*2\r\n$3\r\n2-0\r\n*2\r\n$1\r\nc\r\n$1\r\n3\r\n", output);
+
+        assertThat(output.get()).containsExactly(new StreamMessage<>("s1", "1-0", map("a", "1", "b", "2")),
+                new StreamMessage<>("s1", "2-0", map("c", "3")));
+    }
+
+    @Test
+    void shouldDecodeEmptyReply() {
+
+        StreamReadOutput<String, String> output = new StreamReadOutput<>(StringCodec.UTF8);
+
+        decode("*-1\r\n", output);
+
+        assertThat(output.get()).isEqualTo(Collections.emptyList());
+    }
+
+    private void decode(String reply, CommandOutput<?, ?, ?> output) {
+
+        ByteBuf buffer = Unpooled.copiedBuffer(reply.getBytes());
+        assertThat(rsm.decode(buffer, output)).isTrue();
+        buffer.release();
+    }
+
+    private static Map<String, String> map(String... keyValues) {
+
+        Map<String, String> map = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            map.put(keyValues[i], keyValues[i + 1]);
+        }
+
+        return map;
+    }
+}
@@ -20,8 +20,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -164,6 +167,65 @@ public class AsyncCommandUnitTests {
         assertThat(sut.await(2, TimeUnit.MILLISECONDS)).isFalse();
     }
 
+    @Test
+    void awaitCompletedByOtherThread() throws Exception {
+
+        Thread completer = new Thread(() -> {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+            sut.getOutput().set(buffer("OK"));
+            sut.complete();
+        });
+        completer.start();
+
+        assertThat(sut.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(sut.get()).isEqualTo("OK");
+
+        completer.join();
+    }
+
+    @Test
+    void awaitCancelledByOtherThread() throws Exception {
+
+        Thread canceller = new Thread(() -> {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+            sut.cancel();
+        });
+        canceller.start();
+
+        assertThat(sut.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(sut.isCancelled()).isTrue();
+
+        canceller.join();
+    }
+
+    @Test
+    void awaitWithConcurrentWaiters() throws Exception {
+
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean awaited = new AtomicBoolean();
+
+        Thread waiter = new Thread(() -> {
+            started.countDown();
+            awaited.set(sut.await(5, TimeUnit.SECONDS));
+        });
+        waiter.start();
+        started.await();
+
+        Thread completer = new Thread(() -> {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+            sut.getOutput().set(buffer("OK"));
+            sut.complete();
+        });
+        completer.start();
+
+        assertThat(sut.await(5, TimeUnit.SECONDS)).isTrue();
+
+        waiter.join();
+        completer.join();
+
+        assertThat(awaited.get()).isTrue();
+    }
+
     @Test
     void getInterrupted() {
         Thread.currentThread().interrupt();
@@ -175,4 +175,19 @@ class CommandArgsUnitTests {
 
         assertThat(buffer.toString(LettuceCharsets.ASCII)).isEqualTo(expected.toString(LettuceCharsets.ASCII));
     }
+
+    @Test
+    void estimateSizeShouldMatchEncodedSize() {
+
+        CommandArgs<byte[], byte[]> args = new CommandArgs<>(ByteArrayCodec.INSTANCE).addKey("key".getBytes())
+                .addValue(new byte[12]).add(-1234567890123L).add(7).add("string").add("bytes".getBytes())
+                .add(CommandKeyword.LIMIT);
+
+        ByteBuf buffer = Unpooled.buffer();
+        args.encode(buffer);
+
+        assertThat(args.estimateSize()).isEqualTo(buffer.readableBytes());
+
+        buffer.release();
+    }
 }
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisChannelWriter;
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.test.Wait;
+import io.netty.util.concurrent.DefaultEventExecutorGroup;
+
+/**
+ * Unit tests for {@link CommandExpiryWriter}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CommandExpiryWriterUnitTests {
+
+    @Mock
+    private RedisChannelWriter writer;
+
+    @Mock
+    private ClientResources clientResources;
+
+    private DefaultEventExecutorGroup executors;
+
+    private CommandExpiryWriter sut;
+
+    @BeforeEach
+    void before() {
+
+        executors = new DefaultEventExecutorGroup(1);
+        when(clientResources.eventExecutorGroup()).thenReturn(executors);
+
+        ClientOptions options = ClientOptions.builder().timeoutOptions(TimeoutOptions.enabled(Duration.ofMillis(500)))
+                .build();
+        sut = new CommandExpiryWriter(writer, options, clientResources);
+    }
+
+    @AfterEach
+    void after() {
+        executors.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    void shouldExpireCommands() {
+
+        AsyncCommand<String, String, String> first = newCommand();
+        AsyncCommand<String, String, String> second = newCommand();
+
+        sut.write(first);
+        sut.write(second);
+
+        assertThat(first.getDeadline()).isNotEqualTo(WithDeadline.NO_DEADLINE);
+        assertThat(second.getDeadline()).isGreaterThanOrEqualTo(first.getDeadline());
+
+        Wait.untilTrue(second::isDone).waitOrTimeout();
+
+        assertThat(first).isCompletedExceptionally();
+        assertThatThrownBy(first::join).hasCauseInstanceOf(RedisCommandTimeoutException.class);
+        assertThatThrownBy(second::join).hasCauseInstanceOf(RedisCommandTimeoutException.class);
+    }
+
+    @Test
+    void shouldNotExpireCompletedCommands() {
+
+        AsyncCommand<String, String, String> completed = newCommand();
+        AsyncCommand<String, String, String> pending = newCommand();
+
+        sut.write(completed);
+        completed.getOutput().set(StringCodec.UTF8.encodeValue("OK"));
+        completed.complete();
+
+        sut.write(pending);
+
+        Wait.untilTrue(pending::isDone).waitOrTimeout();
+
+        assertThat(completed.join()).isEqualTo("OK");
+        assertThat(pending).isCompletedExceptionally();
+    }
+
+    @Test
+    void shouldRescheduleForEarlierDeadline() {
+
+        ClientOptions options = ClientOptions.builder()
+                .timeoutOptions(TimeoutOptions.builder().timeoutSource(new TimeoutOptions.TimeoutSource() {
+
+                    @Override
+                    public long getTimeout(RedisCommand<?, ?, ?> command) {
+                        return command.getType() == CommandType.BLPOP ? 10000 : 500;
+                    }
+
+                    @Override
+                    public TimeUnit getTimeUnit() {
+                        return TimeUnit.MILLISECONDS;
+                    }
+                }).build()).build();
+        sut = new CommandExpiryWriter(writer, options, clientResources);
+
+        AsyncCommand<String, String, String> blocking = new AsyncCommand<>(new Command<>(CommandType.BLPOP,
+                new StatusOutput<>(StringCodec.UTF8)));
+        AsyncCommand<String, String, String> pending = newCommand();
+
+        sut.write(blocking);
+        blocking.cancel();
+
+        sut.write(pending);
+
+        Wait.untilTrue(pending::isDone).during(Duration.ofSeconds(2)).waitOrTimeout();
+
+        assertThatThrownBy(pending::join).hasCauseInstanceOf(RedisCommandTimeoutException.class);
+    }
+
+    @Test
+    void shouldExpireCommandsWrittenConcurrently() throws Exception {
+
+        List<AsyncCommand<String, String, String>> pending = new CopyOnWriteArrayList<>();
+        ExecutorService writers = Executors.newFixedThreadPool(4);
+
+        try {
+            for (int i = 0; i < 4; i++) {
+                writers.submit(() -> {
+
+                    for (int j = 0; j < 1000; j++) {
+
+                        AsyncCommand<String, String, String> command = newCommand();
+                        sut.write(command);
+
+                        if (j % 100 == 0) {
+                            pending.add(command);
+                        } else {
+                            command.complete();
+                        }
+                    }
+                });
+            }
+        } finally {
+            writers.shutdown();
+        }
+
+        assertThat(writers.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        for (AsyncCommand<String, String, String> command : pending) {
+            Wait.untilTrue(command::isDone).during(Duration.ofSeconds(2)).waitOrTimeout();
+            assertThatThrownBy(command::join).hasCauseInstanceOf(RedisCommandTimeoutException.class);
+        }
+
+        assertThat(pending).hasSize(40);
+    }
+
+    @Test
+    void shouldNotReassignDeadline() {
+
+        AsyncCommand<String, String, String> command = newCommand();
+        command.deadline(42);
+
+        sut.write(command);
+
+        assertThat(command.getDeadline()).isEqualTo(42);
+    }
+
+    private static AsyncCommand<String, String, String> newCommand() {
+        return new AsyncCommand<>(new Command<>(CommandType.PING, new StatusOutput<>(StringCodec.UTF8)));
+    }
+}
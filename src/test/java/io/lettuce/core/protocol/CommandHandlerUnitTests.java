@@ -16,6 +16,7 @@
 package io.lettuce.core.protocol;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Fail.fail;
 import static org.mockito.AdditionalMatchers.gt;
 import static org.mockito.Matchers.any;
@@ -45,8 +46,11 @@ import org.mockito.quality.Strictness;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ConcurrencyLimitOptions;
 import io.lettuce.core.ConnectionEvents;
+import io.lettuce.core.RedisCommandTimeoutException;
 import io.lettuce.core.RedisException;
+import io.lettuce.core.RedisOverloadException;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.metrics.CommandLatencyCollector;
 import io.lettuce.core.output.StatusOutput;
@@ -274,6 +278,22 @@ class CommandHandlerUnitTests {
         verify(promise).trySuccess();
     }
 
+    @Test
+    void shouldNotWriteCommandPastDeadline() throws Exception {
+
+        AsyncCommand<String, String, String> expired = new AsyncCommand<>(command);
+        expired.deadline(System.nanoTime() - 1);
+
+        sut.write(context, expired, promise);
+
+        verifyZeroInteractions(context);
+        assertThat(stack).isEmpty();
+        assertThat(expired).isCompletedExceptionally();
+        assertThatThrownBy(expired::join).hasCauseInstanceOf(RedisCommandTimeoutException.class);
+
+        verify(promise).trySuccess();
+    }
+
     @Test
     void shouldNotWriteCancelledCommands() throws Exception {
 
@@ -349,6 +369,18 @@ class CommandHandlerUnitTests {
         assertThat(stack).hasSize(1).allMatch(o -> o instanceof LatencyMeteredCommand);
     }
 
+    @Test
+    void shouldNotWrapCommandsRecordingLatency() throws Exception {
+
+        AsyncCommand<String, String, String> asyncCommand = new AsyncCommand<>(command);
+        when(promise.isVoid()).thenReturn(true);
+
+        sut.write(context, asyncCommand, promise);
+
+        assertThat(stack).hasSize(1).allMatch(o -> o == asyncCommand);
+        assertThat(asyncCommand.getSent()).isNotEqualTo(-1);
+    }
+
     @Test
     void shouldNotWriteCancelledCommandBatch() throws Exception {
 
@@ -421,6 +453,35 @@ class CommandHandlerUnitTests {
         sut.channelUnregistered(context);
     }
 
+    @Test
+    void shouldRecycleTimedOutCommandOnceResponseArrives() throws Exception {
+
+        ChannelPromise channelPromise = new DefaultChannelPromise(channel, ImmediateEventExecutor.INSTANCE);
+        channelPromise.setSuccess();
+
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+
+        List<Throwable> errors = new ArrayList<>();
+        RecyclableCommand<String, String, String> recyclable = RecyclableCommand.newInstance(CommandType.PING,
+                new StatusOutput<>(StringCodec.UTF8), StringCodec.UTF8, (result, throwable) -> errors.add(throwable));
+
+        sut.write(context, recyclable, channelPromise);
+        recyclable.completeExceptionally(new RedisException("timeout"));
+
+        assertThat(recyclable.getOutput()).isNotNull();
+        assertThat(recyclable.getType()).isEqualTo(CommandType.PING);
+
+        sut.channelRead(context, Unpooled.wrappedBuffer("+PONG\r\n".getBytes()));
+
+        assertThat(errors).hasSize(1).first().isInstanceOf(RedisException.class);
+        assertThat(stack).isEmpty();
+        assertThat(recyclable.isDone()).isFalse();
+        assertThat(recyclable.getOutput()).isNull();
+
+        sut.channelUnregistered(context);
+    }
+
     @Test
     void shouldIgnoreNonReadableBuffers() throws Exception {
 
@@ -489,4 +550,128 @@ class CommandHandlerUnitTests {
         assertThat(internalBuffer.writerIndex()).isEqualTo(0);
         sut.channelUnregistered(context);
     }
+
+    @Test
+    void shouldRejectCommandsExceedingConcurrencyLimit() throws Exception {
+
+        ConcurrencyLimitOptions limitOptions = ConcurrencyLimitOptions.builder().limitConcurrency().minLimit(1).initialLimit(1)
+                .overloadBehavior(ConcurrencyLimitOptions.OverloadBehavior.REJECT).build();
+        sut = new CommandHandler(ClientOptions.builder().concurrencyLimitOptions(limitOptions).build(), clientResources,
+                endpoint);
+        stack = (Queue) ReflectionTestUtils.getField(sut, "stack");
+
+        ChannelPromise channelPromise = new DefaultChannelPromise(channel, ImmediateEventExecutor.INSTANCE);
+        channelPromise.setSuccess();
+
+        Command<String, String, String> command2 = new Command<>(CommandType.APPEND, new StatusOutput<>(StringCodec.UTF8),
+                null);
+        AsyncCommand<String, String, String> rejected = new AsyncCommand<>(command2);
+
+        sut.write(context, command, channelPromise);
+        sut.write(context, rejected, promise);
+
+        assertThat(stack).hasSize(1);
+        assertThat(rejected).isCompletedExceptionally();
+        assertThatThrownBy(rejected::join).hasCauseInstanceOf(RedisOverloadException.class);
+        verify(promise).trySuccess();
+    }
+
+    @Test
+    void shouldDiscardProbeOnFailedWrite() throws Exception {
+
+        ConcurrencyLimitOptions limitOptions = ConcurrencyLimitOptions.builder().limitConcurrency().build();
+        sut = new CommandHandler(ClientOptions.builder().concurrencyLimitOptions(limitOptions).build(), clientResources,
+                endpoint);
+        stack = (Queue) ReflectionTestUtils.getField(sut, "stack");
+
+        ChannelPromise channelPromise = new DefaultChannelPromise(channel, ImmediateEventExecutor.INSTANCE);
+        channelPromise.setFailure(new IOException("write failed"));
+
+        sut.write(context, command, channelPromise);
+
+        Object concurrencyLimiter = ReflectionTestUtils.getField(sut, "concurrencyLimiter");
+
+        assertThat(stack).isEmpty();
+        assertThat(ReflectionTestUtils.getField(concurrencyLimiter, "probe")).isNull();
+    }
+
+    @Test
+    void shouldQueueCommandsExceedingConcurrencyLimit() throws Exception {
+
+        ConcurrencyLimitOptions limitOptions = ConcurrencyLimitOptions.builder().limitConcurrency().minLimit(1).initialLimit(1)
+                .build();
+        sut = new CommandHandler(ClientOptions.builder().concurrencyLimitOptions(limitOptions).build(), clientResources,
+                endpoint);
+        stack = (Queue) ReflectionTestUtils.getField(sut, "stack");
+
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+
+        ChannelPromise channelPromise = new DefaultChannelPromise(channel, ImmediateEventExecutor.INSTANCE);
+        channelPromise.setSuccess();
+
+        Command<String, String, String> command2 = new Command<>(CommandType.APPEND, new StatusOutput<>(StringCodec.UTF8),
+                null);
+
+        sut.write(context, command, channelPromise);
+        sut.write(context, command2, promise);
+
+        verify(context, never()).write(eq(command2), any());
+        assertThat(stack).hasSize(1);
+
+        sut.channelRead(context, Unpooled.wrappedBuffer("+OK\r\n".getBytes()));
+
+        assertThat(command.isDone()).isTrue();
+        verify(context).write(command2, promise);
+        verify(context).flush();
+
+        sut.channelUnregistered(context);
+    }
+
+    @Test
+    void shouldRejectQueuedCommandsExceedingRequestQueueSize() throws Exception {
+
+        ConcurrencyLimitOptions limitOptions = ConcurrencyLimitOptions.builder().limitConcurrency().minLimit(1).initialLimit(1)
+                .build();
+        sut = new CommandHandler(ClientOptions.builder().concurrencyLimitOptions(limitOptions).requestQueueSize(2).build(),
+                clientResources, endpoint);
+        stack = (Queue) ReflectionTestUtils.getField(sut, "stack");
+
+        ChannelPromise channelPromise = new DefaultChannelPromise(channel, ImmediateEventExecutor.INSTANCE);
+        channelPromise.setSuccess();
+
+        AsyncCommand<String, String, String> queued = new AsyncCommand<>(new Command<>(CommandType.APPEND,
+                new StatusOutput<>(StringCodec.UTF8), null));
+        AsyncCommand<String, String, String> rejected = new AsyncCommand<>(new Command<>(CommandType.APPEND,
+                new StatusOutput<>(StringCodec.UTF8), null));
+
+        sut.write(context, command, channelPromise);
+        sut.write(context, queued, promise);
+        sut.write(context, Arrays.asList(rejected), promise);
+
+        assertThat(stack).hasSize(1);
+        assertThat(queued).isNotDone();
+        assertThatThrownBy(rejected::join).hasCauseInstanceOf(RedisOverloadException.class);
+    }
+
+    @Test
+    void shouldDrainQueuedCommandsExceedingConcurrencyLimit() throws Exception {
+
+        ConcurrencyLimitOptions limitOptions = ConcurrencyLimitOptions.builder().limitConcurrency().minLimit(1).initialLimit(1)
+                .build();
+        sut = new CommandHandler(ClientOptions.builder().concurrencyLimitOptions(limitOptions).build(), clientResources,
+                endpoint);
+
+        ChannelPromise channelPromise = new DefaultChannelPromise(channel, ImmediateEventExecutor.INSTANCE);
+        channelPromise.setSuccess();
+
+        Command<String, String, String> command2 = new Command<>(CommandType.APPEND, new StatusOutput<>(StringCodec.UTF8),
+                null);
+
+        sut.write(context, command, channelPromise);
+        sut.write(context, command2, promise);
+
+        assertThat(sut.drainQueue()).hasSize(2).endsWith(command2);
+        verify(promise).trySuccess();
+    }
 }
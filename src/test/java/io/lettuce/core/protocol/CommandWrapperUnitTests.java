@@ -26,6 +26,7 @@ import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.output.CommandOutput;
 import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.tracing.TraceContext;
 
 /**
  * @author Mark Paluch
@@ -58,4 +59,59 @@ class CommandWrapperUnitTests {
         assertThat(v1.get()).isEqualTo(true);
         assertThat(v2.get()).isEqualTo(true);
     }
+
+    @Test
+    void shouldCollapseTracedCommand() {
+
+        AtomicReference<Boolean> v1 = new AtomicReference<>();
+
+        TracedCommand<String, String, String> traced = new TracedCommand<>(sut, TraceContext.EMPTY);
+        CommandWrapper<String, String, String> commandWrapper = new CommandWrapper<>(traced);
+
+        assertThat(commandWrapper.getDelegate()).isSameAs(sut);
+        assertThat(commandWrapper.traceContext).isSameAs(TraceContext.EMPTY);
+        assertThat(CommandWrapper.unwrapTraced(commandWrapper)).isSameAs(commandWrapper);
+
+        traced.onComplete(s -> v1.set(true));
+        commandWrapper.complete();
+
+        assertThat(v1.get()).isEqualTo(true);
+        assertThat(commandWrapper).isEqualTo(traced);
+    }
+
+    @Test
+    void shouldCollapseTracedCommandOnlyOnce() {
+
+        AtomicReference<Boolean> v1 = new AtomicReference<>();
+
+        TracedCommand<String, String, String> traced = new TracedCommand<>(sut, TraceContext.EMPTY);
+        CommandWrapper<String, String, String> first = new CommandWrapper<>(traced);
+        CommandWrapper<String, String, String> second = new CommandWrapper<>(traced);
+
+        assertThat(first.getDelegate()).isSameAs(sut);
+        assertThat(second.getDelegate()).isSameAs(traced);
+
+        traced.onComplete(s -> v1.set(true));
+        first.complete();
+
+        assertThat(v1.get()).isEqualTo(true);
+    }
+
+    @Test
+    void shouldNotCollapseTracedCommandWithCallbacks() {
+
+        AtomicReference<Boolean> v1 = new AtomicReference<>();
+
+        TracedCommand<String, String, String> traced = new TracedCommand<>(sut, TraceContext.EMPTY);
+        traced.onComplete(s -> v1.set(true));
+
+        CommandWrapper<String, String, String> commandWrapper = new CommandWrapper<>(traced);
+
+        assertThat(commandWrapper.getDelegate()).isSameAs(traced);
+        assertThat(CommandWrapper.unwrapTraced(commandWrapper)).isSameAs(traced);
+
+        commandWrapper.complete();
+
+        assertThat(v1.get()).isEqualTo(true);
+    }
 }
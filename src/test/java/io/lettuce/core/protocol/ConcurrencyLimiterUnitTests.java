@@ -0,0 +1,126 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.ConcurrencyLimitOptions;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.StatusOutput;
+
+/**
+ * Unit tests for {@link ConcurrencyLimiter}.
+ *
+ * @author Mark Paluch
+ */
+class ConcurrencyLimiterUnitTests {
+
+    private final ConcurrencyLimiter sut = new ConcurrencyLimiter(ConcurrencyLimitOptions.builder().limitConcurrency()
+            .initialLimit(10).minLimit(5).maxLimit(11).latencyThreshold(Duration.ofMillis(10)).backoffRatio(0.5).build());
+
+    @Test
+    void shouldIncreaseLimitOnFastResponses() {
+
+        RedisCommand<String, String, String> command = newCommand();
+
+        sut.onWrite(command, true, 0);
+        sut.onComplete(command, 5, TimeUnit.MILLISECONDS.toNanos(1));
+
+        assertThat(sut.getLimit()).isEqualTo(11);
+
+        sut.onWrite(command, true, 0);
+        sut.onComplete(command, 5, TimeUnit.MILLISECONDS.toNanos(1));
+
+        assertThat(sut.getLimit()).isEqualTo(11);
+    }
+
+    @Test
+    void shouldNotIncreaseLimitIfUnderutilized() {
+
+        RedisCommand<String, String, String> command = newCommand();
+
+        sut.onWrite(command, true, 0);
+        sut.onComplete(command, 1, TimeUnit.MILLISECONDS.toNanos(1));
+
+        assertThat(sut.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldDecreaseLimitOnSlowResponses() {
+
+        RedisCommand<String, String, String> command = newCommand();
+
+        sut.onWrite(command, true, 0);
+        sut.onComplete(command, 5, TimeUnit.MILLISECONDS.toNanos(20));
+
+        assertThat(sut.getLimit()).isEqualTo(5);
+
+        sut.onWrite(command, true, 0);
+        sut.onComplete(command, 5, TimeUnit.MILLISECONDS.toNanos(20));
+
+        assertThat(sut.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldSampleOnlyProbeCommand() {
+
+        RedisCommand<String, String, String> probe = newCommand();
+        RedisCommand<String, String, String> other = newCommand();
+
+        sut.onWrite(probe, true, 0);
+        sut.onWrite(other, true, 0);
+        sut.onComplete(other, 5, TimeUnit.MILLISECONDS.toNanos(20));
+
+        assertThat(sut.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldConsiderUnacknowledgedWrites() {
+
+        for (int i = 0; i < 10; i++) {
+            sut.onWrite(newCommand(), false, 0);
+        }
+
+        assertThat(sut.hasCapacity(0, 1)).isFalse();
+
+        sut.onAcknowledge();
+
+        assertThat(sut.hasCapacity(0, 1)).isTrue();
+        assertThat(sut.hasCapacity(1, 1)).isFalse();
+
+        sut.reset();
+
+        assertThat(sut.hasCapacity(9, 1)).isTrue();
+    }
+
+    @Test
+    void shouldConsiderBatchSize() {
+
+        assertThat(sut.hasCapacity(5, 5)).isTrue();
+        assertThat(sut.hasCapacity(5, 6)).isFalse();
+        assertThat(sut.hasCapacity(1, 20)).isFalse();
+        assertThat(sut.hasCapacity(0, 20)).isTrue();
+    }
+
+    private static RedisCommand<String, String, String> newCommand() {
+        return new Command<>(CommandType.PING, new StatusOutput<>(StringCodec.UTF8));
+    }
+}
@@ -48,6 +48,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 import edu.umd.cs.mtc.MultithreadedTestCase;
 import edu.umd.cs.mtc.TestFramework;
 import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisCommandTimeoutException;
 import io.lettuce.core.RedisException;
 import io.lettuce.core.codec.Utf8StringCodec;
 import io.lettuce.core.internal.LettuceFactories;
@@ -227,6 +228,45 @@ class DefaultEndpointUnitTests {
 
     }
 
+    @Test
+    void notifyDrainQueuedCommandsShouldExpireCommandsPastDeadline() {
+
+        when(channel.isActive()).thenReturn(true);
+
+        command.deadline(System.nanoTime() - 1);
+
+        Queue<RedisCommand<?, ?, ?>> q = LettuceFactories.newConcurrentQueue(100);
+        q.add(command);
+
+        sut.notifyChannelActive(channel);
+        sut.notifyDrainQueuedCommands(() -> q);
+
+        verify(channel, never()).write(command);
+        assertThat(command.exception).isInstanceOf(RedisCommandTimeoutException.class);
+    }
+
+    @Test
+    void flushCommandsShouldExpireCommandsPastDeadline() {
+
+        Command<String, String, String> active = new Command<>(CommandType.APPEND, new StatusOutput<>(new Utf8StringCodec()),
+                null);
+
+        sut.setAutoFlushCommands(false);
+        sut.write(command);
+        sut.write(active);
+
+        command.deadline(System.nanoTime() - 1);
+        active.deadline(System.nanoTime() + 60_000_000_000L);
+
+        when(channel.isActive()).thenReturn(true);
+        sut.notifyChannelActive(channel);
+        sut.flushCommands();
+
+        verify(channel, never()).write(command);
+        verify(channel).write(active);
+        assertThat(command.exception).isInstanceOf(RedisCommandTimeoutException.class);
+    }
+
     @Test
     void shouldCancelCommandsOnEncoderException() {
 
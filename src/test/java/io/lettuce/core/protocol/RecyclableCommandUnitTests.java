@@ -0,0 +1,142 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import static io.lettuce.core.protocol.LettuceCharsets.buffer;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.RedisCommandExecutionException;
+import io.lettuce.core.RedisException;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.StatusOutput;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Unit tests for {@link RecyclableCommand}.
+ *
+ * @author Mark Paluch
+ */
+class RecyclableCommandUnitTests {
+
+    private final AtomicReference<Object> result = new AtomicReference<>();
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+    private final AtomicInteger notifications = new AtomicInteger();
+
+    @Test
+    void shouldEncodeCommand() {
+
+        RecyclableCommand<String, String, String> command = newCommand(CommandType.SET);
+        command.getArgs().addKey("key").addValue("value");
+
+        ByteBuf buffer = Unpooled.buffer();
+        command.encode(buffer);
+
+        assertThat(buffer.toString(LettuceCharsets.ASCII)).isEqualTo("*3\r\n$3\r\nSET\r\n$3\r\nkey\r\n$5\r\nvalue\r\n");
+
+        buffer.release();
+        command.recycle();
+    }
+
+    @Test
+    void shouldNotifyOnCompletion() {
+
+        RecyclableCommand<String, String, String> command = newCommand(CommandType.SET);
+        command.getArgs().addKey("key");
+        command.deadline(42);
+
+        AtomicReference<Object> onComplete = new AtomicReference<>();
+        command.onComplete(onComplete::set);
+
+        command.getOutput().set(buffer("OK"));
+        command.complete();
+
+        assertThat(result.get()).isEqualTo("OK");
+        assertThat(error.get()).isNull();
+        assertThat(onComplete.get()).isEqualTo("OK");
+
+        assertThat(command.isDone()).isTrue();
+        assertThat(command.getOutput()).isNotNull();
+        assertThat(command.getType()).isEqualTo(CommandType.SET);
+    }
+
+    @Test
+    void shouldResetStateOnRecycle() {
+
+        RecyclableCommand<String, String, String> command = newCommand(CommandType.SET);
+        command.getArgs().addKey("key");
+        command.deadline(42);
+
+        command.cancel();
+        command.recycle();
+
+        assertThat(command.isDone()).isFalse();
+        assertThat(command.getOutput()).isNull();
+        assertThat(command.getType()).isNull();
+        assertThat(command.getArgs().count()).isZero();
+        assertThat(command.getDeadline()).isEqualTo(WithDeadline.NO_DEADLINE);
+    }
+
+    @Test
+    void shouldNotifyOnErrorResponse() {
+
+        RecyclableCommand<String, String, String> command = newCommand(CommandType.PING);
+
+        command.getOutput().setError("ERR");
+        command.complete();
+
+        assertThat(error.get()).isInstanceOf(RedisCommandExecutionException.class).hasMessage("ERR");
+    }
+
+    @Test
+    void shouldNotifyOnceOnExceptionalCompletion() {
+
+        RecyclableCommand<String, String, String> command = newCommand(CommandType.PING);
+
+        assertThat(command.completeExceptionally(new RedisException("failed"))).isTrue();
+
+        assertThat(command.completeExceptionally(new RedisException("failed"))).isFalse();
+        assertThat(error.get()).hasMessage("failed");
+        assertThat(notifications).hasValue(1);
+    }
+
+    @Test
+    void shouldNotifyOnCancel() {
+
+        RecyclableCommand<String, String, String> command = newCommand(CommandType.PING);
+
+        command.cancel();
+
+        assertThat(error.get()).isInstanceOf(CancellationException.class);
+        assertThat(notifications).hasValue(1);
+    }
+
+    private RecyclableCommand<String, String, String> newCommand(CommandType type) {
+
+        return RecyclableCommand.newInstance(type, new StatusOutput<>(StringCodec.UTF8), StringCodec.UTF8, (o, throwable) -> {
+
+            notifications.incrementAndGet();
+            result.set(o);
+            error.set(throwable);
+        });
+    }
+}
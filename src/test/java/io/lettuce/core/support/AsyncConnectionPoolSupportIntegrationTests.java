@@ -110,6 +110,26 @@ class AsyncConnectionPoolSupportIntegrationTests extends TestSupport {
         assertThat(channels).isEmpty();
     }
 
+    @Test
+    void blockingPoolShouldWorkWithWrappedConnections() throws Exception {
+
+        BoundedBlockingPool<StatefulRedisConnection<String, String>> pool = AsyncConnectionPoolSupport
+                .createBoundedBlockingPool(() -> client.connectAsync(StringCodec.ASCII, uri), BoundedPoolConfig.create());
+
+        StatefulRedisConnection<String, String> connection = pool.acquire();
+        assertThat(connection.sync().ping()).isEqualTo("PONG");
+        connection.close();
+
+        pool.release(pool.acquire().sync().getStatefulConnection());
+
+        assertThat(channels).hasSize(1);
+        assertThat(pool.getBorrowed()).isEqualTo(0);
+
+        pool.close();
+
+        assertThat(channels).isEmpty();
+    }
+
     @Test
     void asyncPoolShouldWorkWithPlainConnections() {
 
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link BoundedBlockingPool}.
+ *
+ * @author Mark Paluch
+ */
+class BoundedBlockingPoolUnitTests {
+
+    private AtomicInteger counter = new AtomicInteger();
+
+    private AsyncObjectFactory<String> STRING_OBJECT_FACTORY = new AsyncObjectFactory<String>() {
+        @Override
+        public CompletableFuture<String> create() {
+            return CompletableFuture.completedFuture(counter.incrementAndGet() + "");
+        }
+
+        @Override
+        public CompletableFuture<Void> destroy(String object) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public CompletableFuture<Boolean> validate(String object) {
+            return CompletableFuture.completedFuture(true);
+        }
+    };
+
+    @Test
+    void shouldCreateAndReuseObject() throws Exception {
+
+        BoundedBlockingPool<String> pool = new BoundedBlockingPool<>(STRING_OBJECT_FACTORY, BoundedPoolConfig.create());
+
+        String object = pool.acquire();
+
+        assertThat(object).isEqualTo("1");
+        assertThat(pool.getBorrowed()).isEqualTo(1);
+
+        pool.release(object);
+
+        assertThat(pool.getIdle()).isEqualTo(1);
+        assertThat(pool.getBorrowed()).isEqualTo(0);
+        assertThat(pool.acquire()).isEqualTo("1");
+    }
+
+    @Test
+    void shouldRejectUnboundedConfig() {
+
+        assertThatThrownBy(() -> new BoundedBlockingPool<>(STRING_OBJECT_FACTORY,
+                BoundedPoolConfig.builder().maxTotal(-1).maxIdle(-1).build())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldTimeoutWhenExhausted() throws Exception {
+
+        BoundedBlockingPool<String> pool = new BoundedBlockingPool<>(STRING_OBJECT_FACTORY,
+                BoundedPoolConfig.builder().maxTotal(1).build());
+
+        pool.acquire();
+
+        assertThatThrownBy(() -> pool.acquire(Duration.ofMillis(10))).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void shouldHandOverReleasedObjectToWaiter() throws Exception {
+
+        BoundedBlockingPool<String> pool = new BoundedBlockingPool<>(STRING_OBJECT_FACTORY,
+                BoundedPoolConfig.builder().maxTotal(1).build());
+
+        String object = pool.acquire();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+
+            Future<String> waiter = executor.submit(() -> pool.acquire(Duration.ofSeconds(5)));
+
+            while (pool.getWaiting() == 0) {
+                Thread.sleep(1);
+            }
+
+            pool.release(object);
+
+            assertThat(waiter.get(5, TimeUnit.SECONDS)).isEqualTo("1");
+            assertThat(counter).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldRejectUnknownObject() {
+
+        BoundedBlockingPool<String> pool = new BoundedBlockingPool<>(STRING_OBJECT_FACTORY, BoundedPoolConfig.create());
+
+        assertThatThrownBy(() -> pool.release("foo")).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldRejectWaitersOnClose() throws Exception {
+
+        BoundedBlockingPool<String> pool = new BoundedBlockingPool<>(STRING_OBJECT_FACTORY,
+                BoundedPoolConfig.builder().maxTotal(1).build());
+
+        pool.acquire();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+
+            List<Future<String>> waiters = new ArrayList<>();
+            waiters.add(executor.submit(() -> pool.acquire()));
+            waiters.add(executor.submit(() -> pool.acquire()));
+
+            while (pool.getWaiting() < 2) {
+                Thread.sleep(1);
+            }
+
+            pool.close();
+
+            for (Future<String> waiter : waiters) {
+                assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldServeManyConcurrentCallers() throws Exception {
+
+        BoundedBlockingPool<String> pool = new BoundedBlockingPool<>(STRING_OBJECT_FACTORY,
+                BoundedPoolConfig.builder().maxTotal(4).maxIdle(4).build());
+
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        try {
+
+            List<Future<?>> futures = new ArrayList<>();
+
+            for (int i = 0; i < 1000; i++) {
+                futures.add(executor.submit(() -> {
+                    pool.release(pool.acquire(Duration.ofSeconds(10)));
+                    return null;
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(counter.get()).isLessThanOrEqualTo(4);
+        assertThat(pool.getBorrowed()).isEqualTo(0);
+    }
+}
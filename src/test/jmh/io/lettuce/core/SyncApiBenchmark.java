@@ -0,0 +1,84 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.time.Duration;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.cluster.api.sync.RedisClusterCommands;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.protocol.RedisCommand;
+
+/**
+ * Benchmark for the synchronous API comparing the generated {@link RedisSyncCommandsImpl} with the reflective
+ * {@link FutureSyncInvocationHandler} proxy. Commands complete immediately upon write.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class SyncApiBenchmark {
+
+    private static final byte[] KEY = "key".getBytes();
+    private static final byte[] VALUE = "value".getBytes();
+
+    private final StatefulRedisConnectionImpl<byte[], byte[]> connection = new StatefulRedisConnectionImpl<>(
+            new CompletingRedisChannelWriter(), ByteArrayCodec.INSTANCE, Duration.ofSeconds(1));
+
+    private final RedisCommands<byte[], byte[]> generated;
+    private final RedisCommands<byte[], byte[]> proxy;
+
+    public SyncApiBenchmark() {
+
+        connection.setOptions(ClientOptions.create());
+
+        generated = connection.sync();
+        proxy = connection.syncHandler(connection.async(), RedisCommands.class, RedisClusterCommands.class);
+    }
+
+    @Benchmark
+    public String setUsingGeneratedImplementation() {
+        return generated.set(KEY, VALUE);
+    }
+
+    @Benchmark
+    public String setUsingProxy() {
+        return proxy.set(KEY, VALUE);
+    }
+
+    @Benchmark
+    public Long delUsingGeneratedImplementation() {
+        return generated.del(KEY, KEY, KEY);
+    }
+
+    @Benchmark
+    public Long delUsingProxy() {
+        return proxy.del(KEY, KEY, KEY);
+    }
+
+    static class CompletingRedisChannelWriter extends EmptyRedisChannelWriter {
+
+        @Override
+        public <K, V, T> RedisCommand<K, V, T> write(RedisCommand<K, V, T> command) {
+
+            command.complete();
+            return command;
+        }
+    }
+}
@@ -70,6 +70,31 @@ public class StringCodecBenchmark {
         input.blackhole.consume(input.utf8Codec.decodeKey(input.input));
     }
 
+    @Benchmark
+    public void decodeUtf8PlainString(Input input) {
+        input.blackhole.consume(input.utf8Codec.decodeValue(input.inputPlain));
+    }
+
+    @Benchmark
+    public void decodeUtf8DirectBuffer(Input input) {
+        input.blackhole.consume(input.utf8Codec.decodeValue(input.inputDirect));
+    }
+
+    @Benchmark
+    public void decodeAscii(Input input) {
+        input.blackhole.consume(input.asciiCodec.decodeValue(input.inputPlain));
+    }
+
+    @Benchmark
+    public void decodeIso(Input input) {
+        input.blackhole.consume(input.isoCodec.decodeValue(input.inputPlain));
+    }
+
+    @Benchmark
+    public void decodeUtf8CachedKey(Input input) {
+        input.blackhole.consume(input.cachingUtf8Codec.decodeKey(input.inputPlain));
+    }
+
     @State(Scope.Thread)
     public static class Input {
 
@@ -77,17 +102,20 @@ public class StringCodecBenchmark {
         StringCodec asciiCodec = new StringCodec(LettuceCharsets.ASCII);
         StringCodec utf8Codec = new StringCodec(LettuceCharsets.UTF8);
         StringCodec isoCodec = new StringCodec(StandardCharsets.ISO_8859_1);
+        StringCodec cachingUtf8Codec = new StringCodec(LettuceCharsets.UTF8, 1024);
 
         String teststring = "hello üäü~∑†®†ª€∂‚¶¢ Wørld";
         String teststringPlain = "hello uufadsfasdfadssdfadfs";
         ByteBuffer input = ByteBuffer.wrap(teststring.getBytes(LettuceCharsets.UTF8));
+        ByteBuffer inputPlain = ByteBuffer.wrap(teststringPlain.getBytes(LettuceCharsets.UTF8));
+        ByteBuffer inputDirect = ByteBuffer.allocateDirect(input.remaining()).put(input.duplicate());
 
         ByteBuf byteBuf = Unpooled.buffer(512);
 
         @Setup
         public void setup(Blackhole bh) {
             blackhole = bh;
-            input.flip();
+            inputDirect.flip();
         }
     }
 }
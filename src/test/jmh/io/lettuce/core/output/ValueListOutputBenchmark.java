@@ -16,6 +16,7 @@
 package io.lettuce.core.output;
 
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Scope;
@@ -24,6 +25,8 @@ import org.openjdk.jmh.annotations.State;
 import io.lettuce.core.codec.ByteArrayCodec;
 
 /**
+ * Benchmark for {@link ValueListOutput} and other collection outputs sized from the RESP multi-bulk count.
+ *
  * @author Mark Paluch
  */
 @State(Scope.Benchmark)
@@ -31,6 +34,7 @@ public class ValueListOutputBenchmark {
 
     private static final ByteArrayCodec CODEC = ByteArrayCodec.INSTANCE;
     private final ByteBuffer BUFFER = ByteBuffer.wrap(new byte[0]);
+    private final ByteBuffer SCORE = ByteBuffer.wrap("1.5".getBytes(StandardCharsets.US_ASCII));
 
     @Benchmark
     public void measureZeroElement() {
@@ -92,4 +96,136 @@ public class ValueListOutputBenchmark {
         }
         output.complete(1);
     }
+
+    @Benchmark
+    public void measure1000Elements() {
+
+        ValueListOutput<byte[], byte[]> output = new ValueListOutput<>(CODEC);
+        output.multi(1000);
+        for (int i = 0; i < 1000; i++) {
+            output.set(BUFFER);
+        }
+        output.complete(1);
+    }
+
+    @Benchmark
+    public void measureValueSet1000Elements() {
+
+        ValueSetOutput<byte[], byte[]> output = new ValueSetOutput<>(CODEC);
+        output.multi(1000);
+        for (int i = 0; i < 1000; i++) {
+            output.set(ByteBuffer.wrap(new byte[] { (byte) i, (byte) (i >> 8) }));
+        }
+        output.complete(1);
+    }
+
+    @Benchmark
+    public void measureMap1000Elements() {
+
+        MapOutput<byte[], byte[]> output = new MapOutput<>(CODEC);
+        output.multi(2000);
+        for (int i = 0; i < 1000; i++) {
+            output.set(BUFFER);
+            output.set(BUFFER);
+        }
+        output.complete(1);
+    }
+
+    @Benchmark
+    public void measureScoredValueList1000Elements() {
+
+        ScoredValueListOutput<byte[], byte[]> output = new ScoredValueListOutput<>(CODEC);
+        output.multi(2000);
+        for (int i = 0; i < 1000; i++) {
+            output.set(BUFFER);
+            output.set(SCORE.duplicate());
+        }
+        output.complete(1);
+    }
+
+    @Benchmark
+    public void measureGeoWithinList1000Elements() {
+
+        GeoWithinListOutput<byte[], byte[]> output = new GeoWithinListOutput<>(CODEC, false, false, false);
+        output.multi(1000);
+        for (int i = 0; i < 1000; i++) {
+            output.set(BUFFER);
+            output.complete(1);
+        }
+        output.complete(0);
+    }
+
+    @Benchmark
+    public void measureStreamRead1000Elements() {
+
+        StreamReadOutput<byte[], byte[]> output = new StreamReadOutput<>(CODEC);
+        output.multi(1);
+        output.multi(2);
+        output.set(BUFFER);
+        output.complete(2);
+        output.multi(1000);
+        for (int i = 0; i < 1000; i++) {
+            output.multi(2);
+            output.set(BUFFER);
+            output.complete(4);
+            output.multi(2);
+            output.set(BUFFER);
+            output.complete(5);
+            output.set(BUFFER);
+            output.complete(5);
+            output.complete(4);
+            output.complete(3);
+        }
+        output.complete(2);
+        output.complete(1);
+        output.complete(0);
+    }
+
+    @Benchmark
+    public void measureArray1000Integers() {
+
+        ArrayOutput<byte[], byte[]> output = new ArrayOutput<>(CODEC);
+        output.multi(1000);
+        for (int i = 0; i < 1000; i++) {
+            output.set(i);
+            output.complete(1);
+        }
+        output.complete(0);
+    }
+
+    @Benchmark
+    public void measureLongArray1000Integers() {
+
+        LongArrayOutput<byte[], byte[]> output = new LongArrayOutput<>(CODEC);
+        output.multi(1000);
+        for (int i = 0; i < 1000; i++) {
+            output.set(i);
+            output.complete(1);
+        }
+        output.complete(0);
+    }
+
+    @Benchmark
+    public void measureBooleanList1000Integers() {
+
+        BooleanListOutput<byte[], byte[]> output = new BooleanListOutput<>(CODEC);
+        output.multi(1000);
+        for (int i = 0; i < 1000; i++) {
+            output.set(i & 1);
+            output.complete(1);
+        }
+        output.complete(0);
+    }
+
+    @Benchmark
+    public void measureBitSet1000Integers() {
+
+        BitSetOutput<byte[], byte[]> output = new BitSetOutput<>(CODEC);
+        output.multi(1000);
+        for (int i = 0; i < 1000; i++) {
+            output.set(i & 1);
+            output.complete(1);
+        }
+        output.complete(0);
+    }
 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.support;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.openjdk.jmh.annotations.*;
+
+import io.lettuce.core.EmptyRedisChannelWriter;
+import io.lettuce.core.EmptyStatefulRedisConnection;
+import io.lettuce.core.api.StatefulRedisConnection;
+
+/**
+ * Benchmark for {@link BoundedBlockingPool} and {@link GenericObjectPool} with 100k concurrent callers that borrow a
+ * connection and return it immediately. Callers run on virtual threads when the runtime provides
+ * {@code Executors.newVirtualThreadPerTaskExecutor()} and on a fixed platform thread pool otherwise.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BlockingConnectionPoolBenchmark {
+
+    private static final int CALLERS = 100_000;
+
+    private BoundedBlockingPool<StatefulRedisConnection<String, String>> blockingPool;
+    private GenericObjectPool<StatefulRedisConnection<String, String>> genericPool;
+    private ExecutorService executor;
+
+    @Setup
+    public void setup() {
+
+        blockingPool = AsyncConnectionPoolSupport.createBoundedBlockingPool(
+                () -> CompletableFuture.completedFuture(new EmptyStatefulRedisConnection(EmptyRedisChannelWriter.INSTANCE)),
+                BoundedPoolConfig.builder().minIdle(0).maxIdle(20).maxTotal(20).build(), false);
+
+        GenericObjectPoolConfig config = new GenericObjectPoolConfig();
+        config.setMinIdle(0);
+        config.setMaxIdle(20);
+        config.setMaxTotal(20);
+
+        genericPool = ConnectionPoolSupport.createGenericObjectPool(
+                () -> new EmptyStatefulRedisConnection(EmptyRedisChannelWriter.INSTANCE), config, false);
+
+        executor = createExecutor();
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        executor.shutdownNow();
+        blockingPool.close();
+        genericPool.close();
+    }
+
+    @Benchmark
+    public void boundedBlockingPool() throws InterruptedException {
+
+        run(() -> {
+            try {
+                blockingPool.release(blockingPool.acquire());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+
+    @Benchmark
+    public void genericObjectPool() throws InterruptedException {
+
+        run(() -> {
+            try {
+                genericPool.returnObject(genericPool.borrowObject());
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private void run(Runnable caller) throws InterruptedException {
+
+        CountDownLatch latch = new CountDownLatch(CALLERS);
+
+        for (int i = 0; i < CALLERS; i++) {
+            executor.execute(() -> {
+                try {
+                    caller.run();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+    }
+
+    private static ExecutorService createExecutor() {
+
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(256);
+        }
+    }
+}